@@ -0,0 +1,460 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.Config.Land;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates {@link BoardLayout}s of any size with a random placement of the lands and dice values.
+ * <p>
+ * The land fields form a hexagon around the centre field. If the number of land fields does not fill a hexagon,
+ * the remaining fields are a connected part of the next ring at a random position. The land fields are
+ * surrounded by one ring of water fields. With 19 land fields the layout has the geometry of the standard setup.
+ * </p>
+ * <p>
+ * The lands and dice values are distributed in the ratio of the specified distributions, scaled to the number of
+ * land fields. Deserts get the dice value 7 like in the standard setup and take no dice value of the
+ * distribution. The dice values 6 and 8 are never placed on adjacent fields. The thief starts on a desert, or on
+ * the first land field if there is none.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class BoardGenerator {
+    /**
+     * The largest number of land fields of a generated layout.
+     */
+    public static final int MAX_LAND_FIELD_COUNT = 100_000;
+    private static final int DESERT_DICE_VALUE = 7;
+    private static final int[] DIRECTION_Q = {1, 1, 0, -1, -1, 0};
+    private static final int[] DIRECTION_R = {0, -1, -1, 0, 1, 1};
+    private final Land[] landKinds;
+    private final int[] landWeights;
+    private final int[] diceKinds;
+    private final int[] diceWeights;
+
+    /**
+     * Constructs a new BoardGenerator with the distribution of lands and dice values of the standard setup.
+     */
+    public BoardGenerator() {
+        this(standardLandDistribution(), standardDiceDistribution());
+    }
+
+    /**
+     * Constructs a new BoardGenerator with the specified distributions.
+     *
+     * @param landDistribution specifies how many fields of each land there are relative to the others.
+     * @param diceDistribution specifies how many fields with each dice value there are relative to the others.
+     * @throws IllegalArgumentException if a distribution is null or empty, contains water, a dice value which is
+     * not in the dice range, the dice value 7 or a count which is null or negative.
+     */
+    public BoardGenerator(Map<Land, Integer> landDistribution, Map<Integer, Integer> diceDistribution) {
+        if (landDistribution == null || diceDistribution == null){
+            throw new IllegalArgumentException("Distribution parameters must not be null!");
+        }
+        Map<Land, Integer> lands = new EnumMap<>(Land.class);
+        lands.putAll(landDistribution);
+        if (lands.containsKey(Land.WATER)){
+            throw new IllegalArgumentException("Land distribution must not contain water!");
+        }
+        Map<Integer, Integer> dice = new TreeMap<>(diceDistribution);
+        for (Integer diceValue : dice.keySet()) {
+            if (diceValue < Config.MIN_DICE_VALUE || diceValue > Config.MAX_DICE_VALUE
+                    || diceValue == DESERT_DICE_VALUE){
+                throw new IllegalArgumentException("Dice value " + diceValue + " is not valid!");
+            }
+        }
+        landKinds = lands.keySet().toArray(new Land[0]);
+        landWeights = toWeights(lands.values().toArray(new Integer[0]));
+        diceKinds = new int[dice.size()];
+        int i = 0;
+        for (Integer diceValue : dice.keySet()) {
+            diceKinds[i++] = diceValue;
+        }
+        diceWeights = toWeights(dice.values().toArray(new Integer[0]));
+    }
+
+    /**
+     * Generates a new layout.
+     *
+     * @param landFieldCount specifies the number of land fields.
+     * @param random specifies the random generator for the shape and the placement of lands and dice values.
+     * @return the generated layout.
+     * @throws IllegalArgumentException if the land field count is not in the range of 1 to
+     * {@link #MAX_LAND_FIELD_COUNT}, random is null or the dice values 6 and 8 are too frequent to be placed
+     * apart.
+     */
+    public BoardLayout generate(int landFieldCount, RandomGenerator random) {
+        if (landFieldCount < 1 || landFieldCount > MAX_LAND_FIELD_COUNT){
+            throw new IllegalArgumentException("Land field count must be in range of 1 to "
+                    + MAX_LAND_FIELD_COUNT + "!");
+        }
+        if (random == null){
+            throw new IllegalArgumentException("Random parameter must not be null!");
+        }
+        Shape shape = new Shape(landFieldCount, random);
+
+        Land[] lands = new Land[landFieldCount];
+        int[] landCounts = distribute(landWeights, landFieldCount);
+        int next = 0;
+        for (int kind = 0; kind < landKinds.length; kind++) {
+            for (int j = 0; j < landCounts[kind]; j++) {
+                lands[next++] = landKinds[kind];
+            }
+        }
+        shuffle(lands, random);
+
+        int[] diceValues = placeDiceValues(shape, lands, random);
+
+        int fieldCount = landFieldCount + shape.waterCount;
+        Point[] positions = new Point[fieldCount];
+        Land[] fieldLands = new Land[fieldCount];
+        int[] fieldDiceValues = new int[fieldCount];
+        Point thiefPosition = null;
+        for (int i = 0; i < landFieldCount; i++) {
+            positions[i] = shape.toPosition(shape.landQ[i], shape.landR[i]);
+            fieldLands[i] = lands[i];
+            fieldDiceValues[i] = diceValues[i];
+            if (thiefPosition == null && lands[i] == Land.DESERT) {
+                thiefPosition = positions[i];
+            }
+        }
+        for (int i = 0; i < shape.waterCount; i++) {
+            positions[landFieldCount + i] = shape.toPosition(shape.waterQ[i], shape.waterR[i]);
+            fieldLands[landFieldCount + i] = Land.WATER;
+        }
+        if (thiefPosition == null) {
+            thiefPosition = positions[0];
+        }
+        return new BoardLayout(positions, fieldLands, fieldDiceValues, thiefPosition);
+    }
+
+    /**
+     * Places the dice values on the land fields which are not deserts. The fields with 6 and 8 are chosen first,
+     * so that no two of them are adjacent.
+     */
+    private int[] placeDiceValues(Shape shape, Land[] lands, RandomGenerator random) {
+        int[] diceValues = new int[lands.length];
+        int[] candidates = new int[lands.length];
+        int candidateCount = 0;
+        for (int i = 0; i < lands.length; i++) {
+            if (lands[i] == Land.DESERT) {
+                diceValues[i] = DESERT_DICE_VALUE;
+            } else {
+                candidates[candidateCount++] = i;
+            }
+        }
+        int[] diceCounts = distribute(diceWeights, candidateCount);
+        int[] redValues = new int[candidateCount];
+        int[] otherValues = new int[candidateCount];
+        int redCount = 0;
+        int otherCount = 0;
+        for (int kind = 0; kind < diceKinds.length; kind++) {
+            boolean red = isRed(diceKinds[kind]);
+            for (int j = 0; j < diceCounts[kind]; j++) {
+                if (red) {
+                    redValues[redCount++] = diceKinds[kind];
+                } else {
+                    otherValues[otherCount++] = diceKinds[kind];
+                }
+            }
+        }
+        shuffle(candidates, candidateCount, random);
+        shuffle(redValues, redCount, random);
+        shuffle(otherValues, otherCount, random);
+
+        boolean[] red = new boolean[lands.length];
+        if (!placeRedApart(shape, candidates, candidateCount, redCount, red)) {
+            placeRedOnColour(shape, candidates, candidateCount, redCount, red);
+        }
+        int nextRed = 0;
+        int nextOther = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int field = candidates[i];
+            diceValues[field] = red[field] ? redValues[nextRed++] : otherValues[nextOther++];
+        }
+        return diceValues;
+    }
+
+    /**
+     * Marks the first candidates which have no marked neighbour until the count is reached.
+     *
+     * @return true if enough candidates were marked.
+     */
+    private static boolean placeRedApart(Shape shape, int[] candidates, int candidateCount, int redCount,
+                                         boolean[] red) {
+        int placed = 0;
+        for (int i = 0; i < candidateCount && placed < redCount; i++) {
+            int field = candidates[i];
+            if (!hasRedNeighbour(shape, field, red)) {
+                red[field] = true;
+                placed++;
+            }
+        }
+        return placed == redCount;
+    }
+
+    /**
+     * Marks candidates of the same colour of a three colouring of the fields, in which no two adjacent fields
+     * have the same colour. The colour with the most candidates is used.
+     */
+    private static void placeRedOnColour(Shape shape, int[] candidates, int candidateCount, int redCount,
+                                         boolean[] red) {
+        Arrays.fill(red, false);
+        int[] colourCounts = new int[3];
+        for (int i = 0; i < candidateCount; i++) {
+            colourCounts[shape.colourOf(candidates[i])]++;
+        }
+        int colour = 0;
+        for (int c = 1; c < colourCounts.length; c++) {
+            if (colourCounts[c] > colourCounts[colour]) {
+                colour = c;
+            }
+        }
+        if (colourCounts[colour] < redCount){
+            throw new IllegalArgumentException("Dice values 6 and 8 cannot be placed apart on "
+                    + shape.landCount + " land fields!");
+        }
+        int placed = 0;
+        for (int i = 0; i < candidateCount && placed < redCount; i++) {
+            if (shape.colourOf(candidates[i]) == colour) {
+                red[candidates[i]] = true;
+                placed++;
+            }
+        }
+    }
+
+    private static boolean hasRedNeighbour(Shape shape, int field, boolean[] red) {
+        for (int direction = 0; direction < DIRECTION_Q.length; direction++) {
+            int neighbour = shape.landAt(shape.landQ[field] + DIRECTION_Q[direction],
+                    shape.landR[field] + DIRECTION_R[direction]);
+            if (neighbour >= 0 && red[neighbour]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRed(int diceValue) {
+        return diceValue == 6 || diceValue == 8;
+    }
+
+    /**
+     * Splits the total in the ratio of the weights. Each part gets its rounded down share and the rest is given
+     * to the parts with the largest remainders.
+     */
+    private static int[] distribute(int[] weights, int total) {
+        long weightSum = 0;
+        for (int weight : weights) {
+            weightSum += weight;
+        }
+        int[] counts = new int[weights.length];
+        long[] remainders = new long[weights.length];
+        int assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            long share = (long) weights[i] * total;
+            counts[i] = (int) (share / weightSum);
+            remainders[i] = share % weightSum;
+            assigned += counts[i];
+        }
+        for (; assigned < total; assigned++) {
+            int largest = 0;
+            for (int i = 1; i < weights.length; i++) {
+                if (remainders[i] > remainders[largest]) {
+                    largest = i;
+                }
+            }
+            counts[largest]++;
+            remainders[largest] = -1;
+        }
+        return counts;
+    }
+
+    private static int[] toWeights(Integer[] counts) {
+        int[] weights = new int[counts.length];
+        long sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == null || counts[i] < 0){
+                throw new IllegalArgumentException("Counts of a distribution must not be null or negative!");
+            }
+            weights[i] = counts[i];
+            sum += counts[i];
+        }
+        if (sum == 0){
+            throw new IllegalArgumentException("Distribution must not be empty!");
+        }
+        return weights;
+    }
+
+    private static <T> void shuffle(T[] values, RandomGenerator random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static void shuffle(int[] values, int length, RandomGenerator random) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static Map<Land, Integer> standardLandDistribution() {
+        Map<Land, Integer> distribution = new EnumMap<>(Land.class);
+        for (Land land : Config.getStandardLandPlacement().values()) {
+            if (land != Land.WATER) {
+                distribution.merge(land, 1, Integer::sum);
+            }
+        }
+        return distribution;
+    }
+
+    private static Map<Integer, Integer> standardDiceDistribution() {
+        Map<Integer, Integer> distribution = new TreeMap<>();
+        for (Integer diceValue : Config.getStandardDiceNumberPlacement().values()) {
+            if (diceValue != DESERT_DICE_VALUE) {
+                distribution.merge(diceValue, 1, Integer::sum);
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * The land and water fields of a layout in axial coordinates (q, r). A step in q is a step to the right, a
+     * step in r a step to the lower right. The fields are looked up in a square grid around the centre.
+     */
+    private static final class Shape {
+        private final int landCount;
+        private final int[] landQ;
+        private final int[] landR;
+        private final int[] waterQ;
+        private final int[] waterR;
+        private int waterCount;
+        private final int gridRadius;
+        private final int gridSide;
+        private final int[] grid;
+        private int offsetX;
+        private int offsetRow;
+
+        Shape(int landCount, RandomGenerator random) {
+            this.landCount = landCount;
+            int radius = 0;
+            while (hexagonSize(radius + 1) <= landCount) {
+                radius++;
+            }
+            gridRadius = radius + 2;
+            gridSide = 2 * gridRadius + 1;
+            grid = new int[gridSide * gridSide];
+            landQ = new int[landCount];
+            landR = new int[landCount];
+            addLand(0, 0, 0);
+            int count = 1;
+            for (int ring = 1; ring <= radius; ring++) {
+                count = addRing(ring, 0, 6 * ring, count);
+            }
+            if (count < landCount) {
+                int ringSize = 6 * (radius + 1);
+                addRing(radius + 1, random.nextInt(ringSize), landCount - count, count);
+            }
+            int waterCapacity = 6 * (radius + 1) + 6 * (radius + 2);
+            waterQ = new int[waterCapacity];
+            waterR = new int[waterCapacity];
+            addWater();
+        }
+
+        private static int hexagonSize(int radius) {
+            return 3 * radius * (radius + 1) + 1;
+        }
+
+        /**
+         * Adds the fields of a ring whose position in the ring is in the range of start to start + length,
+         * wrapping around at the end of the ring.
+         *
+         * @return the number of land fields afterwards.
+         */
+        private int addRing(int ring, int start, int length, int count) {
+            int ringSize = 6 * ring;
+            int q = -ring;
+            int r = ring;
+            int position = 0;
+            for (int direction = 0; direction < DIRECTION_Q.length; direction++) {
+                for (int step = 0; step < ring; step++) {
+                    if (Math.floorMod(position - start, ringSize) < length) {
+                        addLand(q, r, count++);
+                    }
+                    q += DIRECTION_Q[direction];
+                    r += DIRECTION_R[direction];
+                    position++;
+                }
+            }
+            return count;
+        }
+
+        private void addLand(int q, int r, int index) {
+            landQ[index] = q;
+            landR[index] = r;
+            grid[gridIndex(q, r)] = index + 1;
+        }
+
+        /**
+         * Adds the water fields around the land and computes the offsets, so that the smallest field
+         * coordinates are in the first column and row of the board like in the standard setup.
+         */
+        private void addWater() {
+            int minX = Integer.MAX_VALUE;
+            int minR = Integer.MAX_VALUE;
+            for (int i = 0; i < landCount; i++) {
+                for (int direction = 0; direction < DIRECTION_Q.length; direction++) {
+                    int q = landQ[i] + DIRECTION_Q[direction];
+                    int r = landR[i] + DIRECTION_R[direction];
+                    int index = gridIndex(q, r);
+                    if (grid[index] == 0) {
+                        grid[index] = -1;
+                        waterQ[waterCount] = q;
+                        waterR[waterCount] = r;
+                        waterCount++;
+                        minX = Math.min(minX, 2 * q + r);
+                        minR = Math.min(minR, r);
+                    }
+                }
+            }
+            offsetX = 1 - minX;
+            offsetRow = -minR;
+            if ((offsetX - offsetRow) % 2 != 0) {
+                offsetX++;
+            }
+        }
+
+        /**
+         * Returns the index of the land field at the axial coordinates, -1 if there is none.
+         */
+        int landAt(int q, int r) {
+            return grid[gridIndex(q, r)] - 1;
+        }
+
+        /**
+         * Returns the colour of a land field. Adjacent fields have different colours.
+         */
+        int colourOf(int field) {
+            return Math.floorMod(landQ[field] - landR[field], 3);
+        }
+
+        Point toPosition(int q, int r) {
+            return new Point(2 * q + r + offsetX, 2 + 3 * (r + offsetRow));
+        }
+
+        private int gridIndex(int q, int r) {
+            return (q + gridRadius) * gridSide + r + gridRadius;
+        }
+    }
+}
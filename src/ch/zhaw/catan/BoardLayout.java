@@ -0,0 +1,179 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.Config.Land;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Describes the fields of a {@link SiedlerBoard}: the position, land and dice value of every field and the field
+ * on which the thief starts. A layout is immutable, so one layout can be used for any number of boards.
+ * <p>
+ * The {@link #standard()} layout is the fixed setup of {@link Config}. Other layouts are created by the
+ * {@link BoardGenerator}.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public final class BoardLayout {
+    private static final BoardLayout STANDARD = createStandard();
+    private final Point[] positions;
+    private final Land[] lands;
+    private final int[] diceValues;
+    private final Point thiefPosition;
+    private final int maxXCoordinate;
+    private final int maxYCoordinate;
+    private final int landFieldCount;
+
+    /**
+     * Constructs a new BoardLayout. The arrays are owned by the layout afterwards.
+     *
+     * @param positions specifies the positions of the fields.
+     * @param lands specifies the land of each field.
+     * @param diceValues specifies the dice value of each field, 0 for none.
+     * @param thiefPosition specifies the land field on which the thief starts.
+     * @throws IllegalArgumentException if a parameter is null, the arrays differ in length or the thief is not
+     * on a land field.
+     */
+    BoardLayout(Point[] positions, Land[] lands, int[] diceValues, Point thiefPosition) {
+        if (positions == null || lands == null || diceValues == null || thiefPosition == null){
+            throw new IllegalArgumentException("Layout parameters must not be null!");
+        }
+        if (positions.length != lands.length || positions.length != diceValues.length){
+            throw new IllegalArgumentException("Positions, lands and dice values must have the same length!");
+        }
+        int maxX = 0;
+        int maxY = 0;
+        int landFields = 0;
+        boolean thiefOnLand = false;
+        for (int i = 0; i < positions.length; i++) {
+            maxX = Math.max(maxX, positions[i].x + 1);
+            maxY = Math.max(maxY, positions[i].y + 2);
+            if (lands[i] != Land.WATER) {
+                landFields++;
+                thiefOnLand |= positions[i].equals(thiefPosition);
+            }
+        }
+        if (!thiefOnLand){
+            throw new IllegalArgumentException("Thief must start on a land field!");
+        }
+        this.positions = positions;
+        this.lands = lands;
+        this.diceValues = diceValues;
+        this.thiefPosition = thiefPosition;
+        maxXCoordinate = maxX;
+        maxYCoordinate = maxY;
+        landFieldCount = landFields;
+    }
+
+    /**
+     * Returns the standard layout defined by {@link Config#getStandardLandPlacement()} and
+     * {@link Config#getStandardDiceNumberPlacement()}, with the thief on {@link Config#INITIAL_THIEF_POSITION}.
+     *
+     * @return the standard layout.
+     */
+    public static BoardLayout standard() {
+        return STANDARD;
+    }
+
+    private static BoardLayout createStandard() {
+        Map<Point, Integer> diceNumbers = Config.getStandardDiceNumberPlacement();
+        Map<Point, Land> landPlacements = Config.getStandardLandPlacement();
+        Point[] positions = new Point[landPlacements.size()];
+        Land[] lands = new Land[positions.length];
+        int[] diceValues = new int[positions.length];
+        int i = 0;
+        for (Map.Entry<Point, Land> land : landPlacements.entrySet()) {
+            positions[i] = land.getKey();
+            lands[i] = land.getValue();
+            diceValues[i] = diceNumbers.getOrDefault(land.getKey(), 0);
+            i++;
+        }
+        return new BoardLayout(positions, lands, diceValues, Config.INITIAL_THIEF_POSITION);
+    }
+
+    /**
+     * Returns the number of fields including the water fields.
+     *
+     * @return the number of fields.
+     */
+    public int getFieldCount() {
+        return positions.length;
+    }
+
+    /**
+     * Returns the number of fields which are not water.
+     *
+     * @return the number of land fields.
+     */
+    public int getLandFieldCount() {
+        return landFieldCount;
+    }
+
+    /**
+     * Returns the position of a field.
+     *
+     * @param index specifies the index of the field.
+     * @return a copy of the position.
+     * @throws IndexOutOfBoundsException if the index is not in the range of 0 to the number of fields.
+     */
+    public Point getPosition(int index) {
+        return new Point(positions[index]);
+    }
+
+    /**
+     * Returns the land of a field.
+     *
+     * @param index specifies the index of the field.
+     * @return the land of the field.
+     * @throws IndexOutOfBoundsException if the index is not in the range of 0 to the number of fields.
+     */
+    public Land getLand(int index) {
+        return lands[index];
+    }
+
+    /**
+     * Returns the dice value of a field.
+     *
+     * @param index specifies the index of the field.
+     * @return the dice value of the field, 0 if it has none.
+     * @throws IndexOutOfBoundsException if the index is not in the range of 0 to the number of fields.
+     */
+    public int getDiceValue(int index) {
+        return diceValues[index];
+    }
+
+    /**
+     * Returns the land field on which the thief starts.
+     *
+     * @return a copy of the thief position.
+     */
+    public Point getThiefPosition() {
+        return new Point(thiefPosition);
+    }
+
+    /**
+     * Returns the largest x coordinate of a corner of the layout.
+     *
+     * @return the largest x coordinate.
+     */
+    public int getMaxXCoordinate() {
+        return maxXCoordinate;
+    }
+
+    /**
+     * Returns the largest y coordinate of a corner of the layout.
+     *
+     * @return the largest y coordinate.
+     */
+    public int getMaxYCoordinate() {
+        return maxYCoordinate;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardLayout[" + landFieldCount + " land fields, " + (positions.length - landFieldCount)
+                + " water fields, dice values " + Arrays.toString(diceValues) + "]";
+    }
+}
@@ -20,6 +20,16 @@ public class CardBank extends ResourceHolder {
         super(initialResources);
     }
 
+    /**
+     * Constructs a copy of the specified CardBank.
+     *
+     * @param other specifies the bank to be copied.
+     * @throws IllegalArgumentException if the other parameter is null.
+     */
+    public CardBank(CardBank other) {
+        super(other);
+    }
+
     /**
      * Checks how much of the requested resource the bank is able to pay.
      *
@@ -32,7 +42,6 @@ public class CardBank extends ResourceHolder {
         if (resource == null){
             throw new IllegalArgumentException("Resource parameter must not be null!");
         }
-        int stock = resources.get(resource);
-        return Math.min(stock, requestedAmount);
+        return Math.min(resources.get(resource), requestedAmount);
     }
 }
@@ -28,6 +28,11 @@ public class City extends Settlement {
         return new City(settlement.owner);
     }
 
+    @Override
+    public City withOwner(Player owner) {
+        return new City(owner);
+    }
+
     @Override
     public String toString() {
         return super.toString().toUpperCase();
@@ -2,6 +2,7 @@ package ch.zhaw.catan;
 
 import java.awt.Point;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -146,10 +147,19 @@ public class Config {
     ROAD(List.of(Resource.LUMBER, Resource.BRICK), NUMBER_OF_ROADS_PER_PLAYER);
 
     private final List<Resource> costs;
+    private final Map<Resource, Integer> costMap;
+    private final ResourceVector costVector;
     private final int stockPerPlayer;
 
     private Structure(List<Resource> costs, int stockPerPlayer) {
       this.costs = costs;
+      // As discussed with Michael Wahler we changed this method to return Integers and not Long to make
+      // it more consistent with the rest of the predefined interface and prevent unnecessary castings.
+      Map<Resource, Integer> costMap = costs.stream()
+          .collect(Collectors.groupingBy(Function.identity(), () -> new EnumMap<>(Resource.class),
+              reducing(0, e -> 1, Integer::sum)));
+      this.costMap = Collections.unmodifiableMap(costMap);
+      this.costVector = ResourceVector.unmodifiable(costMap);
       this.stockPerPlayer = stockPerPlayer;
     }
 
@@ -171,10 +181,27 @@ public class Config {
      * @return the build costs in terms of the number of resource cards per resource type
      */
     public Map<Resource, Integer> getCostsAsMap() {
-      // As discussed with Michael Wahler we changed this method to return Integers and not Long to make
-      // it more consistent with the rest of the predefined interface and prevent unnecessary castings.
-      return costs.stream()
-          .collect(Collectors.groupingBy(Function.identity(), reducing(0, e -> 1, Integer::sum)));
+      return new HashMap<>(costMap);
+    }
+
+    /**
+     * Returns the build costs of this structure as a read-only map. The map is
+     * created once and only contains the resource types which are part of the costs.
+     *
+     * @return the build costs in terms of the number of resource cards per resource type
+     */
+    public Map<Resource, Integer> getCostMap() {
+      return costMap;
+    }
+
+    /**
+     * Returns the build costs of this structure as an unmodifiable
+     * {@link ResourceVector}. The vector is created once.
+     *
+     * @return the build costs in terms of the number of resource cards per resource type
+     */
+    public ResourceVector getCostVector() {
+      return costVector;
     }
 
     /**
@@ -27,6 +27,21 @@ public class Field {
         this.diceValue = diceValue;
     }
 
+    /**
+     * Constructs a copy of the specified field, including the thief.
+     *
+     * @param other specifies the field to be copied.
+     * @throws IllegalArgumentException if the other parameter is null.
+     */
+    public Field(Field other) {
+        if (other == null){
+            throw new IllegalArgumentException("Field parameter must not be null!");
+        }
+        this.land = other.land;
+        this.diceValue = other.diceValue;
+        this.hasThief = other.hasThief;
+    }
+
     /**
      * Sets or removes the thief from this field. It is important to note that
      * it is the callers' responsibility to make sure no other field has the thief set.
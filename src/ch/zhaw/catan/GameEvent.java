@@ -0,0 +1,61 @@
+package ch.zhaw.catan;
+
+/**
+ * The calls which change a {@link SiedlerGame} or its random generator and are reported to its
+ * {@link GameEventListener}. Each event has up to four int arguments, the unused ones are 0.
+ *
+ * @version 16.10.2026
+ */
+public enum GameEvent {
+    /**
+     * {@link SiedlerGame#rollDice()}, argument: the dice value.
+     */
+    ROLL_DICE,
+    /**
+     * {@link SiedlerGame#throwDice(int)}, argument: the dice value.
+     */
+    THROW_DICE,
+    /**
+     * {@link SiedlerGame#placeInitialSettlement(java.awt.Point, boolean)}, arguments: x, y, 1 for a payout.
+     */
+    PLACE_INITIAL_SETTLEMENT,
+    /**
+     * {@link SiedlerGame#placeInitialRoad(java.awt.Point, java.awt.Point)}, arguments: x and y of the start,
+     * x and y of the end.
+     */
+    PLACE_INITIAL_ROAD,
+    /**
+     * {@link SiedlerGame#buildSettlement(java.awt.Point)}, arguments: x, y.
+     */
+    BUILD_SETTLEMENT,
+    /**
+     * {@link SiedlerGame#buildCity(java.awt.Point)}, arguments: x, y.
+     */
+    BUILD_CITY,
+    /**
+     * {@link SiedlerGame#buildRoad(java.awt.Point, java.awt.Point)}, arguments: x and y of the start, x and y
+     * of the end.
+     */
+    BUILD_ROAD,
+    /**
+     * {@link SiedlerGame#tradeWithBankFourToOne(Config.Resource, Config.Resource)}, arguments: ordinal of the
+     * offered and of the wanted resource.
+     */
+    TRADE_WITH_BANK,
+    /**
+     * {@link SiedlerGame#placeThiefAndStealCard(java.awt.Point)}, arguments: x, y.
+     */
+    PLACE_THIEF,
+    /**
+     * {@link SiedlerGame#switchToNextPlayer()}, no arguments.
+     */
+    SWITCH_TO_NEXT_PLAYER,
+    /**
+     * {@link SiedlerGame#switchToPreviousPlayer()}, no arguments.
+     */
+    SWITCH_TO_PREVIOUS_PLAYER,
+    /**
+     * {@link SiedlerGame#fork()}, which draws the seed of the copy from the random generator, no arguments.
+     */
+    FORK
+}
@@ -0,0 +1,22 @@
+package ch.zhaw.catan;
+
+/**
+ * Listener which is notified by a {@link SiedlerGame} after every successful call which changes the game or its
+ * random generator, e.g. to write the calls to an event log.
+ *
+ * @version 16.10.2026
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Is called after the event has changed the game.
+     *
+     * @param event specifies the call.
+     * @param first specifies the first argument of the event or 0.
+     * @param second specifies the second argument of the event or 0.
+     * @param third specifies the third argument of the event or 0.
+     * @param fourth specifies the fourth argument of the event or 0.
+     */
+    void eventOccurred(GameEvent event, int first, int second, int third, int fourth);
+}
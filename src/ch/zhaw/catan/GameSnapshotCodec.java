@@ -0,0 +1,347 @@
+package ch.zhaw.catan;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Encodes the state of a {@link SiedlerGame} into a compact binary snapshot and decodes it again, e.g. to
+ * checkpoint a running game for the recovery after a crash.
+ * <p>
+ * A snapshot contains the settlements, cities and roads on the board, the thief position, the resources of the
+ * bank, the resources, structures, win points and longest road of every player, the holder of the bonus for the
+ * longest road, the current player and the required win points. The layout of the board is not part of the
+ * snapshot, it has to be decoded into a game on the same layout, e.g. the standard board. Corners, edges and fields
+ * are encoded as their index in the lists of land corners and land fields of the board and their neighbours. The
+ * indexes take two bytes, so generated boards with up to {@link #MAX_POSITIONS} land corners and land fields can
+ * be encoded. The number of structures is limited by the stocks of the players, so a snapshot needs at most
+ * {@link #MAX_SIZE} bytes on every board. The random generator and the last theft are not part of a snapshot.
+ * </p><p>
+ * The snapshot starts with {@link #MAGIC} and {@link #VERSION}, followed by (all numbers are bytes unless
+ * noted otherwise):
+ * </p>
+ * <ul>
+ *     <li>required win points, number of players, index of the current player, index of the thief field
+ *     (unsigned short)</li>
+ *     <li>number of corners with a structure, for each: corner index (unsigned short), player index &lt;&lt; 1 |
+ *     1 for a city</li>
+ *     <li>number of roads, for each: corner index (unsigned short), neighbour index &lt;&lt; 3 | player index</li>
+ *     <li>the amount of every resource in the bank (short)</li>
+ *     <li>for each player: the amount of every resource (short), the stock of every structure, the win points
+ *     and the length of the longest road</li>
+ *     <li>index of the player holding the bonus for the longest road or -1</li>
+ * </ul>
+ *
+ * @version 16.10.2026
+ */
+public final class GameSnapshotCodec {
+    public static final short MAGIC = 0x5347;
+    public static final byte VERSION = 2;
+    public static final int MAX_SIZE = 512;
+    public static final int MAX_POSITIONS = 0x10000;
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+    private static final Config.Structure[] STRUCTURES = Config.Structure.values();
+    private static final Config.Faction[] FACTIONS = Config.Faction.values();
+    private static final int NO_PLAYER = -1;
+    private static final int MAX_NEIGHBOURS = 3;
+
+    private GameSnapshotCodec() {
+    }
+
+    /**
+     * Writes a snapshot of the game to the buffer, starting at its position. The position is moved behind the
+     * snapshot.
+     *
+     * @param game specifies the game to be encoded.
+     * @param buffer specifies the buffer to write to.
+     * @throws IllegalArgumentException if one of the parameters is null or the board has more than
+     * {@link #MAX_POSITIONS} land corners or land fields, whose index does not fit into an unsigned short.
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space left.
+     */
+    public static void encode(SiedlerGame game, ByteBuffer buffer) {
+        if (game == null || buffer == null){
+            throw new IllegalArgumentException("Game and buffer parameters must not be null!");
+        }
+        SiedlerBoard board = game.getBoard();
+        if (board.getSharedLandCornerPositions().size() > MAX_POSITIONS
+                || board.getSharedLandFieldPositions().size() > MAX_POSITIONS) {
+            throw new IllegalArgumentException("The board of the game is too large for a snapshot!");
+        }
+        int[] playerIndexByFaction = new int[FACTIONS.length];
+        for (int i = 0; i < game.getPlayerAmount(); i++) {
+            playerIndexByFaction[game.getPlayer(i).getFaction().ordinal()] = i;
+        }
+
+        buffer.putShort(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) game.getRequiredWinPoints());
+        buffer.put((byte) game.getPlayerAmount());
+        buffer.put((byte) game.getCurrentPlayerIndex());
+        buffer.putShort((short) board.getSharedLandFieldPositions().indexOf(board.getThiefPosition()));
+
+        List<Point> corners = board.getSharedLandCornerPositions();
+        int countPosition = buffer.position();
+        int count = 0;
+        buffer.put((byte) 0);
+        for (int i = 0; i < corners.size(); i++) {
+            Settlement structure = board.getCorner(corners.get(i));
+            if (structure != null) {
+                int owner = playerIndexByFaction[structure.getOwner().getFaction().ordinal()];
+                buffer.putShort((short) i);
+                buffer.put((byte) (owner << 1 | (structure instanceof City ? 1 : 0)));
+                count++;
+            }
+        }
+        buffer.put(countPosition, (byte) count);
+
+        countPosition = buffer.position();
+        count = 0;
+        buffer.put((byte) 0);
+        for (int i = 0; i < corners.size(); i++) {
+            Point corner = corners.get(i);
+            List<Point> neighbours = board.getSharedNeighbourLandCorners(corner);
+            for (int j = 0; j < neighbours.size(); j++) {
+                Point neighbour = neighbours.get(j);
+                Road road = isBefore(corner, neighbour) ? board.getEdge(corner, neighbour) : null;
+                if (road != null) {
+                    buffer.putShort((short) i);
+                    buffer.put((byte) (j << 3 | playerIndexByFaction[road.getOwner().getFaction().ordinal()]));
+                    count++;
+                }
+            }
+        }
+        buffer.put(countPosition, (byte) count);
+
+        CardBank bank = game.getBank();
+        for (Config.Resource resource : RESOURCES) {
+            buffer.putShort((short) bank.getResource(resource));
+        }
+        LongestRoadTracker longestRoad = game.getLongestRoad();
+        for (int i = 0; i < game.getPlayerAmount(); i++) {
+            Player player = game.getPlayer(i);
+            for (Config.Resource resource : RESOURCES) {
+                buffer.putShort((short) player.getResource(resource));
+            }
+            for (Config.Structure structure : STRUCTURES) {
+                buffer.put((byte) player.getStructureStock(structure));
+            }
+            buffer.put((byte) player.getWinPoints());
+            buffer.put((byte) longestRoad.getLongestRoad(player.getFaction()));
+        }
+        Config.Faction holder = longestRoad.getHolder();
+        buffer.put((byte) (holder == null ? NO_PLAYER : playerIndexByFaction[holder.ordinal()]));
+    }
+
+    /**
+     * Reads a snapshot from the buffer, starting at its position, and creates a new game in the state of the
+     * snapshot. The position is moved behind the snapshot.
+     *
+     * @param buffer specifies the buffer to read from.
+     * @return the decoded game.
+     * @throws IllegalArgumentException if the buffer is null or does not contain a valid snapshot.
+     * @see #decode(ByteBuffer, SiedlerGame)
+     */
+    public static SiedlerGame decode(ByteBuffer buffer) {
+        return decode(buffer, new SplittableRandom());
+    }
+
+    /**
+     * Reads a snapshot from the buffer, starting at its position, and creates a new game in the state of the
+     * snapshot which takes its random decisions from the specified generator. The position is moved behind the
+     * snapshot.
+     *
+     * @param buffer specifies the buffer to read from.
+     * @param random specifies the random generator of the decoded game.
+     * @return the decoded game.
+     * @throws IllegalArgumentException if a parameter is null or the buffer does not contain a valid snapshot.
+     */
+    public static SiedlerGame decode(ByteBuffer buffer, RandomGenerator random) {
+        if (buffer == null || random == null){
+            throw new IllegalArgumentException("Buffer and random parameters must not be null!");
+        }
+        int start = buffer.position();
+        checkHeader(buffer);
+        int winPoints = buffer.get();
+        int playerAmount = buffer.get();
+        buffer.position(start);
+        SiedlerGame game;
+        try {
+            game = new SiedlerGame(winPoints, playerAmount, random);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Snapshot contains invalid win points or number of players!", e);
+        }
+        decode(buffer, game);
+        return game;
+    }
+
+    /**
+     * Reads a snapshot from the buffer, starting at its position, into an existing game. The state of the game
+     * is replaced by the state of the snapshot, only the random generator is kept. This is much faster than
+     * creating a new game, which sets up the board again. The position is moved behind the snapshot.
+     *
+     * @param buffer specifies the buffer to read from.
+     * @param game specifies the game whose state is replaced.
+     * @throws IllegalArgumentException if a parameter is null, the buffer does not contain a valid snapshot or
+     * the game has other required win points or another number of players than the snapshot. The game is not
+     * changed in this case.
+     */
+    public static void decode(ByteBuffer buffer, SiedlerGame game) {
+        if (buffer == null || game == null){
+            throw new IllegalArgumentException("Buffer and game parameters must not be null!");
+        }
+        checkHeader(buffer);
+        if (buffer.get() != game.getRequiredWinPoints() || buffer.get() != game.getPlayerAmount()) {
+            throw new IllegalArgumentException("Snapshot does not match the win points or players of the game!");
+        }
+        int playerAmount = game.getPlayerAmount();
+        int currentPlayerIndex = checkIndex(buffer.get() & 0xFF, playerAmount);
+        SiedlerBoard board = game.getBoard();
+        List<Point> fields = board.getSharedLandFieldPositions();
+        Point thiefPosition = fields.get(readIndex(buffer, fields.size()));
+
+        List<Point> corners = board.getSharedLandCornerPositions();
+        int[] cornerData = new int[corners.size()];
+        int count = buffer.get() & 0xFF;
+        for (int i = 0; i < count; i++) {
+            int corner = readIndex(buffer, corners.size());
+            int data = buffer.get() & 0xFF;
+            checkIndex(data >>> 1, playerAmount);
+            cornerData[corner] = data + 1;
+        }
+        int[] edgeData = new int[corners.size() * MAX_NEIGHBOURS];
+        count = buffer.get() & 0xFF;
+        for (int i = 0; i < count; i++) {
+            int corner = readIndex(buffer, corners.size());
+            int data = buffer.get() & 0xFF;
+            int neighbour = checkIndex(data >>> 3, board.getSharedNeighbourLandCorners(corners.get(corner)).size());
+            checkIndex(data & 0x7, playerAmount);
+            edgeData[corner * MAX_NEIGHBOURS + neighbour] = data + 1;
+        }
+
+        ResourceVector bankResources = new ResourceVector();
+        for (Config.Resource resource : RESOURCES) {
+            bankResources.set(resource, readAmount(buffer.getShort(), Short.MAX_VALUE));
+        }
+        ResourceVector[] resources = new ResourceVector[playerAmount];
+        int[] stocks = new int[playerAmount * STRUCTURES.length];
+        int[] winPoints = new int[playerAmount];
+        int[] lengths = new int[FACTIONS.length];
+        for (int i = 0; i < playerAmount; i++) {
+            resources[i] = new ResourceVector();
+            for (Config.Resource resource : RESOURCES) {
+                resources[i].set(resource, readAmount(buffer.getShort(), Short.MAX_VALUE));
+            }
+            for (Config.Structure structure : STRUCTURES) {
+                stocks[i * STRUCTURES.length + structure.ordinal()]
+                        = readAmount(buffer.get(), structure.getStockPerPlayer());
+            }
+            winPoints[i] = readAmount(buffer.get(), Byte.MAX_VALUE);
+            lengths[game.getPlayer(i).getFaction().ordinal()]
+                    = readAmount(buffer.get(), Config.Structure.ROAD.getStockPerPlayer());
+        }
+        int holder = buffer.get();
+        if (holder != NO_PLAYER) {
+            checkIndex(holder, playerAmount);
+        }
+
+        if (!thiefPosition.equals(board.getThiefPosition())) {
+            board.setThiefPosition(thiefPosition);
+        }
+        updateStructures(game, corners, cornerData, edgeData);
+        game.getBank().resources.set(bankResources);
+        for (int i = 0; i < playerAmount; i++) {
+            Player player = game.getPlayer(i);
+            player.resources.set(resources[i]);
+            for (Config.Structure structure : STRUCTURES) {
+                player.restoreStructureStock(structure, stocks[i * STRUCTURES.length + structure.ordinal()]);
+            }
+        }
+        game.getLongestRoad().restore(lengths, holder == NO_PLAYER ? null : game.getPlayer(holder).getFaction());
+        for (int i = 0; i < playerAmount; i++) {
+            game.getPlayer(i).restoreWinPoints(winPoints[i]);
+        }
+        game.restoreCurrentPlayer(currentPlayerIndex);
+    }
+
+    private static void checkHeader(ByteBuffer buffer) {
+        if (buffer.getShort() != MAGIC) {
+            throw new IllegalArgumentException("Buffer does not contain a snapshot!");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Snapshot version " + version + " is not supported!");
+        }
+    }
+
+    /**
+     * Changes the corners and edges of the board whose structure differs from the decoded data. Corners and
+     * edges which already hold the right structure are kept, so the production tables are only updated for
+     * the changed corners.
+     *
+     * @param cornerData specifies the decoded data + 1 per corner index, 0 for an empty corner.
+     * @param edgeData specifies the decoded data + 1 per corner and neighbour index, 0 for an empty edge.
+     */
+    private static void updateStructures(SiedlerGame game, List<Point> corners, int[] cornerData, int[] edgeData) {
+        SiedlerBoard board = game.getBoard();
+        for (int i = 0; i < corners.size(); i++) {
+            Point corner = corners.get(i);
+            Settlement structure = board.getCorner(corner);
+            int data = cornerData[i] - 1;
+            if (data < 0) {
+                if (structure != null) {
+                    board.setCorner(corner, null);
+                }
+            } else {
+                Player owner = game.getPlayer(data >>> 1);
+                boolean city = (data & 1) == 1;
+                if (structure == null || structure.getOwner() != owner || (structure instanceof City) != city) {
+                    board.setCorner(corner, city ? new City(owner) : new Settlement(owner));
+                }
+            }
+
+            List<Point> neighbours = board.getSharedNeighbourLandCorners(corner);
+            for (int j = 0; j < neighbours.size(); j++) {
+                Point neighbour = neighbours.get(j);
+                if (!isBefore(corner, neighbour)) {
+                    continue;
+                }
+                Road road = board.getEdge(corner, neighbour);
+                data = edgeData[i * MAX_NEIGHBOURS + j] - 1;
+                if (data < 0) {
+                    if (road != null) {
+                        board.setEdge(corner, neighbour, null);
+                    }
+                } else if (road == null || road.getOwner() != game.getPlayer(data & 0x7)) {
+                    board.setEdge(corner, neighbour, new Road(game.getPlayer(data & 0x7)));
+                }
+            }
+        }
+    }
+
+    private static int readIndex(ByteBuffer buffer, int size) {
+        return checkIndex(buffer.getShort() & 0xFFFF, size);
+    }
+
+    private static int checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Snapshot contains the invalid index " + index + "!");
+        }
+        return index;
+    }
+
+    /**
+     * Checks an amount which is stored as a signed number, e.g. a resource stock or win points.
+     */
+    private static int readAmount(int amount, int max) {
+        if (amount < 0 || amount > max) {
+            throw new IllegalArgumentException("Snapshot contains the invalid amount " + amount + "!");
+        }
+        return amount;
+    }
+
+    private static boolean isBefore(Point corner, Point neighbour) {
+        return corner.y < neighbour.y || (corner.y == neighbour.y && corner.x < neighbour.x);
+    }
+}
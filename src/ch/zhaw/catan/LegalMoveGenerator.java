@@ -0,0 +1,127 @@
+package ch.zhaw.catan;
+
+import java.awt.Point;
+import java.util.List;
+
+/**
+ * Enumerates the moves the current player of a {@link SiedlerGame} can make, without changing the game.
+ * <p>
+ * The generator applies the same rules as the build and trade methods of the game. The structures and
+ * resources of the player are checked once per call, the positions are then taken from the land corner,
+ * neighbour and field tables of the board. The moves are written into a {@link MoveList} which is cleared
+ * first, so a list can be reused on every turn without allocating.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class LegalMoveGenerator {
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+    private final SiedlerGame game;
+
+    /**
+     * Constructs a new LegalMoveGenerator for the specified game.
+     *
+     * @param game specifies the game whose moves are generated.
+     * @throws IllegalArgumentException if game is null.
+     */
+    public LegalMoveGenerator(SiedlerGame game) {
+        if (game == null){
+            throw new IllegalArgumentException("Game parameter must not be null!");
+        }
+        this.game = game;
+    }
+
+    /**
+     * Generates all moves the current player can make in the build and trade phase: roads, settlements,
+     * cities and 4:1 trades with the bank. Trades which offer and want the same resource are left out.
+     *
+     * @param moves specifies the list the moves are written to. It is cleared first.
+     * @return the number of generated moves.
+     * @throws IllegalArgumentException if moves is null.
+     */
+    public int generateBuildAndTradeMoves(MoveList moves) {
+        checkMoveList(moves);
+        moves.clear();
+        Player player = game.getCurrentPlayer();
+        SiedlerBoard board = game.getBoard();
+        List<Point> corners = board.getSharedLandCornerPositions();
+
+        if (canBuild(player, Config.Structure.ROAD)) {
+            for (int i = 0; i < corners.size(); i++) {
+                Point start = corners.get(i);
+                List<Point> neighbours = board.getSharedNeighbourLandCorners(start);
+                for (int j = 0; j < neighbours.size(); j++) {
+                    Point end = neighbours.get(j);
+                    if (isBefore(start, end) && game.isRoadPositionValid(start, end)) {
+                        moves.addRoad(start, end);
+                    }
+                }
+            }
+        }
+
+        if (canBuild(player, Config.Structure.SETTLEMENT)) {
+            for (int i = 0; i < corners.size(); i++) {
+                if (game.isSettlementPositionValid(corners.get(i), true)) {
+                    moves.addPosition(MoveList.MoveType.BUILD_SETTLEMENT, corners.get(i));
+                }
+            }
+        }
+
+        if (canBuild(player, Config.Structure.CITY)) {
+            for (int i = 0; i < corners.size(); i++) {
+                if (game.isCityPositionValid(corners.get(i))) {
+                    moves.addPosition(MoveList.MoveType.BUILD_CITY, corners.get(i));
+                }
+            }
+        }
+
+        CardBank bank = game.getBank();
+        for (Config.Resource offer : RESOURCES) {
+            if (player.getResource(offer) < SiedlerGame.FOUR_TO_ONE_TRADE_OFFER) {
+                continue;
+            }
+            for (Config.Resource want : RESOURCES) {
+                if (want != offer && bank.getResource(want) >= SiedlerGame.FOUR_TO_ONE_TRADE_WANT) {
+                    moves.addTrade(offer, want);
+                }
+            }
+        }
+        return moves.size();
+    }
+
+    /**
+     * Generates all fields the current player can place the thief on after a 7 was thrown.
+     * These are all fields which are not water.
+     *
+     * @param moves specifies the list the moves are written to. It is cleared first.
+     * @return the number of generated moves.
+     * @throws IllegalArgumentException if moves is null.
+     */
+    public int generateThiefPlacements(MoveList moves) {
+        checkMoveList(moves);
+        moves.clear();
+        List<Point> fields = game.getBoard().getSharedLandFieldPositions();
+        for (int i = 0; i < fields.size(); i++) {
+            moves.addPosition(MoveList.MoveType.PLACE_THIEF, fields.get(i));
+        }
+        return moves.size();
+    }
+
+    private static boolean canBuild(Player player, Config.Structure structure) {
+        return player.checkIfStructureAvailable(structure)
+                && player.checkIfEnoughOfAllResources(structure.getCostVector());
+    }
+
+    /**
+     * Orders the two corners of an edge, so every edge is generated once.
+     */
+    private static boolean isBefore(Point first, Point second) {
+        return first.y < second.y || (first.y == second.y && first.x < second.x);
+    }
+
+    private static void checkMoveList(MoveList moves) {
+        if (moves == null){
+            throw new IllegalArgumentException("Moves parameter must not be null!");
+        }
+    }
+}
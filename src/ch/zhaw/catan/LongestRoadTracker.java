@@ -0,0 +1,361 @@
+package ch.zhaw.catan;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+/**
+ * Keeps track of the longest road of every faction and of the player who holds the bonus for the
+ * longest road.
+ * <p>
+ * The longest road of a faction is the longest chain of its roads in which no road is used twice. A chain
+ * ends at a corner with a settlement or city of another player. The first player whose longest road reaches
+ * {@link #MIN_LENGTH} roads gets {@link #WIN_POINTS} win points. Another player takes the bonus over once
+ * their road is longer.
+ * </p><p>
+ * The lengths are updated incrementally: a new road can only extend the road network it belongs to, so only
+ * that network is searched, and if one end of the new road has no other road of the faction, only the chains
+ * continuing at its other end are searched. A new settlement can only split the networks of other factions
+ * which run through its corner, so only these factions are searched again. The searches walk the corner indexes
+ * of the board and read the factions of the roads and structures from its tables, so they neither look up nor
+ * allocate objects.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class LongestRoadTracker {
+    /**
+     * Number of roads a chain needs at least to get the bonus.
+     */
+    public static final int MIN_LENGTH = 5;
+    /**
+     * Win points of the bonus for the longest road.
+     */
+    public static final int WIN_POINTS = 2;
+    private static final int INITIAL_CHAIN_CAPACITY = 16;
+    private final SiedlerBoard board;
+    private final Player[] playersByFaction;
+    private final int[] lengths = new int[Config.Faction.values().length];
+    private Player holder;
+    private int[] usedRoads = new int[INITIAL_CHAIN_CAPACITY];
+    private int usedRoadCount;
+    private int[] networkMarks = new int[0];
+    private int networkMark;
+    private int[] openCorners = new int[0];
+
+    /**
+     * Constructs a new LongestRoadTracker for the roads on the specified board.
+     *
+     * @param board specifies the board with the roads.
+     * @param players specifies the players of the game, who get the win points of the bonus.
+     * @throws IllegalArgumentException if board or players is null.
+     */
+    public LongestRoadTracker(SiedlerBoard board, Player[] players) {
+        if (board == null || players == null){
+            throw new IllegalArgumentException("Board and players parameter must not be null!");
+        }
+        this.board = board;
+        playersByFaction = new Player[Config.Faction.values().length];
+        for (Player player : players) {
+            playersByFaction[player.getFaction().ordinal()] = player;
+        }
+    }
+
+    /**
+     * Constructs a copy of the specified tracker for a forked game. The win points of the bonus are not added
+     * again, they are part of the copied players.
+     *
+     * @param original specifies the tracker to copy.
+     * @param board specifies the board of the forked game.
+     * @param playersByFaction specifies the players of the forked game, indexed by the ordinal of their faction.
+     */
+    LongestRoadTracker(LongestRoadTracker original, SiedlerBoard board, Player[] playersByFaction) {
+        this.board = board;
+        this.playersByFaction = playersByFaction.clone();
+        System.arraycopy(original.lengths, 0, lengths, 0, lengths.length);
+        holder = original.holder == null ? null : this.playersByFaction[original.holder.getFaction().ordinal()];
+    }
+
+    /**
+     * Updates the longest road of the owner of the road between the two corners after the road was placed.
+     *
+     * @param start specifies the start of the new road.
+     * @param end specifies the end of the new road.
+     * @throws IllegalArgumentException if start or end is null or there is no road between them.
+     */
+    public void roadBuilt(Point start, Point end) {
+        if (start == null || end == null){
+            throw new IllegalArgumentException("Start and end parameter must not be null!");
+        }
+        Road road = board.getEdge(start, end);
+        if (road == null){
+            throw new IllegalArgumentException("There is no road between start and end!");
+        }
+        int faction = road.getOwner().getFaction().ordinal();
+        int startCorner = board.getLandCornerIndex(start);
+        int endCorner = board.getLandCornerIndex(end);
+        if (startCorner >= 0 && endCorner >= 0) {
+            int length;
+            if (board.countRoads(endCorner, faction) == 1) {
+                length = longestRoadThroughEnd(faction, endCorner, startCorner);
+            } else if (board.countRoads(startCorner, faction) == 1) {
+                length = longestRoadThroughEnd(faction, startCorner, endCorner);
+            } else {
+                length = longestRoadOfNetwork(faction, startCorner);
+            }
+            lengths[faction] = Math.max(lengths[faction], length);
+        }
+        updateHolder();
+    }
+
+    /**
+     * Updates the longest road of the factions whose roads run through the corner after a settlement was
+     * placed on it.
+     *
+     * @param corner specifies the corner of the new settlement.
+     * @throws IllegalArgumentException if corner is null or there is no settlement on it.
+     */
+    public void settlementBuilt(Point corner) {
+        if (corner == null){
+            throw new IllegalArgumentException("Corner parameter must not be null!");
+        }
+        Settlement settlement = board.getCorner(corner);
+        if (settlement == null){
+            throw new IllegalArgumentException("There is no settlement on the corner!");
+        }
+        int cornerIndex = board.getLandCornerIndex(corner);
+        for (Player player : playersByFaction) {
+            if (player != null && player != settlement.getOwner() && cornerIndex >= 0
+                    && board.countRoads(cornerIndex, player.getFaction().ordinal()) > 1) {
+                lengths[player.getFaction().ordinal()] = longestRoad(player.getFaction().ordinal());
+            }
+        }
+        updateHolder();
+    }
+
+    /**
+     * Computes the longest road of every faction again from all roads on the board, e.g. after roads were
+     * placed on the board directly.
+     */
+    public void recompute() {
+        for (Player player : playersByFaction) {
+            if (player != null) {
+                lengths[player.getFaction().ordinal()] = longestRoad(player.getFaction().ordinal());
+            }
+        }
+        updateHolder();
+    }
+
+    /**
+     * Returns the length of the longest road of the specified faction.
+     *
+     * @param faction specifies the faction.
+     * @return the number of roads of the longest chain.
+     * @throws IllegalArgumentException if faction is null.
+     */
+    public int getLongestRoad(Config.Faction faction) {
+        if (faction == null){
+            throw new IllegalArgumentException("Faction parameter must not be null!");
+        }
+        return lengths[faction.ordinal()];
+    }
+
+    /**
+     * Returns the faction which holds the bonus for the longest road.
+     *
+     * @return the faction or null, if no road is long enough.
+     */
+    public Config.Faction getHolder() {
+        return holder == null ? null : holder.getFaction();
+    }
+
+    /**
+     * Returns a copy of the lengths, which can be passed to {@link #restore(int[], Config.Faction)}.
+     */
+    int[] saveLengths() {
+        return lengths.clone();
+    }
+
+    /**
+     * Sets the lengths and the holder back to a previous state when a move is taken back. The win points of the
+     * bonus are moved back to the previous holder.
+     */
+    void restore(int[] savedLengths, Config.Faction savedHolder) {
+        System.arraycopy(savedLengths, 0, lengths, 0, lengths.length);
+        changeHolder(savedHolder == null ? null : playersByFaction[savedHolder.ordinal()]);
+    }
+
+    /**
+     * Gives the bonus to the player with the longest road. The holder keeps the bonus on a tie, if no other
+     * player is longer and several players have the longest road, nobody gets it.
+     */
+    private void updateHolder() {
+        int maxLength = 0;
+        Player longest = null;
+        boolean tie = false;
+        for (Player player : playersByFaction) {
+            if (player == null) {
+                continue;
+            }
+            int length = lengths[player.getFaction().ordinal()];
+            if (length > maxLength) {
+                maxLength = length;
+                longest = player;
+                tie = false;
+            } else if (length == maxLength) {
+                tie = true;
+            }
+        }
+        if (maxLength < MIN_LENGTH) {
+            changeHolder(null);
+        } else if (holder != null && lengths[holder.getFaction().ordinal()] == maxLength) {
+            changeHolder(holder);
+        } else {
+            changeHolder(tie ? null : longest);
+        }
+    }
+
+    private void changeHolder(Player newHolder) {
+        if (newHolder == holder) {
+            return;
+        }
+        if (holder != null) {
+            holder.removeWinPoints(WIN_POINTS);
+        }
+        if (newHolder != null) {
+            newHolder.addWinPoints(WIN_POINTS);
+        }
+        holder = newHolder;
+    }
+
+    /**
+     * Computes the longest road of a faction over all of its road networks.
+     */
+    private int longestRoad(int faction) {
+        int longest = 0;
+        for (Point corner : board.getSharedLandCornerPositions()) {
+            longest = Math.max(longest, longestRoadFrom(faction, board.getLandCornerIndex(corner)));
+        }
+        return longest;
+    }
+
+    /**
+     * Computes the longest road of the network of a faction which contains the specified corner.
+     * <p>
+     * The chains are searched from every corner of the network which does not have exactly two roads of the
+     * faction or is blocked. A chain starting at any other corner can be extended by the second road of its
+     * start corner, so it is never the longest. Only if every corner has two roads, the network is a ring and
+     * the chains are searched from the specified corner.
+     * </p><p>
+     * The corners of the network are marked with a number which is increased for every search, so the marks
+     * never have to be cleared.
+     * </p>
+     */
+    private int longestRoadOfNetwork(int faction, int corner) {
+        if (networkMarks.length != board.getCornerIndexCount()) {
+            networkMarks = new int[board.getCornerIndexCount()];
+            openCorners = new int[board.getCornerIndexCount()];
+            networkMark = 0;
+        }
+        networkMark++;
+        int head = 0;
+        int tail = 0;
+        networkMarks[corner] = networkMark;
+        openCorners[tail++] = corner;
+        int longest = 0;
+        boolean searched = false;
+        while (head < tail) {
+            int current = openCorners[head++];
+            boolean blocked = isBlocked(faction, current);
+            if (blocked || board.countRoads(current, faction) != 2) {
+                longest = Math.max(longest, longestRoadFrom(faction, current));
+                searched = true;
+            }
+            if (current != corner && blocked) {
+                continue;
+            }
+            int[] neighbours = board.getNeighbourIndexes(current);
+            for (int i = 0; i < neighbours.length; i++) {
+                int neighbour = neighbours[i];
+                if (board.getRoadFaction(current, i) == faction && networkMarks[neighbour] != networkMark) {
+                    networkMarks[neighbour] = networkMark;
+                    openCorners[tail++] = neighbour;
+                }
+            }
+        }
+        return searched ? longest : longestRoadFrom(faction, corner);
+    }
+
+    /**
+     * Computes the longest chain which contains a new road whose end has no other road of the faction. Such a
+     * chain has to end with the new road, so it is the new road and the longest chain from the other corner
+     * of the new road without it. Chains without the new road are not longer than before.
+     */
+    private int longestRoadThroughEnd(int faction, int end, int other) {
+        if (isBlocked(faction, other)) {
+            return 1;
+        }
+        usedRoadCount = 0;
+        useRoad(board.getEdgeId(other, board.getNeighbourSlot(other, end)));
+        return 1 + extendRoad(faction, other);
+    }
+
+    private int longestRoadFrom(int faction, int corner) {
+        usedRoadCount = 0;
+        return extendRoad(faction, corner);
+    }
+
+    /**
+     * Searches the longest chain of unused roads of the faction which starts at the corner.
+     */
+    private int extendRoad(int faction, int corner) {
+        int longest = 0;
+        int[] neighbours = board.getNeighbourIndexes(corner);
+        for (int i = 0; i < neighbours.length; i++) {
+            if (board.getRoadFaction(corner, i) != faction) {
+                continue;
+            }
+            int road = board.getEdgeId(corner, i);
+            if (isUsed(road)) {
+                continue;
+            }
+            useRoad(road);
+            int length = 1;
+            if (!isBlocked(faction, neighbours[i])) {
+                length += extendRoad(faction, neighbours[i]);
+            }
+            longest = Math.max(longest, length);
+            usedRoadCount--;
+        }
+        return longest;
+    }
+
+    /**
+     * Checks if the road is part of the current chain. The chain is short, so it is searched linearly
+     * instead of hashing the roads.
+     */
+    private boolean isUsed(int road) {
+        for (int i = 0; i < usedRoadCount; i++) {
+            if (usedRoads[i] == road) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void useRoad(int road) {
+        if (usedRoadCount == usedRoads.length) {
+            usedRoads = Arrays.copyOf(usedRoads, usedRoads.length * 2);
+        }
+        usedRoads[usedRoadCount++] = road;
+    }
+
+    private boolean isBlocked(int faction, int corner) {
+        int structureFaction = board.getStructureFaction(corner);
+        return structureFaction >= 0 && structureFaction != faction;
+    }
+
+    @Override
+    public String toString() {
+        return "Longest roads " + Arrays.toString(lengths) + ", holder " + getHolder();
+    }
+}
@@ -0,0 +1,228 @@
+package ch.zhaw.catan;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+/**
+ * Reusable buffer for the moves generated by the {@link LegalMoveGenerator}.
+ * <p>
+ * The moves are stored in parallel arrays, one entry per move. Positions refer to the position tables of the
+ * board, so adding a move does not allocate. The getters return copies of the positions, since the tables are
+ * shared by all boards of a layout. The arrays only grow if a list is filled beyond its capacity,
+ * which does not happen on the standard board with the default capacity.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public final class MoveList {
+    /**
+     * Number of moves which fit into a list created with the default constructor: a road and a settlement or
+     * city for each corner, a thief placement for each field and every 4:1 trade.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+    private MoveType[] types;
+    private Point[] positions;
+    private Point[] roadEnds;
+    private Config.Resource[] offers;
+    private Config.Resource[] wants;
+    private int size;
+
+    /**
+     * The kinds of moves a player can make.
+     */
+    public enum MoveType {
+        BUILD_ROAD, BUILD_SETTLEMENT, BUILD_CITY, TRADE_WITH_BANK, PLACE_THIEF
+    }
+
+    /**
+     * Constructs a new empty MoveList with the default capacity.
+     */
+    public MoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty MoveList.
+     *
+     * @param capacity specifies the number of moves the list holds without growing.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public MoveList(int capacity) {
+        if (capacity < 1){
+            throw new IllegalArgumentException("Capacity parameter must be positive!");
+        }
+        types = new MoveType[capacity];
+        positions = new Point[capacity];
+        roadEnds = new Point[capacity];
+        offers = new Config.Resource[capacity];
+        wants = new Config.Resource[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all moves from the list. The capacity is kept.
+     */
+    public void clear() {
+        Arrays.fill(positions, 0, size, null);
+        Arrays.fill(roadEnds, 0, size, null);
+        Arrays.fill(offers, 0, size, null);
+        Arrays.fill(wants, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the kind of the move at the specified index.
+     *
+     * @param index specifies the index of the move.
+     * @return the kind of the move.
+     * @throws IndexOutOfBoundsException if index is not in range.
+     */
+    public MoveType getType(int index) {
+        return types[checkIndex(index)];
+    }
+
+    /**
+     * Returns the position of the move at the specified index: the corner of a settlement or city,
+     * the start of a road or the field of the thief.
+     *
+     * @param index specifies the index of the move.
+     * @return a copy of the position or null, if the move is a trade.
+     * @throws IndexOutOfBoundsException if index is not in range.
+     */
+    public Point getPosition(int index) {
+        return copyOf(positions[checkIndex(index)]);
+    }
+
+    /**
+     * Returns the end of the road of the move at the specified index.
+     *
+     * @param index specifies the index of the move.
+     * @return a copy of the end of the road or null, if the move is not a road.
+     * @throws IndexOutOfBoundsException if index is not in range.
+     */
+    public Point getRoadEnd(int index) {
+        return copyOf(roadEnds[checkIndex(index)]);
+    }
+
+    /**
+     * Returns the offered resource of the trade at the specified index.
+     *
+     * @param index specifies the index of the move.
+     * @return the offered resource or null, if the move is not a trade.
+     * @throws IndexOutOfBoundsException if index is not in range.
+     */
+    public Config.Resource getOffer(int index) {
+        return offers[checkIndex(index)];
+    }
+
+    /**
+     * Returns the wanted resource of the trade at the specified index.
+     *
+     * @param index specifies the index of the move.
+     * @return the wanted resource or null, if the move is not a trade.
+     * @throws IndexOutOfBoundsException if index is not in range.
+     */
+    public Config.Resource getWant(int index) {
+        return wants[checkIndex(index)];
+    }
+
+    /**
+     * Makes the move at the specified index for the current player of the game.
+     *
+     * @param index specifies the index of the move.
+     * @param game specifies the game in which the move is made.
+     * @return the undo record of the move or null, if the move is not possible in the game.
+     * @throws IndexOutOfBoundsException if index is not in range.
+     * @throws IllegalArgumentException if game is null.
+     */
+    public UndoRecord make(int index, SiedlerGame game) {
+        checkIndex(index);
+        if (game == null){
+            throw new IllegalArgumentException("Game parameter must not be null!");
+        }
+        return switch (types[index]) {
+            case BUILD_ROAD -> game.makeBuildRoad(positions[index], roadEnds[index]);
+            case BUILD_SETTLEMENT -> game.makeBuildSettlement(positions[index]);
+            case BUILD_CITY -> game.makeBuildCity(positions[index]);
+            case TRADE_WITH_BANK -> game.makeTradeWithBankFourToOne(offers[index], wants[index]);
+            case PLACE_THIEF -> game.makePlaceThiefAndStealCard(positions[index]);
+        };
+    }
+
+    /**
+     * Returns a text representation of the move at the specified index.
+     *
+     * @param index specifies the index of the move.
+     * @return the move as a string.
+     * @throws IndexOutOfBoundsException if index is not in range.
+     */
+    public String toString(int index) {
+        checkIndex(index);
+        return switch (types[index]) {
+            case BUILD_ROAD -> types[index] + " (" + positions[index].x + "," + positions[index].y + ")-("
+                    + roadEnds[index].x + "," + roadEnds[index].y + ")";
+            case TRADE_WITH_BANK -> types[index] + " " + offers[index] + "->" + wants[index];
+            default -> types[index] + " (" + positions[index].x + "," + positions[index].y + ")";
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(toString(i));
+        }
+        return text.append(']').toString();
+    }
+
+    void addRoad(Point start, Point end) {
+        int index = append(MoveType.BUILD_ROAD);
+        positions[index] = start;
+        roadEnds[index] = end;
+    }
+
+    void addPosition(MoveType type, Point position) {
+        int index = append(type);
+        positions[index] = position;
+    }
+
+    void addTrade(Config.Resource offer, Config.Resource want) {
+        int index = append(MoveType.TRADE_WITH_BANK);
+        offers[index] = offer;
+        wants[index] = want;
+    }
+
+    private int append(MoveType type) {
+        if (size == types.length) {
+            int capacity = types.length * 2;
+            types = Arrays.copyOf(types, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            roadEnds = Arrays.copyOf(roadEnds, capacity);
+            offers = Arrays.copyOf(offers, capacity);
+            wants = Arrays.copyOf(wants, capacity);
+        }
+        types[size] = type;
+        return size++;
+    }
+
+    private static Point copyOf(Point position) {
+        return position == null ? null : new Point(position);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is not in range of " + size + " moves!");
+        }
+        return index;
+    }
+}
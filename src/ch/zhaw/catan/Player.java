@@ -1,11 +1,13 @@
 package ch.zhaw.catan;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.List;
 import java.util.HashMap;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.Collections;
+import java.util.random.RandomGenerator;
 
 import static ch.zhaw.catan.Config.MAX_CARDS_IN_HAND_NO_DROP;
 
@@ -16,9 +18,10 @@ import static ch.zhaw.catan.Config.MAX_CARDS_IN_HAND_NO_DROP;
  * @version 26.11.2022
  */
 public class Player extends ResourceHolder {
-    private static final Random random = new Random();
     private static final Config.Resource[] resourceKeys = Config.Resource.values();
-    private final HashMap<Config.Structure, Integer> structures;
+    private static final int MISSING_STRUCTURE = -1;
+    private final RandomGenerator random;
+    private final int[] structures;
     private final Config.Faction faction;
     private int winPoints;
 
@@ -30,12 +33,52 @@ public class Player extends ResourceHolder {
      * @param structure specifies the initial structures the player starts with.
      */
     public Player(Config.Faction faction, HashMap<Config.Resource, Integer> resource, HashMap<Config.Structure, Integer> structure) {
+        this(faction, resource, structure, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new player of a specific faction and with an initial inventory, which takes the random
+     * decisions of dropping and stealing resources from the specified random generator.
+     *
+     * @param faction   specifies the faction which is associated with the player.
+     * @param resource  specifies the initial resources the player starts with.
+     * @param structure specifies the initial structures the player starts with.
+     * @param random    specifies the random generator of the game the player is part of.
+     * @throws IllegalArgumentException if one of the parameters is null.
+     */
+    public Player(Config.Faction faction, HashMap<Config.Resource, Integer> resource,
+                  HashMap<Config.Structure, Integer> structure, RandomGenerator random) {
         super(resource);
-        if (faction == null || structure == null){
-            throw new IllegalArgumentException("Faction and structures must not be null!");
+        if (faction == null || structure == null || random == null){
+            throw new IllegalArgumentException("Faction, structures and random must not be null!");
         }
         this.faction = faction;
-        this.structures = structure;
+        this.structures = new int[Config.Structure.values().length];
+        Arrays.fill(structures, MISSING_STRUCTURE);
+        for (Map.Entry<Config.Structure, Integer> entry : structure.entrySet()) {
+            structures[entry.getKey().ordinal()] = entry.getValue();
+        }
+        this.random = random;
+        resources.setHashOwner(ZobristKeys.player(faction));
+    }
+
+    /**
+     * Constructs a copy of the specified player with its resources, structures and win points, which takes
+     * its random decisions from the specified random generator.
+     *
+     * @param other  specifies the player to be copied.
+     * @param random specifies the random generator of the game the copy is part of.
+     * @throws IllegalArgumentException if one of the parameters is null.
+     */
+    public Player(Player other, RandomGenerator random) {
+        super(other);
+        if (random == null){
+            throw new IllegalArgumentException("Random parameter must not be null!");
+        }
+        this.faction = other.faction;
+        this.structures = other.structures.clone();
+        this.winPoints = other.winPoints;
+        this.random = random;
     }
 
     public Config.Faction getFaction() {
@@ -57,11 +100,11 @@ public class Player extends ResourceHolder {
         if (structure == null){
             throw new IllegalArgumentException("Structure parameter must not be null!");
         }
-        if (!structures.containsKey(structure)){
+        if (structures[structure.ordinal()] == MISSING_STRUCTURE){
             throw new IllegalArgumentException("Specified structure is not a key in the players inventory!");
         }
 
-        return structures.get(structure);
+        return structures[structure.ordinal()];
     }
 
     /**
@@ -72,31 +115,47 @@ public class Player extends ResourceHolder {
      * @return a map with the removed resources.
      */
     public Map<Config.Resource, Integer> dropHalfResources() {
+        ResourceVector removedResources = new ResourceVector();
+        if (!dropHalfResources(removedResources)) {
+            return Collections.emptyMap();
+        }
+        HashMap<Config.Resource, Integer> removedResourceMap = Config.createEmptyResourceMap();
+        removedResourceMap.putAll(removedResources.asMap());
+        return removedResourceMap;
+    }
+
+    /**
+     * Drops half of the resources like {@link #dropHalfResources()}, but stores the removed resources in the
+     * specified vector instead of creating a map.
+     *
+     * @param removedResources specifies the vector in which the removed resources are stored.
+     * @return true if resources were removed, false if the player carries no more than 7 resource cards.
+     */
+    boolean dropHalfResources(ResourceVector removedResources) {
+        for (Config.Resource resource : resourceKeys) {
+            removedResources.set(resource, 0);
+        }
         int totalResourceCount = getTotalResourceCount();
         if (totalResourceCount <= MAX_CARDS_IN_HAND_NO_DROP) {
-            return Collections.emptyMap();
+            return false;
         }
 
-        HashMap<Config.Resource, Integer> removedResources = Config.createEmptyResourceMap();
         int resourcesToBeRemoved = totalResourceCount / 2;
         int removedResourceCount = 0;
 
         while (removedResourceCount != resourcesToBeRemoved) {
             Config.Resource randomResource = resourceKeys[random.nextInt(resourceKeys.length)];
 
-            if (resources.containsKey(randomResource)) {
-                int resourceStock = resources.get(randomResource);
-                int currentRemoveCount = removedResources.get(randomResource);
+            int resourceStock = resources.get(randomResource);
+            int currentRemoveCount = removedResources.get(randomResource);
 
-                if (resourceStock > 0 && (resourceStock > currentRemoveCount)) {
-                    resources.put(randomResource, resourceStock - 1);
-                    removedResources.put(randomResource, currentRemoveCount + 1);
-                    removedResourceCount += 1;
-                }
+            if (resourceStock > 0 && (resourceStock > currentRemoveCount)) {
+                resources.add(randomResource, -1);
+                removedResources.add(randomResource, 1);
+                removedResourceCount += 1;
             }
         }
-
-        return removedResources;
+        return true;
     }
 
     /**
@@ -106,11 +165,11 @@ public class Player extends ResourceHolder {
      */
     public Config.Resource stealRandomResource() {
         // Make a list of resources which the player owns one or more of
-        List<Config.Resource> nonEmptyResources = new ArrayList<>(resources.size());
+        List<Config.Resource> nonEmptyResources = new ArrayList<>(resourceKeys.length);
 
-        for (Map.Entry<Config.Resource, Integer> resource : resources.entrySet()) {
-            if (resource.getValue() > 0){
-                nonEmptyResources.add(resource.getKey());
+        for (Config.Resource resource : resourceKeys) {
+            if (resources.get(resource) > 0){
+                nonEmptyResources.add(resource);
             }
         }
 
@@ -118,9 +177,9 @@ public class Player extends ResourceHolder {
             return null;
         }
 
-        int resourceIndex = new Random().nextInt(nonEmptyResources.size());
+        int resourceIndex = random.nextInt(nonEmptyResources.size());
         Config.Resource targetResource = nonEmptyResources.get(resourceIndex);
-        resources.put(targetResource, resources.get(targetResource) - 1);
+        resources.add(targetResource, -1);
         return targetResource;
     }
 
@@ -135,7 +194,7 @@ public class Player extends ResourceHolder {
             throw new IllegalArgumentException("Resource parameter must not be null!");
         }
 
-        resources.put(resource, resources.get(resource) + 1);
+        resources.add(resource, 1);
     }
 
     /**
@@ -186,12 +245,13 @@ public class Player extends ResourceHolder {
         if (structure == null){
             throw new IllegalArgumentException("Structure parameter must not be null!");
         }
-        if (structures.get(structure) + 1 > structure.getStockPerPlayer()){
+        checkStructureKey(structure);
+        if (structures[structure.ordinal()] + 1 > structure.getStockPerPlayer()){
             throw new IllegalArgumentException("Adding the structure must not exceed the maximum " +
                     "value given to the player at the beginning of the game!");
         }
 
-        structures.put(structure, structures.get(structure) + 1);
+        structures[structure.ordinal()]++;
     }
 
     /**
@@ -205,11 +265,12 @@ public class Player extends ResourceHolder {
         if (structure == null) {
             throw new IllegalArgumentException("Structure parameter must not be null!");
         }
-        if (structures.get(structure) - 1 < 0){
+        checkStructureKey(structure);
+        if (structures[structure.ordinal()] - 1 < 0){
             throw new IllegalArgumentException("Removing the structure must not exceed the minimum (0)!");
         }
 
-        structures.put(structure, structures.get(structure) - 1);
+        structures[structure.ordinal()]--;
     }
 
     /**
@@ -224,11 +285,36 @@ public class Player extends ResourceHolder {
         if (structure == null){
             throw new IllegalArgumentException("Structure parameter must not be null");
         }
-        if (!structures.containsKey(structure)){
+        if (structures[structure.ordinal()] == MISSING_STRUCTURE){
             throw new IllegalArgumentException("Player does not have such a structure in the inventory!");
         }
 
-        return structures.get(structure) > 0;
+        return structures[structure.ordinal()] > 0;
+    }
+
+    private void checkStructureKey(Config.Structure structure) {
+        if (structures[structure.ordinal()] == MISSING_STRUCTURE){
+            throw new IllegalArgumentException("Specified structure is not a key in the players inventory!");
+        }
+    }
+
+    /**
+     * Sets the win points back to a previous value when a move is taken back.
+     *
+     * @param winPoints specifies the previous win points.
+     */
+    void restoreWinPoints(int winPoints) {
+        this.winPoints = winPoints;
+    }
+
+    /**
+     * Sets the stock of a structure back to a previous value when a move is taken back.
+     *
+     * @param structure specifies the structure.
+     * @param amount specifies the previous stock of the structure.
+     */
+    void restoreStructureStock(Config.Structure structure, int amount) {
+        structures[structure.ordinal()] = amount;
     }
 
     /**
@@ -236,12 +322,7 @@ public class Player extends ResourceHolder {
      *
      * @return the absolute amount of resources in the inventory.
      */
-    private int getTotalResourceCount() {
-        int totalResourceCount = 0;
-        for (int resourceCount : resources.values()) {
-            totalResourceCount += resourceCount;
-        }
-
-        return totalResourceCount;
+    public int getTotalResourceCount() {
+        return resources.total();
     }
 }
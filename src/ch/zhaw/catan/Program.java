@@ -1,14 +1,24 @@
 package ch.zhaw.catan;
 
+import ch.zhaw.catan.gamephases.BotController;
 import ch.zhaw.catan.gamephases.GamePhase;
 import ch.zhaw.catan.gamephases.InitialPhase;
 import ch.zhaw.catan.gamephases.DiceRollPhase;
 import ch.zhaw.catan.gamephases.BuildAndTradePhase;
 import ch.zhaw.catan.gamephases.EndPhase;
+import ch.zhaw.catan.gamephases.PhaseScheduler;
+import ch.zhaw.catan.gamephases.PlayerController;
+import ch.zhaw.catan.simulation.MctsStrategy;
 import org.beryx.textio.TextIO;
 import org.beryx.textio.TextIoFactory;
 import org.beryx.textio.TextTerminal;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
 /**
  * This class provides all functionality needed to start a new game of Catan.
  *
@@ -16,14 +26,15 @@ import org.beryx.textio.TextTerminal;
  * @version 25.11.2022
  */
 public class Program {
+    private static final Duration BOT_TIME_PER_MOVE = Duration.ofSeconds(1);
     GamePhase startPhase;
 
     /**
-     * Starts the program by setting it up and executing the onStart method of the start game phase.
+     * Starts the program by setting it up and executing the game phases beginning with the start game phase.
      */
     public void run(){
         setup();
-        startPhase.onStart();
+        new PhaseScheduler().run(startPhase);
     }
 
     private void setup(){
@@ -52,7 +63,19 @@ public class Program {
                 .withMaxVal(Config.MAX_NUMBER_OF_PLAYERS)
                 .read("With how many players do you want to play?");
 
+        int numberOfBots = textIO.newIntInputReader()
+                .withMinVal(0)
+                .withMaxVal(numberOfPlayers)
+                .read("How many of the players should be played by the computer?");
+
         SiedlerGame siedlerGame = new SiedlerGame(winPoints, numberOfPlayers);
+        Map<Config.Faction, PlayerController> bots = new EnumMap<>(Config.Faction.class);
+        List<Config.Faction> factions = siedlerGame.getPlayerFactions();
+        for (int i = numberOfPlayers - numberOfBots; i < numberOfPlayers; i++) {
+            bots.put(factions.get(i), new BotController(siedlerGame,
+                    new MctsStrategy(BOT_TIME_PER_MOVE, Runtime.getRuntime().availableProcessors()),
+                    new SplittableRandom()));
+        }
 
         InitialPhase initialPhase = new InitialPhase(textIO, textTerminal, siedlerGame);
         EndPhase endPhase = new EndPhase(textIO, textTerminal, siedlerGame);
@@ -62,6 +85,9 @@ public class Program {
         initialPhase.initializeNextPhase(diceRollPhase);
         diceRollPhase.initializeNextPhase(buildAndTradePhase);
         buildAndTradePhase.initializeNextPhase(diceRollPhase);
+        initialPhase.initializeControllers(bots);
+        diceRollPhase.initializeControllers(bots);
+        buildAndTradePhase.initializeControllers(bots);
 
         startPhase = initialPhase;
     }
@@ -10,7 +10,7 @@ import java.util.Map;
  * @version 09.12.2022
  */
 public abstract class ResourceHolder {
-    protected HashMap<Config.Resource, Integer> resources;
+    protected final ResourceVector resources;
 
     /**
      * Constructs a new ResourceHolder.
@@ -23,11 +23,39 @@ public abstract class ResourceHolder {
             throw new IllegalArgumentException("Resources parameter must not be null!");
         }
 
-        this.resources = resources;
+        this.resources = new ResourceVector(resources);
     }
 
+    /**
+     * Constructs a new ResourceHolder with a copy of the resources of another holder.
+     *
+     * @param other specifies the holder whose resources are copied.
+     * @throws IllegalArgumentException if the other parameter is null.
+     */
+    protected ResourceHolder(ResourceHolder other) {
+        if (other == null){
+            throw new IllegalArgumentException("ResourceHolder parameter must not be null!");
+        }
+
+        this.resources = new ResourceVector(other.resources);
+    }
+
+    /**
+     * Returns a map view on the resource inventory. The view contains every resource as a key.
+     *
+     * @return the resources in the inventory.
+     */
     public Map<Config.Resource, Integer> getResources() {
-        return resources;
+        return resources.asMap();
+    }
+
+    /**
+     * Returns the XOR of the Zobrist keys of all amounts in the inventory, which is updated with every change.
+     *
+     * @return the hash of the inventory.
+     */
+    long getZobristHash() {
+        return resources.getZobristHash();
     }
 
     /**
@@ -35,15 +63,12 @@ public abstract class ResourceHolder {
      *
      * @param key specifies the resource to be checked.
      * @return the amount of the specified resource.
-     * @throws IllegalArgumentException if key parameter is null or key is invalid (not available in inventory).
+     * @throws IllegalArgumentException if key parameter is null.
      */
     public int getResource(Config.Resource key) {
         if (key == null){
             throw new IllegalArgumentException("Key parameter must not be null!");
         }
-        if (!resources.containsKey(key)){
-            throw new IllegalArgumentException("Key is not available! The resource does not exist in inventory.");
-        }
         return resources.get(key);
     }
 
@@ -58,13 +83,27 @@ public abstract class ResourceHolder {
             throw new IllegalArgumentException("AdditionalResources parameter must not be null!");
         }
         for (Map.Entry<Config.Resource, Integer> entry : additionalResources.entrySet()) {
-            int current = resources.get(entry.getKey());
-            resources.put(entry.getKey(), current + entry.getValue());
+            resources.add(entry.getKey(), entry.getValue());
         }
     }
 
+    /**
+     * Adds resources to the resource inventory.
+     *
+     * @param additionalResources specifies the resources to be added.
+     * @throws IllegalArgumentException if the additionalResources parameter is null.
+     */
+    public void addResources(ResourceVector additionalResources) {
+        if (additionalResources == null){
+            throw new IllegalArgumentException("AdditionalResources parameter must not be null!");
+        }
+        resources.add(additionalResources);
+    }
+
     /**
      * The resource inventory is reduced by the amount of the specified HashMap.
+     * If there is not enough of a resource, the stock is set to 0 and the entry of the map is set to
+     * the amount which was actually removed.
      *
      * @param resourcesToBeRemoved specifies the resources to be removed in a HashMap.
      * @throws IllegalArgumentException if the resourcesToBeRemoved parameter is null.
@@ -77,13 +116,60 @@ public abstract class ResourceHolder {
             int stock = resources.get(resourceEntry.getKey());
             if (stock < resourceEntry.getValue()) {
                 resourceEntry.setValue(stock);
-                resources.put(resourceEntry.getKey(), 0);
+                resources.set(resourceEntry.getKey(), 0);
             } else {
-                resources.put(resourceEntry.getKey(), stock - resourceEntry.getValue());
+                resources.set(resourceEntry.getKey(), stock - resourceEntry.getValue());
             }
         }
     }
 
+    /**
+     * The resource inventory is reduced by the amount of the specified vector.
+     * If there is not enough of a resource, the stock is set to 0. The vector is not changed.
+     *
+     * @param resourcesToBeRemoved specifies the resources to be removed.
+     * @return true if the full amount was removed, false if there was not enough of a resource.
+     * @throws IllegalArgumentException if the resourcesToBeRemoved parameter is null.
+     */
+    public boolean tryRemoveResources(ResourceVector resourcesToBeRemoved) {
+        return tryRemoveResources(resourcesToBeRemoved, null);
+    }
+
+    /**
+     * The resource inventory is reduced by the amount of the specified vector like
+     * {@link #tryRemoveResources(ResourceVector)}, and the amount which was actually removed of each resource is
+     * stored in the second vector. The removed amounts are stored before the inventory is changed, so the
+     * inventory stays unchanged if the second vector can not be changed.
+     *
+     * @param resourcesToBeRemoved specifies the resources to be removed.
+     * @param removedResources specifies the vector in which the removed amounts are stored, or null. It may be
+     * the same vector as resourcesToBeRemoved.
+     * @return true if the full amount was removed, false if there was not enough of a resource.
+     * @throws IllegalArgumentException if the resourcesToBeRemoved parameter is null.
+     * @throws UnsupportedOperationException if removedResources is unmodifiable.
+     */
+    public boolean tryRemoveResources(ResourceVector resourcesToBeRemoved, ResourceVector removedResources) {
+        if (resourcesToBeRemoved == null){
+            throw new IllegalArgumentException("ResourcesToBeRemoved must not be null!");
+        }
+        if (resources.covers(resourcesToBeRemoved)) {
+            if (removedResources != null) {
+                removedResources.set(resourcesToBeRemoved);
+            }
+            resources.subtract(resourcesToBeRemoved);
+            return true;
+        }
+        if (removedResources != null) {
+            for (Config.Resource resource : Config.Resource.values()) {
+                removedResources.set(resource, Math.min(resources.get(resource), resourcesToBeRemoved.get(resource)));
+            }
+        }
+        for (Config.Resource resource : Config.Resource.values()) {
+            resources.set(resource, Math.max(0, resources.get(resource) - resourcesToBeRemoved.get(resource)));
+        }
+        return false;
+    }
+
     /**
      * Checks if the inventory holds enough of the required resources.
      *
@@ -95,14 +181,28 @@ public abstract class ResourceHolder {
         if (requiredResources == null){
             throw new IllegalArgumentException("RequiredResources must not be null!");
         }
-        for (Config.Resource key : requiredResources.keySet()) {
-            if (resources.get(key) < requiredResources.get(key)) {
+        for (Map.Entry<Config.Resource, Integer> entry : requiredResources.entrySet()) {
+            if (!resources.covers(entry.getKey(), entry.getValue())) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Checks if the inventory holds enough of the required resources.
+     *
+     * @param requiredResources specifies the resources to be checked.
+     * @return true if the inventory has enough resources, false if not.
+     * @throws IllegalArgumentException if the requiredResources parameter is null.
+     */
+    public boolean checkIfEnoughOfAllResources(ResourceVector requiredResources) {
+        if (requiredResources == null){
+            throw new IllegalArgumentException("RequiredResources must not be null!");
+        }
+        return resources.covers(requiredResources);
+    }
+
     /**
      * Checks if holder has enough of a specified resource.
      *
@@ -115,6 +215,6 @@ public abstract class ResourceHolder {
         if (resource == null){
             throw new IllegalArgumentException("Resource parameter must not be null!");
         }
-        return amount <= resources.get(resource);
+        return resources.covers(resource, amount);
     }
 }
\ No newline at end of file
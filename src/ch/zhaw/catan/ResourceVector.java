@@ -0,0 +1,386 @@
+package ch.zhaw.catan;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Holds an amount per {@link Config.Resource} in an int array indexed by the ordinal of the resource.
+ * <p>
+ * All operations work on the array directly and do neither allocate nor box the amounts. For code which
+ * works with maps, {@link #asMap()} provides a map view on the vector. Vectors created with
+ * {@link #unmodifiable(Map)} reject every change with an {@link UnsupportedOperationException}.
+ * </p><p>
+ * The vector keeps the XOR of the {@link ZobristKeys} of its amounts, which is updated with every change of
+ * an amount. The keys depend on the owner of the vector, so the inventories of the bank and of the players
+ * add different keys to the hash of a game.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public final class ResourceVector {
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+    private final int[] amounts = new int[RESOURCES.length];
+    private boolean modifiable = true;
+    private Map<Config.Resource, Integer> mapView;
+    private int hashOwner = ZobristKeys.BANK;
+    private long zobristHash;
+
+    /**
+     * Constructs a new ResourceVector with an amount of 0 for every resource.
+     */
+    public ResourceVector() {
+        zobristHash = computeZobristHash();
+    }
+
+    /**
+     * Constructs a new ResourceVector with the amounts of the specified map.
+     * Resources which are not contained in the map have an amount of 0.
+     *
+     * @param resources specifies the initial amounts.
+     * @throws IllegalArgumentException if the resources parameter or one of its entries is null.
+     */
+    public ResourceVector(Map<Config.Resource, Integer> resources) {
+        if (resources == null){
+            throw new IllegalArgumentException("Resources parameter must not be null!");
+        }
+        for (Map.Entry<Config.Resource, Integer> entry : resources.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null){
+                throw new IllegalArgumentException("Resource entries must not be null!");
+            }
+            amounts[entry.getKey().ordinal()] = entry.getValue();
+        }
+        zobristHash = computeZobristHash();
+    }
+
+    /**
+     * Constructs a copy of the specified ResourceVector.
+     *
+     * @param other specifies the vector to be copied.
+     * @throws IllegalArgumentException if the other parameter is null.
+     */
+    public ResourceVector(ResourceVector other) {
+        if (other == null){
+            throw new IllegalArgumentException("Vector parameter must not be null!");
+        }
+        System.arraycopy(other.amounts, 0, amounts, 0, amounts.length);
+        hashOwner = other.hashOwner;
+        zobristHash = other.zobristHash;
+    }
+
+    /**
+     * Creates an unmodifiable vector with the amounts of the specified map.
+     *
+     * @param resources specifies the amounts.
+     * @return the unmodifiable vector.
+     * @throws IllegalArgumentException if the resources parameter or one of its entries is null.
+     */
+    public static ResourceVector unmodifiable(Map<Config.Resource, Integer> resources) {
+        ResourceVector vector = new ResourceVector(resources);
+        vector.modifiable = false;
+        return vector;
+    }
+
+    /**
+     * Returns the amount of the specified resource.
+     *
+     * @param resource specifies the resource.
+     * @return the amount of the resource.
+     */
+    public int get(Config.Resource resource) {
+        return amounts[resource.ordinal()];
+    }
+
+    /**
+     * Sets the amount of the specified resource.
+     *
+     * @param resource specifies the resource.
+     * @param amount specifies the new amount.
+     * @throws UnsupportedOperationException if the vector is unmodifiable.
+     */
+    public void set(Config.Resource resource, int amount) {
+        checkModifiable();
+        store(resource.ordinal(), amount);
+    }
+
+    /**
+     * Sets the amounts of all resources to the amounts of another vector.
+     *
+     * @param other specifies the new amounts.
+     * @throws UnsupportedOperationException if the vector is unmodifiable.
+     */
+    public void set(ResourceVector other) {
+        checkModifiable();
+        for (int i = 0; i < amounts.length; i++) {
+            store(i, other.amounts[i]);
+        }
+    }
+
+    /**
+     * Adds an amount to the specified resource.
+     *
+     * @param resource specifies the resource.
+     * @param amount specifies the amount to be added. A negative amount is subtracted.
+     * @throws UnsupportedOperationException if the vector is unmodifiable.
+     */
+    public void add(Config.Resource resource, int amount) {
+        checkModifiable();
+        int index = resource.ordinal();
+        store(index, amounts[index] + amount);
+    }
+
+    /**
+     * Adds the amounts of another vector to this vector.
+     *
+     * @param other specifies the amounts to be added.
+     * @throws UnsupportedOperationException if the vector is unmodifiable.
+     */
+    public void add(ResourceVector other) {
+        checkModifiable();
+        for (int i = 0; i < amounts.length; i++) {
+            store(i, amounts[i] + other.amounts[i]);
+        }
+    }
+
+    /**
+     * Subtracts the amounts of another vector from this vector.
+     *
+     * @param other specifies the amounts to be subtracted.
+     * @throws UnsupportedOperationException if the vector is unmodifiable.
+     */
+    public void subtract(ResourceVector other) {
+        checkModifiable();
+        for (int i = 0; i < amounts.length; i++) {
+            store(i, amounts[i] - other.amounts[i]);
+        }
+    }
+
+    /**
+     * Checks if this vector holds at least the amount of the specified resource.
+     *
+     * @param resource specifies the resource.
+     * @param amount specifies the required amount.
+     * @return true if the amount is covered, false if not.
+     */
+    public boolean covers(Config.Resource resource, int amount) {
+        return amount <= amounts[resource.ordinal()];
+    }
+
+    /**
+     * Checks if this vector holds at least the amounts of another vector for every resource.
+     *
+     * @param required specifies the required amounts.
+     * @return true if all amounts are covered, false if not.
+     */
+    public boolean covers(ResourceVector required) {
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] < required.amounts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the sum of the amounts of all resources.
+     *
+     * @return the total amount.
+     */
+    public int total() {
+        int total = 0;
+        for (int amount : amounts) {
+            total += amount;
+        }
+        return total;
+    }
+
+    /**
+     * Returns a map view on this vector which contains every resource as a key. Changes of the vector are
+     * visible in the view and values of a modifiable vector can be changed through the view. Keys can not
+     * be removed.
+     *
+     * @return the map view.
+     */
+    public Map<Config.Resource, Integer> asMap() {
+        if (mapView == null) {
+            mapView = new MapView();
+        }
+        return mapView;
+    }
+
+    /**
+     * Returns the XOR of the Zobrist keys of all amounts of the vector.
+     *
+     * @return the hash of the amounts.
+     */
+    long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * Sets the owner of the vector, whose keys are used for the hash of the amounts.
+     *
+     * @param owner specifies the owner, {@link ZobristKeys#BANK} or {@link ZobristKeys#player(Config.Faction)}.
+     */
+    void setHashOwner(int owner) {
+        hashOwner = owner;
+        zobristHash = computeZobristHash();
+    }
+
+    /**
+     * Calculates the hash of the amounts from all amounts.
+     *
+     * @return the hash of the amounts.
+     */
+    long computeZobristHash() {
+        long hash = 0;
+        for (int i = 0; i < amounts.length; i++) {
+            hash ^= ZobristKeys.resource(hashOwner, i, amounts[i]);
+        }
+        return hash;
+    }
+
+    private void store(int index, int amount) {
+        if (amounts[index] == amount) {
+            return;
+        }
+        zobristHash ^= ZobristKeys.resource(hashOwner, index, amounts[index])
+                ^ ZobristKeys.resource(hashOwner, index, amount);
+        amounts[index] = amount;
+    }
+
+    private void checkModifiable() {
+        if (!modifiable) {
+            throw new UnsupportedOperationException("Resource vector is unmodifiable!");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ResourceVector other && Arrays.equals(amounts, other.amounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(amounts);
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    /**
+     * Map view on the amounts of the vector.
+     */
+    private final class MapView extends AbstractMap<Config.Resource, Integer> {
+        private final Set<Map.Entry<Config.Resource, Integer>> entrySet = new EntrySet();
+
+        @Override
+        public int size() {
+            return amounts.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Config.Resource;
+        }
+
+        @Override
+        public Integer get(Object key) {
+            if (key instanceof Config.Resource resource) {
+                return amounts[resource.ordinal()];
+            }
+            return null;
+        }
+
+        @Override
+        public Integer put(Config.Resource key, Integer value) {
+            if (key == null || value == null){
+                throw new IllegalArgumentException("Key and value must not be null!");
+            }
+            checkModifiable();
+            int old = amounts[key.ordinal()];
+            store(key.ordinal(), value);
+            return old;
+        }
+
+        @Override
+        public Set<Map.Entry<Config.Resource, Integer>> entrySet() {
+            return entrySet;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<Config.Resource, Integer>> {
+        @Override
+        public int size() {
+            return amounts.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<Config.Resource, Integer>> iterator() {
+            return new Iterator<>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < amounts.length;
+                }
+
+                @Override
+                public Map.Entry<Config.Resource, Integer> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return new Entry(RESOURCES[index++]);
+                }
+            };
+        }
+    }
+
+    private final class Entry implements Map.Entry<Config.Resource, Integer> {
+        private final Config.Resource resource;
+
+        private Entry(Config.Resource resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public Config.Resource getKey() {
+            return resource;
+        }
+
+        @Override
+        public Integer getValue() {
+            return amounts[resource.ordinal()];
+        }
+
+        @Override
+        public Integer setValue(Integer value) {
+            return asMap().put(resource, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> entry && resource == entry.getKey()
+                    && getValue().equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return resource.hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return resource + "=" + getValue();
+        }
+    }
+}
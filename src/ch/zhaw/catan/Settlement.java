@@ -21,6 +21,16 @@ public class Settlement extends PlayerOwnedStructure {
         winPoints = 1;
     }
 
+    /**
+     * Creates a settlement at the same level as this one which is owned by the specified player.
+     *
+     * @param owner specifies the player who owns the new settlement.
+     * @return the new settlement.
+     */
+    public Settlement withOwner(Player owner) {
+        return new Settlement(owner);
+    }
+
     public int getPayoutFactor() {
         return payoutFactor;
     }
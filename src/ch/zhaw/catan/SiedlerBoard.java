@@ -1,17 +1,23 @@
 package ch.zhaw.catan;
 
 import ch.zhaw.catan.Config.Land;
+import ch.zhaw.hexboard.AnsiDiffRenderer;
 import ch.zhaw.hexboard.HexBoard;
+import ch.zhaw.hexboard.HexCoordinate;
 import ch.zhaw.hexboard.Label;
+import ch.zhaw.hexboard.StorageLayout;
 
 import java.awt.Point;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
-import static ch.zhaw.catan.Config.INITIAL_THIEF_POSITION;
+import static ch.zhaw.catan.Config.MAX_DICE_VALUE;
 import static ch.zhaw.catan.Config.MIN_DICE_VALUE;
 
 /**
@@ -21,8 +27,26 @@ import static ch.zhaw.catan.Config.MIN_DICE_VALUE;
  * @version 09.12.2022
  */
 public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
-    private Point thiefPosition = INITIAL_THIEF_POSITION;
-    private final SiedlerBoardTextView textView = new SiedlerBoardTextView(this);
+    private static final int DICE_VALUE_COUNT = MAX_DICE_VALUE - MIN_DICE_VALUE + 1;
+    private static final int FACTION_COUNT = Config.Faction.values().length;
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+    private static final int RESOURCE_COUNT = RESOURCES.length;
+    private static final int MAX_NEIGHBOURS = 3;
+    private static final Map<BoardLayout, LayoutTables> LAYOUT_TABLES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private final BoardLayout layout;
+    private final LayoutTables layoutTables;
+    private final List<List<Point>> producingFieldsPerDiceValue;
+    private final int[] productionPerDiceValue;
+    private final int[] totalProductionPerDiceValue;
+    private final byte[] structureFactions;
+    private final byte[] roadFactions;
+    private final byte[] roadCounts;
+    private final byte[] structuresNearby;
+    private final int[] settlementCorners;
+    private Point thiefPosition;
+    private long zobristHash;
+    private SiedlerBoardTextView textView;
     private final CardBank bank;
 
     /**
@@ -32,11 +56,86 @@ public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
      * @throws IllegalArgumentException if bank is null.
      */
     public SiedlerBoard(CardBank bank) {
+        this(bank, BoardLayout.standard());
+    }
+
+    /**
+     * Constructs a new SiedlerBoard with the fields of the specified layout. The storage of the board is sized
+     * for the coordinates of the layout, so large generated layouts are stored in arrays as well.
+     *
+     * @param bank specifies the CardBank in which to trade, dispense and distribute resources.
+     * @param layout specifies the positions, lands and dice values of the fields and the thief position.
+     * @throws IllegalArgumentException if bank or layout is null.
+     */
+    public SiedlerBoard(CardBank bank, BoardLayout layout) {
+        super(StorageLayout.ARRAY, requireLayout(layout).getMaxXCoordinate(), layout.getMaxYCoordinate());
         if (bank == null) {
             throw new IllegalArgumentException("CardBank parameter must not be null!");
         }
         this.bank = bank;
-        initialBoardSetup();
+        this.layout = layout;
+        producingFieldsPerDiceValue = new ArrayList<>(DICE_VALUE_COUNT);
+        productionPerDiceValue = new int[DICE_VALUE_COUNT * FACTION_COUNT * RESOURCE_COUNT];
+        totalProductionPerDiceValue = new int[DICE_VALUE_COUNT * RESOURCE_COUNT];
+        thiefPosition = layout.getThiefPosition();
+        zobristHash = ZobristKeys.thief(thiefPosition);
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            addField(layout.getPosition(i), new Field(layout.getLand(i), layout.getDiceValue(i)));
+        }
+        layoutTables = LAYOUT_TABLES.computeIfAbsent(layout, key -> new LayoutTables(this, key));
+        structureFactions = new byte[layoutTables.resourceCorners.length];
+        roadFactions = new byte[layoutTables.resourceCorners.length * MAX_NEIGHBOURS];
+        roadCounts = new byte[layoutTables.resourceCorners.length * FACTION_COUNT];
+        structuresNearby = new byte[layoutTables.resourceCorners.length];
+        settlementCorners = new int[FACTION_COUNT];
+        for (int i = 0; i < DICE_VALUE_COUNT; i++) {
+            producingFieldsPerDiceValue.add(Collections.emptyList());
+            updateProducingFields(i + MIN_DICE_VALUE);
+        }
+        setThiefPosition(layout.getThiefPosition());
+    }
+
+    private static BoardLayout requireLayout(BoardLayout layout) {
+        if (layout == null){
+            throw new IllegalArgumentException("BoardLayout parameter must not be null!");
+        }
+        return layout;
+    }
+
+    /**
+     * Constructs a copy of the specified board for a forked game.
+     * <p>
+     * The copy shares all tables of the original which only depend on the layout, such as the
+     * land fields per dice value and the neighbours of each corner. The fields, the thief, the production
+     * tables and the settlements, cities and roads are copied. The structures of the copy are owned by the
+     * players of the forked game.
+     * </p>
+     *
+     * @param original specifies the board to be copied.
+     * @param bank specifies the CardBank of the forked game.
+     * @param ownersByFaction specifies the players of the forked game, indexed by the ordinal of their faction.
+     * @throws IllegalArgumentException if one of the parameters is null.
+     */
+    SiedlerBoard(SiedlerBoard original, CardBank bank, Player[] ownersByFaction) {
+        super(original, Field::new,
+                structure -> structure.withOwner(ownersByFaction[structure.getOwner().getFaction().ordinal()]),
+                road -> new Road(ownersByFaction[road.getOwner().getFaction().ordinal()]));
+        if (bank == null){
+            throw new IllegalArgumentException("CardBank parameter must not be null!");
+        }
+        this.bank = bank;
+        layout = original.layout;
+        layoutTables = original.layoutTables;
+        producingFieldsPerDiceValue = new ArrayList<>(original.producingFieldsPerDiceValue);
+        productionPerDiceValue = original.productionPerDiceValue.clone();
+        totalProductionPerDiceValue = original.totalProductionPerDiceValue.clone();
+        structureFactions = original.structureFactions.clone();
+        roadFactions = original.roadFactions.clone();
+        roadCounts = original.roadCounts.clone();
+        structuresNearby = original.structuresNearby.clone();
+        settlementCorners = original.settlementCorners.clone();
+        thiefPosition = original.thiefPosition;
+        zobristHash = original.zobristHash;
     }
 
     /**
@@ -59,36 +158,408 @@ public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
             return false;
         }
 
-        getField(thiefPosition).setThief(false);
+        Point oldThiefPosition = thiefPosition;
+        Field oldThief = getField(oldThiefPosition);
+        oldThief.setThief(false);
         newThief.setThief(true);
-        thiefPosition = fieldPosition;
+        thiefPosition = new Point(fieldPosition);
+        zobristHash ^= ZobristKeys.thief(oldThiefPosition) ^ ZobristKeys.thief(fieldPosition);
+        fieldChanged(oldThiefPosition);
+        fieldChanged(fieldPosition);
+        updateProducingFields(oldThief.getDiceValue());
+        updateProducingFields(newThief.getDiceValue());
+        if (oldThief != newThief) {
+            addFieldProduction(oldThiefPosition, oldThief, 1);
+            addFieldProduction(fieldPosition, newThief, -1);
+        }
         return true;
     }
 
+    /**
+     * Returns the position of the field with the thief.
+     *
+     * @return a copy of the thief position.
+     */
+    public Point getThiefPosition() {
+        return new Point(thiefPosition);
+    }
+
+    /**
+     * Returns the layout of the fields of the board.
+     *
+     * @return the layout of the board.
+     */
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Stores a settlement or city on a corner and updates the production table accordingly.
+     *
+     * @param location specifies the location of the corner.
+     * @param data specifies the settlement or city to be stored (or null to clear the corner).
+     * @return the previously stored settlement or city (or null).
+     * @throws IllegalArgumentException if there is no corner at this location.
+     */
+    @Override
+    public Settlement setCorner(Point location, Settlement data) {
+        Settlement old = super.setCorner(location, data);
+        zobristHash ^= ZobristKeys.corner(location, old) ^ ZobristKeys.corner(location, data);
+        addCornerProduction(location, old, -1);
+        addCornerProduction(location, data, 1);
+        int index = layoutTables.index(location);
+        if (index >= 0) {
+            structureFactions[index] = factionCode(data);
+        }
+        int corner = getLandCornerIndex(location);
+        int change = (data == null ? 0 : 1) - (old == null ? 0 : 1);
+        if (corner >= 0 && change != 0) {
+            countStructureNearby(corner, change);
+            for (int neighbour : layoutTables.neighbourIndexes[corner]) {
+                countStructureNearby(neighbour, change);
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Counts a structure on or next to a land corner. If the corner becomes blocked or free, it is removed from
+     * or added to the settlement corners of every faction with a road to it.
+     */
+    private void countStructureNearby(int corner, int change) {
+        boolean wasFree = structuresNearby[corner] == 0;
+        structuresNearby[corner] += change;
+        if (wasFree != (structuresNearby[corner] == 0) && layoutTables.resourceCorners[corner]) {
+            for (int faction = 0; faction < FACTION_COUNT; faction++) {
+                if (roadCounts[corner * FACTION_COUNT + faction] > 0) {
+                    settlementCorners[faction] += wasFree ? -1 : 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores a settlement or city on the corner denoted by the packed coordinate like
+     * {@link #setCorner(Point, Settlement)}, so the tables of the board are updated as well.
+     *
+     * @param location specifies the packed coordinate of the corner.
+     * @param data specifies the settlement or city to be stored (or null to clear the corner).
+     * @return the previously stored settlement or city (or null).
+     * @throws IllegalArgumentException if there is no corner at this location.
+     */
+    @Override
+    public Settlement setCorner(int location, Settlement data) {
+        return setCorner(HexCoordinate.toPoint(location), data);
+    }
+
+    /**
+     * Stores a road on an edge and updates the hash of the board accordingly.
+     *
+     * @param p1 specifies the first corner of the edge.
+     * @param p2 specifies the second corner of the edge.
+     * @param data specifies the road to be stored (or null to clear the edge).
+     * @throws IllegalArgumentException if the two points do not identify an existing edge.
+     */
+    @Override
+    public void setEdge(Point p1, Point p2, Road data) {
+        Road old = getEdge(p1, p2);
+        super.setEdge(p1, p2, data);
+        zobristHash ^= ZobristKeys.edge(p1, p2, old) ^ ZobristKeys.edge(p1, p2, data);
+        int corner = getLandCornerIndex(p1);
+        int neighbour = corner < 0 ? -1 : getNeighbourSlot(corner, getLandCornerIndex(p2));
+        if (neighbour >= 0) {
+            int slot = corner * MAX_NEIGHBOURS + neighbour;
+            int end = layoutTables.neighbourIndexes[corner][neighbour];
+            countRoad(corner, end, old, -1);
+            countRoad(corner, end, data, 1);
+            roadFactions[slot] = factionCode(data);
+            roadFactions[layoutTables.oppositeSlots[slot]] = roadFactions[slot];
+        }
+    }
+
+    private void countRoad(int start, int end, Road road, int change) {
+        if (road != null) {
+            int faction = road.getOwner().getFaction().ordinal();
+            countRoadEnd(start, faction, change);
+            countRoadEnd(end, faction, change);
+        }
+    }
+
+    /**
+     * Counts a road of a faction which ends at a land corner. If the faction gets its first or loses its last
+     * road to a free corner, the corner is added to or removed from the settlement corners of the faction.
+     */
+    private void countRoadEnd(int corner, int faction, int change) {
+        int slot = corner * FACTION_COUNT + faction;
+        boolean hadRoad = roadCounts[slot] > 0;
+        roadCounts[slot] += change;
+        if (hadRoad != (roadCounts[slot] > 0) && structuresNearby[corner] == 0
+                && layoutTables.resourceCorners[corner]) {
+            settlementCorners[faction] += hadRoad ? -1 : 1;
+        }
+    }
+
+    /**
+     * Stores a road on the edge denoted by the two packed coordinates like {@link #setEdge(Point, Point, Road)},
+     * so the tables of the board are updated as well.
+     *
+     * @param p1 specifies the packed coordinate of the first corner of the edge.
+     * @param p2 specifies the packed coordinate of the second corner of the edge.
+     * @param data specifies the road to be stored (or null to clear the edge).
+     * @throws IllegalArgumentException if the two points do not identify an existing edge.
+     */
+    @Override
+    public void setEdge(int p1, int p2, Road data) {
+        setEdge(HexCoordinate.toPoint(p1), HexCoordinate.toPoint(p2), data);
+    }
+
+    private static byte factionCode(PlayerOwnedStructure structure) {
+        return structure == null ? 0 : (byte) (structure.getOwner().getFaction().ordinal() + 1);
+    }
+
+    /**
+     * Returns the XOR of the Zobrist keys of the settlements, cities and roads on the board and of the thief.
+     * The hash is updated with every change of a corner, an edge or the thief.
+     *
+     * @return the hash of the board.
+     */
+    long getZobristHash() {
+        return zobristHash;
+    }
+
     /**
      * Returns the fields associated with the specified dice value.
      * Only returns fields which are not water or have a thief on them.
+     * The fields are looked up in a table which is built during the board setup
+     * and only updated when the thief moves.
      *
      * @param dice specifies the dice value.
-     * @return the valid fields associated with the dice value.
+     * @return the unmodifiable list with copies of the positions of the valid fields associated with the dice
+     * value.
      * @throws IllegalArgumentException if dice value is not in valid range.
      */
     public List<Point> getFieldsForDiceValue(int dice) {
+        checkDiceValue(dice);
+        return copyPositions(producingFieldsPerDiceValue.get(dice - MIN_DICE_VALUE));
+    }
+
+    private static void checkDiceValue(int dice) {
         if (dice < Config.MIN_DICE_VALUE || dice > Config.MAX_DICE_VALUE){
             throw new IllegalArgumentException("Dice value must be in valid range of(" + Config.MIN_DICE_VALUE +
                     "-" + Config.MAX_DICE_VALUE + ") !");
         }
-        List<Point> allFieldPositions = getFields();
+    }
 
-        List<Point> fieldsPositionsForDice = new ArrayList<>(allFieldPositions.size());
-        for (Point fieldPosition: allFieldPositions) {
-            Field field = getField(fieldPosition);
-            if (field.getDiceValue() == dice && !field.hasThief() && field.getLand() != Land.WATER) {
-                fieldsPositionsForDice.add(fieldPosition);
+    /**
+     * Returns the positions of all fields which are not water, ordered by row and column.
+     *
+     * @return the unmodifiable list with copies of the land field positions.
+     */
+    public List<Point> getLandFieldPositions() {
+        return copyPositions(layoutTables.landFieldPositions);
+    }
+
+    /**
+     * Returns the positions of all corners which are adjacent to at least one field that is not water,
+     * ordered by row and column. These are the only corners on which settlements and roads can be placed.
+     *
+     * @return the unmodifiable list with copies of the land corner positions.
+     */
+    public List<Point> getLandCornerPositions() {
+        return copyPositions(layoutTables.landCornerPositions);
+    }
+
+    /**
+     * Returns the land corners which are connected to the specified land corner by an edge.
+     *
+     * @param corner specifies the land corner.
+     * @return the unmodifiable list with copies of the neighbouring land corners or an empty list,
+     * if the position is not a land corner.
+     * @throws IllegalArgumentException if corner is null.
+     */
+    public List<Point> getNeighbourLandCorners(Point corner) {
+        return copyPositions(getSharedNeighbourLandCorners(corner));
+    }
+
+    /**
+     * Returns the land field positions like {@link #getLandFieldPositions()}, but without copying them. The
+     * positions are shared by all boards of the layout, so the classes of the package only read them.
+     */
+    List<Point> getSharedLandFieldPositions() {
+        return layoutTables.landFieldPositions;
+    }
+
+    /**
+     * Returns the land corner positions like {@link #getLandCornerPositions()}, but without copying them. The
+     * positions are shared by all boards of the layout, so the classes of the package only read them.
+     */
+    List<Point> getSharedLandCornerPositions() {
+        return layoutTables.landCornerPositions;
+    }
+
+    /**
+     * Returns the neighbouring land corners like {@link #getNeighbourLandCorners(Point)}, but without copying
+     * them. The positions are shared by all boards of the layout, so the classes of the package only read them.
+     *
+     * @throws IllegalArgumentException if corner is null.
+     */
+    List<Point> getSharedNeighbourLandCorners(Point corner) {
+        if (corner == null){
+            throw new IllegalArgumentException("Corner parameter must not be null!");
+        }
+        List<Point> neighbours = layoutTables.getNeighbourLandCorners(corner);
+        return neighbours != null ? neighbours : Collections.emptyList();
+    }
+
+    private static List<Point> copyPositions(List<Point> positions) {
+        List<Point> copies = new ArrayList<>(positions.size());
+        for (int i = 0; i < positions.size(); i++) {
+            copies.add(new Point(positions.get(i)));
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    /**
+     * Returns the road between a land corner and one of its neighbours from
+     * {@link #getSharedNeighbourLandCorners(Point)} without checking the coordinates again.
+     *
+     * @param corner specifies the land corner.
+     * @param neighbour specifies a neighbouring land corner.
+     * @return the road or null, if there is none.
+     */
+    Road getRoadToNeighbour(Point corner, Point neighbour) {
+        return getEdgeOfNeighbours(corner, neighbour);
+    }
+
+    /**
+     * Returns the index of a land corner in the tables of the board. The tables hold the faction of the
+     * structure on every corner and of the road to every neighbour, which are updated whenever a corner or an
+     * edge is set, so the rules and the longest road can be checked without looking up the structures.
+     *
+     * @param corner specifies the position of the corner.
+     * @return the index or -1, if the position is null or not a land corner.
+     */
+    int getLandCornerIndex(Point corner) {
+        if (corner == null) {
+            return -1;
+        }
+        int index = layoutTables.index(corner);
+        return index >= 0 && layoutTables.neighbourIndexes[index] != null ? index : -1;
+    }
+
+    /**
+     * Returns the number of entries of the corner tables, which is larger than every index of a land corner.
+     */
+    int getCornerIndexCount() {
+        return structureFactions.length;
+    }
+
+    /**
+     * Returns the indexes of the neighbours of a land corner in the same order as
+     * {@link #getSharedNeighbourLandCorners(Point)}. The array is shared by all boards of the layout, so the
+     * classes of the package only read it.
+     */
+    int[] getNeighbourIndexes(int corner) {
+        return layoutTables.neighbourIndexes[corner];
+    }
+
+    /**
+     * Returns the position of a land corner in the neighbours of another land corner or -1, if they are not
+     * neighbours.
+     */
+    int getNeighbourSlot(int corner, int neighbour) {
+        int[] neighbours = layoutTables.neighbourIndexes[corner];
+        for (int i = 0; i < neighbours.length; i++) {
+            if (neighbours[i] == neighbour) {
+                return i;
             }
         }
+        return -1;
+    }
 
-        return fieldsPositionsForDice;
+    /**
+     * Checks if there is an edge between a land corner and its neighbour at the specified position.
+     */
+    boolean hasEdgeToNeighbour(int corner, int neighbour) {
+        return layoutTables.neighbourEdges[corner * MAX_NEIGHBOURS + neighbour];
+    }
+
+    /**
+     * Returns an id of the edge between a land corner and its neighbour at the specified position, which is the
+     * same from both corners.
+     */
+    int getEdgeId(int corner, int neighbour) {
+        int slot = corner * MAX_NEIGHBOURS + neighbour;
+        return Math.min(slot, layoutTables.oppositeSlots[slot]);
+    }
+
+    /**
+     * Returns the ordinal of the faction of the road between a land corner and its neighbour at the specified
+     * position or -1, if there is no road.
+     */
+    int getRoadFaction(int corner, int neighbour) {
+        return roadFactions[corner * MAX_NEIGHBOURS + neighbour] - 1;
+    }
+
+    /**
+     * Returns the number of roads of a faction which end at a land corner. The numbers are counted whenever an
+     * edge is set.
+     */
+    int countRoads(int corner, int faction) {
+        return roadCounts[corner * FACTION_COUNT + faction];
+    }
+
+    /**
+     * Returns the ordinal of the faction of the settlement or city on a land corner or -1, if it is free.
+     */
+    int getStructureFaction(int corner) {
+        return structureFactions[corner] - 1;
+    }
+
+    /**
+     * Checks if there is a settlement or city on a land corner or on one of its neighbours, which forbids a new
+     * settlement on the corner. The structures around every corner are counted whenever a corner is set.
+     */
+    boolean hasStructureNearby(int corner) {
+        return structuresNearby[corner] > 0;
+    }
+
+    /**
+     * Checks if a faction has a land corner for a new settlement, which is a corner adjacent to a field
+     * producing a resource with a road of the faction and without a structure on it or its neighbours. The
+     * corners are counted whenever a corner or an edge is set.
+     */
+    boolean hasSettlementCorner(int faction) {
+        return settlementCorners[faction] > 0;
+    }
+
+    /**
+     * Checks if a land corner is adjacent to a field which produces a resource.
+     */
+    boolean isResourceCorner(int corner) {
+        return layoutTables.resourceCorners[corner];
+    }
+
+    /**
+     * Checks if the specified position is a land corner, i.e. a corner adjacent to at least one field
+     * that is not water.
+     *
+     * @param corner specifies the position to check.
+     * @return true if the position is a land corner, false otherwise.
+     */
+    public boolean isLandCorner(Point corner) {
+        return corner != null && layoutTables.getNeighbourLandCorners(corner) != null;
+    }
+
+    /**
+     * Checks if the specified position is a corner adjacent to at least one field which produces a resource.
+     * Only on these corners settlements can be placed.
+     *
+     * @param corner specifies the position to check.
+     * @return true if the position is a corner adjacent to a resource field, false otherwise.
+     */
+    public boolean isResourceCorner(Point corner) {
+        return corner != null && layoutTables.isResourceCorner(corner);
     }
 
     /**
@@ -112,21 +583,43 @@ public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
 
     /**
      * Returns the amount of {@link Config.Resource}s each {@link Config.Faction} gets for the dice throw.
+     * <p>
+     * The production of every dice value is kept in a table which is updated whenever a corner changes or the
+     * thief moves. As long as the bank can pay the full production, the payout is taken from this table.
+     * Otherwise, the fields are paid one by one applying the rules for a bank shortage.
+     * </p>
      *
      * @param dicethrow specifies the number which was thrown.
      * @return the list with the {@link Config.Faction}s and the number of {@link Config.Resource}s they get.
-     * @throws IllegalArgumentException if the provided faction argument is null or empty.
+     * @throws IllegalArgumentException if the provided faction argument is null or empty or the dice value is not
+     * in valid range.
      */
     public Map<Config.Faction, HashMap<Config.Resource, Integer>>
     getResourcesToPayPerFaction(Integer dicethrow, List<Config.Faction> factions) {
         if (factions == null || factions.isEmpty()){
             throw new IllegalArgumentException("Faction list must not be null or empty!");
         }
+        checkDiceValue(dicethrow);
+        if (isProductionCoveredByBank(dicethrow)) {
+            return getProductionPerFaction(dicethrow, factions);
+        }
+        return getResourcesToPayPerFactionPerField(dicethrow, factions);
+    }
 
+    /**
+     * Calculates the resources to pay for the dice throw field by field. This takes into account that the bank
+     * might not have enough resources to pay all fields.
+     *
+     * @param dicethrow specifies the number which was thrown.
+     * @param factions specifies the factions which should be included in the payout.
+     * @return the list with the {@link Config.Faction}s and the number of {@link Config.Resource}s they get.
+     */
+    Map<Config.Faction, HashMap<Config.Resource, Integer>>
+    getResourcesToPayPerFactionPerField(Integer dicethrow, List<Config.Faction> factions) {
         Map<Config.Faction, HashMap<Config.Resource, Integer>> payout
                 = Config.createEmptyResourcePerFactionMap(factions);
 
-        List<Point> targetFieldPositions = getFieldsForDiceValue(dicethrow);
+        List<Point> targetFieldPositions = producingFieldsPerDiceValue.get(dicethrow - MIN_DICE_VALUE);
         for (Point targetFieldPosition: targetFieldPositions) {
             Field field = getField(targetFieldPosition);
             Land land = field.getLand();
@@ -148,6 +641,121 @@ public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
         return payout;
     }
 
+    /**
+     * Checks if the bank has enough resources to pay the full production of all fields for the dice value.
+     * If it has, no field is affected by the shortage rules and the production table can be paid as it is.
+     *
+     * @param dice specifies the dice value.
+     * @return true if the bank can pay the full production, false otherwise.
+     */
+    boolean isProductionCoveredByBank(int dice) {
+        int offset = (dice - MIN_DICE_VALUE) * RESOURCE_COUNT;
+        for (Config.Resource resource : RESOURCES) {
+            if (!bank.checkIfEnoughOfResource(resource, totalProductionPerDiceValue[offset + resource.ordinal()])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the full production for the dice value from the production table.
+     *
+     * @param dice specifies the dice value.
+     * @param factions specifies the factions which should be included.
+     * @return the list with the {@link Config.Faction}s and the number of {@link Config.Resource}s they produce.
+     */
+    private Map<Config.Faction, HashMap<Config.Resource, Integer>>
+    getProductionPerFaction(int dice, List<Config.Faction> factions) {
+        Map<Config.Faction, HashMap<Config.Resource, Integer>> production
+                = Config.createEmptyResourcePerFactionMap(factions);
+        for (Config.Faction faction : factions) {
+            HashMap<Config.Resource, Integer> factionProduction = production.get(faction);
+            int offset = productionIndex(dice, faction, 0);
+            for (Config.Resource resource : RESOURCES) {
+                factionProduction.put(resource, productionPerDiceValue[offset + resource.ordinal()]);
+            }
+        }
+        return production;
+    }
+
+    /**
+     * Sets the target to the full production of a faction for the dice value from the production table.
+     *
+     * @param dice specifies the dice value.
+     * @param faction specifies the faction.
+     * @param target specifies the vector in which the production is stored.
+     * @return the total number of resource cards of the production.
+     */
+    int getProduction(int dice, Config.Faction faction, ResourceVector target) {
+        int offset = productionIndex(dice, faction, 0);
+        int total = 0;
+        for (Config.Resource resource : RESOURCES) {
+            int amount = productionPerDiceValue[offset + resource.ordinal()];
+            target.set(resource, amount);
+            total += amount;
+        }
+        return total;
+    }
+
+    /**
+     * Adds the production of a settlement or city to the production table for all adjacent fields
+     * that produce resources.
+     *
+     * @param corner specifies the corner of the structure.
+     * @param structure specifies the structure. Nothing happens if it is null.
+     * @param sign specifies if the production is added (1) or removed (-1).
+     */
+    private void addCornerProduction(Point corner, Settlement structure, int sign) {
+        if (structure == null) {
+            return;
+        }
+        int index = layoutTables.index(corner);
+        Point[] fieldPositions = index >= 0 ? layoutTables.cornerFields[index] : null;
+        if (fieldPositions == null) {
+            return;
+        }
+        for (Point fieldPosition : fieldPositions) {
+            Field field = getField(fieldPosition);
+            if (!field.hasThief()) {
+                addProduction(field, structure, sign);
+            }
+        }
+    }
+
+    /**
+     * Adds the production of all settlements and cities on the corners of a field to the production table.
+     *
+     * @param position specifies the position of the field.
+     * @param field specifies the field.
+     * @param sign specifies if the production is added (1) or removed (-1).
+     */
+    private void addFieldProduction(Point position, Field field, int sign) {
+        for (Settlement structure : getCornersOfField(position)) {
+            addProduction(field, structure, sign);
+        }
+    }
+
+    private void addProduction(Field field, Settlement structure, int sign) {
+        Config.Resource resource = field.getLand().getResource();
+        int dice = field.getDiceValue();
+        if (resource == null || dice < MIN_DICE_VALUE || dice > MAX_DICE_VALUE) {
+            return;
+        }
+        int amount = sign * structure.getPayoutFactor();
+        productionPerDiceValue[productionIndex(dice, structure.getOwner().getFaction(), resource.ordinal())]
+                += amount;
+        totalProductionPerDiceValue[(dice - MIN_DICE_VALUE) * RESOURCE_COUNT + resource.ordinal()] += amount;
+    }
+
+    /**
+     * Returns the index of an entry in the flat production table, which holds the production per dice value,
+     * faction and resource.
+     */
+    private static int productionIndex(int dice, Config.Faction faction, int resourceOrdinal) {
+        return ((dice - MIN_DICE_VALUE) * FACTION_COUNT + faction.ordinal()) * RESOURCE_COUNT + resourceOrdinal;
+    }
+
     /**
      * Generate the text representation of the board.
      *
@@ -155,7 +763,47 @@ public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
      */
     @Override
     public String toString() {
-        return this.textView.toString();
+        return getTextView().toString();
+    }
+
+    /**
+     * Writes the text representation of the board directly to the specified target, e.g. a writer of a client.
+     *
+     * @param out specifies where the board is written to.
+     * @throws IOException if the board can not be written.
+     * @throws IllegalArgumentException if out is null.
+     */
+    public void render(Appendable out) throws IOException {
+        getTextView().render(out);
+    }
+
+    /**
+     * Creates a renderer which sends the board to one ANSI terminal. After the first frame, the renderer only
+     * sends the characters which have changed since its last frame, so every terminal needs its own renderer.
+     *
+     * @return a new renderer for the board.
+     */
+    public AnsiDiffRenderer createAnsiRenderer() {
+        return new AnsiDiffRenderer(getTextView());
+    }
+
+    /**
+     * Returns the text view of the board. The view is only created when the board is displayed for the first
+     * time, so boards which are never displayed, e.g. in simulations, do not build it.
+     *
+     * @return the text view of the board.
+     */
+    private SiedlerBoardTextView getTextView() {
+        if (textView == null) {
+            textView = new SiedlerBoardTextView(this);
+            for (Point fieldPosition : getFields()) {
+                int diceValue = getField(fieldPosition).getDiceValue();
+                if (diceValue != 0) {
+                    textView.setLowerFieldLabel(fieldPosition, diceToLabel(diceValue));
+                }
+            }
+        }
+        return textView;
     }
 
     /**
@@ -256,27 +904,23 @@ public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
     }
 
     /**
-     * Adds all the fields, their dice value and sets the thief to its initial position.
+     * Updates the fields that produce resources for the specified dice value,
+     * which are all land fields with this dice value except for the one with the thief.
+     *
+     * @param diceValue specifies the dice value. Values outside the dice range are ignored.
      */
-    private void initialBoardSetup() {
-        Map<Point, Integer> diceNumbers = Config.getStandardDiceNumberPlacement();
-        Map<Point, Land> landPlacements = Config.getStandardLandPlacement();
-
-        for (Map.Entry<Point, Land> land: landPlacements.entrySet()) {
-            Point landPosition = land.getKey();
-
-            int diceValue = 0;
-            if (diceNumbers.containsKey(landPosition)) {
-                diceValue = diceNumbers.get(landPosition);
-            };
-
-            addField(land.getKey(), new Field(land.getValue(), diceValue));
-
-            if (diceValue != 0) {
-                textView.setLowerFieldLabel(landPosition, diceToLabel(diceValue));
+    private void updateProducingFields(int diceValue) {
+        if (diceValue < MIN_DICE_VALUE || diceValue > MAX_DICE_VALUE) {
+            return;
+        }
+        Point[] landFields = layoutTables.landFieldsPerDiceValue[diceValue - MIN_DICE_VALUE];
+        List<Point> producingFields = new ArrayList<>(landFields.length);
+        for (Point fieldPosition : landFields) {
+            if (!getField(fieldPosition).hasThief()) {
+                producingFields.add(fieldPosition);
             }
         }
-        setThiefPosition(INITIAL_THIEF_POSITION);
+        producingFieldsPerDiceValue.set(diceValue - MIN_DICE_VALUE, Collections.unmodifiableList(producingFields));
     }
 
     /**
@@ -294,4 +938,167 @@ public class SiedlerBoard extends HexBoard<Field, Settlement, Road, String> {
         char ones = (char)(dice % 10 + '0');
         return new Label(tens, ones);
     }
+
+    /**
+     * The tables of a board which only depend on its layout: the land fields per dice value, the positions of the
+     * land fields and land corners, the corners adjacent to a resource field, the fields of each land corner and
+     * the neighbours of each land corner, as positions and as indexes. They are built for the first board of a layout and shared by all further boards of this layout,
+     * so a new board, e.g. in a simulation, does not build them again. The corners are looked up in arrays
+     * indexed by their coordinates instead of hash maps.
+     */
+    private static final class LayoutTables {
+        private final Point[][] landFieldsPerDiceValue = new Point[DICE_VALUE_COUNT][];
+        private final List<Point> landFieldPositions;
+        private final List<Point> landCornerPositions;
+        private final List<List<Point>> neighbourLandCorners;
+        private final Point[][] cornerFields;
+        private final int[][] neighbourIndexes;
+        private final boolean[] neighbourEdges;
+        private final int[] oppositeSlots;
+        private final boolean[] resourceCorners;
+        private final int width;
+
+        /**
+         * Builds the tables from the fields of a new board.
+         *
+         * @param board specifies the board with the fields of the layout.
+         * @param layout specifies the layout of the board.
+         */
+        private LayoutTables(SiedlerBoard board, BoardLayout layout) {
+            width = layout.getMaxXCoordinate() + 1;
+            int size = width * (layout.getMaxYCoordinate() + 1);
+            Comparator<Point> rowOrder = Comparator.comparingInt((Point p) -> p.y).thenComparingInt(p -> p.x);
+
+            List<List<Point>> fieldsPerDiceValue = new ArrayList<>(DICE_VALUE_COUNT);
+            for (int i = 0; i < DICE_VALUE_COUNT; i++) {
+                fieldsPerDiceValue.add(new ArrayList<>());
+            }
+            List<Point> landFields = new ArrayList<>();
+            for (Point fieldPosition : board.getFields()) {
+                Field field = board.getField(fieldPosition);
+                if (field.getLand() == Land.WATER) {
+                    continue;
+                }
+                landFields.add(new Point(fieldPosition));
+                int diceValue = field.getDiceValue();
+                if (diceValue >= MIN_DICE_VALUE && diceValue <= MAX_DICE_VALUE) {
+                    fieldsPerDiceValue.get(diceValue - MIN_DICE_VALUE).add(new Point(fieldPosition));
+                }
+            }
+            for (int i = 0; i < DICE_VALUE_COUNT; i++) {
+                landFieldsPerDiceValue[i] = fieldsPerDiceValue.get(i).toArray(new Point[0]);
+            }
+            landFields.sort(rowOrder);
+            landFieldPositions = Collections.unmodifiableList(landFields);
+
+            List<Point> landCorners = new ArrayList<>();
+            resourceCorners = new boolean[size];
+            for (Point corner : board.getCornerCoordinates()) {
+                if (hasLandField(board, corner)) {
+                    landCorners.add(new Point(corner));
+                }
+                if (hasResourceField(board, corner)) {
+                    resourceCorners[index(corner)] = true;
+                }
+            }
+            landCorners.sort(rowOrder);
+            landCornerPositions = Collections.unmodifiableList(landCorners);
+
+            cornerFields = new Point[size][];
+            for (Point corner : landCornerPositions) {
+                // the fields touching a corner lie opposite to its neighbour corners, as in HexBoard.getFields
+                int verticalOffset = corner.y % 3 == 0 ? 2 : -2;
+                List<Point> fields = new ArrayList<>(3);
+                for (Point field : List.of(new Point(corner.x, corner.y + verticalOffset),
+                        new Point(corner.x + 1, corner.y - verticalOffset / 2),
+                        new Point(corner.x - 1, corner.y - verticalOffset / 2))) {
+                    if (board.hasField(field)) {
+                        fields.add(field);
+                    }
+                }
+                cornerFields[index(corner)] = fields.toArray(new Point[0]);
+            }
+
+            neighbourLandCorners = new ArrayList<>(Collections.nCopies(size, null));
+            for (Point corner : landCornerPositions) {
+                List<Point> neighbours = new ArrayList<>(3);
+                for (Point neighbour : getAdjacentCorners(corner)) {
+                    if (board.hasCorner(neighbour) && hasLandField(board, neighbour)) {
+                        neighbours.add(neighbour);
+                    }
+                }
+                neighbourLandCorners.set(index(corner), Collections.unmodifiableList(neighbours));
+            }
+
+            neighbourIndexes = new int[size][];
+            neighbourEdges = new boolean[size * MAX_NEIGHBOURS];
+            for (Point corner : landCornerPositions) {
+                List<Point> neighbours = neighbourLandCorners.get(index(corner));
+                int[] indexes = new int[neighbours.size()];
+                for (int i = 0; i < indexes.length; i++) {
+                    indexes[i] = index(neighbours.get(i));
+                    neighbourEdges[index(corner) * MAX_NEIGHBOURS + i] = board.hasEdge(corner, neighbours.get(i));
+                }
+                neighbourIndexes[index(corner)] = indexes;
+            }
+            oppositeSlots = new int[size * MAX_NEIGHBOURS];
+            for (Point corner : landCornerPositions) {
+                int index = index(corner);
+                for (int i = 0; i < neighbourIndexes[index].length; i++) {
+                    int neighbour = neighbourIndexes[index][i];
+                    int slot = 0;
+                    while (neighbourIndexes[neighbour][slot] != index) {
+                        slot++;
+                    }
+                    oppositeSlots[index * MAX_NEIGHBOURS + i] = neighbour * MAX_NEIGHBOURS + slot;
+                }
+            }
+        }
+
+        private static boolean hasLandField(SiedlerBoard board, Point corner) {
+            for (Field field : board.getFields(corner)) {
+                if (field.getLand() != Land.WATER) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean hasResourceField(SiedlerBoard board, Point corner) {
+            for (Field field : board.getFields(corner)) {
+                if (field.getLand().getResource() != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the neighbours of a land corner.
+         *
+         * @param corner specifies the corner.
+         * @return the unmodifiable list with the neighbouring land corners or null, if the position is not a
+         * land corner.
+         */
+        private List<Point> getNeighbourLandCorners(Point corner) {
+            int index = index(corner);
+            return index < 0 ? null : neighbourLandCorners.get(index);
+        }
+
+        private boolean isResourceCorner(Point corner) {
+            int index = index(corner);
+            return index >= 0 && resourceCorners[index];
+        }
+
+        /**
+         * Returns the index of a position in the arrays or -1, if it lies outside the layout.
+         */
+        private int index(Point position) {
+            if (position.x < 0 || position.x >= width || position.y < 0) {
+                return -1;
+            }
+            int index = position.y * width + position.x;
+            return index < resourceCorners.length ? index : -1;
+        }
+    }
 }
@@ -1,10 +1,14 @@
 package ch.zhaw.catan;
 
 import ch.zhaw.hexboard.HexBoardTextView;
-import java.util.Scanner;
+
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
- * Converts the SiedlerBoard into a displayable text representation.
+ * Converts the SiedlerBoard into a displayable text representation. The board is written line by line together
+ * with the x and y coordinates, so it can be streamed to any {@link Appendable} without creating the text first.
+ * The text returned by {@link #toString()} is only created again if the board has changed since the last call.
  *
  * @author Michel Fäh
  * @version 08.12.2022
@@ -12,6 +16,10 @@ import java.util.Scanner;
 public class SiedlerBoardTextView extends HexBoardTextView<Field, Settlement, Road, String> {
     private static final int COORDINATE_COLUMN_SIZE = 8;
     private static final int Y_COORDINATE_PATTERN_REPETITION = 10;
+    private static final String EMPTY_Y_COORDINATE = "       ";
+    private String xCoordinateRows = "";
+    private int xCoordinateCount;
+    private String[] yCoordinates = new String[0];
 
     /**
      * Constructs a new SiederBoardTextView.
@@ -23,38 +31,61 @@ public class SiedlerBoardTextView extends HexBoardTextView<Field, Settlement, Ro
     }
 
     /**
-     * Converts the board into its text representation.
+     * Writes the board with a x coordinate header and the y coordinates to the left of the rows.
      *
-     * @return the board as a string representation.
+     * @param out specifies where the board is written to.
+     * @throws IOException if the board can not be written.
+     * @throws IllegalArgumentException if out is null.
      */
     @Override
-    public String toString() {
-        String hexboardText = super.toString();
-        StringBuilder output = new StringBuilder(hexboardText.length());
+    public void render(Appendable out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Out parameter must not be null!");
+        }
+        updateLines();
+        if (getLineCount() == 0) {
+            return;
+        }
+        out.append(getXCoordinateRows(getLine(0).length / COORDINATE_COLUMN_SIZE - 1));
 
-        int boardTextRowSize = hexboardText.indexOf('\n');
-        int boardColumCount = (boardTextRowSize / COORDINATE_COLUMN_SIZE) - 1;
-        generateXCoordinateRow(output, boardColumCount);
-        generateHexboardWithYCoordinates(output, hexboardText);
-        return output.toString();
+        int rowIndex = 0;
+        int yCoordinate = 0;
+        for (int i = 0; i < getLineCount(); i++) {
+            char[] hexboardLine = getLine(i);
+            if (!isBlank(hexboardLine)) {
+                int hexLocalIndex = rowIndex % Y_COORDINATE_PATTERN_REPETITION;
+                boolean isCoordinateRow = hexLocalIndex == 0 || hexLocalIndex == 2 || hexLocalIndex == 3 ||
+                        hexLocalIndex == 5 || hexLocalIndex == 7 || hexLocalIndex == 8;
+                if (isCoordinateRow) {
+                    out.append(getYCoordinate(yCoordinate));
+                    yCoordinate++;
+                } else {
+                    out.append(EMPTY_Y_COORDINATE);
+                }
+                appendLine(out, hexboardLine);
+                out.append('\n');
+                rowIndex++;
+            }
+        }
     }
 
     /**
-     * Adds a x coordinate header to the StringBuilder.
+     * Returns the x coordinate header. The header is only created again if the number of columns has changed.
      *
-     * @param builder specifies the StringBuilder where the coordinate header will be added.
      * @param coordinateCount specifies how many columns of x coordinates should be added.
-     * @throws IllegalArgumentException if builder parameter is null or coordinateCount is not in range.
+     * @return the header with the x coordinates and a row with separators.
+     * @throws IllegalArgumentException if coordinateCount is not in range.
      */
-    private void generateXCoordinateRow(StringBuilder builder, int coordinateCount) {
-        if (builder == null) {
-            throw new IllegalArgumentException("Provided empty StringBuilder");
-        }
+    private String getXCoordinateRows(int coordinateCount) {
         if (coordinateCount < 1) {
             throw new IllegalArgumentException("Invalid coordinate count. Must be more than 1");
         }
+        if (coordinateCount == xCoordinateCount) {
+            return xCoordinateRows;
+        }
         String leftPadding = "        ";
         String xSeparator = "|       ";
+        StringBuilder builder = new StringBuilder();
 
         builder.append(leftPadding);
 
@@ -68,71 +99,35 @@ public class SiedlerBoardTextView extends HexBoardTextView<Field, Settlement, Ro
         builder.append(leftPadding);
         builder.append(xSeparator.repeat(coordinateCount));
         builder.append("\n\n");
-    }
-
-    /**
-     * Takes an existing hexboard text and adds y coordinates to the correct text rows.
-     *
-     * @param builder specifies the StringBuilder where the new content will be appended to.
-     * @param hexboardText specifies the hexboard text representation.
-     * @throws IllegalArgumentException if builder or hexboardText parameter is null.
-     */
-    private void generateHexboardWithYCoordinates(StringBuilder builder, String hexboardText) {
-        if (builder == null || hexboardText == null) {
-            throw new IllegalArgumentException("Builder and hexboardText parameter must not be null!");
-        }
-        Scanner scanner = new Scanner(hexboardText);
 
-        int rowIndex = 0;
-        int yCoordinate = 0;
-        while(scanner.hasNextLine()) {
-            String hexboardLine = scanner.nextLine();
-            if (!hexboardLine.isBlank()) {
-                int hexLocalIndex = rowIndex % Y_COORDINATE_PATTERN_REPETITION;
-                boolean isCoordinateRow = hexLocalIndex == 0 || hexLocalIndex == 2 || hexLocalIndex == 3 ||
-                        hexLocalIndex == 5 || hexLocalIndex == 7 || hexLocalIndex == 8;
-                if (isCoordinateRow) {
-                    generateRowWithYCoordinate(builder, hexboardLine, yCoordinate);
-                    yCoordinate++;
-                } else {
-                    generateNormalRow(builder, hexboardLine);
-                }
-                rowIndex++;
-            }
-        }
+        xCoordinateCount = coordinateCount;
+        xCoordinateRows = builder.toString();
+        return xCoordinateRows;
     }
 
     /**
-     * Generates a single row with y coordinates added to the left of the hexboard row.
+     * Returns the y coordinate which is added to the left of a hexboard row. The coordinates are created once.
      *
-     * @param builder specifies the StringBuilder where the new row will be appended to.
-     * @param line specifies the string of the corresponding hexboard row.
-     * @param yCoordinate specifies the y coordinate for the current row.
-     * @throws IllegalArgumentException if builder parameter is null.
+     * @param yCoordinate specifies the y coordinate for the row.
+     * @return the y coordinate with its padding.
      */
-    private void generateRowWithYCoordinate(StringBuilder builder, String line, int yCoordinate) {
-        if (builder == null){
-            throw new IllegalArgumentException("Builder parameter must not be null!");
+    private String getYCoordinate(int yCoordinate) {
+        if (yCoordinate >= yCoordinates.length) {
+            int oldLength = yCoordinates.length;
+            yCoordinates = Arrays.copyOf(yCoordinates, Math.max(yCoordinate + 1, oldLength * 2));
+            for (int y = oldLength; y < yCoordinates.length; y++) {
+                yCoordinates[y] = String.format("%3d----", y);
+            }
         }
-        builder.append(String.format("%3d----", yCoordinate))
-                .append(line)
-                .append('\n');
+        return yCoordinates[yCoordinate];
     }
 
-    /**
-     * Generates a single row with padding added to left of the hexboard instead of coordinates.
-     *
-     * @param builder specifies the StringBuilder where the new row will be appended to.
-     * @param line specifies the string of the corresponding hexboard row.
-     * @throws IllegalArgumentException if builder or line parameter is null.
-     */
-    private void generateNormalRow(StringBuilder builder, String line) {
-        if (builder == null || line == null){
-            throw new IllegalArgumentException("Builder and line parameter must not be null!");
+    private static boolean isBlank(char[] line) {
+        for (char character : line) {
+            if (!Character.isWhitespace(character)) {
+                return false;
+            }
         }
-        String emptyYCoordinate = "       ";
-        builder.append(emptyYCoordinate)
-                .append(line)
-                .append('\n');
+        return true;
     }
 }
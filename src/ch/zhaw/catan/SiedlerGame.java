@@ -9,7 +9,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 
 /**
@@ -27,6 +28,12 @@ public class SiedlerGame {
     private int currentPlayerIndex;
     private final SiedlerBoard board;
     private final CardBank bank;
+    private final LongestRoadTracker longestRoad;
+    private final RandomGenerator random;
+    private final ResourceVector payoutBuffer = new ResourceVector();
+    private Faction lastTheftVictim;
+    private Resource lastStolenResource;
+    private GameEventListener eventListener;
 
     /**
      * Constructs a SiedlerGame game state object.
@@ -37,16 +44,132 @@ public class SiedlerGame {
      * is not in required range.
      */
     public SiedlerGame(int winPoints, int numberOfPlayers) {
+        this(winPoints, numberOfPlayers, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a SiedlerGame game state object whose random decisions are taken from a random
+     * generator created from the specified seed. Two games constructed with the same seed and played
+     * with the same moves have the same dice throws and steal and drop the same resource cards.
+     *
+     * @param winPoints the number of points required to win the game
+     * @param numberOfPlayers the number of players
+     * @param seed the seed of the random generator of the game
+     * @throws IllegalArgumentException if the winPoints parameter is lower than the min win points or players
+     * is not in required range.
+     */
+    public SiedlerGame(int winPoints, int numberOfPlayers, long seed) {
+        this(winPoints, numberOfPlayers, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructs a SiedlerGame game state object which takes all random decisions of the game
+     * (dice throws, stealing and dropping resource cards) from the specified random generator.
+     * <p>
+     * The generator belongs to this game. It is passed on to the players and must not be shared with
+     * other games which are played concurrently.
+     * </p>
+     *
+     * @param winPoints the number of points required to win the game
+     * @param numberOfPlayers the number of players
+     * @param random the random generator of the game
+     * @throws IllegalArgumentException if the winPoints parameter is lower than the min win points, players
+     * is not in required range or random is null.
+     */
+    public SiedlerGame(int winPoints, int numberOfPlayers, RandomGenerator random) {
+        this(winPoints, numberOfPlayers, random, BoardLayout.standard());
+    }
+
+    /**
+     * Constructs a SiedlerGame game state object which is played on a board with the specified layout,
+     * e.g. one created by a {@link BoardGenerator}. All random decisions of the game are taken from the
+     * specified random generator.
+     *
+     * @param winPoints the number of points required to win the game
+     * @param numberOfPlayers the number of players
+     * @param random the random generator of the game
+     * @param layout the layout of the board
+     * @throws IllegalArgumentException if the winPoints parameter is lower than the min win points, players
+     * is not in required range or random or layout is null.
+     */
+    public SiedlerGame(int winPoints, int numberOfPlayers, RandomGenerator random, BoardLayout layout) {
         if(winPoints < Config.MIN_WIN_POINTS || winPoints > Config.MAX_WIN_POINTS ||
                 numberOfPlayers < Config.MIN_NUMBER_OF_PLAYERS || numberOfPlayers > Config.MAX_NUMBER_OF_PLAYERS){
             throw new IllegalArgumentException("WinPoints or numberOfPlayers was not in valid range!");
         }
+        if (random == null){
+            throw new IllegalArgumentException("Random parameter must not be null!");
+        }
+        if (layout == null){
+            throw new IllegalArgumentException("BoardLayout parameter must not be null!");
+        }
         this.requiredWinPoints = winPoints;
+        this.random = random;
         players = createPlayers(numberOfPlayers);
         currentPlayerIndex = 0;
         currentPlayer = getCurrentPlayer();
         bank = new CardBank(new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK));
-        board = new SiedlerBoard(bank);
+        board = new SiedlerBoard(bank, layout);
+        longestRoad = new LongestRoadTracker(board, players);
+    }
+
+    /**
+     * Constructs a copy of the specified game for {@link #fork(RandomGenerator)}.
+     *
+     * @param original the game to be copied
+     * @param random the random generator of the copy
+     */
+    private SiedlerGame(SiedlerGame original, RandomGenerator random) {
+        this.requiredWinPoints = original.requiredWinPoints;
+        this.random = random;
+        players = new Player[original.players.length];
+        Player[] playersByFaction = new Player[Faction.values().length];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player(original.players[i], random);
+            playersByFaction[players[i].getFaction().ordinal()] = players[i];
+        }
+        currentPlayerIndex = original.currentPlayerIndex;
+        currentPlayer = getCurrentPlayer();
+        bank = new CardBank(original.bank);
+        board = new SiedlerBoard(original.board, bank, playersByFaction);
+        longestRoad = new LongestRoadTracker(original.longestRoad, board, playersByFaction);
+        lastTheftVictim = original.lastTheftVictim;
+        lastStolenResource = original.lastStolenResource;
+    }
+
+    /**
+     * Creates an independent copy of the game, e.g. to play a move in a search without changing this game.
+     * <p>
+     * The copy takes its random decisions from a generator which is seeded from the generator of this game,
+     * so forking a replayed game at the same point returns the same copy.
+     * </p>
+     *
+     * @return the copy of the game.
+     * @see #fork(RandomGenerator)
+     */
+    public SiedlerGame fork() {
+        SiedlerGame copy = fork(new SplittableRandom(random.nextLong()));
+        fireEvent(GameEvent.FORK, 0, 0, 0, 0);
+        return copy;
+    }
+
+    /**
+     * Creates an independent copy of the game which takes its random decisions from the specified generator.
+     * <p>
+     * The copy shares the layout of the board with this game, so the standard board is not set up again.
+     * Only the state which changes while playing is copied: the fields with the thief, the settlements,
+     * cities and roads, the production tables, the bank and the players. The event listener is not copied.
+     * </p>
+     *
+     * @param random the random generator of the copy
+     * @return the copy of the game.
+     * @throws IllegalArgumentException if random is null.
+     */
+    public SiedlerGame fork(RandomGenerator random) {
+        if (random == null){
+            throw new IllegalArgumentException("Random parameter must not be null!");
+        }
+        return new SiedlerGame(this, random);
     }
 
     /**
@@ -55,6 +178,7 @@ public class SiedlerGame {
     public void switchToNextPlayer() {
         currentPlayerIndex = ((currentPlayerIndex + 1) % (players.length));
         currentPlayer = getCurrentPlayer();
+        fireEvent(GameEvent.SWITCH_TO_NEXT_PLAYER, 0, 0, 0, 0);
     }
 
     /**
@@ -63,6 +187,17 @@ public class SiedlerGame {
     public void switchToPreviousPlayer() {
         currentPlayerIndex = ((currentPlayerIndex + (players.length - 1)) % (players.length));
         currentPlayer = getCurrentPlayer();
+        fireEvent(GameEvent.SWITCH_TO_PREVIOUS_PLAYER, 0, 0, 0, 0);
+    }
+
+    /**
+     * Sets the listener which is notified after every successful call which changes the game or its random
+     * generator. Taking moves back with {@link #unmake(UndoRecord)} is not reported.
+     *
+     * @param listener specifies the listener (or null to remove the listener).
+     */
+    public void setEventListener(GameEventListener listener) {
+        eventListener = listener;
     }
 
     /**
@@ -107,7 +242,7 @@ public class SiedlerGame {
         if(resource == null){
             throw new IllegalArgumentException("Resources parameter must not be null!");
         }
-        return currentPlayer.getResources().get(resource);
+        return currentPlayer.getResource(resource);
     }
 
     /**
@@ -134,6 +269,7 @@ public class SiedlerGame {
         board.setCorner(position, newSettlement);
         currentPlayer.removeStructure(Config.Structure.SETTLEMENT);
         currentPlayer.addWinPoints(newSettlement.getPayoutFactor());
+        longestRoad.settlementBuilt(position);
 
         if (payout) {
             HashMap<Config.Resource, Integer> resources = Config.createEmptyResourceMap();
@@ -146,6 +282,7 @@ public class SiedlerGame {
             currentPlayer.addResources(resources);
             bank.tryRemoveResources(resources);
         }
+        fireEvent(GameEvent.PLACE_INITIAL_SETTLEMENT, position.x, position.y, payout ? 1 : 0, 0);
         return true;
     }
 
@@ -168,9 +305,25 @@ public class SiedlerGame {
 
         currentPlayer.removeStructure(Config.Structure.ROAD);
         board.setEdge(roadStart, roadEnd, new Road(currentPlayer));
+        longestRoad.roadBuilt(roadStart, roadEnd);
+        fireEvent(GameEvent.PLACE_INITIAL_ROAD, roadStart.x, roadStart.y, roadEnd.x, roadEnd.y);
         return true;
     }
 
+    /**
+     * Throws the dice with the random generator of the game.
+     * <p>
+     * Only the dice value is generated, the resource cards are distributed by {@link #throwDice(int)}.
+     * </p>
+     *
+     * @return a dice value between {@link Config#MIN_DICE_VALUE} and {@link Config#MAX_DICE_VALUE}.
+     */
+    public int rollDice() {
+        int dice = random.nextInt(Config.MIN_DICE_VALUE, Config.MAX_DICE_VALUE + 1);
+        fireEvent(GameEvent.ROLL_DICE, dice, 0, 0, 0);
+        return dice;
+    }
+
     /**
      * This method takes care of actions depending on the dice throw result.
      * <p>
@@ -216,9 +369,55 @@ public class SiedlerGame {
         for (Config.Faction faction : factionResourcePayout.keySet()) {
             resourcesPerFactionList.put(faction, translateFromMapToList(factionResourcePayout.get(faction)));
         }
+        fireEvent(GameEvent.THROW_DICE, dicethrow, 0, 0, 0);
         return resourcesPerFactionList;
     }
 
+    /**
+     * Distributes the resource cards for the dice throw like {@link #throwDice(int)}, but only counts the
+     * resource cards each player received instead of listing them. As long as the bank can pay the full
+     * production, the cards are moved from the bank to the players without creating any maps or lists, which
+     * makes it the faster choice for simulations.
+     *
+     * @param dicethrow specifies the thrown dice value.
+     * @param cardsReceived specifies the array in which the number of received resource cards of each player
+     *                      is stored, in the order of {@link #getPlayerFactions()}.
+     * @throws IllegalArgumentException if the dicethrow parameter is not in valid range or cardsReceived is
+     * null or shorter than the number of players.
+     */
+    public void throwDice(int dicethrow, int[] cardsReceived) {
+        if (cardsReceived == null || cardsReceived.length < players.length){
+            throw new IllegalArgumentException("CardsReceived must have an entry for each player!");
+        }
+        if (dicethrow == Config.DROP_CARDS_DICE_VALUE) {
+            for (int i = 0; i < players.length; i++) {
+                if (players[i].dropHalfResources(payoutBuffer)) {
+                    bank.addResources(payoutBuffer);
+                }
+                cardsReceived[i] = 0;
+            }
+            fireEvent(GameEvent.THROW_DICE, dicethrow, 0, 0, 0);
+            return;
+        }
+        if (dicethrow < Config.MIN_DICE_VALUE || dicethrow > Config.MAX_DICE_VALUE
+                || !board.isProductionCoveredByBank(dicethrow)) {
+            Map<Faction, List<Resource>> payout = throwDice(dicethrow);
+            for (int i = 0; i < players.length; i++) {
+                cardsReceived[i] = payout.get(players[i].getFaction()).size();
+            }
+            return;
+        }
+        for (int i = 0; i < players.length; i++) {
+            int cards = board.getProduction(dicethrow, players[i].getFaction(), payoutBuffer);
+            if (cards > 0) {
+                bank.tryRemoveResources(payoutBuffer);
+                players[i].addResources(payoutBuffer);
+            }
+            cardsReceived[i] = cards;
+        }
+        fireEvent(GameEvent.THROW_DICE, dicethrow, 0, 0, 0);
+    }
+
     /**
      * Builds a settlement at the specified position on the board.
      *
@@ -241,16 +440,28 @@ public class SiedlerGame {
             return false;
         }
 
-        Map<Resource, Integer> settlementCosts = Config.Structure.SETTLEMENT.getCostsAsMap();
+        ResourceVector settlementCosts = Config.Structure.SETTLEMENT.getCostVector();
         bank.addResources(settlementCosts);
         currentPlayer.tryRemoveResources(settlementCosts);
         currentPlayer.removeStructure(Config.Structure.SETTLEMENT);
         Settlement newSettlement = new Settlement(currentPlayer);
         board.setCorner(position, newSettlement);
         currentPlayer.addWinPoints(newSettlement.getPayoutFactor());
+        longestRoad.settlementBuilt(position);
+        fireEvent(GameEvent.BUILD_SETTLEMENT, position.x, position.y, 0, 0);
         return true;
     }
 
+    /**
+     * Checks if there is a position on the board where the current player may build a settlement according to
+     * the build rules for settlements. The resources and settlements of the player are not checked.
+     *
+     * @return true, if {@link #buildSettlement(Point)} can succeed for at least one position, otherwise false.
+     */
+    public boolean hasSettlementPosition() {
+        return board.hasSettlementCorner(currentPlayer.getFaction().ordinal());
+    }
+
     /**
      * Builds a city at the specified position on the board.
      *
@@ -275,22 +486,17 @@ public class SiedlerGame {
             return false;
         }
 
-        Map<Resource, Integer> cityCosts = Config.Structure.CITY.getCostsAsMap();
+        ResourceVector cityCosts = Config.Structure.CITY.getCostVector();
         if (!currentPlayer.checkIfEnoughOfAllResources(cityCosts)) {
             return false;
         }
 
         try {
-            Settlement corner = board.getCorner(position);
-            if (corner == null || !corner.isOwnedBy(currentPlayer)) {
-                return false;
-            }
-
-            // Corner is already city
-            if (corner instanceof City) {
+            if (!isCityPositionValid(position)) {
                 return false;
             }
 
+            Settlement corner = board.getCorner(position);
             bank.addResources(cityCosts);
             currentPlayer.removeWinPoints(corner.getWinPointAmount());
             currentPlayer.removeStructure(Config.Structure.CITY);
@@ -298,6 +504,7 @@ public class SiedlerGame {
             currentPlayer.tryRemoveResources(cityCosts);
             board.setCorner(position, City.fromSettlement(corner));
             currentPlayer.addWinPoints(board.getCorner(position).getWinPointAmount());
+            fireEvent(GameEvent.BUILD_CITY, position.x, position.y, 0, 0);
             return true;
 
         } catch (Exception ex) {
@@ -314,6 +521,7 @@ public class SiedlerGame {
      * <li> a road to place on the board</li>
      * <li> the specified position meets the build rules for roads</li>
      * </ul>
+     * A road can only be built on an edge without a road, an existing road is never replaced.
      *
      * @param roadStart the position of the start of the road
      * @param roadEnd the position of the end of the road
@@ -328,9 +536,13 @@ public class SiedlerGame {
         if (!doesRoadMeetRequirements(roadStart, roadEnd, true)) {
             return false;
         }
-        currentPlayer.tryRemoveResources(Config.Structure.ROAD.getCostsAsMap());
+        ResourceVector roadCosts = Config.Structure.ROAD.getCostVector();
+        bank.addResources(roadCosts);
+        currentPlayer.tryRemoveResources(roadCosts);
         currentPlayer.removeStructure(Config.Structure.ROAD);
         board.setEdge(roadStart, roadEnd, new Road(currentPlayer));
+        longestRoad.roadBuilt(roadStart, roadEnd);
+        fireEvent(GameEvent.BUILD_ROAD, roadStart.x, roadStart.y, roadEnd.x, roadEnd.y);
         return true;
     }
 
@@ -354,15 +566,11 @@ public class SiedlerGame {
         if (currentPlayer.getResource(offer) < FOUR_TO_ONE_TRADE_OFFER || bank.getResource(want) < FOUR_TO_ONE_TRADE_WANT) {
             return false;
         }
-        Map<Config.Resource, Integer> offerMap = Config.createEmptyResourceMap();
-        offerMap.put(offer, FOUR_TO_ONE_TRADE_OFFER);
-        Map<Config.Resource, Integer> wantMap = Config.createEmptyResourceMap();
-        wantMap.put(want, FOUR_TO_ONE_TRADE_WANT);
-
-        bank.addResources(offerMap);
-        bank.tryRemoveResources(wantMap);
-        currentPlayer.addResources(wantMap);
-        currentPlayer.tryRemoveResources(offerMap);
+        bank.resources.add(offer, FOUR_TO_ONE_TRADE_OFFER);
+        bank.resources.add(want, -FOUR_TO_ONE_TRADE_WANT);
+        currentPlayer.resources.add(want, FOUR_TO_ONE_TRADE_WANT);
+        currentPlayer.resources.add(offer, -FOUR_TO_ONE_TRADE_OFFER);
+        fireEvent(GameEvent.TRADE_WITH_BANK, offer.ordinal(), want.ordinal(), 0, 0);
         return true;
     }
 
@@ -399,6 +607,10 @@ public class SiedlerGame {
      * the player has such cards) from a random player with a settlement at that
      * field (if there is a settlement) and adds it to the resource cards of the
      * current player.
+     * <p>
+     * The outcome of the theft is available through {@link #getLastTheftVictim()} and
+     * {@link #getLastStolenResource()} until the thief is placed again.
+     * </p>
      *
      * @param field the field on which to place the thief
      * @return false, if the specified field is not a field or the thief cannot be
@@ -414,6 +626,8 @@ public class SiedlerGame {
             return false;
         }
 
+        lastTheftVictim = null;
+        lastStolenResource = null;
         List<Settlement> cornerStructures = board.getCornersOfField(field);
 
         // Remove structures which are owned by the current player
@@ -425,26 +639,210 @@ public class SiedlerGame {
         }
 
         if (!cornerStructures.isEmpty()) {
-            int targetStructure = new Random().nextInt(cornerStructures.size());
+            int targetStructure = random.nextInt(cornerStructures.size());
             Settlement targetSettlement = cornerStructures.get(targetStructure);
             Resource stolenResource = targetSettlement.getOwner().stealRandomResource();
             if (stolenResource != null) {
                 currentPlayer.addResource(stolenResource);
-                System.out.format("THIEF: (%s) <==stolen from== (%s) %s\n",
-                        currentPlayer.getFaction(),
-                        targetSettlement.getOwner().getFaction(),
-                        stolenResource);
-            } else {
-                System.out.println("THIEF: could not steal anything");
             }
+            lastTheftVictim = targetSettlement.getOwner().getFaction();
+            lastStolenResource = stolenResource;
         }
+        fireEvent(GameEvent.PLACE_THIEF, field.x, field.y, 0, 0);
         return true;
     }
 
+    /**
+     * Returns the {@link Faction} the thief tried to steal from on the last successful placement.
+     *
+     * @return the faction of the victim or null, if there was no settlement of another player at the field.
+     */
+    public Faction getLastTheftVictim() {
+        return lastTheftVictim;
+    }
+
+    /**
+     * Returns the resource stolen on the last successful placement of the thief.
+     *
+     * @return the stolen resource or null, if nothing could be stolen.
+     */
+    public Resource getLastStolenResource() {
+        return lastStolenResource;
+    }
+
+    /**
+     * Switches to the next player and returns the record to take the switch back.
+     *
+     * @return the undo record of the switch.
+     */
+    public UndoRecord makeSwitchToNextPlayer() {
+        UndoRecord record = createUndoRecord();
+        switchToNextPlayer();
+        return record;
+    }
+
+    /**
+     * Throws the dice like {@link #throwDice(int)} and returns the record to take the payout or,
+     * if a 7 was thrown, the dropped resource cards back.
+     *
+     * @param dicethrow specifies the thrown dice value.
+     * @return the undo record of the dice throw.
+     * @throws IllegalArgumentException if the dicethrow parameter is not in valid range.
+     */
+    public UndoRecord makeThrowDice(int dicethrow) {
+        UndoRecord record = createUndoRecord();
+        record.saveBank(bank);
+        for (Player player : players) {
+            record.saveResources(player);
+        }
+        throwDice(dicethrow);
+        return record;
+    }
+
+    /**
+     * Builds a settlement like {@link #buildSettlement(Point)} and returns the record to take it back.
+     *
+     * @param position specifies the position of the settlement.
+     * @return the undo record or null, if the settlement could not be built.
+     * @throws IllegalArgumentException if the position parameter is null.
+     */
+    public UndoRecord makeBuildSettlement(Point position) {
+        UndoRecord record = createBuildRecord();
+        if (!buildSettlement(position)) {
+            return null;
+        }
+        record.saveCorner(position, null);
+        return record;
+    }
+
+    /**
+     * Builds a city like {@link #buildCity(Point)} and returns the record to take it back.
+     *
+     * @param position specifies the position of the city.
+     * @return the undo record or null, if the city could not be built.
+     * @throws IllegalArgumentException if the position parameter is null.
+     */
+    public UndoRecord makeBuildCity(Point position) {
+        if (position == null) {
+            throw new IllegalArgumentException("Position parameter must not be null!");
+        }
+        if (!board.hasCorner(position)) {
+            return null;
+        }
+        Settlement settlement = board.getCorner(position);
+        UndoRecord record = createBuildRecord();
+        if (!buildCity(position)) {
+            return null;
+        }
+        record.saveCorner(position, settlement);
+        return record;
+    }
+
+    /**
+     * Builds a road like {@link #buildRoad(Point, Point)} and returns the record to take it back.
+     *
+     * @param roadStart the position of the start of the road
+     * @param roadEnd the position of the end of the road
+     * @return the undo record or null, if the road could not be built.
+     * @throws IllegalArgumentException if the roadStart or roadEnd parameter was null.
+     */
+    public UndoRecord makeBuildRoad(Point roadStart, Point roadEnd) {
+        UndoRecord record = createBuildRecord();
+        if (!buildRoad(roadStart, roadEnd)) {
+            return null;
+        }
+        record.saveEdge(roadStart, roadEnd);
+        return record;
+    }
+
+    /**
+     * Trades with the bank like {@link #tradeWithBankFourToOne(Resource, Resource)} and returns the record to
+     * take the trade back.
+     *
+     * @param offer specifies the offered type.
+     * @param want specifies the wanted type.
+     * @return the undo record or null, if the trade was not possible.
+     * @throws IllegalArgumentException if the offer or want parameter is null.
+     */
+    public UndoRecord makeTradeWithBankFourToOne(Resource offer, Resource want) {
+        UndoRecord record = createUndoRecord();
+        record.saveBank(bank);
+        record.saveResources(currentPlayer);
+        if (!tradeWithBankFourToOne(offer, want)) {
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * Places the thief like {@link #placeThiefAndStealCard(Point)} and returns the record to take the placement
+     * and the theft back.
+     *
+     * @param field the field on which to place the thief
+     * @return the undo record or null, if the thief cannot be placed on the field.
+     * @throws IllegalArgumentException if the field parameter is null.
+     */
+    public UndoRecord makePlaceThiefAndStealCard(Point field) {
+        UndoRecord record = createUndoRecord();
+        record.saveThiefPosition(board.getThiefPosition());
+        for (Player player : players) {
+            record.saveResources(player);
+        }
+        if (!placeThiefAndStealCard(field)) {
+            return null;
+        }
+        return record;
+    }
+
+    /**
+     * Takes back a move made with one of the make methods. The board, the bank, the players and the
+     * current player are restored to the state before the move.
+     * <p>
+     * Moves must be taken back in the reverse order in which they were made. The random generator of the game
+     * is not reset, so making a move with a random outcome again can lead to a different outcome.
+     * </p>
+     *
+     * @param record specifies the undo record of the move.
+     * @throws IllegalArgumentException if the record is null or belongs to another game.
+     */
+    public void unmake(UndoRecord record) {
+        if (record == null || !record.belongsTo(this)){
+            throw new IllegalArgumentException("Record must not be null and must belong to this game!");
+        }
+        record.restore(board, bank);
+        currentPlayerIndex = record.getCurrentPlayerIndex();
+        currentPlayer = getCurrentPlayer();
+        lastTheftVictim = record.getLastTheftVictim();
+        lastStolenResource = record.getLastStolenResource();
+    }
+
+    /**
+     * Sets the current player when a snapshot is decoded into the game. The last theft is not part of a
+     * snapshot and is forgotten.
+     *
+     * @param index specifies the position of the current player in the sequence of players.
+     */
+    void restoreCurrentPlayer(int index) {
+        currentPlayerIndex = index;
+        currentPlayer = getCurrentPlayer();
+        lastTheftVictim = null;
+        lastStolenResource = null;
+    }
+
     public int getPlayerAmount() {
         return players.length;
     }
 
+    /**
+     * Returns the player at the specified position in the sequence of players.
+     *
+     * @param index specifies the position of the player.
+     * @return the player.
+     */
+    Player getPlayer(int index) {
+        return players[index];
+    }
+
     public Player getCurrentPlayer() {
         return players[currentPlayerIndex];
     }
@@ -465,6 +863,77 @@ public class SiedlerGame {
         return requiredWinPoints;
     }
 
+    public LongestRoadTracker getLongestRoad() {
+        return longestRoad;
+    }
+
+    /**
+     * Returns a hash of the state of the game: the structures on the board, the thief position, the resources of
+     * the bank and the players, the holder of the bonus for the longest road and the current player. Two games in
+     * the same state have the same hash, e.g. when the same structures were built in a different order.
+     * <p>
+     * The hash is a Zobrist hash. The board and every inventory keep the hash of their part of the state and
+     * update it with every change, so the hash is combined from a few parts instead of being calculated from the
+     * whole state.
+     * </p>
+     *
+     * @return the hash of the state.
+     */
+    public long getStateHash() {
+        long hash = board.getZobristHash() ^ bank.getZobristHash()
+                ^ ZobristKeys.currentPlayer(currentPlayerIndex) ^ ZobristKeys.longestRoad(longestRoad.getHolder());
+        for (Player player : players) {
+            hash ^= player.getZobristHash();
+        }
+        return hash;
+    }
+
+    /**
+     * Calculates the hash of {@link #getStateHash()} from the whole state of the game.
+     *
+     * @return the hash of the state.
+     */
+    long computeStateHash() {
+        long hash = ZobristKeys.currentPlayer(currentPlayerIndex) ^ ZobristKeys.longestRoad(longestRoad.getHolder())
+                ^ ZobristKeys.thief(board.getThiefPosition());
+        for (Point corner : board.getSharedLandCornerPositions()) {
+            hash ^= ZobristKeys.corner(corner, board.getCorner(corner));
+            List<Point> neighbours = board.getSharedNeighbourLandCorners(corner);
+            for (int i = 0; i < neighbours.size(); i++) {
+                Point neighbour = neighbours.get(i);
+                if (corner.y < neighbour.y || (corner.y == neighbour.y && corner.x < neighbour.x)) {
+                    hash ^= ZobristKeys.edge(corner, neighbour, board.getEdge(corner, neighbour));
+                }
+            }
+        }
+        for (Resource resource : Resource.values()) {
+            hash ^= ZobristKeys.resource(ZobristKeys.BANK, resource.ordinal(), bank.getResource(resource));
+            for (Player player : players) {
+                hash ^= ZobristKeys.resource(ZobristKeys.player(player.getFaction()), resource.ordinal(),
+                        player.getResource(resource));
+            }
+        }
+        return hash;
+    }
+
+    private void fireEvent(GameEvent event, int first, int second, int third, int fourth) {
+        if (eventListener != null) {
+            eventListener.eventOccurred(event, first, second, third, fourth);
+        }
+    }
+
+    private UndoRecord createUndoRecord() {
+        return new UndoRecord(this, currentPlayerIndex, lastTheftVictim, lastStolenResource);
+    }
+
+    private UndoRecord createBuildRecord() {
+        UndoRecord record = createUndoRecord();
+        record.saveBank(bank);
+        record.saveBuilder(currentPlayer);
+        record.saveLongestRoad(longestRoad);
+        return record;
+    }
+
     /**
      * Converts a map with resources into a list.
      *
@@ -487,49 +956,13 @@ public class SiedlerGame {
     }
 
     /**
-     * Checks if the current player owns a street that borders on a corner.
+     * Checks if the current player owns a road that ends at a land corner.
      *
-     * @param corner specifies the position of the corner to check.
+     * @param cornerIndex specifies the index of the corner in the tables of the board.
      * @return true if there is a road, owned by the player, false otherwise.
-     * @throws IllegalArgumentException if the corner parameter is null.
-     */
-    private boolean doesPlayerHaveRoadToCorner(Point corner) {
-        if (corner == null){
-            throw new IllegalArgumentException("Corner parameter must not be null!");
-        }
-        List<Road> edges = board.getAdjacentEdges(corner);
-        boolean hasRoadToCorner = false;
-        for (PlayerOwnedStructure edge : edges) {
-            if (edge.isOwnedBy(currentPlayer)) {
-                hasRoadToCorner = true;
-                break;
-            }
-        }
-        return hasRoadToCorner;
-    }
-
-    /**
-     * Checks if a corner is in the land.
-     *
-     * @param corner specifies the position of the corner to check.
-     * @return true if it is on land, false if it is on water or desert.
-     * @throws IllegalArgumentException if the corner parameter is null.
      */
-    private boolean isCornerAdjacentToLand(Point corner) {
-        if (corner == null){
-            throw new IllegalArgumentException("Corner parameter must not be null!");
-        }
-        boolean isAdjacentToLand = false;
-        List<Field> fields = board.getFields(corner);
-        for (Field field: fields) {
-            // Resource field is null if field is water or dessert
-            Config.Resource fieldResource = field.getLand().getResource();
-            if (fieldResource != null) {
-                isAdjacentToLand = true;
-                break;
-            }
-        }
-        return isAdjacentToLand;
+    private boolean hasRoadToCorner(int cornerIndex) {
+        return board.countRoads(cornerIndex, currentPlayer.getFaction().ordinal()) > 0;
     }
 
     /**
@@ -544,44 +977,49 @@ public class SiedlerGame {
         if (position == null){
             throw new IllegalArgumentException("Position parameter must not be null!");
         }
-        try {
-            PlayerOwnedStructure corner = board.getCorner(position);
-            // Corner is already used
-            if (corner != null) {
-                return false;
-            }
-
-        } catch (IllegalArgumentException ex) {
+        if (!isSettlementPositionValid(position, enableNonInitialRequirements)) {
             return false;
         }
 
-        if (!isCornerAdjacentToLand(position)) {
+        boolean playerHasStructure = currentPlayer.checkIfStructureAvailable(Config.Structure.SETTLEMENT);
+        if (!playerHasStructure){
             return false;
         }
 
-        boolean hasRoadToCorner = doesPlayerHaveRoadToCorner(position);
-        if (enableNonInitialRequirements && !hasRoadToCorner) {
+        boolean playerHasResources = currentPlayer.checkIfEnoughOfAllResources(
+                Config.Structure.SETTLEMENT.getCostVector());
+        if (enableNonInitialRequirements && !playerHasResources) {
             return false;
         }
 
-        // All the adjacent corners cannot have a settlement/city on them
-        List<Settlement> neighborCorners = board.getNeighboursOfCorner(position);
-        if (neighborCorners.size() > 0) {
-            return false;
-        }
+        return true;
+    }
 
-        boolean playerHasStructure = currentPlayer.checkIfStructureAvailable(Config.Structure.SETTLEMENT);
-        if (!playerHasStructure){
+    /**
+     * Checks whether the current player may place a settlement at a position according to the rules for the
+     * position. The structures and resources of the player are not checked.
+     * <p>
+     * The position must be a free corner adjacent to a resource field and all neighbouring corners must be free.
+     * The checks only use the tables of the board, which count the structures around every corner and the roads
+     * of every faction at every corner, so they do not look up any structure.
+     * </p>
+     *
+     * @param position specifies the position to check.
+     * @param requireRoad specifies if the player needs a road to the corner, which is the case after the
+     * founder's phase.
+     * @return true if the position meets the rules, false if not.
+     */
+    boolean isSettlementPositionValid(Point position, boolean requireRoad) {
+        int corner = board.getLandCornerIndex(position);
+        if (corner < 0 || !board.isResourceCorner(corner)) {
             return false;
         }
 
-        Map<Resource, Integer> requiredResources = Config.Structure.SETTLEMENT.getCostsAsMap();
-        boolean playerHasResources = currentPlayer.checkIfEnoughOfAllResources(requiredResources);
-        if (enableNonInitialRequirements && !playerHasResources) {
+        // Neither the corner nor the adjacent corners can have a settlement/city on them
+        if (board.hasStructureNearby(corner)) {
             return false;
         }
-
-        return true;
+        return !requireRoad || hasRoadToCorner(corner);
     }
 
     /**
@@ -597,67 +1035,87 @@ public class SiedlerGame {
         if (start == null || end == null){
             throw new IllegalArgumentException("Start and end parameter must not be null!");
         }
-        if (!board.hasEdge(start, end)) {
+        if (!isRoadPositionValid(start, end)) {
             return false;
         }
 
-        if (!isCornerOnWater(start) || !isCornerOnWater(end)) {
+        boolean playerHasStructure = currentPlayer.checkIfStructureAvailable(Config.Structure.ROAD);
+        if (!playerHasStructure){
             return false;
         }
 
-        Settlement startStructure = board.getCorner(start);
-        Settlement endStructure = board.getCorner(end);
-        if (!areCornersExclusivelyOwnedByCurrentPlayer(startStructure, endStructure)) {
+        boolean playerHasResources = currentPlayer.checkIfEnoughOfAllResources(
+                Config.Structure.ROAD.getCostVector());
+        if (enableNonInitialRequirements && !playerHasResources) {
             return false;
         }
 
-        if (startStructure == null && endStructure == null) {
-            boolean roadToStart = doesPlayerHaveRoadToCorner(start);
-            boolean roadToEnd = doesPlayerHaveRoadToCorner(end);
-            if (!roadToStart && !roadToEnd) {
-                return false;
-            }
+        return true;
+    }
+
+    /**
+     * Checks whether the current player may place a road between two corners according to the rules for the
+     * position. The structures and resources of the player are not checked.
+     * <p>
+     * The corners must be land corners connected by a free edge. Neither corner may have a structure of another
+     * player and the road must connect to a structure or road of the player. The checks only use the tables of
+     * the board and do not allocate.
+     * </p>
+     *
+     * @param start specifies the start position to check.
+     * @param end specifies the end position to check.
+     * @return true if the position meets the rules, false if not.
+     */
+    boolean isRoadPositionValid(Point start, Point end) {
+        int startCorner = board.getLandCornerIndex(start);
+        int endCorner = board.getLandCornerIndex(end);
+        if (startCorner < 0 || endCorner < 0) {
+            return false;
+        }
+        int neighbour = board.getNeighbourSlot(startCorner, endCorner);
+        if (neighbour < 0 || !board.hasEdgeToNeighbour(startCorner, neighbour)) {
+            return false;
         }
 
-        boolean playerHasStructure = currentPlayer.checkIfStructureAvailable(Config.Structure.ROAD);
-        if (!playerHasStructure){
+        // Edge is already used
+        if (board.getRoadFaction(startCorner, neighbour) >= 0) {
             return false;
         }
 
-        Map<Resource, Integer> requiredResources = Config.Structure.ROAD.getCostsAsMap();
-        boolean playerHasResources = currentPlayer.checkIfEnoughOfAllResources(requiredResources);
-        if (enableNonInitialRequirements && !playerHasResources) {
+        int startFaction = board.getStructureFaction(startCorner);
+        int endFaction = board.getStructureFaction(endCorner);
+        if (!areCornersExclusivelyOwnedByCurrentPlayer(startFaction, endFaction)) {
             return false;
         }
 
+        if (startFaction < 0 && endFaction < 0) {
+            boolean roadToStart = hasRoadToCorner(startCorner);
+            boolean roadToEnd = hasRoadToCorner(endCorner);
+            if (!roadToStart && !roadToEnd) {
+                return false;
+            }
+        }
         return true;
     }
 
-    private boolean areCornersExclusivelyOwnedByCurrentPlayer(Settlement firstStructure, Settlement secondStructure) {
-        return (firstStructure == null || firstStructure.isOwnedBy(currentPlayer)) &&
-                (secondStructure == null || secondStructure.isOwnedBy(currentPlayer));
-    }
-
     /**
-     * Checks if a corner is on water.
+     * Checks whether the current player may upgrade the structure at a position to a city. This is the case
+     * if there is a settlement of the player. The structures and resources of the player are not checked.
      *
-     * @param corner specifies the corner to check.
-     * @return true if the corner is exclusively surrounded by water, false otherwise.
-     * @throws IllegalArgumentException if corner parameter is null.
+     * @param position specifies the position to check.
+     * @return true if there is a settlement of the current player, false if not.
      */
-    private boolean isCornerOnWater(Point corner) {
-        if (corner == null){
-            throw new IllegalArgumentException("Corner parameter must not be null!");
-        }
-
-        List<Field> cornerFields = board.getFields(corner);
-        for (Field field: cornerFields) {
-            if (field.getLand() != Config.Land.WATER) {
-                return true;
-            }
+    boolean isCityPositionValid(Point position) {
+        if (!board.hasCorner(position)) {
+            return false;
         }
+        Settlement corner = board.getCorner(position);
+        return corner != null && corner.isOwnedBy(currentPlayer) && !(corner instanceof City);
+    }
 
-        return false;
+    private boolean areCornersExclusivelyOwnedByCurrentPlayer(int firstFaction, int secondFaction) {
+        int faction = currentPlayer.getFaction().ordinal();
+        return (firstFaction < 0 || firstFaction == faction) && (secondFaction < 0 || secondFaction == faction);
     }
 
     /**
@@ -673,7 +1131,8 @@ public class SiedlerGame {
         }
         Player[] players = new Player[numberOfPlayers];
         for (int i = 0; i < numberOfPlayers; i++) {
-            players[i] = new Player(Config.Faction.values()[i], Config.createEmptyResourceMap(), Config.getStructuresPerPlayerAtStart());
+            players[i] = new Player(Config.Faction.values()[i], Config.createEmptyResourceMap(),
+                    Config.getStructuresPerPlayerAtStart(), random);
         }
         return players;
     }
@@ -0,0 +1,163 @@
+package ch.zhaw.catan;
+
+import java.awt.Point;
+
+/**
+ * Holds the state which one move of a {@link SiedlerGame} changed, so the move can be taken back with
+ * {@link SiedlerGame#unmake(UndoRecord)}.
+ * <p>
+ * A record only saves the parts of the game the move touches: the current player index, the resource
+ * stocks of the bank and the affected players, the structures and win points of the building player, the
+ * longest roads, and the corner, edge or thief position on the board. Its size does not depend on the number
+ * of moves played, so making and taking back a move takes constant time and the game is never copied.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public final class UndoRecord {
+    private static final Config.Structure[] STRUCTURES = Config.Structure.values();
+    private final SiedlerGame game;
+    private final int currentPlayerIndex;
+    private final Config.Faction lastTheftVictim;
+    private final Config.Resource lastStolenResource;
+    private final Player[] resourceOwners = new Player[Config.MAX_NUMBER_OF_PLAYERS];
+    private final ResourceVector[] savedResources = new ResourceVector[Config.MAX_NUMBER_OF_PLAYERS];
+    private int resourceOwnerCount;
+    private ResourceVector savedBankResources;
+    private Player builder;
+    private int builderWinPoints;
+    private final int[] builderStructures = new int[STRUCTURES.length];
+    private Point corner;
+    private Settlement previousCorner;
+    private Point roadStart;
+    private Point roadEnd;
+    private Point previousThiefPosition;
+    private LongestRoadTracker longestRoad;
+    private int[] longestRoadLengths;
+    private Config.Faction longestRoadHolder;
+
+    /**
+     * Constructs a new UndoRecord with the state of the game which every move can change.
+     *
+     * @param game specifies the game the move is made in.
+     * @param currentPlayerIndex specifies the index of the current player before the move.
+     * @param lastTheftVictim specifies the victim of the last theft before the move.
+     * @param lastStolenResource specifies the last stolen resource before the move.
+     */
+    UndoRecord(SiedlerGame game, int currentPlayerIndex, Config.Faction lastTheftVictim,
+               Config.Resource lastStolenResource) {
+        this.game = game;
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.lastTheftVictim = lastTheftVictim;
+        this.lastStolenResource = lastStolenResource;
+    }
+
+    /**
+     * Saves the resource stock of the bank.
+     */
+    void saveBank(CardBank bank) {
+        savedBankResources = new ResourceVector(bank.resources);
+    }
+
+    /**
+     * Saves the resource stock of a player.
+     */
+    void saveResources(Player player) {
+        resourceOwners[resourceOwnerCount] = player;
+        savedResources[resourceOwnerCount] = new ResourceVector(player.resources);
+        resourceOwnerCount++;
+    }
+
+    /**
+     * Saves the resource stock, the structures and the win points of the player who builds.
+     */
+    void saveBuilder(Player player) {
+        saveResources(player);
+        builder = player;
+        builderWinPoints = player.getWinPoints();
+        for (Config.Structure structure : STRUCTURES) {
+            builderStructures[structure.ordinal()] = player.getStructureStock(structure);
+        }
+    }
+
+    /**
+     * Saves the settlement or city stored on a corner before the move.
+     */
+    void saveCorner(Point position, Settlement structure) {
+        corner = position;
+        previousCorner = structure;
+    }
+
+    /**
+     * Saves the edge of a new road. Roads are only built on free edges, so the edge is cleared again.
+     */
+    void saveEdge(Point start, Point end) {
+        roadStart = start;
+        roadEnd = end;
+    }
+
+    /**
+     * Saves the position of the thief before the move.
+     */
+    void saveThiefPosition(Point position) {
+        previousThiefPosition = position;
+    }
+
+    /**
+     * Saves the longest roads and the holder of the bonus, which a new road or settlement can change.
+     */
+    void saveLongestRoad(LongestRoadTracker tracker) {
+        longestRoad = tracker;
+        longestRoadLengths = tracker.saveLengths();
+        longestRoadHolder = tracker.getHolder();
+    }
+
+    /**
+     * Restores the board, the bank and the players to the saved state.
+     */
+    void restore(SiedlerBoard board, CardBank bank) {
+        if (corner != null) {
+            board.setCorner(corner, previousCorner);
+        }
+        if (roadStart != null) {
+            board.setEdge(roadStart, roadEnd, null);
+        }
+        if (previousThiefPosition != null) {
+            board.setThiefPosition(previousThiefPosition);
+        }
+        if (savedBankResources != null) {
+            bank.resources.set(savedBankResources);
+        }
+        for (int i = 0; i < resourceOwnerCount; i++) {
+            resourceOwners[i].resources.set(savedResources[i]);
+        }
+        if (longestRoad != null) {
+            longestRoad.restore(longestRoadLengths, longestRoadHolder);
+        }
+        if (builder != null) {
+            builder.restoreWinPoints(builderWinPoints);
+            for (Config.Structure structure : STRUCTURES) {
+                builder.restoreStructureStock(structure, builderStructures[structure.ordinal()]);
+            }
+        }
+    }
+
+    /**
+     * Checks if the record belongs to the specified game.
+     */
+    boolean belongsTo(SiedlerGame game) {
+        return this.game == game;
+    }
+
+    int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    Config.Faction getLastTheftVictim() {
+        return lastTheftVictim;
+    }
+
+    Config.Resource getLastStolenResource() {
+        return lastStolenResource;
+    }
+}
@@ -0,0 +1,140 @@
+package ch.zhaw.catan;
+
+import java.awt.Point;
+
+/**
+ * Provides the keys of the Zobrist hash of a game. The hash of a state is the XOR of the keys of all its
+ * features, e.g. a settlement of a faction on a corner or an amount of a resource in an inventory. When a
+ * feature changes, the key of the old feature and the key of the new feature are XORed into the hash, which
+ * costs the same for every change no matter how large the state is.
+ * <p>
+ * Instead of tables with random numbers, the keys are calculated by mixing the packed feature with the
+ * finalizer of SplitMix64. This gives keys for every coordinate and amount without having to know the size
+ * of the board or the largest amount in advance. The keys of small resource amounts change with every dice
+ * throw, so they are calculated once and kept in a table; larger amounts are calculated on demand.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+final class ZobristKeys {
+    /**
+     * Owner of the resources in the bank. The owners of the resources of the players follow after it.
+     */
+    static final int BANK = 0;
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+    private static final int CORNER = 1;
+    private static final int EDGE = 2;
+    private static final int THIEF = 3;
+    private static final int RESOURCE = 4;
+    private static final int CURRENT_PLAYER = 5;
+    private static final int LONGEST_ROAD = 6;
+    private static final int RESOURCE_COUNT = Config.Resource.values().length;
+    private static final int RESOURCE_OWNERS = 1 + Config.Faction.values().length;
+    private static final int CACHED_AMOUNTS = 64;
+    private static final long[] RESOURCE_KEYS = createResourceKeys();
+
+    private ZobristKeys() {
+    }
+
+    /**
+     * Returns the owner of the resources of a player of the specified faction.
+     *
+     * @param faction specifies the faction of the player.
+     * @return the owner used for the resource keys.
+     */
+    static int player(Config.Faction faction) {
+        return BANK + 1 + faction.ordinal();
+    }
+
+    /**
+     * Returns the key of a settlement or city on a corner.
+     *
+     * @param corner specifies the location of the corner.
+     * @param structure specifies the settlement or city (or null for an empty corner, whose key is 0).
+     * @return the key of the feature.
+     */
+    static long corner(Point corner, Settlement structure) {
+        if (structure == null) {
+            return 0;
+        }
+        return key(CORNER, corner.x, corner.y, structure.getOwner().getFaction().ordinal(),
+                structure.getWinPointAmount());
+    }
+
+    /**
+     * Returns the key of a road on an edge. The edge is identified by the sum of its corners, which is the same
+     * for both directions and different for every edge.
+     *
+     * @param start specifies one corner of the edge.
+     * @param end specifies the other corner of the edge.
+     * @param road specifies the road (or null for an empty edge, whose key is 0).
+     * @return the key of the feature.
+     */
+    static long edge(Point start, Point end, Road road) {
+        if (road == null) {
+            return 0;
+        }
+        return key(EDGE, start.x + end.x, start.y + end.y, road.getOwner().getFaction().ordinal(), 0);
+    }
+
+    static long thief(Point field) {
+        return key(THIEF, field.x, field.y, 0, 0);
+    }
+
+    /**
+     * Returns the key of an amount of a resource in an inventory.
+     *
+     * @param owner specifies the owner of the inventory, {@link #BANK} or {@link #player(Config.Faction)}.
+     * @param resource specifies the ordinal of the resource.
+     * @param amount specifies the amount of the resource.
+     * @return the key of the feature.
+     */
+    static long resource(int owner, int resource, int amount) {
+        if (owner >= 0 && owner < RESOURCE_OWNERS && amount >= 0 && amount < CACHED_AMOUNTS) {
+            return RESOURCE_KEYS[(owner * RESOURCE_COUNT + resource) * CACHED_AMOUNTS + amount];
+        }
+        return resourceKey(owner, resource, amount);
+    }
+
+    private static long resourceKey(int owner, int resource, int amount) {
+        return key(RESOURCE, owner, resource, amount & 0xFF, amount >>> 8);
+    }
+
+    private static long[] createResourceKeys() {
+        long[] keys = new long[RESOURCE_OWNERS * RESOURCE_COUNT * CACHED_AMOUNTS];
+        for (int owner = 0; owner < RESOURCE_OWNERS; owner++) {
+            for (int resource = 0; resource < RESOURCE_COUNT; resource++) {
+                for (int amount = 0; amount < CACHED_AMOUNTS; amount++) {
+                    keys[(owner * RESOURCE_COUNT + resource) * CACHED_AMOUNTS + amount]
+                            = resourceKey(owner, resource, amount);
+                }
+            }
+        }
+        return keys;
+    }
+
+    static long currentPlayer(int index) {
+        return key(CURRENT_PLAYER, index, 0, 0, 0);
+    }
+
+    /**
+     * Returns the key of the holder of the bonus for the longest road.
+     *
+     * @param holder specifies the faction of the holder (or null if nobody holds the bonus, whose key is 0).
+     * @return the key of the feature.
+     */
+    static long longestRoad(Config.Faction holder) {
+        if (holder == null) {
+            return 0;
+        }
+        return key(LONGEST_ROAD, holder.ordinal(), 0, 0, 0);
+    }
+
+    private static long key(int feature, int first, int second, int third, int fourth) {
+        long value = SEED + (((long) feature << 56) ^ ((long) (first & 0xFFFF) << 40)
+                ^ ((long) (second & 0xFFFF) << 24) ^ ((long) (third & 0xFF) << 16) ^ (fourth & 0xFFFFFF));
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
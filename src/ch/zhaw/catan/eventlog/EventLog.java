@@ -0,0 +1,129 @@
+package ch.zhaw.catan.eventlog;
+
+import ch.zhaw.catan.GameEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view on an event log written by the {@link EventLogWriter}.
+ * <p>
+ * The log starts with a header of {@link #HEADER_SIZE} bytes: {@link #MAGIC}, {@link #VERSION}, the required
+ * win points, the number of players, a reserved byte and the seed of the game. Each event follows with
+ * {@link #EVENT_SIZE} bytes: the ordinal of the {@link GameEvent} + 1 as a byte and its four arguments, each as an
+ * unsigned short up to {@link #MAX_ARGUMENT}, so the coordinates of large generated boards fit as well. A log
+ * which was not closed can end with a part of a memory-mapped segment which is filled with zeros; these bytes are
+ * not counted as events.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class EventLog {
+    public static final int MAGIC = 0x43544C47;
+    public static final byte VERSION = 2;
+    public static final int HEADER_SIZE = 16;
+    public static final int EVENT_SIZE = 9;
+    public static final int MAX_ARGUMENT = 0xFFFF;
+    private static final int ARGUMENT_COUNT = 4;
+    private static final int ARGUMENT_SIZE = 2;
+    private static final GameEvent[] EVENTS = GameEvent.values();
+    private final ByteBuffer events;
+    private final int requiredWinPoints;
+    private final int playerAmount;
+    private final long seed;
+    private final int eventCount;
+
+    private EventLog(ByteBuffer content) {
+        if (content.limit() < HEADER_SIZE || content.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("File is not an event log!");
+        }
+        if (content.get(4) != VERSION) {
+            throw new IllegalArgumentException("Event log version " + content.get(4) + " is not supported!");
+        }
+        requiredWinPoints = content.get(5);
+        playerAmount = content.get(6);
+        seed = content.getLong(8);
+        events = content.position(HEADER_SIZE).slice();
+        int count = events.limit() / EVENT_SIZE;
+        while (count > 0 && events.get((count - 1) * EVENT_SIZE) == 0) {
+            count--;
+        }
+        eventCount = count;
+    }
+
+    /**
+     * Opens an event log. The file is mapped into memory and not read before the events are accessed.
+     *
+     * @param file specifies the path of the log file.
+     * @return the opened log.
+     * @throws IllegalArgumentException if the file is null or not an event log.
+     * @throws IOException if the file can not be read.
+     */
+    public static EventLog open(Path file) throws IOException {
+        if (file == null){
+            throw new IllegalArgumentException("File parameter must not be null!");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new EventLog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int getRequiredWinPoints() {
+        return requiredWinPoints;
+    }
+
+    public int getPlayerAmount() {
+        return playerAmount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the event at the specified index.
+     *
+     * @param index specifies the index of the event.
+     * @return the event.
+     * @throws IllegalArgumentException if the index is not in the range of the events or the log contains an
+     * unknown event.
+     */
+    public GameEvent getEvent(int index) {
+        checkIndex(index);
+        int type = (events.get(index * EVENT_SIZE) & 0xFF) - 1;
+        if (type < 0 || type >= EVENTS.length) {
+            throw new IllegalArgumentException("Event log contains an unknown event at " + index + "!");
+        }
+        return EVENTS[type];
+    }
+
+    /**
+     * Returns an argument of the event at the specified index.
+     *
+     * @param index specifies the index of the event.
+     * @param argument specifies the argument (0 - 3).
+     * @return the value of the argument.
+     * @throws IllegalArgumentException if the index or the argument is not in its range.
+     */
+    public int getArgument(int index, int argument) {
+        checkIndex(index);
+        if (argument < 0 || argument >= ARGUMENT_COUNT){
+            throw new IllegalArgumentException("Argument must be in the range of 0 - " + (ARGUMENT_COUNT - 1) + "!");
+        }
+        return events.getShort(index * EVENT_SIZE + 1 + argument * ARGUMENT_SIZE) & 0xFFFF;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= eventCount){
+            throw new IllegalArgumentException("Index " + index + " is not in the range of the " + eventCount
+                    + " events!");
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package ch.zhaw.catan.eventlog;
+
+import ch.zhaw.catan.BoardLayout;
+import ch.zhaw.catan.GameEvent;
+import ch.zhaw.catan.GameEventListener;
+import ch.zhaw.catan.SiedlerGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records every change of a {@link SiedlerGame} as an event in an append-only log file, which can be replayed
+ * with the {@link ReplayEngine}.
+ * <p>
+ * The writer creates the game with a {@link ReplayRandom} seeded with the seed in the header of the log and
+ * listens to its events. Every event takes {@link EventLog#EVENT_SIZE} bytes. The events are collected in a
+ * batch which is written to the file when it is full, on {@link #flush()} and on {@link #close()}. With
+ * memory-mapped segments, the events are written directly into a mapped segment of the file, which is extended
+ * by a new segment when the current one is full.
+ * </p><p>
+ * The layout of the board is not part of the log. A game on a generated board has to be replayed with the same
+ * layout.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class EventLogWriter implements GameEventListener, Closeable {
+    public static final int BATCH_SIZE = 4096;
+    public static final int SEGMENT_SIZE = 1 << 20;
+    private final FileChannel channel;
+    private final SiedlerGame game;
+    private final boolean memoryMapped;
+    private ByteBuffer buffer;
+    private long bufferStart;
+    private int eventCount;
+
+    /**
+     * Creates a new log file and a new game on the standard board whose events are written to the log.
+     *
+     * @param file specifies the path of the log file, which must not exist yet.
+     * @param winPoints specifies the number of points required to win the game.
+     * @param numberOfPlayers specifies the number of players.
+     * @param seed specifies the seed of the random generator of the game.
+     * @param memoryMapped specifies if the events are written to memory-mapped segments instead of batches.
+     * @throws IllegalArgumentException if the file is null or the game can not be created with the parameters.
+     * @throws IOException if the file exists or can not be written.
+     */
+    public EventLogWriter(Path file, int winPoints, int numberOfPlayers, long seed, boolean memoryMapped)
+            throws IOException {
+        this(file, winPoints, numberOfPlayers, seed, memoryMapped, BoardLayout.standard());
+    }
+
+    /**
+     * Creates a new log file and a new game on a board with the specified layout whose events are written to
+     * the log.
+     *
+     * @param file specifies the path of the log file, which must not exist yet.
+     * @param winPoints specifies the number of points required to win the game.
+     * @param numberOfPlayers specifies the number of players.
+     * @param seed specifies the seed of the random generator of the game.
+     * @param memoryMapped specifies if the events are written to memory-mapped segments instead of batches.
+     * @param layout specifies the layout of the board.
+     * @throws IllegalArgumentException if the file is null or the game can not be created with the parameters.
+     * @throws IOException if the file exists or can not be written.
+     */
+    public EventLogWriter(Path file, int winPoints, int numberOfPlayers, long seed, boolean memoryMapped,
+                          BoardLayout layout) throws IOException {
+        if (file == null){
+            throw new IllegalArgumentException("File parameter must not be null!");
+        }
+        game = new SiedlerGame(winPoints, numberOfPlayers, new ReplayRandom(seed), layout);
+        this.memoryMapped = memoryMapped;
+        if (memoryMapped) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+        } else {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            buffer = ByteBuffer.allocateDirect(BATCH_SIZE);
+        }
+        buffer.putInt(EventLog.MAGIC);
+        buffer.put(EventLog.VERSION);
+        buffer.put((byte) winPoints);
+        buffer.put((byte) numberOfPlayers);
+        buffer.put((byte) 0);
+        buffer.putLong(seed);
+        game.setEventListener(this);
+    }
+
+    /**
+     * Returns the recorded game. All changes of the game are written to the log until the writer is closed.
+     *
+     * @return the recorded game.
+     */
+    public SiedlerGame getGame() {
+        return game;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Appends the event to the log.
+     *
+     * @throws IllegalArgumentException if an argument does not fit into an unsigned short. The event is not
+     * written in this case.
+     * @throws UncheckedIOException if the log can not be written.
+     * @throws IllegalStateException if the writer is closed.
+     */
+    @Override
+    public void eventOccurred(GameEvent event, int first, int second, int third, int fourth) {
+        if (!channel.isOpen()) {
+            throw new IllegalStateException("Event log is closed!");
+        }
+        if (!fitsIntoLog(first) || !fitsIntoLog(second) || !fitsIntoLog(third) || !fitsIntoLog(fourth)) {
+            throw new IllegalArgumentException("The arguments of the event " + event + " do not fit into the log!");
+        }
+        try {
+            if (buffer.remaining() < EventLog.EVENT_SIZE) {
+                nextBuffer();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.put((byte) (event.ordinal() + 1));
+        buffer.putShort((short) first);
+        buffer.putShort((short) second);
+        buffer.putShort((short) third);
+        buffer.putShort((short) fourth);
+        eventCount++;
+    }
+
+    /**
+     * Writes the collected events to the file and forces them to the storage device.
+     *
+     * @throws IOException if the log can not be written.
+     */
+    public void flush() throws IOException {
+        if (memoryMapped) {
+            ((MappedByteBuffer) buffer).force();
+        } else {
+            writeBatch();
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Writes the collected events to the file and closes it. The game is not recorded anymore. With
+     * memory-mapped segments, the unused rest of the last segment is cut off.
+     *
+     * @throws IOException if the log can not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        game.setEventListener(null);
+        try {
+            flush();
+            if (memoryMapped) {
+                channel.truncate(bufferStart + buffer.position());
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static boolean fitsIntoLog(int argument) {
+        return argument >= 0 && argument <= EventLog.MAX_ARGUMENT;
+    }
+
+    private void nextBuffer() throws IOException {
+        if (memoryMapped) {
+            ((MappedByteBuffer) buffer).force();
+            bufferStart += buffer.position();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, bufferStart, SEGMENT_SIZE);
+        } else {
+            writeBatch();
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,166 @@
+package ch.zhaw.catan.eventlog;
+
+import ch.zhaw.catan.BoardLayout;
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.GameEvent;
+import ch.zhaw.catan.GameSnapshotCodec;
+import ch.zhaw.catan.SiedlerGame;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rebuilds the game recorded in an {@link EventLog} at any event index, e.g. to audit a disputed game.
+ * <p>
+ * The events are applied directly to a {@link SiedlerGame} with the same seed as the recorded game, so the
+ * dice throws and the stolen and dropped resource cards are the same. Every rolled dice value is checked
+ * against the log. While replaying, the engine takes a snapshot with the {@link GameSnapshotCodec} and the
+ * state of the {@link ReplayRandom} every snapshot interval events. To seek to an index, the replay continues
+ * from the current position or from the last snapshot before the index, whichever is closer.
+ * </p><p>
+ * The engine replays into a single game, which is returned by {@link #replayTo(int)} and changed by the next
+ * call. Use {@link SiedlerGame#fork()} to keep a state.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class ReplayEngine {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+    private final EventLog log;
+    private final int snapshotInterval;
+    private final ReplayRandom random;
+    private final SiedlerGame game;
+    private final List<ByteBuffer> snapshots = new ArrayList<>();
+    private final List<Long> randomStates = new ArrayList<>();
+    private int position;
+
+    /**
+     * Constructs a new ReplayEngine which takes a snapshot every {@link #DEFAULT_SNAPSHOT_INTERVAL} events.
+     *
+     * @param log specifies the log to be replayed.
+     * @throws IllegalArgumentException if log is null or contains invalid win points or number of players.
+     */
+    public ReplayEngine(EventLog log) {
+        this(log, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Constructs a new ReplayEngine for a game on the standard board.
+     *
+     * @param log specifies the log to be replayed.
+     * @param snapshotInterval specifies after how many events a snapshot is taken.
+     * @throws IllegalArgumentException if log is null or contains invalid win points or number of players or
+     * the snapshotInterval is not positive.
+     */
+    public ReplayEngine(EventLog log, int snapshotInterval) {
+        this(log, snapshotInterval, BoardLayout.standard());
+    }
+
+    /**
+     * Constructs a new ReplayEngine for a game on a board with the specified layout, which has to be the layout
+     * of the recorded game.
+     *
+     * @param log specifies the log to be replayed.
+     * @param snapshotInterval specifies after how many events a snapshot is taken.
+     * @param layout specifies the layout of the board.
+     * @throws IllegalArgumentException if log or layout is null, the log contains invalid win points or number of
+     * players or the snapshotInterval is not positive.
+     */
+    public ReplayEngine(EventLog log, int snapshotInterval, BoardLayout layout) {
+        if (log == null){
+            throw new IllegalArgumentException("Log parameter must not be null!");
+        }
+        if (snapshotInterval < 1){
+            throw new IllegalArgumentException("SnapshotInterval parameter must be positive!");
+        }
+        this.log = log;
+        this.snapshotInterval = snapshotInterval;
+        random = new ReplayRandom(log.getSeed());
+        game = new SiedlerGame(log.getRequiredWinPoints(), log.getPlayerAmount(), random, layout);
+        takeSnapshot();
+    }
+
+    /**
+     * Returns the position of the replay, which is the number of applied events.
+     *
+     * @return the number of applied events.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Rebuilds the game after the specified number of events.
+     *
+     * @param eventIndex specifies the number of events to be applied, 0 for the game before the first event.
+     * @return the game after the events, which is changed by the next call.
+     * @throws IllegalArgumentException if the eventIndex is not in the range of 0 to the number of events.
+     * @throws IllegalStateException if an event can not be applied to the game, e.g. because the log does not
+     * belong to this version of the game.
+     */
+    public SiedlerGame replayTo(int eventIndex) {
+        if (eventIndex < 0 || eventIndex > log.getEventCount()){
+            throw new IllegalArgumentException("EventIndex must be in the range of 0 - " + log.getEventCount()
+                    + "!");
+        }
+        int snapshot = Math.min(eventIndex / snapshotInterval, snapshots.size() - 1);
+        if (position > eventIndex || position < snapshot * snapshotInterval) {
+            ByteBuffer buffer = snapshots.get(snapshot).duplicate();
+            GameSnapshotCodec.decode(buffer, game);
+            random.setState(randomStates.get(snapshot));
+            position = snapshot * snapshotInterval;
+        }
+        while (position < eventIndex) {
+            apply(position);
+            position++;
+            if (position % snapshotInterval == 0 && position / snapshotInterval == snapshots.size()) {
+                takeSnapshot();
+            }
+        }
+        return game;
+    }
+
+    private void takeSnapshot() {
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshotCodec.MAX_SIZE);
+        GameSnapshotCodec.encode(game, buffer);
+        snapshots.add(buffer.flip().asReadOnlyBuffer());
+        randomStates.add(random.getState());
+    }
+
+    private void apply(int index) {
+        GameEvent event = log.getEvent(index);
+        int first = log.getArgument(index, 0);
+        int second = log.getArgument(index, 1);
+        int third = log.getArgument(index, 2);
+        int fourth = log.getArgument(index, 3);
+        boolean applied = switch (event) {
+            case ROLL_DICE -> game.rollDice() == first;
+            case THROW_DICE -> {
+                game.throwDice(first);
+                yield true;
+            }
+            case PLACE_INITIAL_SETTLEMENT -> game.placeInitialSettlement(new Point(first, second), third == 1);
+            case PLACE_INITIAL_ROAD -> game.placeInitialRoad(new Point(first, second), new Point(third, fourth));
+            case BUILD_SETTLEMENT -> game.buildSettlement(new Point(first, second));
+            case BUILD_CITY -> game.buildCity(new Point(first, second));
+            case BUILD_ROAD -> game.buildRoad(new Point(first, second), new Point(third, fourth));
+            case TRADE_WITH_BANK -> game.tradeWithBankFourToOne(RESOURCES[first], RESOURCES[second]);
+            case PLACE_THIEF -> game.placeThiefAndStealCard(new Point(first, second));
+            case SWITCH_TO_NEXT_PLAYER -> {
+                game.switchToNextPlayer();
+                yield true;
+            }
+            case SWITCH_TO_PREVIOUS_PLAYER -> {
+                game.switchToPreviousPlayer();
+                yield true;
+            }
+            case FORK -> game.fork() != null;
+        };
+        if (!applied) {
+            throw new IllegalStateException("Event " + index + " (" + event + ") can not be applied to the game!");
+        }
+    }
+}
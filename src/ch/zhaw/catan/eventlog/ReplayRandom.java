@@ -0,0 +1,50 @@
+package ch.zhaw.catan.eventlog;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Random generator whose whole state is a single long, which can be read and set again. A game recorded in an
+ * event log takes its random decisions from this generator, so the replay can continue from a snapshot with
+ * the same dice throws and the same stolen and dropped resource cards.
+ * <p>
+ * The numbers are generated with the SplitMix64 algorithm: the state is advanced by a constant and the result
+ * is a mix of the new state.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public final class ReplayRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private long state;
+
+    /**
+     * Constructs a new ReplayRandom.
+     *
+     * @param seed specifies the initial state.
+     */
+    public ReplayRandom(long seed) {
+        state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        long value = state;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Sets the state, e.g. to the state saved together with a snapshot.
+     *
+     * @param state specifies the new state.
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,164 @@
+package ch.zhaw.catan.gamephases;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.GameEvent;
+import ch.zhaw.catan.SiedlerGame;
+import ch.zhaw.catan.simulation.PlayerStrategy;
+
+import java.awt.Point;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Player controller which lets a {@link PlayerStrategy} take the decisions of a player.
+ * <p>
+ * The strategies act directly on a game. To take its decisions through the game phases, the controller lets
+ * the strategy play on a fork of the game and records the events of the fork. When the phase asks for the
+ * initial settlement or for the first action of a turn, the strategy plays the initial structures or the
+ * whole turn on a fork. The following questions of the phase are answered with the recorded moves in the same
+ * order, until the planned turn is over and the controller ends the round. In the end phase the bot quits.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class BotController implements PlayerController {
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+    private final SiedlerGame siedlerGame;
+    private final PlayerStrategy strategy;
+    private final RandomGenerator random;
+    private final Deque<BuildAndTradePhase.Actions> actions = new ArrayDeque<>();
+    private final Deque<Point> coordinates = new ArrayDeque<>();
+    private final Deque<Config.Resource> resources = new ArrayDeque<>();
+    private boolean turnPlanned;
+
+    /**
+     * Constructs a new BotController.
+     *
+     * @param siedlerGame specifies the game the bot plays in.
+     * @param strategy specifies the strategy which takes the decisions.
+     * @param random specifies the random generator used for the decisions of the strategy.
+     * @throws IllegalArgumentException if one of the parameters is null.
+     */
+    public BotController(SiedlerGame siedlerGame, PlayerStrategy strategy, RandomGenerator random){
+        if (siedlerGame == null || strategy == null || random == null){
+            throw new IllegalArgumentException("SiedlerGame, strategy and random must not be null!");
+        }
+        this.siedlerGame = siedlerGame;
+        this.strategy = strategy;
+        this.random = random;
+    }
+
+    /**
+     * Returns the position of the thief chosen by the strategy, or the next coordinates of the planned moves.
+     * The initial structures are planned when the phase asks for the initial settlement.
+     *
+     * @throws IllegalStateException if there are no planned coordinates for the decision.
+     */
+    @Override
+    public Point chooseCoordinate(Decision decision, String message){
+        if (decision == Decision.THIEF_POSITION){
+            return strategy.chooseThiefPosition(siedlerGame, random);
+        }
+        if (decision == Decision.INITIAL_SETTLEMENT){
+            // the payout does not change where a strategy places its structures
+            SiedlerGame fork = plan();
+            strategy.placeInitialStructures(fork, false, random);
+        }
+        if (coordinates.isEmpty()){
+            throw new IllegalStateException("Bot has no coordinates planned for " + decision + "!");
+        }
+        return coordinates.poll();
+    }
+
+    /**
+     * Returns the next planned action of the turn. The turn is planned when the first action is requested and
+     * the round is ended after the last planned action.
+     *
+     * @throws IllegalArgumentException if options is null or not the actions of the build and trade or end phase.
+     */
+    @Override
+    public <T extends Enum<T>> T chooseAction(Class<T> options, String message){
+        if (options == EndPhase.Actions.class){
+            return options.cast(EndPhase.Actions.QUIT);
+        }
+        if (options != BuildAndTradePhase.Actions.class){
+            throw new IllegalArgumentException("Bot can not choose an action of " + options + "!");
+        }
+        if (!turnPlanned){
+            SiedlerGame fork = plan();
+            strategy.playTurn(fork, random);
+            turnPlanned = true;
+        }
+        if (actions.isEmpty()){
+            turnPlanned = false;
+            return options.cast(BuildAndTradePhase.Actions.END_ROUND);
+        }
+        return options.cast(actions.poll());
+    }
+
+    /**
+     * Returns the next resource of the planned trades.
+     *
+     * @throws IllegalStateException if there is no planned trade.
+     */
+    @Override
+    public Config.Resource chooseResource(String message){
+        if (resources.isEmpty()){
+            throw new IllegalStateException("Bot has no trade planned!");
+        }
+        return resources.poll();
+    }
+
+    @Override
+    public boolean isInteractive(){
+        return false;
+    }
+
+    /**
+     * Discards the remaining planned moves and returns a fork of the game whose moves are recorded.
+     */
+    private SiedlerGame plan(){
+        actions.clear();
+        coordinates.clear();
+        resources.clear();
+        SiedlerGame fork = siedlerGame.fork(new SplittableRandom(random.nextLong()));
+        fork.setEventListener(this::record);
+        return fork;
+    }
+
+    /**
+     * Records a move of the strategy in the order in which the phases ask for it.
+     */
+    private void record(GameEvent event, int first, int second, int third, int fourth){
+        switch (event) {
+            case PLACE_INITIAL_SETTLEMENT -> coordinates.add(new Point(first, second));
+            case PLACE_INITIAL_ROAD -> {
+                coordinates.add(new Point(first, second));
+                coordinates.add(new Point(third, fourth));
+            }
+            case BUILD_SETTLEMENT -> {
+                actions.add(BuildAndTradePhase.Actions.BUILD_SETTLEMENT);
+                coordinates.add(new Point(first, second));
+            }
+            case BUILD_CITY -> {
+                actions.add(BuildAndTradePhase.Actions.BUILD_CITY);
+                coordinates.add(new Point(first, second));
+            }
+            case BUILD_ROAD -> {
+                actions.add(BuildAndTradePhase.Actions.BUILD_ROAD);
+                coordinates.add(new Point(first, second));
+                coordinates.add(new Point(third, fourth));
+            }
+            case TRADE_WITH_BANK -> {
+                actions.add(BuildAndTradePhase.Actions.TRADE);
+                resources.add(RESOURCES[second]);
+                resources.add(RESOURCES[first]);
+            }
+            default -> {
+                // the other events are not decisions of the player
+            }
+        }
+    }
+}
@@ -11,13 +11,15 @@ import java.util.Map;
 
 /**
  * In the Build and Trade Phase, the player can choose between different actions. The selection includes all
- * values of the included Actions Enum. For each choice there is an associated method.
+ * values of the included Actions Enum. For each choice there is an associated method. The actions and their
+ * coordinates and resources are chosen by the controller of the current player.
  *
  * @author Louie Wolf
  * @version 07.12.2022
  */
 public class BuildAndTradePhase extends GamePhase {
     private final EndPhase endPhase;
+    private PlayerController controller;
     private boolean roundEnd;
 
     //Actions the player can choose from
@@ -52,16 +54,17 @@ public class BuildAndTradePhase extends GamePhase {
 
     @Override
     public void onStart() {
+        super.onStart();
+
         textTerminal.println("(" + currentFactionName + ") is now able to build or trade...");
+        controller = getCurrentController();
         roundEnd = false;
-
-        super.onStart();
     }
 
     @Override
     protected void onUpdate() {
         while (!roundEnd) {
-            switch (getEnumValue(textIO, BuildAndTradePhase.Actions.class, "(" + currentFactionName + ") what would you like to do?")) {
+            switch (controller.chooseAction(BuildAndTradePhase.Actions.class, "(" + currentFactionName + ") what would you like to do?")) {
                 case SHOW_FIELD -> showField();
                 case END_ROUND -> endRound();
                 case BUILD_ROAD -> buildRoad();
@@ -73,15 +76,13 @@ public class BuildAndTradePhase extends GamePhase {
                 default -> throw new IllegalStateException("Internal error found - Command not implemented.");
             }
         }
-
-        super.onUpdate();
     }
 
     @Override
-    protected void onEnd() {
+    protected GamePhase onEnd() {
         textTerminal.println("(" + currentFactionName + ") ended his turn!");
 
-        super.onEnd();
+        return super.onEnd();
     }
 
     /**
@@ -93,19 +94,22 @@ public class BuildAndTradePhase extends GamePhase {
 
     /**
      * Ask the player for coordinates to build a road. If the input is valid and the player has the required
-     * resources, the road will be built, otherwise he will be informed that the road building failed.
+     * resources, the road will be built, otherwise he will be informed that the road building failed. It also
+     * checks if the player has enough points to win the game, e.g. because of the longest road.
      */
     private void buildRoad(){
-        Point roadStart = getCoordinateInput("(" + currentFactionName + ") Where do you want to build " +
-                "the start of your road?");
-        Point roadEnd = getCoordinateInput("(" + currentFactionName + ") Where do you want to build " +
-                "the end of your road?");
+        Point roadStart = controller.chooseCoordinate(PlayerController.Decision.ROAD_START,
+                "(" + currentFactionName + ") Where do you want to build the start of your road?");
+        Point roadEnd = controller.chooseCoordinate(PlayerController.Decision.ROAD_END,
+                "(" + currentFactionName + ") Where do you want to build the end of your road?");
 
         if (!siedlerGame.buildRoad(roadStart, roadEnd)){
             textTerminal.println("The road could not be built!");
             return;
         }
         textTerminal.println("The road was successfully built!");
+
+        checkIfWon();
     }
 
     /**
@@ -114,8 +118,8 @@ public class BuildAndTradePhase extends GamePhase {
      * the settlement failed. It also checks if the player has enough points to win the game.
      */
     private void buildSettlement(){
-        Point settlementPoint = getCoordinateInput("(" + currentFactionName + ") Where do you want to build " +
-                "your settlement?");
+        Point settlementPoint = controller.chooseCoordinate(PlayerController.Decision.SETTLEMENT,
+                "(" + currentFactionName + ") Where do you want to build your settlement?");
 
         if (!siedlerGame.buildSettlement(settlementPoint)){
             textTerminal.println("The settlement could not be built!");
@@ -132,8 +136,8 @@ public class BuildAndTradePhase extends GamePhase {
      * It also checks if the player has enough points to win the game.
      */
     private void buildCity(){
-        Point cityPoint = getCoordinateInput("(" + currentFactionName + ") Where do you want to build " +
-                "your city?");
+        Point cityPoint = controller.chooseCoordinate(PlayerController.Decision.CITY,
+                "(" + currentFactionName + ") Where do you want to build your city?");
 
         if (!siedlerGame.buildCity(cityPoint)){
             textTerminal.println("The city could not be built!");
@@ -172,7 +176,7 @@ public class BuildAndTradePhase extends GamePhase {
         }
         Config.Resource selectedResource;
 
-        switch (getEnumValue(textIO, Config.Resource.class, message)) {
+        switch (controller.chooseResource(message)) {
             case LUMBER -> selectedResource = Config.Resource.LUMBER;
             case ORE -> selectedResource = Config.Resource.ORE;
             case GRAIN -> selectedResource = Config.Resource.GRAIN;
@@ -6,7 +6,6 @@ import org.beryx.textio.TextIO;
 import org.beryx.textio.TextTerminal;
 
 import java.awt.Point;
-import java.util.Random;
 
 /**
  * In the dice roll phase, the player rolls a random number between 2 and 12, whereupon resources of the respective
@@ -41,20 +40,19 @@ public class DiceRollPhase extends GamePhase{
 
     @Override
     public void onStart() {
-        textTerminal.println("(" + currentFactionName + ") rolls the dice...");
-
         super.onStart();
+
+        textTerminal.println("(" + currentFactionName + ") rolls the dice...");
     }
 
     /**
-     * Generates a random number within the dice value range, displays it to the players, and distributes the
+     * Rolls the dice with the random generator of the game, displays the value to the players, and distributes the
      * resources of the associated resource square. If it is a 7, the player whose turn it is can place the thief
-     * to steal a card and everyone must give up half their resources. Then executes the method of the abstract class.
+     * to steal a card and everyone must give up half their resources.
      */
     @Override
     protected void onUpdate() {
-        Random random = new Random();
-        int randomDiceNumber = random.nextInt(Config.MIN_DICE_VALUE, Config.MAX_DICE_VALUE + 1);
+        int randomDiceNumber = siedlerGame.rollDice();
 
         siedlerGame.throwDice(randomDiceNumber);
         textTerminal.println("(" + currentFactionName + ") rolled a " + randomDiceNumber);
@@ -63,23 +61,41 @@ public class DiceRollPhase extends GamePhase{
             textTerminal.println(THIEF_ASCII_ART);
 
             boolean thiefPlacementOk = false;
+            PlayerController controller = getCurrentController();
             while (!thiefPlacementOk) {
-                Point thiefPosition = getCoordinateInput("Where should the thief be placed?");
+                Point thiefPosition = controller.chooseCoordinate(PlayerController.Decision.THIEF_POSITION,
+                        "Where should the thief be placed?");
 
                 thiefPlacementOk = siedlerGame.placeThiefAndStealCard(thiefPosition);
                 if (!thiefPlacementOk) {
                     textTerminal.println("Please choose a valid field position!");
                 }
             }
+            printTheft();
         }
+    }
 
-        super.onUpdate();
+    /**
+     * Displays what the thief has stolen from whom, if there was a player to steal from.
+     */
+    private void printTheft() {
+        Config.Faction victim = siedlerGame.getLastTheftVictim();
+        if (victim == null) {
+            return;
+        }
+        Config.Resource stolenResource = siedlerGame.getLastStolenResource();
+        if (stolenResource != null) {
+            textTerminal.println("THIEF: (" + currentFactionName + ") <==stolen from== (" + victim + ") "
+                    + stolenResource);
+        } else {
+            textTerminal.println("THIEF: could not steal anything");
+        }
     }
 
     @Override
-    protected void onEnd() {
+    protected GamePhase onEnd() {
         textTerminal.println("(" + currentFactionName + ") ended his dice throw phase.");
 
-        super.onEnd();
+        return super.onEnd();
     }
 }
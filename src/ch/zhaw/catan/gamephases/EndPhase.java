@@ -49,38 +49,40 @@ public class EndPhase extends GamePhase{
 
     /**
      * If there is a winner, a victory message will be issued.
-     * Then executes the method of the abstract class.
      */
     @Override
     public void onStart(){
+        super.onStart();
+
         textTerminal.println("The game has ended!");
         tryPrintWinner();
-
-        super.onStart();
     }
 
     /**
      * Gives players the option to display their points or quit the game.
-     * Then executes the method of the abstract class.
      */
     @Override
     public void onUpdate(){
         boolean endGame = false;
         while (!endGame) {
-            switch (getEnumValue(textIO, EndPhase.Actions.class, "What would you like to do")) {
+            switch (getDefaultController().chooseAction(EndPhase.Actions.class, "What would you like to do")) {
                 case SHOW_POINTS -> showPoints();
                 case QUIT -> endGame = true;
                 default -> throw new IllegalStateException("Internal error found - Command not implemented.");
             }
         }
-
-        super.onUpdate();
     }
 
+    /**
+     * Shuts the text input/output down. There is no phase after the end phase.
+     *
+     * @return null, because the game is over.
+     */
     @Override
-    public void onEnd(){
+    public GamePhase onEnd(){
         textTerminal.println("Shutting down...");
         textIO.dispose();
+        return null;
     }
 
     /**
@@ -5,13 +5,21 @@ import ch.zhaw.catan.SiedlerGame;
 import org.beryx.textio.TextIO;
 import org.beryx.textio.TextTerminal;
 
-import java.awt.Point;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * This abstract plan of a game phase implements the basic functionality of the game phases. Each game phase consists
  * of a start method, which is called once and can be used for setup or phase preparation. An update method, which
  * contains the main part of the game phase logic e.g a loop that lasts until the player wants to move to the next
- * phase. And an end method, which is called when the phase is exited and moves to the next one.
+ * phase. And an end method, which is called when the phase is exited and returns the next one.
+ * <p>
+ * The phases do not call each other. The {@link PhaseScheduler} executes one phase after the other in a loop, so
+ * the stack does not grow with the number of turns.
+ * </p><p>
+ * The decisions of the players are taken by {@link PlayerController}s. A faction without its own controller
+ * and the end phase use the default controller, which asks on the text terminal if it is not replaced.
+ * </p>
  *
  * @author Louie Wolf
  * @version 07.12.2022
@@ -22,6 +30,8 @@ public abstract class GamePhase {
     protected SiedlerGame siedlerGame;
     protected GamePhase nextPhase;
     protected String currentFactionName;
+    private PlayerController defaultController;
+    private Map<Config.Faction, PlayerController> controllers = Collections.emptyMap();
 
     /**
      * Default initialization for all game phases.
@@ -39,6 +49,7 @@ public abstract class GamePhase {
         this.textIO = textIO;
         this.textTerminal = textTerminal;
         this.siedlerGame = siedlerGame;
+        this.defaultController = new TextIOController(textIO, textTerminal);
     }
 
     /**
@@ -56,64 +67,81 @@ public abstract class GamePhase {
     }
 
     /**
-     * This method is the entry point of this game phase. It is called once in the beginning and switches
-     * to onUpdate after being finished.
+     * Lets the specified controllers take the decisions of their factions instead of the default controller.
+     *
+     * @param controllers specifies the controller of each faction which does not use the default controller.
+     * @throws IllegalArgumentException if the parameter is null.
      */
-    public void onStart(){
-        currentFactionName = siedlerGame.getCurrentPlayerFaction().toString();
-        onUpdate();
+    final public void initializeControllers(Map<Config.Faction, PlayerController> controllers){
+        if (controllers == null){
+            throw new IllegalArgumentException("The controllers cannot be null.");
+        }
+
+        this.controllers = Map.copyOf(controllers);
     }
 
     /**
-     * This method contains the behaviour of the game phase. After being finished it switches to the onEnd method.
+     * Replaces the default controller, which asks on the text terminal.
+     *
+     * @param defaultController specifies the controller of the factions without their own controller.
+     * @throws IllegalArgumentException if the parameter is null.
      */
-    protected void onUpdate(){
-        onEnd();
+    final public void initializeDefaultController(PlayerController defaultController){
+        if (defaultController == null){
+            throw new IllegalArgumentException("The default controller cannot be null.");
+        }
+
+        this.defaultController = defaultController;
     }
 
     /**
-     * This method is the exit of this game phase. It is called once at the end and executes the onStart method
-     * of the next game phase.
+     * Returns the controller which takes the decisions of the current player.
+     *
+     * @return the controller of the current player.
      */
-    protected void onEnd(){
-        nextPhase.onStart();
+    protected PlayerController getCurrentController(){
+        return controllers.getOrDefault(siedlerGame.getCurrentPlayerFaction(), defaultController);
     }
 
     /**
-     * This method allows the player to select one of several options. The options are defined by the passed enum.
+     * Returns the default controller, which takes the decisions which do not belong to a faction.
      *
-     * @param textIO specifies where the text is printed.
-     * @param options specifies the enum which contains the different options to choose from.
-     * @param <T> specifies the class where the enum is defined.
-     * @return the players chosen enum value.
-     * @throws IllegalArgumentException if one of the parameters is null.
+     * @return the default controller.
      */
-    protected static <T extends Enum<T>> T getEnumValue(TextIO textIO, Class<T> options, String message) {
-        if (textIO == null || options == null || message == null){
-            throw new IllegalArgumentException("TextIO, options and message must not be null!");
-        }
-        return textIO.newEnumInputReader(options).read(message);
+    protected PlayerController getDefaultController(){
+        return defaultController;
     }
 
     /**
-     * Method to generate a two-dimensional (x,y) point from user input. The entered coordinate must be within the
-     * settler board coordinate span.
+     * Executes this game phase once: first the onStart, then the onUpdate and at last the onEnd method.
      *
-     * @param message specifies the message that is displayed to the player when he is asked to enter the coordinates.
-     * @return the generated point.
-     * @throws IllegalArgumentException if the message is null.
+     * @return the game phase to be executed next or null, if the game is over.
      */
-    protected Point getCoordinateInput(String message) {
-        if (message == null){
-            throw new IllegalArgumentException("Message must not be null!");
-        }
-        textTerminal.println(message);
-        int x = textIO.newIntInputReader().
-                withMinVal(Config.MIN_COORDINATE_VALUE).withMaxVal(Config.MAX_X_COORDINATE_VALUE).
-                read("X coordinate:");
-        int y = textIO.newIntInputReader()
-                .withMinVal(Config.MIN_COORDINATE_VALUE).withMaxVal(Config.MAX_Y_COORDINATE_VALUE)
-                .read("Y coordinate:");
-        return new Point(x, y);
+    public final GamePhase execute(){
+        onStart();
+        onUpdate();
+        return onEnd();
+    }
+
+    /**
+     * This method is the entry point of this game phase. It is called once in the beginning.
+     */
+    public void onStart(){
+        currentFactionName = siedlerGame.getCurrentPlayerFaction().toString();
+    }
+
+    /**
+     * This method contains the behaviour of the game phase. It is called after the onStart method.
+     */
+    protected void onUpdate(){
+    }
+
+    /**
+     * This method is the exit of this game phase. It is called once at the end and returns the next game phase.
+     *
+     * @return the game phase to be executed next or null, if the game is over.
+     */
+    protected GamePhase onEnd(){
+        return nextPhase;
     }
-}
\ No newline at end of file
+}
@@ -35,7 +35,7 @@ public class InitialPhase extends GamePhase {
 
     /**
      * Gives players the ability to place their initial buildings in ascending and descending order,
-     * with only descending order giving resources to the player. Then executes the method of the abstract class.
+     * with only descending order giving resources to the player.
      */
     @Override
     protected void onUpdate() {
@@ -62,70 +62,87 @@ public class InitialPhase extends GamePhase {
 
             currentFactionName = siedlerGame.getCurrentPlayerFaction().toString();
         }
-
-        super.onUpdate();
     }
 
     @Override
-    protected void onEnd() {
+    protected GamePhase onEnd() {
         textTerminal.println("All initial buildings have been set!");
 
-        super.onEnd();
+        return super.onEnd();
     }
 
     /**
-     * First asks the player for an input to place an initial settlement and then an initial road. Repeat the process
-     * until both structures have been successfully placed.
+     * First asks the controller of the player to place an initial settlement and then an initial road. Repeat the
+     * process until both structures have been successfully placed. The board is only displayed to interactive
+     * players.
      *
      * @param playerGetsPayout specifies whether the player should get resources after placing his settlement or not.
      */
     private void placeInitialBuildings(boolean playerGetsPayout){
-        textTerminal.println(siedlerGame.getBoard().toString());
+        PlayerController controller = getCurrentController();
+        printBoard(controller);
 
         boolean settlementPlaced = false;
         while (!settlementPlaced){
-            settlementPlaced = placeInitialSettlement(playerGetsPayout);
+            settlementPlaced = placeInitialSettlement(controller, playerGetsPayout);
             if (!settlementPlaced) {
                 textTerminal.println("Please enter valid coordinates. Only corners are valid");
             }
         }
 
-        textTerminal.println(siedlerGame.getBoard().toString());
+        printBoard(controller);
         boolean roadPlaced = false;
         while (!roadPlaced) {
-            roadPlaced = placeInitialRoad();
+            roadPlaced = placeInitialRoad(controller);
             if (!roadPlaced) {
                 textTerminal.println("Please enter valid coordinates.");
             }
         }
 
-        textTerminal.println(siedlerGame.getBoard().toString());
+        printBoard(controller);
+        if (!controller.isInteractive()) {
+            textTerminal.println("(" + currentFactionName + ") placed the initial buildings.");
+        }
     }
 
     /**
-     * Asks the player for input to place an initial settlement.
+     * Asks the controller for the position of an initial settlement.
      *
+     * @param controller specifies the controller of the player.
      * @param playerGetsPayout specifies whether the player should get resources after placing his settlement or not.
      * @return true if the settlement was successfully build, false otherwise.
      */
-    private boolean placeInitialSettlement(boolean playerGetsPayout){
+    private boolean placeInitialSettlement(PlayerController controller, boolean playerGetsPayout){
         String message = "(" + currentFactionName + ") where do you want to place your initial settlement?";
-        Point initialSettlementPoint = getCoordinateInput(message);
+        Point initialSettlementPoint = controller.chooseCoordinate(PlayerController.Decision.INITIAL_SETTLEMENT,
+                message);
 
         return siedlerGame.placeInitialSettlement(initialSettlementPoint,playerGetsPayout);
     }
 
     /**
-     * Asks the player for input to place an initial road.
+     * Asks the controller for the start and end point of an initial road.
      *
+     * @param controller specifies the controller of the player.
      * @return true if the road was successfully build, false otherwise.
      */
-    private boolean placeInitialRoad(){
-        Point roadStart = getCoordinateInput("(" + currentFactionName + ") where do you want to place the start " +
-                "point of your initial road?");
-        Point roadEnd = getCoordinateInput("(" + currentFactionName + ") where do you want to place the end " +
-                "point of your initial road?");
+    private boolean placeInitialRoad(PlayerController controller){
+        Point roadStart = controller.chooseCoordinate(PlayerController.Decision.INITIAL_ROAD_START,
+                "(" + currentFactionName + ") where do you want to place the start point of your initial road?");
+        Point roadEnd = controller.chooseCoordinate(PlayerController.Decision.INITIAL_ROAD_END,
+                "(" + currentFactionName + ") where do you want to place the end point of your initial road?");
 
         return siedlerGame.placeInitialRoad(roadStart, roadEnd);
     }
+
+    /**
+     * Displays the current state of the board, if the player is interactive.
+     *
+     * @param controller specifies the controller of the player.
+     */
+    private void printBoard(PlayerController controller){
+        if (controller.isInteractive()) {
+            textTerminal.println(siedlerGame.getBoard().toString());
+        }
+    }
 }
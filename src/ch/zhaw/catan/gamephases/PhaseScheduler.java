@@ -0,0 +1,58 @@
+package ch.zhaw.catan.gamephases;
+
+/**
+ * Runs the game phases one after another. Each executed phase returns the phase to be executed next, so the
+ * scheduler only needs a loop and the depth of the stack stays the same, no matter how many turns are played.
+ *
+ * @version 16.10.2026
+ */
+public class PhaseScheduler {
+    private long executedPhases;
+
+    /**
+     * Executes the game phases beginning with the start phase until a phase returns no next phase.
+     *
+     * @param startPhase specifies the first game phase to be executed.
+     * @throws IllegalArgumentException if startPhase is null.
+     */
+    public void run(GamePhase startPhase){
+        run(startPhase, Long.MAX_VALUE);
+    }
+
+    /**
+     * Executes the game phases beginning with the start phase until a phase returns no next phase, but at most
+     * the specified number of phases.
+     *
+     * @param startPhase specifies the first game phase to be executed.
+     * @param maxPhases specifies how many phases may be executed by this call.
+     * @throws IllegalArgumentException if startPhase is null or maxPhases is not positive.
+     * @throws IllegalStateException if the game is not over after maxPhases phases.
+     */
+    public void run(GamePhase startPhase, long maxPhases){
+        if (startPhase == null){
+            throw new IllegalArgumentException("StartPhase parameter must not be null!");
+        }
+        if (maxPhases <= 0){
+            throw new IllegalArgumentException("The maximum number of phases must be positive!");
+        }
+        GamePhase phase = startPhase;
+        long phases = 0;
+        while (phase != null) {
+            if (phases == maxPhases){
+                throw new IllegalStateException("The game is not over after " + maxPhases + " phases!");
+            }
+            phase = phase.execute();
+            phases++;
+            executedPhases++;
+        }
+    }
+
+    /**
+     * Returns the number of game phases executed by this scheduler.
+     *
+     * @return the number of executed phases.
+     */
+    public long getExecutedPhases(){
+        return executedPhases;
+    }
+}
@@ -0,0 +1,66 @@
+package ch.zhaw.catan.gamephases;
+
+import ch.zhaw.catan.Config;
+
+import java.awt.Point;
+
+/**
+ * A player controller takes the decisions of a player during the game phases. The phases ask the controller
+ * of the current player for coordinates, actions and resources and check the answers with the game, so humans,
+ * scripts and bots are played by the same phase logic.
+ * <p>
+ * If an answer is rejected by the game, the phase asks the controller again.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public interface PlayerController {
+
+    /**
+     * The decisions for which a controller is asked for coordinates.
+     */
+    enum Decision {
+        INITIAL_SETTLEMENT,
+        INITIAL_ROAD_START,
+        INITIAL_ROAD_END,
+        THIEF_POSITION,
+        ROAD_START,
+        ROAD_END,
+        SETTLEMENT,
+        CITY
+    }
+
+    /**
+     * Chooses the coordinates for a decision.
+     *
+     * @param decision specifies what the coordinates are used for.
+     * @param message specifies the message which is displayed to a human player.
+     * @return the chosen coordinates.
+     */
+    Point chooseCoordinate(Decision decision, String message);
+
+    /**
+     * Chooses one of the actions of a game phase.
+     *
+     * @param options specifies the enum which contains the actions to choose from.
+     * @param message specifies the message which is displayed to a human player.
+     * @param <T> specifies the class where the enum is defined.
+     * @return the chosen action.
+     */
+    <T extends Enum<T>> T chooseAction(Class<T> options, String message);
+
+    /**
+     * Chooses a resource, e.g. for a trade.
+     *
+     * @param message specifies the message which is displayed to a human player.
+     * @return the chosen resource.
+     */
+    Config.Resource chooseResource(String message);
+
+    /**
+     * Returns whether the controller asks a person, who has to see the board before taking a decision.
+     *
+     * @return true if the board should be displayed before a decision, false otherwise.
+     */
+    boolean isInteractive();
+}
@@ -0,0 +1,119 @@
+package ch.zhaw.catan.gamephases;
+
+import ch.zhaw.catan.Config;
+
+import java.awt.Point;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Player controller which answers with prepared coordinates, actions and resources, e.g. to replay a game or
+ * to test the game phases. Each kind of answer is taken from its own queue in the order it was added.
+ *
+ * @version 16.10.2026
+ */
+public class ScriptedController implements PlayerController {
+    private final Deque<Point> coordinates = new ArrayDeque<>();
+    private final Deque<Enum<?>> actions = new ArrayDeque<>();
+    private final Deque<Config.Resource> resources = new ArrayDeque<>();
+
+    /**
+     * Adds coordinates to the end of the script.
+     *
+     * @param points specifies the coordinates.
+     * @throws IllegalArgumentException if points is null or contains null.
+     */
+    public void addCoordinates(Point... points){
+        addAll(coordinates, points);
+    }
+
+    /**
+     * Adds actions to the end of the script.
+     *
+     * @param options specifies the actions.
+     * @throws IllegalArgumentException if options is null or contains null.
+     */
+    public void addActions(Enum<?>... options){
+        addAll(actions, options);
+    }
+
+    /**
+     * Adds resources to the end of the script.
+     *
+     * @param resourceList specifies the resources.
+     * @throws IllegalArgumentException if resourceList is null or contains null.
+     */
+    public void addResources(Config.Resource... resourceList){
+        addAll(resources, resourceList);
+    }
+
+    /**
+     * Returns the number of answers which have not been used yet.
+     *
+     * @return the number of remaining coordinates, actions and resources.
+     */
+    public int getRemainingAnswers(){
+        return coordinates.size() + actions.size() + resources.size();
+    }
+
+    /**
+     * Returns the next coordinates of the script.
+     *
+     * @throws IllegalStateException if the script has no coordinates left.
+     */
+    @Override
+    public Point chooseCoordinate(Decision decision, String message){
+        if (coordinates.isEmpty()){
+            throw new IllegalStateException("Script has no coordinates left for " + decision + "!");
+        }
+        return coordinates.poll();
+    }
+
+    /**
+     * Returns the next action of the script.
+     *
+     * @throws IllegalArgumentException if options is null.
+     * @throws IllegalStateException if the script has no actions left or the next action is not one of the options.
+     */
+    @Override
+    public <T extends Enum<T>> T chooseAction(Class<T> options, String message){
+        if (options == null){
+            throw new IllegalArgumentException("Options must not be null!");
+        }
+        if (actions.isEmpty() || !options.isInstance(actions.peek())){
+            throw new IllegalStateException("Script has no action of " + options.getSimpleName() + " left!");
+        }
+        return options.cast(actions.poll());
+    }
+
+    /**
+     * Returns the next resource of the script.
+     *
+     * @throws IllegalStateException if the script has no resources left.
+     */
+    @Override
+    public Config.Resource chooseResource(String message){
+        if (resources.isEmpty()){
+            throw new IllegalStateException("Script has no resources left!");
+        }
+        return resources.poll();
+    }
+
+    @Override
+    public boolean isInteractive(){
+        return false;
+    }
+
+    private static <T> void addAll(Deque<T> queue, T[] answers){
+        if (answers == null){
+            throw new IllegalArgumentException("Answers must not be null!");
+        }
+        for (T answer : answers){
+            if (answer == null){
+                throw new IllegalArgumentException("Answers must not contain null!");
+            }
+        }
+        queue.addAll(Arrays.asList(answers));
+    }
+}
@@ -0,0 +1,81 @@
+package ch.zhaw.catan.gamephases;
+
+import ch.zhaw.catan.Config;
+import org.beryx.textio.TextIO;
+import org.beryx.textio.TextTerminal;
+
+import java.awt.Point;
+
+/**
+ * Player controller which asks a human player for every decision on the text terminal.
+ *
+ * @version 16.10.2026
+ */
+public class TextIOController implements PlayerController {
+    private final TextIO textIO;
+    private final TextTerminal<?> textTerminal;
+
+    /**
+     * Constructs a new TextIOController.
+     *
+     * @param textIO specifies the text input/output.
+     * @param textTerminal specifies in which terminal the text output is displayed.
+     * @throws IllegalArgumentException if one of the parameters is null.
+     */
+    public TextIOController(TextIO textIO, TextTerminal<?> textTerminal){
+        if (textIO == null || textTerminal == null){
+            throw new IllegalArgumentException("TextIO and textTerminal must not be null!");
+        }
+        this.textIO = textIO;
+        this.textTerminal = textTerminal;
+    }
+
+    /**
+     * Generates a two-dimensional (x,y) point from user input. The entered coordinate must be within the
+     * settler board coordinate span.
+     *
+     * @throws IllegalArgumentException if the message is null.
+     */
+    @Override
+    public Point chooseCoordinate(Decision decision, String message){
+        if (message == null){
+            throw new IllegalArgumentException("Message must not be null!");
+        }
+        textTerminal.println(message);
+        int x = textIO.newIntInputReader()
+                .withMinVal(Config.MIN_COORDINATE_VALUE).withMaxVal(Config.MAX_X_COORDINATE_VALUE)
+                .read("X coordinate:");
+        int y = textIO.newIntInputReader()
+                .withMinVal(Config.MIN_COORDINATE_VALUE).withMaxVal(Config.MAX_Y_COORDINATE_VALUE)
+                .read("Y coordinate:");
+        return new Point(x, y);
+    }
+
+    /**
+     * Lets the player select one of the options.
+     *
+     * @throws IllegalArgumentException if one of the parameters is null.
+     */
+    @Override
+    public <T extends Enum<T>> T chooseAction(Class<T> options, String message){
+        if (options == null || message == null){
+            throw new IllegalArgumentException("Options and message must not be null!");
+        }
+        return textIO.newEnumInputReader(options).read(message);
+    }
+
+    /**
+     * Lets the player select a resource.
+     *
+     * @throws IllegalArgumentException if the message is null.
+     */
+    @Override
+    public Config.Resource chooseResource(String message){
+        return chooseAction(Config.Resource.class, message);
+    }
+
+    @Override
+    public boolean isInteractive(){
+        return true;
+    }
+}
@@ -0,0 +1,255 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.BoardLayout;
+import ch.zhaw.catan.City;
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.Player;
+import ch.zhaw.catan.Settlement;
+import ch.zhaw.catan.SiedlerBoard;
+import ch.zhaw.catan.SiedlerGame;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Provides the building blocks of the strategies: checks whether the current player can afford a structure
+ * and tries to build structures on the land corners of the board in a given order.
+ * <p>
+ * All build methods use the public API of {@link SiedlerGame}, so the rules of the game are checked by the game
+ * itself. The affordability checks only avoid calling the game for structures the player cannot pay.
+ * </p><p>
+ * The board returns copies of its positions, so the land corners, land fields and neighbours of the corners
+ * are copied once per layout and kept by the strategy. The neighbours are indexed by the row and column of
+ * their corner, like the tables of the board.
+ * </p><p>
+ * The rules for the positions of the structures only depend on the board. A search which found no position
+ * for a structure the player can afford is therefore remembered with the modification count of the board and
+ * not repeated for the same player and corners until the board changes, e.g. after a trade in the same turn.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public abstract class AbstractPlayerStrategy implements PlayerStrategy {
+    private BoardLayout cachedLayout;
+    private List<Point> landCorners = Collections.emptyList();
+    private List<Point> landFields = Collections.emptyList();
+    private int layoutWidth;
+    private List<List<Point>> neighbourLandCorners = Collections.emptyList();
+    private final FailedSearch failedSettlementSearch = new FailedSearch();
+    private final FailedSearch failedCitySearch = new FailedSearch();
+    private final FailedSearch failedRoadSearch = new FailedSearch();
+
+    /**
+     * Returns the land corners of the board like {@link SiedlerBoard#getLandCornerPositions()}.
+     *
+     * @param board specifies the board.
+     * @return the unmodifiable list of the land corners, which must not be changed.
+     */
+    protected List<Point> getLandCorners(SiedlerBoard board) {
+        cacheLayout(board);
+        return landCorners;
+    }
+
+    /**
+     * Returns the land fields of the board like {@link SiedlerBoard#getLandFieldPositions()}.
+     *
+     * @param board specifies the board.
+     * @return the unmodifiable list of the land fields, which must not be changed.
+     */
+    protected List<Point> getLandFields(SiedlerBoard board) {
+        cacheLayout(board);
+        return landFields;
+    }
+
+    /**
+     * Returns the neighbouring land corners of a land corner like
+     * {@link SiedlerBoard#getNeighbourLandCorners(Point)}.
+     *
+     * @param board specifies the board.
+     * @param corner specifies the land corner.
+     * @return the unmodifiable list of the neighbours, which must not be changed.
+     */
+    protected List<Point> getNeighbourLandCorners(SiedlerBoard board, Point corner) {
+        cacheLayout(board);
+        int index = corner.y * layoutWidth + corner.x;
+        if (corner.x < 0 || corner.x >= layoutWidth || index < 0 || index >= neighbourLandCorners.size()
+                || neighbourLandCorners.get(index) == null) {
+            return Collections.emptyList();
+        }
+        return neighbourLandCorners.get(index);
+    }
+
+    private void cacheLayout(SiedlerBoard board) {
+        if (board.getLayout() == cachedLayout) {
+            return;
+        }
+        landCorners = board.getLandCornerPositions();
+        landFields = board.getLandFieldPositions();
+        BoardLayout layout = board.getLayout();
+        layoutWidth = layout.getMaxXCoordinate() + 1;
+        List<List<Point>> neighbours = new ArrayList<>(
+                Collections.nCopies(layoutWidth * (layout.getMaxYCoordinate() + 1), null));
+        for (Point corner : landCorners) {
+            neighbours.set(corner.y * layoutWidth + corner.x, board.getNeighbourLandCorners(corner));
+        }
+        neighbourLandCorners = neighbours;
+        cachedLayout = layout;
+    }
+
+    /**
+     * Checks if the current player has the resources and a piece of the specified structure left.
+     *
+     * @param game specifies the game.
+     * @param structure specifies the structure.
+     * @return true if the current player can afford the structure, false otherwise.
+     */
+    protected static boolean canAfford(SiedlerGame game, Config.Structure structure) {
+        Player player = game.getCurrentPlayer();
+        return player.checkIfStructureAvailable(structure)
+                && player.checkIfEnoughOfAllResources(structure.getCostVector());
+    }
+
+    /**
+     * Tries to build a settlement on the specified corners, starting at the corner with the index offset
+     * and continuing in order. Stops at the first settlement which was built.
+     *
+     * @param game specifies the game.
+     * @param corners specifies the corners to try.
+     * @param offset specifies the index of the first corner to try.
+     * @return true if a settlement was built, false otherwise.
+     */
+    protected boolean tryBuildSettlement(SiedlerGame game, List<Point> corners, int offset) {
+        if (!canAfford(game, Config.Structure.SETTLEMENT) || !game.hasSettlementPosition()
+                || failedSettlementSearch.matches(game, corners)) {
+            return false;
+        }
+        int size = corners.size();
+        for (int i = 0, index = startIndex(offset, size); i < size; i++, index = nextIndex(index, size)) {
+            if (game.buildSettlement(corners.get(index))) {
+                return true;
+            }
+        }
+        failedSettlementSearch.remember(game, corners);
+        return false;
+    }
+
+    /**
+     * Tries to upgrade a settlement of the current player on the specified corners to a city, starting at
+     * the corner with the index offset and continuing in order. Stops at the first city which was built.
+     *
+     * @param game specifies the game.
+     * @param corners specifies the corners to try.
+     * @param offset specifies the index of the first corner to try.
+     * @return true if a city was built, false otherwise.
+     */
+    protected boolean tryBuildCity(SiedlerGame game, List<Point> corners, int offset) {
+        if (!canAfford(game, Config.Structure.CITY) || failedCitySearch.matches(game, corners)) {
+            return false;
+        }
+        Player player = game.getCurrentPlayer();
+        int size = corners.size();
+        for (int i = 0, index = startIndex(offset, size); i < size; i++, index = nextIndex(index, size)) {
+            Point corner = corners.get(index);
+            Settlement structure = game.getBoard().getCorner(corner);
+            if (structure != null && !(structure instanceof City) && structure.isOwnedBy(player)
+                    && game.buildCity(corner)) {
+                return true;
+            }
+        }
+        failedCitySearch.remember(game, corners);
+        return false;
+    }
+
+    /**
+     * Tries to build a road from one of the specified corners to a neighbouring land corner, starting at the
+     * corner with the index offset and continuing in order. Stops at the first road which was built.
+     *
+     * @param game specifies the game.
+     * @param corners specifies the corners to start the road from.
+     * @param offset specifies the index of the first corner to try.
+     * @return true if a road was built, false otherwise.
+     */
+    protected boolean tryBuildRoad(SiedlerGame game, List<Point> corners, int offset) {
+        if (!canAfford(game, Config.Structure.ROAD) || failedRoadSearch.matches(game, corners)) {
+            return false;
+        }
+        int size = corners.size();
+        for (int i = 0, index = startIndex(offset, size); i < size; i++, index = nextIndex(index, size)) {
+            Point corner = corners.get(index);
+            List<Point> neighbours = getNeighbourLandCorners(game.getBoard(), corner);
+            for (int j = 0; j < neighbours.size(); j++) {
+                if (game.buildRoad(corner, neighbours.get(j))) {
+                    return true;
+                }
+            }
+        }
+        failedRoadSearch.remember(game, corners);
+        return false;
+    }
+
+    /**
+     * Places an initial settlement on the first possible of the specified corners, starting at the corner with
+     * the index offset, and an initial road from this settlement to the first possible neighbouring corner.
+     *
+     * @param game specifies the game.
+     * @param corners specifies the corners to try.
+     * @param offset specifies the index of the first corner to try.
+     * @param payout specifies if the player gets the resources of the fields adjacent to the settlement.
+     * @return true if the settlement and the road were placed, false otherwise.
+     */
+    protected boolean placeInitialStructures(SiedlerGame game, List<Point> corners, int offset, boolean payout) {
+        int size = corners.size();
+        for (int i = 0, index = startIndex(offset, size); i < size; i++, index = nextIndex(index, size)) {
+            Point corner = corners.get(index);
+            if (game.placeInitialSettlement(corner, payout)) {
+                for (Point neighbour : getNeighbourLandCorners(game.getBoard(), corner)) {
+                    if (game.placeInitialRoad(corner, neighbour)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first corner to try, which is the offset wrapped around the number of corners.
+     */
+    private static int startIndex(int offset, int size) {
+        return size > 0 ? offset % size : 0;
+    }
+
+    /**
+     * Returns the index of the corner after the specified one, which wraps around to the first corner instead
+     * of dividing the index by the number of corners for every corner.
+     */
+    private static int nextIndex(int index, int size) {
+        return index + 1 < size ? index + 1 : 0;
+    }
+
+    /**
+     * Remembers the board, its modification count, the player and the corners of a search which found no
+     * position.
+     */
+    private static final class FailedSearch {
+        private SiedlerBoard board;
+        private long modification;
+        private Player player;
+        private List<Point> corners;
+
+        boolean matches(SiedlerGame game, List<Point> corners) {
+            return game.getBoard() == board && board.getModificationCount() == modification
+                    && game.getCurrentPlayer() == player && corners == this.corners;
+        }
+
+        void remember(SiedlerGame game, List<Point> corners) {
+            board = game.getBoard();
+            modification = board.getModificationCount();
+            player = game.getCurrentPlayer();
+            this.corners = corners;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the statistics of one game played by the {@link SimulationEngine}.
+ *
+ * @version 16.10.2026
+ */
+public final class GameResult {
+    private final long seed;
+    private final Config.Faction winner;
+    private final int turns;
+    private final Map<Config.Faction, Integer> winPoints;
+    private final Map<Config.Faction, Integer> resourcesReceived;
+
+    /**
+     * Constructs a new GameResult.
+     *
+     * @param seed specifies the seed the game was played with.
+     * @param winner specifies the winner or null, if the game ended without a winner.
+     * @param turns specifies the number of turns played after the founder's phase.
+     * @param winPoints specifies the win points of every player at the end of the game.
+     * @param resourcesReceived specifies the number of resource cards every player received from dice throws.
+     * @throws IllegalArgumentException if winPoints or resourcesReceived is null or turns is negative.
+     */
+    public GameResult(long seed, Config.Faction winner, int turns, Map<Config.Faction, Integer> winPoints,
+                      Map<Config.Faction, Integer> resourcesReceived) {
+        if (winPoints == null || resourcesReceived == null || turns < 0){
+            throw new IllegalArgumentException("Statistics must not be null and turns must not be negative!");
+        }
+        this.seed = seed;
+        this.winner = winner;
+        this.turns = turns;
+        this.winPoints = Collections.unmodifiableMap(new EnumMap<>(winPoints));
+        this.resourcesReceived = Collections.unmodifiableMap(new EnumMap<>(resourcesReceived));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the winner of the game.
+     *
+     * @return the winner or null, if the game reached the turn limit without a winner.
+     */
+    public Config.Faction getWinner() {
+        return winner;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public Map<Config.Faction, Integer> getWinPoints() {
+        return winPoints;
+    }
+
+    public Map<Config.Faction, Integer> getResourcesReceived() {
+        return resourcesReceived;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof GameResult other && seed == other.seed && winner == other.winner
+                && turns == other.turns && winPoints.equals(other.winPoints)
+                && resourcesReceived.equals(other.resourcesReceived);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(seed, winner, turns, winPoints, resourcesReceived);
+    }
+
+    @Override
+    public String toString() {
+        return "GameResult[seed=" + seed + ", winner=" + winner + ", turns=" + turns + ", winPoints=" + winPoints
+                + ", resourcesReceived=" + resourcesReceived + "]";
+    }
+}
@@ -0,0 +1,187 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.BoardLayout;
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.Field;
+import ch.zhaw.catan.Player;
+import ch.zhaw.catan.ResourceVector;
+import ch.zhaw.catan.Settlement;
+import ch.zhaw.catan.SiedlerBoard;
+import ch.zhaw.catan.SiedlerGame;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy which always takes the locally best decision.
+ * <p>
+ * Corners are rated by the probability of the dice values of their adjacent resource fields. The strategy
+ * places its settlements on the best rated free corners, upgrades to cities as soon as possible, builds
+ * settlements before roads and trades surplus resources for the resources it is missing for its next
+ * structure. The thief is placed on the field where it blocks the most production of the other players.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class GreedyStrategy extends AbstractPlayerStrategy {
+    private static final int TRADE_OFFER = 4;
+    private static final int MOST_LIKELY_DICE_VALUE = 7;
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+    private final int[] surplus = new int[RESOURCES.length];
+    private BoardLayout ratedLayout;
+    private List<Point> cornersByRating = Collections.emptyList();
+    private int[][] landFieldsOfCorners = new int[0][];
+    private int[] thiefRatings = new int[0];
+    private boolean[] ownFields = new boolean[0];
+
+    @Override
+    public void placeInitialStructures(SiedlerGame game, boolean payout, RandomGenerator random) {
+        rateLayout(game.getBoard());
+        placeInitialStructures(game, cornersByRating, 0, payout);
+    }
+
+    @Override
+    public Point chooseThiefPosition(SiedlerGame game, RandomGenerator random) {
+        SiedlerBoard board = game.getBoard();
+        rateLayout(board);
+        Player player = game.getCurrentPlayer();
+        // Rate all fields from the structures on the corners, which looks at every corner once instead of once
+        // for every field of the corner
+        List<Point> corners = getLandCorners(board);
+        Arrays.fill(thiefRatings, 0);
+        Arrays.fill(ownFields, false);
+        for (int i = 0; i < corners.size(); i++) {
+            Settlement structure = board.getCorner(corners.get(i));
+            if (structure == null) {
+                continue;
+            }
+            boolean own = structure.isOwnedBy(player);
+            for (int field : landFieldsOfCorners[i]) {
+                ownFields[field] |= own;
+                thiefRatings[field] += structure.getPayoutFactor();
+            }
+        }
+        List<Point> fields = getLandFields(board);
+        Point bestField = null;
+        int bestRating = -1;
+        for (int i = 0; i < fields.size(); i++) {
+            Point fieldPosition = fields.get(i);
+            int rating = ownFields[i] ? -1 : thiefRatings[i];
+            if (rating > bestRating && !board.getField(fieldPosition).hasThief()) {
+                bestField = fieldPosition;
+                bestRating = rating;
+            }
+        }
+        return new Point(bestField != null ? bestField : getLandFields(board).get(0));
+    }
+
+    @Override
+    public void playTurn(SiedlerGame game, RandomGenerator random) {
+        rateLayout(game.getBoard());
+        List<Point> corners = cornersByRating;
+        boolean acted = true;
+        while (acted && game.getWinner() == null) {
+            acted = tryBuildCity(game, corners, 0) || tryBuildSettlement(game, corners, 0);
+            if (!acted && (canAfford(game, Config.Structure.SETTLEMENT) || hasResourcesLeftAfterRoad(game))) {
+                acted = tryBuildRoad(game, corners, 0);
+            }
+            if (!acted) {
+                acted = tryTrade(game);
+            }
+        }
+    }
+
+    /**
+     * Checks if the player keeps the lumber and brick for a settlement after building a road. Otherwise,
+     * the strategy saves them for the next settlement.
+     */
+    private static boolean hasResourcesLeftAfterRoad(SiedlerGame game) {
+        ResourceVector roadCosts = Config.Structure.ROAD.getCostVector();
+        ResourceVector settlementCosts = Config.Structure.SETTLEMENT.getCostVector();
+        for (Config.Resource resource : RESOURCES) {
+            if (game.getCurrentPlayerResourceStock(resource)
+                    < roadCosts.get(resource) + settlementCosts.get(resource)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Trades four cards of a resource the player does not need for the next structure for a missing resource.
+     * The stock of every resource is read once, since the loops compare each resource with all others.
+     */
+    private boolean tryTrade(SiedlerGame game) {
+        Config.Structure target = game.getCurrentPlayer().checkIfStructureAvailable(Config.Structure.SETTLEMENT)
+                ? Config.Structure.SETTLEMENT : Config.Structure.CITY;
+        ResourceVector costs = target.getCostVector();
+        for (int i = 0; i < RESOURCES.length; i++) {
+            surplus[i] = game.getCurrentPlayerResourceStock(RESOURCES[i]) - costs.get(RESOURCES[i]);
+        }
+        for (int want = 0; want < RESOURCES.length; want++) {
+            if (surplus[want] >= 0) {
+                continue;
+            }
+            for (int offer = 0; offer < RESOURCES.length; offer++) {
+                if (surplus[offer] >= TRADE_OFFER) {
+                    return game.tradeWithBankFourToOne(RESOURCES[offer], RESOURCES[want]);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Orders the land corners of the board by their rating, the best rated corner first, and collects the
+     * indexes of the land fields of every land corner, in the order of the land corners. Both are calculated
+     * once per layout, since they only depend on the fields.
+     */
+    private void rateLayout(SiedlerBoard board) {
+        if (board.getLayout() == ratedLayout) {
+            return;
+        }
+        List<Point> fields = getLandFields(board);
+        Map<Field, Integer> fieldIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            fieldIndexes.put(board.getField(fields.get(i)), i);
+        }
+        Map<Point, Integer> ratings = new HashMap<>();
+        List<Point> landCorners = getLandCorners(board);
+        int[][] fieldsOfCorners = new int[landCorners.size()][];
+        for (int i = 0; i < landCorners.size(); i++) {
+            Point corner = landCorners.get(i);
+            ratings.put(corner, rateCorner(board, corner));
+            fieldsOfCorners[i] = board.getFields(corner).stream().filter(fieldIndexes::containsKey)
+                    .mapToInt(fieldIndexes::get).toArray();
+        }
+        List<Point> corners = new ArrayList<>(landCorners);
+        corners.sort(Comparator.comparing(ratings::get, Comparator.reverseOrder()));
+        cornersByRating = Collections.unmodifiableList(corners);
+        landFieldsOfCorners = fieldsOfCorners;
+        thiefRatings = new int[fields.size()];
+        ownFields = new boolean[fields.size()];
+        ratedLayout = board.getLayout();
+    }
+
+    /**
+     * Rates a corner by the number of dice combinations which produce a resource on one of its fields.
+     */
+    private static int rateCorner(SiedlerBoard board, Point corner) {
+        int rating = 0;
+        for (Field field : board.getFields(corner)) {
+            if (field.getLand().getResource() != null && field.getDiceValue() != MOST_LIKELY_DICE_VALUE
+                    && field.getDiceValue() >= Config.MIN_DICE_VALUE) {
+                rating += MOST_LIKELY_DICE_VALUE - Math.abs(MOST_LIKELY_DICE_VALUE - field.getDiceValue()) - 1;
+            }
+        }
+        return rating;
+    }
+}
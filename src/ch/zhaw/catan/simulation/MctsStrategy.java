@@ -0,0 +1,448 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.LegalMoveGenerator;
+import ch.zhaw.catan.MoveList;
+import ch.zhaw.catan.Player;
+import ch.zhaw.catan.SiedlerGame;
+import ch.zhaw.catan.UndoRecord;
+
+import java.awt.Point;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy which chooses its moves with a Monte Carlo tree search (MCTS).
+ * <p>
+ * The search tree contains the moves of the own turn: roads, settlements, cities, 4:1 trades and, after a 7,
+ * the placement of the thief. Ending the turn is a leaf of the tree, whose value is estimated by a rollout:
+ * the game is forked and played on for a few rounds by rollout strategies. A rollout is worth 1 if the player
+ * of the strategy wins, 0 if another player wins and otherwise depends on the difference between its win points
+ * and the win points of the best other player. The moves are taken with the make and unmake methods of the
+ * game, and states which are reached with the moves in a different order share their node through a
+ * transposition table keyed by {@link SiedlerGame#getStateHash()}.
+ * </p><p>
+ * The search is root parallel: each worker searches its own tree on its own fork of the game with its own
+ * random generator. The workers share no data, so the search scales with the number of cores. At the end the
+ * visits of the moves at the root are added up and the most visited move is made. With an iteration budget,
+ * the decisions only depend on the random generator of the game and not on the timing of the workers.
+ * </p><p>
+ * The initial settlements and roads are placed by a {@link GreedyStrategy}, which rates the corners by the
+ * dice values of their fields.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class MctsStrategy extends AbstractPlayerStrategy {
+    public static final int DEFAULT_ROLLOUT_ROUNDS = 4;
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+    private static final int MAX_MOVES_PER_TURN = 20;
+    private static final int MAX_NODES_PER_WORKER = 50_000;
+    private static final int NODE_MOVE_CAPACITY = 16;
+    private static final int END_TURN = -1;
+    private final int iterationsPerMove;
+    private final long nanosPerMove;
+    private final int parallelism;
+    private final Supplier<PlayerStrategy> rolloutStrategyFactory;
+    private final GreedyStrategy initialPlacement = new GreedyStrategy();
+    private final MoveList rootMoves = new MoveList();
+
+    /**
+     * Constructs a new MctsStrategy which searches the specified number of iterations per move on all
+     * available processors.
+     *
+     * @param iterationsPerMove specifies the number of rollouts per move, split among the workers.
+     * @throws IllegalArgumentException if iterationsPerMove is not positive.
+     */
+    public MctsStrategy(int iterationsPerMove) {
+        this(iterationsPerMove, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new MctsStrategy which searches the specified number of iterations per move.
+     *
+     * @param iterationsPerMove specifies the number of rollouts per move, split among the workers.
+     * @param parallelism specifies the number of workers which search in parallel.
+     * @throws IllegalArgumentException if iterationsPerMove or parallelism is not positive.
+     */
+    public MctsStrategy(int iterationsPerMove, int parallelism) {
+        this(iterationsPerMove, Long.MAX_VALUE, parallelism, RandomStrategy::new);
+    }
+
+    /**
+     * Constructs a new MctsStrategy which searches for the specified time per move.
+     *
+     * @param timePerMove specifies how long the workers search per move.
+     * @param parallelism specifies the number of workers which search in parallel.
+     * @throws IllegalArgumentException if timePerMove is null or not positive or parallelism is not positive.
+     */
+    public MctsStrategy(Duration timePerMove, int parallelism) {
+        this(Integer.MAX_VALUE, toNanos(timePerMove), parallelism, RandomStrategy::new);
+    }
+
+    /**
+     * Constructs a new MctsStrategy. The search of a move ends when the iterations are done or the time is up.
+     *
+     * @param iterationsPerMove specifies the number of rollouts per move, split among the workers.
+     * @param nanosPerMove specifies how long the workers search per move in nanoseconds.
+     * @param parallelism specifies the number of workers which search in parallel.
+     * @param rolloutStrategyFactory specifies the factory of the strategies which play the rollouts. Every worker
+     * gets its own strategy.
+     * @throws IllegalArgumentException if a number is not positive or rolloutStrategyFactory is null.
+     */
+    public MctsStrategy(int iterationsPerMove, long nanosPerMove, int parallelism,
+                        Supplier<PlayerStrategy> rolloutStrategyFactory) {
+        if (iterationsPerMove < 1 || nanosPerMove < 1 || parallelism < 1){
+            throw new IllegalArgumentException("Iterations, time and parallelism must be positive!");
+        }
+        if (rolloutStrategyFactory == null){
+            throw new IllegalArgumentException("RolloutStrategyFactory parameter must not be null!");
+        }
+        this.iterationsPerMove = iterationsPerMove;
+        this.nanosPerMove = nanosPerMove;
+        this.parallelism = parallelism;
+        this.rolloutStrategyFactory = rolloutStrategyFactory;
+    }
+
+    @Override
+    public void placeInitialStructures(SiedlerGame game, boolean payout, RandomGenerator random) {
+        initialPlacement.placeInitialStructures(game, payout, random);
+    }
+
+    @Override
+    public Point chooseThiefPosition(SiedlerGame game, RandomGenerator random) {
+        new LegalMoveGenerator(game).generateThiefPlacements(rootMoves);
+        int best = search(game, true, random);
+        return rootMoves.getPosition(best);
+    }
+
+    @Override
+    public void playTurn(SiedlerGame game, RandomGenerator random) {
+        LegalMoveGenerator generator = new LegalMoveGenerator(game);
+        for (int i = 0; i < MAX_MOVES_PER_TURN && game.getWinner() == null; i++) {
+            if (generator.generateBuildAndTradeMoves(rootMoves) == 0) {
+                return;
+            }
+            int best = search(game, false, random);
+            if (best == END_TURN || rootMoves.make(best, game) == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Searches the best of the root moves with all workers. The best move is the most visited one, on a tie
+     * the one with the higher average value.
+     *
+     * @return the index of the best root move or {@link #END_TURN}.
+     */
+    private int search(SiedlerGame game, boolean thiefPlacement, RandomGenerator random) {
+        long deadline = nanosPerMove == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + nanosPerMove;
+        List<SearchTask> tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            int iterations = iterationsPerMove / parallelism + (i < iterationsPerMove % parallelism ? 1 : 0);
+            SplittableRandom workerRandom = new SplittableRandom(random.nextLong());
+            tasks.add(new SearchTask(game.fork(workerRandom), thiefPlacement, Math.max(iterations, 1), deadline,
+                    workerRandom));
+        }
+        if (parallelism == 1) {
+            tasks.get(0).invoke();
+        } else {
+            ForkJoinTask.invokeAll(tasks);
+        }
+
+        int choices = rootMoves.size() + (thiefPlacement ? 0 : 1);
+        long[] visits = new long[choices];
+        double[] values = new double[choices];
+        for (SearchTask task : tasks) {
+            Node root = task.join();
+            for (int i = 0; i < choices; i++) {
+                visits[i] += root.moveVisits[i];
+                values[i] += root.moveValues[i];
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < choices; i++) {
+            if (visits[i] > visits[best]
+                    || (visits[i] == visits[best] && values[i] / visits[i] > values[best] / visits[best])) {
+                best = i;
+            }
+        }
+        return best == rootMoves.size() ? END_TURN : best;
+    }
+
+    private static long toNanos(Duration timePerMove) {
+        if (timePerMove == null || timePerMove.isNegative() || timePerMove.isZero()){
+            throw new IllegalArgumentException("TimePerMove parameter must be positive!");
+        }
+        return timePerMove.toNanos();
+    }
+
+    /**
+     * Node of the search tree. The moves of the node and the statistics of each move are created when the node
+     * is visited for the second time. The last entry of the statistics is ending the turn, unless the node is
+     * the placement of the thief.
+     */
+    private static final class Node {
+        private MoveList moves;
+        private int[] moveVisits;
+        private double[] moveValues;
+        private int visits;
+    }
+
+    /**
+     * Transposition table of a worker which maps the state hashes to the nodes. Like the coordinate storage of
+     * the board, the hashes are kept in a long array with open addressing and linear probing, so a lookup does
+     * not box the hash. Nodes are never removed, which keeps the probing simple.
+     */
+    private static final class TranspositionTable {
+        private static final int INITIAL_CAPACITY = 64;
+        private long[] hashes = new long[INITIAL_CAPACITY];
+        private boolean[] used = new boolean[INITIAL_CAPACITY];
+        private Node[] nodes = new Node[INITIAL_CAPACITY];
+        private int size;
+
+        private Node get(long hash) {
+            int index = indexOf(hash);
+            return used[index] ? nodes[index] : null;
+        }
+
+        private void put(long hash, Node node) {
+            int index = indexOf(hash);
+            if (!used[index]) {
+                if (2 * (size + 1) > hashes.length) {
+                    grow();
+                    index = indexOf(hash);
+                }
+                used[index] = true;
+                hashes[index] = hash;
+                size++;
+            }
+            nodes[index] = node;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        /**
+         * Returns the index of the hash, or the free index where it would be stored.
+         */
+        private int indexOf(long hash) {
+            int mask = hashes.length - 1;
+            long mixed = hash * 0x9E3779B97F4A7C15L;
+            int index = (int) (mixed ^ mixed >>> 32) & mask;
+            while (used[index] && hashes[index] != hash) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        private void grow() {
+            long[] oldHashes = hashes;
+            boolean[] oldUsed = used;
+            Node[] oldNodes = nodes;
+            hashes = new long[oldHashes.length * 2];
+            used = new boolean[oldHashes.length * 2];
+            nodes = new Node[oldHashes.length * 2];
+            for (int index = 0; index < oldHashes.length; index++) {
+                if (oldUsed[index]) {
+                    int newIndex = indexOf(oldHashes[index]);
+                    used[newIndex] = true;
+                    hashes[newIndex] = oldHashes[index];
+                    nodes[newIndex] = oldNodes[index];
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches one tree on its own fork of the game and returns its root with the statistics of the root moves.
+     * The task is never serialized.
+     */
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveTask<Node> {
+        private final SiedlerGame game;
+        private final boolean thiefPlacement;
+        private final int iterations;
+        private final long deadline;
+        private final SplittableRandom random;
+        private final Config.Faction faction;
+        private final LegalMoveGenerator generator;
+        private final PlayerStrategy rolloutStrategy = rolloutStrategyFactory.get();
+        private final TranspositionTable transpositions = new TranspositionTable();
+        private final Node[] pathNodes = new Node[MAX_MOVES_PER_TURN + 1];
+        private final int[] pathMoves = new int[MAX_MOVES_PER_TURN + 1];
+        private final UndoRecord[] records = new UndoRecord[MAX_MOVES_PER_TURN + 1];
+
+        private SearchTask(SiedlerGame game, boolean thiefPlacement, int iterations, long deadline,
+                           SplittableRandom random) {
+            this.game = game;
+            this.thiefPlacement = thiefPlacement;
+            this.iterations = iterations;
+            this.deadline = deadline;
+            this.random = random;
+            this.faction = game.getCurrentPlayerFaction();
+            this.generator = new LegalMoveGenerator(game);
+        }
+
+        @Override
+        protected Node compute() {
+            Node root = new Node();
+            expand(root, true);
+            transpositions.put(game.getStateHash(), root);
+            for (int i = 0; i < iterations && (i == 0 || System.nanoTime() < deadline); i++) {
+                iterate(root);
+            }
+            return root;
+        }
+
+        /**
+         * Selects moves down the tree until a new node or the end of the turn is reached, estimates the value
+         * with a rollout, adds it to the visited moves and takes the moves back.
+         */
+        private void iterate(Node root) {
+            Node node = root;
+            int depth = 0;
+            double value;
+            while (true) {
+                if (node.moves == null) {
+                    expand(node, false);
+                }
+                int move = select(node);
+                pathNodes[depth] = node;
+                pathMoves[depth] = move;
+                if (move == node.moves.size()) {
+                    depth++;
+                    value = rollout();
+                    break;
+                }
+                records[depth] = node.moves.make(move, game);
+                depth++;
+                if (records[depth - 1] == null) {
+                    value = rollout();
+                    break;
+                }
+                if (game.getWinner() != null) {
+                    value = game.getWinner() == faction ? 1 : 0;
+                    break;
+                }
+                if (depth == MAX_MOVES_PER_TURN) {
+                    value = rollout();
+                    break;
+                }
+                Node child = getNode(game.getStateHash());
+                if (child == null || child.visits == 0) {
+                    value = rollout();
+                    if (child != null) {
+                        child.visits++;
+                    }
+                    break;
+                }
+                node = child;
+            }
+
+            for (int i = depth - 1; i >= 0; i--) {
+                Node visited = pathNodes[i];
+                visited.visits++;
+                visited.moveVisits[pathMoves[i]]++;
+                visited.moveValues[pathMoves[i]] += value;
+                if (records[i] != null) {
+                    game.unmake(records[i]);
+                    records[i] = null;
+                }
+            }
+        }
+
+        private Node getNode(long hash) {
+            Node node = transpositions.get(hash);
+            if (node == null && transpositions.size() < MAX_NODES_PER_WORKER) {
+                node = new Node();
+                transpositions.put(hash, node);
+            }
+            return node;
+        }
+
+        private void expand(Node node, boolean root) {
+            node.moves = new MoveList(NODE_MOVE_CAPACITY);
+            int choices;
+            if (root && thiefPlacement) {
+                choices = generator.generateThiefPlacements(node.moves);
+            } else {
+                choices = generator.generateBuildAndTradeMoves(node.moves) + 1;
+            }
+            node.moveVisits = new int[choices];
+            node.moveValues = new double[choices];
+        }
+
+        /**
+         * Selects an unvisited move at random or, if all moves were visited, the move with the best upper
+         * confidence bound (UCB1).
+         */
+        private int select(Node node) {
+            int choices = node.moveVisits.length;
+            int offset = random.nextInt(choices);
+            for (int i = 0; i < choices; i++) {
+                int move = (offset + i) % choices;
+                if (node.moveVisits[move] == 0) {
+                    return move;
+                }
+            }
+            double logVisits = Math.log(node.visits);
+            int best = 0;
+            double bestBound = Double.NEGATIVE_INFINITY;
+            for (int move = 0; move < choices; move++) {
+                double bound = node.moveValues[move] / node.moveVisits[move]
+                        + DEFAULT_EXPLORATION * Math.sqrt(logVisits / node.moveVisits[move]);
+                if (bound > bestBound) {
+                    bestBound = bound;
+                    best = move;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Ends the turn on a fork of the game and plays the following rounds with the rollout strategy.
+         */
+        private double rollout() {
+            SiedlerGame rolloutGame = game.fork(random);
+            int turns = DEFAULT_ROLLOUT_ROUNDS * rolloutGame.getPlayerAmount();
+            for (int i = 0; i < turns && rolloutGame.getWinner() == null; i++) {
+                rolloutGame.switchToNextPlayer();
+                int dice = rolloutGame.rollDice();
+                rolloutGame.throwDice(dice);
+                if (dice == Config.DROP_CARDS_DICE_VALUE) {
+                    rolloutGame.placeThiefAndStealCard(rolloutStrategy.chooseThiefPosition(rolloutGame, random));
+                }
+                rolloutStrategy.playTurn(rolloutGame, random);
+            }
+            return evaluate(rolloutGame);
+        }
+
+        private double evaluate(SiedlerGame rolloutGame) {
+            Config.Faction winner = rolloutGame.getWinner();
+            if (winner != null) {
+                return winner == faction ? 1 : 0;
+            }
+            int ownPoints = 0;
+            int bestOtherPoints = 0;
+            for (int i = 0; i < rolloutGame.getPlayerAmount(); i++) {
+                Player player = rolloutGame.getCurrentPlayer();
+                if (player.getFaction() == faction) {
+                    ownPoints = player.getWinPoints();
+                } else {
+                    bestOtherPoints = Math.max(bestOtherPoints, player.getWinPoints());
+                }
+                rolloutGame.switchToNextPlayer();
+            }
+            return 0.5 + 0.5 * (ownPoints - bestOtherPoints) / rolloutGame.getRequiredWinPoints();
+        }
+    }
+}
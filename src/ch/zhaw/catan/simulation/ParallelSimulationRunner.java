@@ -0,0 +1,115 @@
+package ch.zhaw.catan.simulation;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Plays a series of independent games on all available cores.
+ * <p>
+ * The games are split recursively into tasks of a fork-join pool. Each task gets its own
+ * {@link SplittableRandom}, split off the generator of its parent task, from which the seeds of its games
+ * are drawn. Since the splitting only depends on the number of games, every game gets the same seed no
+ * matter how many threads play the series, and the merged report is identical for the same seed.
+ * </p><p>
+ * Strategies keep state between calls, so every worker thread plays its games with its own
+ * {@link SimulationEngine} created by the engine factory. A thread plays one game at a time, and creating the
+ * engine once per thread instead of once per task saves building its template game and the layout caches of
+ * its strategies again for every few games. The factory must return an engine with new strategy instances on
+ * every call.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class ParallelSimulationRunner {
+    private static final int GAMES_PER_TASK = 16;
+    private final Supplier<SimulationEngine> engineFactory;
+    private final int parallelism;
+
+    /**
+     * Constructs a new ParallelSimulationRunner which uses all available processors.
+     *
+     * @param engineFactory specifies the factory which creates an engine for each task.
+     * @throws IllegalArgumentException if engineFactory is null.
+     */
+    public ParallelSimulationRunner(Supplier<SimulationEngine> engineFactory) {
+        this(engineFactory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new ParallelSimulationRunner.
+     *
+     * @param engineFactory specifies the factory which creates an engine for each task.
+     * @param parallelism specifies the number of threads which play games.
+     * @throws IllegalArgumentException if engineFactory is null or parallelism is not positive.
+     */
+    public ParallelSimulationRunner(Supplier<SimulationEngine> engineFactory, int parallelism) {
+        if (engineFactory == null || parallelism < 1){
+            throw new IllegalArgumentException("EngineFactory must not be null and parallelism must be positive!");
+        }
+        this.engineFactory = engineFactory;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays a series of games in parallel and merges their results in the order of the games.
+     *
+     * @param numberOfGames specifies the number of games to be played.
+     * @param seed specifies the seed of the series.
+     * @return the report with the results of all games.
+     * @throws IllegalArgumentException if numberOfGames is negative.
+     */
+    public SimulationReport run(int numberOfGames, long seed) {
+        if (numberOfGames < 0){
+            throw new IllegalArgumentException("NumberOfGames parameter must not be negative!");
+        }
+        GameResult[] results = new GameResult[numberOfGames];
+        ThreadLocal<SimulationEngine> engines = ThreadLocal.withInitial(engineFactory);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new GamesTask(results, engines, 0, numberOfGames, new SplittableRandom(seed)));
+        } finally {
+            pool.shutdown();
+        }
+        return new SimulationReport(Arrays.asList(results), System.nanoTime() - start);
+    }
+
+    /**
+     * Plays the games from the index start (inclusive) to end (exclusive). The task is never serialized.
+     */
+    @SuppressWarnings("serial")
+    private final class GamesTask extends RecursiveAction {
+        private final GameResult[] results;
+        private final ThreadLocal<SimulationEngine> engines;
+        private final int start;
+        private final int end;
+        private final SplittableRandom seeds;
+
+        private GamesTask(GameResult[] results, ThreadLocal<SimulationEngine> engines, int start, int end,
+                          SplittableRandom seeds) {
+            this.results = results;
+            this.engines = engines;
+            this.start = start;
+            this.end = end;
+            this.seeds = seeds;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= GAMES_PER_TASK) {
+                SimulationEngine engine = engines.get();
+                for (int i = start; i < end; i++) {
+                    results[i] = engine.playGame(seeds.nextLong());
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            GamesTask first = new GamesTask(results, engines, start, middle, seeds.split());
+            GamesTask second = new GamesTask(results, engines, middle, end, seeds);
+            invokeAll(first, second);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.SiedlerGame;
+
+import java.awt.Point;
+import java.util.random.RandomGenerator;
+
+/**
+ * A strategy takes the decisions of one player in a game played by the {@link SimulationEngine}.
+ * <p>
+ * The engine calls the strategy only while the player of the strategy is the current player of the game.
+ * Strategies act through the public API of {@link SiedlerGame} and must use the passed random generator
+ * for all random decisions, so that a game can be repeated with the same seed.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public interface PlayerStrategy {
+
+    /**
+     * Places the initial settlement and the initial road of the current player in the founder's phase.
+     *
+     * @param game specifies the game.
+     * @param payout specifies if the player gets the resources of the fields adjacent to the settlement.
+     * @param random specifies the random generator of the game.
+     */
+    void placeInitialStructures(SiedlerGame game, boolean payout, RandomGenerator random);
+
+    /**
+     * Chooses the field on which the thief is placed after a 7 was thrown.
+     *
+     * @param game specifies the game.
+     * @param random specifies the random generator of the game.
+     * @return the position of a field which is not water.
+     */
+    Point chooseThiefPosition(SiedlerGame game, RandomGenerator random);
+
+    /**
+     * Builds and trades during the build and trade phase of the current player. The engine switches to
+     * the next player after this method returns.
+     *
+     * @param game specifies the game.
+     * @param random specifies the random generator of the game.
+     */
+    void playTurn(SiedlerGame game, RandomGenerator random);
+}
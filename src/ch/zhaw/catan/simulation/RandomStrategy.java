@@ -0,0 +1,75 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.SiedlerGame;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy which takes random decisions among the possible ones. In its build and trade phase it keeps
+ * building and trading in random order until no further action is possible.
+ *
+ * @version 16.10.2026
+ */
+public class RandomStrategy extends AbstractPlayerStrategy {
+    private static final int ACTION_COUNT = 4;
+    private static final int TRADE_OFFER = 4;
+    private static final Config.Resource[] RESOURCES = Config.Resource.values();
+
+    @Override
+    public void placeInitialStructures(SiedlerGame game, boolean payout, RandomGenerator random) {
+        List<Point> corners = getLandCorners(game.getBoard());
+        placeInitialStructures(game, corners, random.nextInt(corners.size()), payout);
+    }
+
+    @Override
+    public Point chooseThiefPosition(SiedlerGame game, RandomGenerator random) {
+        List<Point> fields = getLandFields(game.getBoard());
+        return new Point(fields.get(random.nextInt(fields.size())));
+    }
+
+    @Override
+    public void playTurn(SiedlerGame game, RandomGenerator random) {
+        boolean acted = true;
+        while (acted && game.getWinner() == null) {
+            acted = false;
+            int firstAction = random.nextInt(ACTION_COUNT);
+            for (int i = 0; i < ACTION_COUNT && !acted; i++) {
+                acted = performAction((firstAction + i) % ACTION_COUNT, game, random);
+            }
+        }
+    }
+
+    private boolean performAction(int action, SiedlerGame game, RandomGenerator random) {
+        List<Point> corners = getLandCorners(game.getBoard());
+        int offset = random.nextInt(corners.size());
+        return switch (action) {
+            case 0 -> tryBuildCity(game, corners, offset);
+            case 1 -> tryBuildSettlement(game, corners, offset);
+            case 2 -> tryBuildRoad(game, corners, offset);
+            default -> tryTrade(game, random);
+        };
+    }
+
+    /**
+     * Trades a random resource the player has at least four of for another random resource, but only if the
+     * player would have to drop cards when a 7 is thrown.
+     */
+    private boolean tryTrade(SiedlerGame game, RandomGenerator random) {
+        if (game.getCurrentPlayer().getTotalResourceCount() <= Config.MAX_CARDS_IN_HAND_NO_DROP) {
+            return false;
+        }
+        int offset = random.nextInt(RESOURCES.length);
+        for (int i = 0; i < RESOURCES.length; i++) {
+            Config.Resource offer = RESOURCES[(offset + i) % RESOURCES.length];
+            if (game.getCurrentPlayerResourceStock(offer) >= TRADE_OFFER) {
+                Config.Resource want = RESOURCES[(offset + i + 1 + random.nextInt(RESOURCES.length - 1))
+                        % RESOURCES.length];
+                return game.tradeWithBankFourToOne(offer, want);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.SiedlerGame;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays complete games of {@link SiedlerGame} without any user interaction.
+ * <p>
+ * The engine follows the same sequence as the game phases of the text based game: the founder's phase with
+ * the initial settlements and roads in ascending and descending order, followed by turns which consist of
+ * a dice throw, the placement of the thief if a 7 was thrown, and the build and trade phase. All decisions
+ * are taken by the {@link PlayerStrategy} of the current player. Nothing is printed to the console.
+ * </p><p>
+ * Every game is played with a random generator created from a seed, which is used for the dice, the random
+ * decisions of the game itself and passed to the strategies. Therefore, a game played with the same seed
+ * and strategies always has the same result. A game ends when a player reaches the required win points or after the maximum number
+ * of turns.
+ * </p><p>
+ * The engine sets up a new game once and starts every game as a {@link SiedlerGame#fork(RandomGenerator) fork}
+ * of it, so the board is not built again for every game.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class SimulationEngine {
+    public static final int DEFAULT_MAX_TURNS = 1000;
+    private final int winPoints;
+    private final List<PlayerStrategy> strategies;
+    private final int maxTurns;
+    private final SiedlerGame template;
+
+    /**
+     * Constructs a new SimulationEngine with the default maximum number of turns per game.
+     *
+     * @param winPoints specifies the number of points required to win a game.
+     * @param strategies specifies the strategy of each player in the order in which they play.
+     * @throws IllegalArgumentException if the win points or number of strategies are not in valid range or
+     * a strategy is null.
+     */
+    public SimulationEngine(int winPoints, List<PlayerStrategy> strategies) {
+        this(winPoints, strategies, DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Constructs a new SimulationEngine.
+     *
+     * @param winPoints specifies the number of points required to win a game.
+     * @param strategies specifies the strategy of each player in the order in which they play.
+     * @param maxTurns specifies the number of turns after which a game ends without a winner.
+     * @throws IllegalArgumentException if the win points, number of strategies or maximum number of turns are
+     * not in valid range or a strategy is null.
+     */
+    public SimulationEngine(int winPoints, List<PlayerStrategy> strategies, int maxTurns) {
+        if (winPoints < Config.MIN_WIN_POINTS || winPoints > Config.MAX_WIN_POINTS){
+            throw new IllegalArgumentException("WinPoints parameter is not in valid range!");
+        }
+        if (strategies == null || strategies.size() < Config.MIN_NUMBER_OF_PLAYERS
+                || strategies.size() > Config.MAX_NUMBER_OF_PLAYERS){
+            throw new IllegalArgumentException("There must be a strategy for each player!");
+        }
+        for (PlayerStrategy strategy : strategies) {
+            if (strategy == null){
+                throw new IllegalArgumentException("Strategies must not be null!");
+            }
+        }
+        if (maxTurns < 1){
+            throw new IllegalArgumentException("MaxTurns parameter must be positive!");
+        }
+        this.winPoints = winPoints;
+        this.strategies = List.copyOf(strategies);
+        this.maxTurns = maxTurns;
+        template = new SiedlerGame(winPoints, strategies.size(), new SplittableRandom(0L));
+    }
+
+    /**
+     * Plays a series of games. The seed of each game is derived from the specified seed.
+     *
+     * @param numberOfGames specifies the number of games to be played.
+     * @param seed specifies the seed of the series.
+     * @return the report with the results of all games.
+     * @throws IllegalArgumentException if numberOfGames is negative.
+     */
+    public SimulationReport run(int numberOfGames, long seed) {
+        if (numberOfGames < 0){
+            throw new IllegalArgumentException("NumberOfGames parameter must not be negative!");
+        }
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<GameResult> results = new ArrayList<>(numberOfGames);
+        long start = System.nanoTime();
+        for (int i = 0; i < numberOfGames; i++) {
+            results.add(playGame(seeds.nextLong()));
+        }
+        return new SimulationReport(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Plays one game.
+     *
+     * @param seed specifies the seed of the random generator of the game.
+     * @return the result of the game.
+     * @throws IllegalStateException if a strategy chooses an invalid thief position.
+     */
+    public GameResult playGame(long seed) {
+        RandomGenerator random = new SplittableRandom(seed);
+        SiedlerGame game = template.fork(random);
+        int[] resourcesReceived = new int[strategies.size()];
+        int[] cardsReceived = new int[strategies.size()];
+
+        playFoundersPhase(game, random);
+        int turns = 0;
+        while (game.getWinner() == null && turns < maxTurns) {
+            playTurn(game, random, resourcesReceived, cardsReceived);
+            turns++;
+        }
+        Map<Config.Faction, Integer> resourcesPerFaction = new EnumMap<>(Config.Faction.class);
+        List<Config.Faction> factions = game.getPlayerFactions();
+        for (int i = 0; i < factions.size(); i++) {
+            resourcesPerFaction.put(factions.get(i), resourcesReceived[i]);
+        }
+        return new GameResult(seed, game.getWinner(), turns, game.getScoreboard(), resourcesPerFaction);
+    }
+
+    private void playFoundersPhase(SiedlerGame game, RandomGenerator random) {
+        int playerAmount = game.getPlayerAmount();
+        for (int i = 0; i < playerAmount; i++) {
+            getCurrentStrategy(game).placeInitialStructures(game, false, random);
+            if (i != playerAmount - 1) {
+                game.switchToNextPlayer();
+            }
+        }
+        for (int i = playerAmount; i > 0; i--) {
+            getCurrentStrategy(game).placeInitialStructures(game, true, random);
+            if (i != 1) {
+                game.switchToPreviousPlayer();
+            }
+        }
+    }
+
+    private void playTurn(SiedlerGame game, RandomGenerator random, int[] resourcesReceived, int[] cardsReceived) {
+        PlayerStrategy strategy = getCurrentStrategy(game);
+        int dice = game.rollDice();
+        game.throwDice(dice, cardsReceived);
+        for (int i = 0; i < resourcesReceived.length; i++) {
+            resourcesReceived[i] += cardsReceived[i];
+        }
+
+        if (dice == Config.DROP_CARDS_DICE_VALUE) {
+            Point thiefPosition = strategy.chooseThiefPosition(game, random);
+            if (thiefPosition == null || !game.placeThiefAndStealCard(thiefPosition)) {
+                throw new IllegalStateException("Strategy chose an invalid thief position: " + thiefPosition);
+            }
+        }
+
+        strategy.playTurn(game, random);
+        if (game.getWinner() == null) {
+            game.switchToNextPlayer();
+        }
+    }
+
+    private PlayerStrategy getCurrentStrategy(SiedlerGame game) {
+        return strategies.get(game.getCurrentPlayerIndex());
+    }
+}
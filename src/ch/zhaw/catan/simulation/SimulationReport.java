@@ -0,0 +1,161 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Summarizes a series of games played by the {@link SimulationEngine}.
+ *
+ * @version 16.10.2026
+ */
+public final class SimulationReport {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private final List<GameResult> results;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new SimulationReport.
+     *
+     * @param results specifies the results of the played games.
+     * @param elapsedNanos specifies the time it took to play the games in nanoseconds.
+     * @throws IllegalArgumentException if results is null or elapsedNanos is negative.
+     */
+    public SimulationReport(List<GameResult> results, long elapsedNanos) {
+        if (results == null || elapsedNanos < 0){
+            throw new IllegalArgumentException("Results must not be null and the time must not be negative!");
+        }
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    public int getGameCount() {
+        return results.size();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of games played per second.
+     *
+     * @return the games per second or 0, if no time was measured.
+     */
+    public double getGamesPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0;
+        }
+        return results.size() * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * Returns the number of games won by the specified faction.
+     *
+     * @param faction specifies the faction.
+     * @return the number of games won.
+     */
+    public int getWins(Config.Faction faction) {
+        int wins = 0;
+        for (GameResult result : results) {
+            if (result.getWinner() == faction) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Returns the share of the games won by the specified faction.
+     *
+     * @param faction specifies the faction.
+     * @return the win rate between 0 and 1 or 0, if no game was played.
+     */
+    public double getWinRate(Config.Faction faction) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        return (double) getWins(faction) / results.size();
+    }
+
+    /**
+     * Returns the number of resource cards the specified faction received from dice throws in all games.
+     *
+     * @param faction specifies the faction.
+     * @return the total number of resource cards received.
+     */
+    public long getTotalResourcesReceived(Config.Faction faction) {
+        long total = 0;
+        for (GameResult result : results) {
+            total += result.getResourcesReceived().getOrDefault(faction, 0);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the distribution of the game lengths. The games are counted in buckets of the specified
+     * number of turns, e.g. with a bucket size of 10 a game with 57 turns is counted in the bucket 50.
+     *
+     * @param bucketSize specifies the number of turns per bucket.
+     * @return the number of games per bucket, ordered by the first turn of the bucket.
+     * @throws IllegalArgumentException if bucketSize is not positive.
+     */
+    public SortedMap<Integer, Integer> getTurnDistribution(int bucketSize) {
+        if (bucketSize < 1){
+            throw new IllegalArgumentException("BucketSize parameter must be positive!");
+        }
+        SortedMap<Integer, Integer> distribution = new TreeMap<>();
+        for (GameResult result : results) {
+            distribution.merge(result.getTurns() / bucketSize * bucketSize, 1, Integer::sum);
+        }
+        return distribution;
+    }
+
+    /**
+     * Returns the number of games which reached the turn limit without a winner.
+     *
+     * @return the number of games without a winner.
+     */
+    public int getGamesWithoutWinner() {
+        return getWins(null);
+    }
+
+    /**
+     * Returns the average number of turns per game.
+     *
+     * @return the average number of turns or 0, if no game was played.
+     */
+    public double getAverageTurns() {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        long turns = 0;
+        for (GameResult result : results) {
+            turns += result.getTurns();
+        }
+        return (double) turns / results.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d games in %.1f ms (%.0f games/s), %.1f turns per game on average%n",
+                results.size(), elapsedNanos / 1_000_000.0, getGamesPerSecond(), getAverageTurns()));
+        for (Config.Faction faction : Config.Faction.values()) {
+            int wins = getWins(faction);
+            if (wins > 0 || getTotalResourcesReceived(faction) > 0) {
+                report.append(String.format("  %s won %d games (%.1f%%), received %d resource cards%n",
+                        faction, wins, getWinRate(faction) * 100, getTotalResourcesReceived(faction)));
+            }
+        }
+        report.append(String.format("  %d games without winner%n", getGamesWithoutWinner()));
+        return report.toString();
+    }
+}
@@ -0,0 +1,199 @@
+package ch.zhaw.hexboard;
+
+import java.io.IOException;
+
+/**
+ * This class sends the textual representation of a
+ * {@link ch.zhaw.hexboard.HexBoardTextView} to one terminal which understands
+ * ANSI escape sequences.
+ * <p>
+ * The renderer remembers the last frame it has sent. The first frame clears
+ * the screen and is sent completely. Afterwards, only the characters that
+ * changed are sent, each run of changed characters preceded by a cursor
+ * movement to its position. Changed characters which are only a few
+ * characters apart are sent as one run, because the cursor movement would be
+ * longer than the unchanged characters in between. Lines which became shorter
+ * are erased to their end.
+ * </p>
+ * <p>
+ * Each terminal needs its own renderer, while all renderers of a board can
+ * share the same view, whose text is only created once per change. If the
+ * board did not change, nothing is sent. If something else was written to the
+ * terminal, {@link #reset()} makes the renderer send the next frame
+ * completely.
+ * </p>
+ */
+public class AnsiDiffRenderer {
+  private static final String ESCAPE = "\u001B[";
+  private static final String CLEAR_SCREEN = ESCAPE + "2J";
+  private static final String ERASE_LINE_END = ESCAPE + "K";
+  private static final String ERASE_SCREEN_END = ESCAPE + "J";
+  /**
+   * Number of unchanged characters up to which two runs of changed characters
+   * are joined, which is about the length of a cursor movement.
+   */
+  private static final int MAX_GAP = 8;
+  private final HexBoardTextView<?, ?, ?, ?> view;
+  private final int originRow;
+  private final int originColumn;
+  private String lastFrame;
+  private int written;
+
+  /**
+   * Creates a renderer which draws the board in the upper left corner of the
+   * terminal.
+   *
+   * @param view the view of the board
+   * @throws IllegalArgumentException if view is null
+   */
+  public AnsiDiffRenderer(HexBoardTextView<?, ?, ?, ?> view) {
+    this(view, 1, 1);
+  }
+
+  /**
+   * Creates a renderer which draws the board at the specified position of the
+   * terminal.
+   *
+   * @param view         the view of the board
+   * @param originRow    the row of the terminal (starting at 1) in which the
+   *                     first line is drawn
+   * @param originColumn the column of the terminal (starting at 1) in which the
+   *                     lines start
+   * @throws IllegalArgumentException if view is null or the origin is not
+   *                                  positive
+   */
+  public AnsiDiffRenderer(HexBoardTextView<?, ?, ?, ?> view, int originRow, int originColumn) {
+    if (view == null || originRow < 1 || originColumn < 1) {
+      throw new IllegalArgumentException("View must not be null and origin must be positive.");
+    }
+    this.view = view;
+    this.originRow = originRow;
+    this.originColumn = originColumn;
+  }
+
+  /**
+   * Makes the renderer clear the screen and send the next frame completely.
+   */
+  public void reset() {
+    lastFrame = null;
+  }
+
+  /**
+   * Sends the changes of the board since the last frame to the terminal.
+   *
+   * @param out the terminal
+   * @return the number of characters sent
+   * @throws IOException              if the terminal can not be written
+   * @throws IllegalArgumentException if out is null
+   */
+  public int render(Appendable out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Terminal must not be null.");
+    }
+    String frame = view.toString();
+    if (frame == lastFrame) {
+      return 0;
+    }
+    written = 0;
+    String previous = lastFrame == null ? "" : lastFrame;
+    if (lastFrame == null) {
+      append(out, CLEAR_SCREEN);
+    }
+    int row = 0;
+    int position = 0;
+    int previousPosition = 0;
+    while (position < frame.length() || previousPosition < previous.length()) {
+      int end = lineEnd(frame, position);
+      int previousEnd = lineEnd(previous, previousPosition);
+      if (position >= frame.length()) {
+        // the new frame has fewer lines
+        moveTo(out, row, 0);
+        append(out, ERASE_SCREEN_END);
+        break;
+      }
+      renderLine(out, row, frame, position, end, previous, previousPosition, previousEnd);
+      position = nextLine(frame, end);
+      previousPosition = nextLine(previous, previousEnd);
+      row++;
+    }
+    lastFrame = frame;
+    return written;
+  }
+
+  private void renderLine(Appendable out, int row, String frame, int start, int end,
+      String previous, int previousStart, int previousEnd) throws IOException {
+    int length = end - start;
+    int previousLength = previousEnd - previousStart;
+    int common = Math.min(length, previousLength);
+    int column = 0;
+    while (column < length) {
+      if (column < common && frame.charAt(start + column) == previous.charAt(previousStart + column)) {
+        column++;
+        continue;
+      }
+      int runStart = column;
+      int runEnd = column + 1;
+      int gap = 0;
+      for (int i = runEnd; i < length && gap <= MAX_GAP; i++) {
+        if (i >= common || frame.charAt(start + i) != previous.charAt(previousStart + i)) {
+          runEnd = i + 1;
+          gap = 0;
+        } else {
+          gap++;
+        }
+      }
+      moveTo(out, row, runStart);
+      append(out, frame, start + runStart, start + runEnd);
+      column = runEnd;
+    }
+    if (length < previousLength) {
+      moveTo(out, row, length);
+      append(out, ERASE_LINE_END);
+    }
+  }
+
+  private static int lineEnd(String text, int position) {
+    int end = text.indexOf('\n', position);
+    if (end < 0) {
+      end = text.length();
+    }
+    return end > position && text.charAt(end - 1) == '\r' ? end - 1 : end;
+  }
+
+  private static int nextLine(String text, int end) {
+    if (end < text.length() && text.charAt(end) == '\r') {
+      end++;
+    }
+    return Math.min(end + 1, text.length());
+  }
+
+  private void moveTo(Appendable out, int row, int column) throws IOException {
+    append(out, ESCAPE);
+    appendNumber(out, originRow + row);
+    out.append(';');
+    appendNumber(out, originColumn + column);
+    out.append('H');
+    written += 2;
+  }
+
+  private void appendNumber(Appendable out, int number) throws IOException {
+    int divisor = 1;
+    while (divisor <= number / 10) {
+      divisor *= 10;
+    }
+    for (; divisor > 0; divisor /= 10) {
+      out.append((char) ('0' + number / divisor % 10));
+      written++;
+    }
+  }
+
+  private void append(Appendable out, String text) throws IOException {
+    out.append(text);
+    written += text.length();
+  }
+
+  private void append(Appendable out, String text, int start, int end) throws IOException {
+    out.append(text, start, end);
+    written += end - start;
+  }
+}
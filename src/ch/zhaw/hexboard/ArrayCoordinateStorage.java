@@ -0,0 +1,169 @@
+package ch.zhaw.hexboard;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link CoordinateStorage} which keeps the entries in flat arrays indexed by the
+ * packed coordinate <code>y * width + x</code>.
+ * <p>
+ * Lookups are plain array accesses and do not allocate. The arrays grow when an
+ * entry is stored outside the current bounds. Negative coordinates cannot be
+ * stored.
+ * </p>
+ * <p>
+ * A copy shares the array which marks the stored coordinates with the original
+ * until one of them stores a new coordinate, since copies of a board usually only
+ * change the values of existing coordinates. The storage counts its non-null
+ * values, so a copy of a storage without values, e.g. the edges of a new board,
+ * neither copies nor scans the values.
+ * </p>
+ *
+ * @param <V> Data type of the stored values
+ */
+final class ArrayCoordinateStorage<V> implements CoordinateStorage<V> {
+  private static final int DEFAULT_WIDTH = 16;
+  private static final int DEFAULT_HEIGHT = 24;
+  private int width;
+  private int height;
+  private Object[] values;
+  private boolean[] present;
+  private boolean presentShared;
+  private int size;
+  private int valueCount;
+
+  /**
+   * Creates an empty storage with a default capacity.
+   */
+  ArrayCoordinateStorage() {
+    this(DEFAULT_WIDTH, DEFAULT_HEIGHT);
+  }
+
+  /**
+   * Creates an empty storage that can hold the coordinates
+   * (0..width-1, 0..height-1) without growing.
+   *
+   * @param width  the initial width
+   * @param height the initial height
+   * @throws IllegalArgumentException if width or height is not positive
+   */
+  ArrayCoordinateStorage(int width, int height) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("Width and height must be positive.");
+    }
+    this.width = width;
+    this.height = height;
+    this.values = new Object[width * height];
+    this.present = new boolean[width * height];
+  }
+
+  @Override
+  public boolean contains(int x, int y) {
+    return isInBounds(x, y) && present[y * width + x];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(int x, int y) {
+    if (!isInBounds(x, y)) {
+      return null;
+    }
+    return (V) values[y * width + x];
+  }
+
+  @Override
+  public void put(int x, int y, V value) {
+    if (x < 0 || y < 0) {
+      throw new IllegalArgumentException(
+          "Negative coordinates cannot be stored - (" + x + ", " + y + ")");
+    }
+    if (!isInBounds(x, y)) {
+      grow(x, y);
+    }
+    int index = y * width + x;
+    if (!present[index]) {
+      if (presentShared) {
+        present = present.clone();
+        presentShared = false;
+      }
+      present[index] = true;
+      size++;
+    }
+    valueCount += (value != null ? 1 : 0) - (values[index] != null ? 1 : 0);
+    values[index] = value;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(EntryConsumer<? super V> consumer) {
+    for (int index = 0; index < present.length; index++) {
+      if (present[index]) {
+        consumer.accept(index % width, index / width, (V) values[index]);
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ArrayCoordinateStorage<V> copy(UnaryOperator<V> valueCopier) {
+    ArrayCoordinateStorage<V> copy = new ArrayCoordinateStorage<>(this);
+    if (valueCount == 0) {
+      return copy;
+    }
+    Object[] copiedValues = copy.values;
+    for (int index = 0; index < copiedValues.length; index++) {
+      Object value = copiedValues[index];
+      if (value != null) {
+        copiedValues[index] = valueCopier.apply((V) value);
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a copy which shares the marks of the stored coordinates with the
+   * original, the values are set by {@link #copy(UnaryOperator)}.
+   */
+  private ArrayCoordinateStorage(ArrayCoordinateStorage<V> original) {
+    width = original.width;
+    height = original.height;
+    values = original.valueCount == 0 ? new Object[original.values.length] : original.values.clone();
+    present = original.present;
+    size = original.size;
+    valueCount = original.valueCount;
+    presentShared = true;
+    original.presentShared = true;
+  }
+
+  /**
+   * Creates an empty storage which holds at least the specified coordinates
+   * without growing.
+   */
+  static <V> ArrayCoordinateStorage<V> withMinimumSize(int width, int height) {
+    return new ArrayCoordinateStorage<>(Math.max(width, DEFAULT_WIDTH), Math.max(height, DEFAULT_HEIGHT));
+  }
+
+  private boolean isInBounds(int x, int y) {
+    return x >= 0 && y >= 0 && x < width && y < height;
+  }
+
+  private void grow(int x, int y) {
+    int newWidth = x < width ? width : Math.max(x + 1, width * 2);
+    int newHeight = y < height ? height : Math.max(y + 1, height * 2);
+    Object[] newValues = new Object[newWidth * newHeight];
+    boolean[] newPresent = new boolean[newWidth * newHeight];
+    for (int row = 0; row < height; row++) {
+      System.arraycopy(values, row * width, newValues, row * newWidth, width);
+      System.arraycopy(present, row * width, newPresent, row * newWidth, width);
+    }
+    width = newWidth;
+    height = newHeight;
+    values = newValues;
+    present = newPresent;
+    presentShared = false;
+  }
+}
@@ -0,0 +1,83 @@
+package ch.zhaw.hexboard;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * This interface models the storage backend used by {@link HexBoard} to keep the
+ * data objects of fields, corners and edges.
+ * <p>
+ * Entries are addressed by their (x, y) coordinate on the grid defined by
+ * {@link HexBoard}. An entry can exist without having a data object associated
+ * with it (value null), which is why existence is tracked separately from the
+ * stored value.
+ * </p>
+ * <p>
+ * Implementations must not allocate objects when looking up entries, as these
+ * operations are called for almost every move that is validated on the board.
+ * </p>
+ *
+ * @param <V> Data type of the stored values
+ */
+interface CoordinateStorage<V> {
+
+  /**
+   * Checks whether an entry exists at the specified coordinate.
+   *
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @return true, if an entry exists (its value might still be null)
+   */
+  boolean contains(int x, int y);
+
+  /**
+   * Returns the value stored at the specified coordinate.
+   *
+   * @param x the x coordinate
+   * @param y the y coordinate
+   * @return the stored value or null, if there is no value or no entry
+   */
+  V get(int x, int y);
+
+  /**
+   * Creates or updates the entry at the specified coordinate.
+   *
+   * @param x     the x coordinate
+   * @param y     the y coordinate
+   * @param value the value (may be null)
+   * @throws IllegalArgumentException if the storage cannot hold the coordinate
+   */
+  void put(int x, int y, V value);
+
+  /**
+   * Returns the number of entries.
+   *
+   * @return the number of entries
+   */
+  int size();
+
+  /**
+   * Calls the consumer for each entry of the storage.
+   *
+   * @param consumer the consumer
+   */
+  void forEach(EntryConsumer<? super V> consumer);
+
+  /**
+   * Creates a copy of the storage with the same entries. Non-null values are
+   * copied with the specified function, null values are kept.
+   *
+   * @param valueCopier the function which copies a value
+   * @return the copy
+   */
+  CoordinateStorage<V> copy(UnaryOperator<V> valueCopier);
+
+  /**
+   * Callback used to iterate over the entries of a {@link CoordinateStorage}.
+   *
+   * @param <V> Data type of the stored values
+   */
+  @FunctionalInterface
+  interface EntryConsumer<V> {
+    void accept(int x, int y, V value);
+  }
+}
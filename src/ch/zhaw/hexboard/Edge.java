@@ -25,31 +25,59 @@ final class Edge {
    *                                  by @see ch.zhaw.hexboard.HexBoard
    */
   public Edge(Point p1, Point p2) {
+    this(p1, p2, true);
+  }
+
+  private Edge(Point p1, Point p2, boolean copy) {
     if (Edge.isEdge(p1, p2)) {
+      Point first = p1;
+      Point second = p2;
       if (p1.x > p2.x || (p1.x == p2.x && p1.y > p2.y)) {
-        this.start = new Point(p2);
-        this.end = new Point(p1);
-      } else {
-        this.start = new Point(p1);
-        this.end = new Point(p2);
+        first = p2;
+        second = p1;
       }
+      this.start = copy ? new Point(first) : first;
+      this.end = copy ? new Point(second) : second;
     } else {
       throw new IllegalArgumentException(
           "Coordinates " + p1 + " and " + p2 + " are not coordinates of an edge.");
     }
   }
 
+  /**
+   * Creates an edge between two interned corner points of a board. In contrast
+   * to the constructor, the points are not copied, so the edges of a corner
+   * share the point of the corner.
+   * 
+   * @param p1 first point
+   * @param p2 second point
+   * @return the edge
+   * @throws IllegalArgumentException if the points are not a valid edge
+   */
+  static Edge ofInterned(Point p1, Point p2) {
+    return new Edge(p1, p2, false);
+  }
+
   static boolean isEdge(Point p1, Point p2) {
-    boolean isEdge = false;
-    if (p1 != null && p2 != null && HexBoard.isCornerCoordinate(p1)
-        && HexBoard.isCornerCoordinate(p2)) {
-      int xdistance = Math.abs(p1.x - p2.x);
-      int ydistance = Math.abs(p1.y - p2.y);
-      boolean isVerticalEdge = xdistance == 0 && ydistance == 2;
-      boolean isDiagonalEdge = xdistance == 1 && ydistance == 1;
-      isEdge = isVerticalEdge || isDiagonalEdge;
-    }
-    return isEdge;
+    return p1 != null && p2 != null && isEdge(p1.x, p1.y, p2.x, p2.y);
+  }
+
+  static boolean isEdge(int x1, int y1, int x2, int y2) {
+    // The distance is checked first, it is cheaper than the corner checks
+    int xdistance = Math.abs(x1 - x2);
+    int ydistance = Math.abs(y1 - y2);
+    boolean isVerticalEdge = xdistance == 0 && ydistance == 2;
+    boolean isDiagonalEdge = xdistance == 1 && ydistance == 1;
+    return (isVerticalEdge || isDiagonalEdge) && HexBoard.isCornerCoordinate(x1, y1)
+        && HexBoard.isCornerCoordinate(x2, y2);
+  }
+
+  Point getStart() {
+    return start;
+  }
+
+  Point getEnd() {
+    return end;
   }
 
   public boolean isEdgePoint(Point p1) {
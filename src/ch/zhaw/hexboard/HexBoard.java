@@ -1,14 +1,15 @@
 package ch.zhaw.hexboard;
 
 import java.awt.Point;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /***
  * <p>
@@ -42,7 +43,13 @@ import java.util.Set;
  * <p>
  * Fields <strong>F</strong> and corners <strong>C</strong> can be retrieved
  * using their coordinates ({@link java.awt.Point}) on the board. Edges can be
- * retrieved using the coordinates of the two corners they connect.
+ * retrieved using the coordinates of the two corners they connect. The most
+ * frequently used methods are also available for coordinates packed into an
+ * <code>int</code> by {@link HexCoordinate}, which do not create any objects.
+ * The board interns one point for each corner when a field is added, which
+ * is shared by the edges of the corner. The interned points are never handed
+ * out: methods like {@link #getFields()} return copies, so changing a
+ * returned point does not change the board.
  * </p>
  * 
  * <p>
@@ -60,12 +67,23 @@ import java.util.Set;
  * </p>
  * 
  * <p>
+ * How this data is stored is defined by the {@link StorageLayout} passed to the
+ * constructor. Edges are stored using the sum of the coordinates of the two
+ * corners they connect, which is unique for every edge. In addition, the board
+ * keeps a table with the (at most three) edges connecting to each corner, which
+ * is updated whenever a field is added.
+ * </p>
+ * 
+ * <p>
  * Furthermore, the hexagonal game board can store six additional objects, so
  * called annotations, for each field. These objects are identified by the
  * coordinates of the field and the corner. Hence, they can be thought of being
  * located between the center and the respective corner. Or in other words,
  * their positions correspond to the positions N, NW, SW, NE, NW, SE and NE in
- * the below visualization of a field.
+ * the below visualization of a field. Like the edges, the annotations are
+ * stored using the sum of the coordinates of the field and the corner. They
+ * are also indexed by field and by corner, so they can be queried for either
+ * without a search.
  * </p>
  * 
  * <pre>
@@ -79,6 +97,14 @@ import java.util.Set;
  *       NW (C) NE
  * </pre>
  * 
+ * <p>
+ * The board counts its modifications and remembers for each y-coordinate the
+ * modification which last changed a field, corner, edge or annotation on it.
+ * Views can use this to render only the parts of the board that changed. If a
+ * data object is changed in place, subclasses have to report the change with
+ * {@link #fieldChanged(Point)}.
+ * </p>
+ * 
  * @param <F> Data type for the field data objects
  * @param <C> Data type for the corner data objects
  * @param <E> Data type for the edge data objects
@@ -88,21 +114,115 @@ import java.util.Set;
  *
  */
 public class HexBoard<F, C, E, A> {
+  private static final long[] NO_ROW_MODIFICATIONS = new long[0];
+  // The corner coordinates repeat every 6 columns and rows, so they are looked up in a table
+  private static final int CORNER_PATTERN_PERIOD = 6;
+  private static final boolean[] CORNER_PATTERN = createCornerPattern();
+  private static final int[] FIELD_CORNER_X = {0, 1, 1, 0, -1, -1};
+  private static final int[] FIELD_CORNER_Y = {-2, -1, 1, 2, -1, 1};
+  /**
+   * Indexes of the corners of a field in clockwise order, starting with the
+   * north corner. Two consecutive corners span an edge of the field.
+   */
+  private static final int[] FIELD_CORNER_RING = {0, 1, 2, 3, 5, 4};
   private int maxCoordinateX = 0;
   private int maxCoordinateY = 0;
-  private final Map<Point, F> field;
-  private final Map<Point, C> corner;
-  private final Map<Edge, E> edge;
-  private final Map<FieldAnnotationPosition, A> annotation;
+  private final CoordinateStorage<F> field;
+  private final CoordinateStorage<C> corner;
+  private final CoordinateStorage<E> edge;
+  private final CoordinateStorage<Edge[]> cornerEdges;
+  private final CoordinateStorage<Point> cornerPoints;
+  private final CoordinateStorage<A> annotation;
+  private final CoordinateStorage<List<A>> fieldAnnotations;
+  private final CoordinateStorage<List<A>> cornerAnnotations;
+  private boolean topologyShared;
+  private long modificationCount;
+  private long[] rowModifications = NO_ROW_MODIFICATIONS;
 
   /**
-   * Constructs an empty hexagonal board.
+   * Constructs an empty hexagonal board using the
+   * {@link StorageLayout#OPEN_ADDRESSING} layout.
    */
   public HexBoard() {
-    field = new HashMap<>();
-    corner = new HashMap<>();
-    edge = new HashMap<>();
-    annotation = new HashMap<>();
+    this(StorageLayout.OPEN_ADDRESSING);
+  }
+
+  /**
+   * Constructs an empty hexagonal board which stores its data using the
+   * specified layout.
+   * 
+   * @param layout the storage layout
+   * @throws IllegalArgumentException if layout is null
+   */
+  public HexBoard(StorageLayout layout) {
+    this(layout, 0, 0);
+  }
+
+  /**
+   * Constructs an empty hexagonal board which stores its data using the
+   * specified layout and is sized in advance for corners up to the specified
+   * coordinates, so large boards do not grow their storage while fields are
+   * added. Corners beyond these coordinates can still be added.
+   * 
+   * @param layout the storage layout
+   * @param maxX   the largest expected x-coordinate of a corner
+   * @param maxY   the largest expected y-coordinate of a corner
+   * @throws IllegalArgumentException if layout is null or a coordinate is
+   *                                  negative
+   */
+  public HexBoard(StorageLayout layout, int maxX, int maxY) {
+    if (layout == null || maxX < 0 || maxY < 0) {
+      throw new IllegalArgumentException(
+          "Storage layout must not be null and coordinates must not be negative.");
+    }
+    int width = maxX + 1;
+    int height = maxY + 1;
+    field = layout.createStorage(width, height);
+    corner = layout.createStorage(width, height);
+    // edges are stored by the sum of the coordinates of their corners
+    edge = layout.createStorage(2 * width, 2 * height);
+    cornerEdges = layout.createStorage(width, height);
+    cornerPoints = layout.createStorage(width, height);
+    // few boards have annotations, so their storage grows on demand
+    annotation = layout.createStorage();
+    fieldAnnotations = layout.createStorage();
+    cornerAnnotations = layout.createStorage();
+  }
+
+  /**
+   * Constructs a copy of the specified board.
+   * <p>
+   * The copy shares the tables which describe the layout of the board, i.e. the
+   * interned points, the edges of each corner and the annotations, with the
+   * original. It gets its own field, corner and edge data, which is copied with
+   * the specified functions. Since the layout is shared, no fields or
+   * annotations can be added to the original or the copy afterwards. The
+   * modifications of the original are not copied.
+   * </p>
+   *
+   * @param original     the board to be copied
+   * @param fieldCopier  the function which copies the field data
+   * @param cornerCopier the function which copies the corner data
+   * @param edgeCopier   the function which copies the edge data
+   * @throws IllegalArgumentException if one of the arguments is null
+   */
+  protected HexBoard(HexBoard<F, C, E, A> original, UnaryOperator<F> fieldCopier,
+      UnaryOperator<C> cornerCopier, UnaryOperator<E> edgeCopier) {
+    if (original == null || fieldCopier == null || cornerCopier == null || edgeCopier == null) {
+      throw new IllegalArgumentException("Board and copy functions must not be null.");
+    }
+    maxCoordinateX = original.maxCoordinateX;
+    maxCoordinateY = original.maxCoordinateY;
+    field = original.field.copy(fieldCopier);
+    corner = original.corner.copy(cornerCopier);
+    edge = original.edge.copy(edgeCopier);
+    cornerEdges = original.cornerEdges;
+    cornerPoints = original.cornerPoints;
+    annotation = original.annotation;
+    fieldAnnotations = original.fieldAnnotations;
+    cornerAnnotations = original.cornerAnnotations;
+    original.topologyShared = true;
+    topologyShared = true;
   }
 
   /**
@@ -115,24 +235,37 @@ public class HexBoard<F, C, E, A> {
    * 
    * @throws IllegalArgumentException if center is not the center of a field, the
    *                                  field already exists or data is null
+   * @throws IllegalStateException    if the board shares its layout with a copy
    */
   public void addField(Point center, F element) {
-    if (isFieldCoordinate(center) && !field.containsKey(center)) {
-      field.put(center, element);
+    checkTopologyNotShared();
+    if (isFieldCoordinate(center) && !field.contains(center.x, center.y)) {
+      field.put(center.x, center.y, element);
       maxCoordinateX = Math.max(center.x + 1, maxCoordinateX);
       maxCoordinateY = Math.max(center.y + 2, maxCoordinateY);
-      // add (empty) edge, if they do not yet exist
-      for (Edge e : constructEdgesOfField(center)) {
-        if (!edge.containsKey(e)) {
-          edge.put(e, null);
+      // add (empty) corners, if they do not yet exist
+      for (int i = 0; i < FIELD_CORNER_X.length; i++) {
+        int x = center.x + FIELD_CORNER_X[i];
+        int y = center.y + FIELD_CORNER_Y[i];
+        if (!corner.contains(x, y)) {
+          corner.put(x, y, null);
+          cornerPoints.put(x, y, new Point(x, y));
         }
       }
-      // add (empty) corners, if they do not yet exist
-      for (Point p : getCornerCoordinatesOfField(center)) {
-        if (!corner.containsKey(p)) {
-          corner.put(p, null);
+      // add (empty) edges between the interned corners, if they do not yet exist
+      for (int i = 0; i < FIELD_CORNER_RING.length; i++) {
+        Point start = getCornerPointOfField(center, FIELD_CORNER_RING[i]);
+        Point end = getCornerPointOfField(center, FIELD_CORNER_RING[(i + 1) % FIELD_CORNER_RING.length]);
+        int keyX = start.x + end.x;
+        int keyY = start.y + end.y;
+        if (!edge.contains(keyX, keyY)) {
+          edge.put(keyX, keyY, null);
+          Edge e = Edge.ofInterned(start, end);
+          addCornerEdge(start, e);
+          addCornerEdge(end, e);
         }
       }
+      markRowsModified(center.y - 2, center.y + 2);
     } else {
       throw new IllegalArgumentException(
           "Coordinates are not the center of a field, the field already exists or data is null - ("
@@ -140,6 +273,29 @@ public class HexBoard<F, C, E, A> {
     }
   }
 
+  private Point getCornerPointOfField(Point center, int cornerIndex) {
+    return cornerPoints.get(center.x + FIELD_CORNER_X[cornerIndex], center.y + FIELD_CORNER_Y[cornerIndex]);
+  }
+
+  private void checkTopologyNotShared() {
+    if (topologyShared) {
+      throw new IllegalStateException("The layout of the board is shared with a copy.");
+    }
+  }
+
+  private void addCornerEdge(Point cornerPosition, Edge e) {
+    Edge[] edges = cornerEdges.get(cornerPosition.x, cornerPosition.y);
+    if (edges == null) {
+      edges = new Edge[3];
+      cornerEdges.put(cornerPosition.x, cornerPosition.y, edges);
+    }
+    int i = 0;
+    while (edges[i] != null) {
+      i++;
+    }
+    edges[i] = e;
+  }
+
   /**
    * Add an annotation for the specified field and corner.
    * 
@@ -148,17 +304,45 @@ public class HexBoard<F, C, E, A> {
    * @param data   the annotation
    * @throws IllegalArgumentException if the field does not exist or when the
    *                                  annotation already exists
+   * @throws IllegalStateException    if the board shares its layout with a copy
    */
   public void addFieldAnnotation(Point center, Point corner, A data) {
-    FieldAnnotationPosition annotationPosition = new FieldAnnotationPosition(center, corner);
-    if (!annotation.containsKey(annotationPosition)) {
-      annotation.put(annotationPosition, data);
+    checkTopologyNotShared();
+    checkAnnotationCoordinates(center, corner);
+    int keyX = center.x + corner.x;
+    int keyY = center.y + corner.y;
+    if (!annotation.contains(keyX, keyY)) {
+      if (data != null) {
+        addToAnnotationIndex(fieldAnnotations, center, data, 6);
+        addToAnnotationIndex(cornerAnnotations, corner, data, 3);
+      }
+      annotation.put(keyX, keyY, data);
+      markRowsModified(Math.min(center.y, corner.y), Math.max(center.y, corner.y));
     } else {
-      throw new IllegalArgumentException("Annotation: " + annotation + " already exists for field "
-          + center + " and position " + corner);
+      throw new IllegalArgumentException("Annotation: " + annotation.get(keyX, keyY)
+          + " already exists for field " + center + " and position " + corner);
     }
   }
 
+  private static <A> void addToAnnotationIndex(CoordinateStorage<List<A>> index, Point position,
+      A data, int maxAnnotations) {
+    List<A> annotations = index.get(position.x, position.y);
+    if (annotations == null) {
+      annotations = new ArrayList<>(maxAnnotations);
+      index.put(position.x, position.y, annotations);
+    }
+    annotations.add(data);
+  }
+
+  private static <A> List<A> getAnnotationsFromIndex(CoordinateStorage<List<A>> index,
+      Point position) {
+    List<A> annotations = position == null ? null : index.get(position.x, position.y);
+    if (annotations == null) {
+      return Collections.emptyList();
+    }
+    return Collections.unmodifiableList(annotations);
+  }
+
   /**
    * Get an annotation for the specified field and corner.
    * 
@@ -169,41 +353,57 @@ public class HexBoard<F, C, E, A> {
    *                                  corresponding corner coordinate
    */
   public A getFieldAnnotation(Point center, Point corner) {
-    return annotation.get(new FieldAnnotationPosition(center, corner));
+    checkAnnotationCoordinates(center, corner);
+    return annotation.get(center.x + corner.x, center.y + corner.y);
+  }
+
+  /**
+   * Get an annotation for the specified field and corner.
+   * 
+   * @param center the packed coordinate of the center of the field
+   * @param corner the packed coordinate of the corner of the field
+   * @return the annotation
+   * @throws IllegalArgumentException if coordinates are not a field and
+   *                                  corresponding corner coordinate
+   */
+  public A getFieldAnnotation(int center, int corner) {
+    int centerX = HexCoordinate.getX(center);
+    int centerY = HexCoordinate.getY(center);
+    int cornerX = HexCoordinate.getX(corner);
+    int cornerY = HexCoordinate.getY(corner);
+    if (!isCorner(centerX, centerY, cornerX, cornerY)) {
+      checkAnnotationCoordinates(HexCoordinate.toPoint(center), HexCoordinate.toPoint(corner));
+    }
+    return annotation.get(centerX + cornerX, centerY + cornerY);
+  }
+
+  private static void checkAnnotationCoordinates(Point center, Point corner) {
+    if (!isCorner(center, corner)) {
+      throw new IllegalArgumentException("" + center + " is not a field coordinate or " + corner
+          + " is not a corner of the field.");
+    }
   }
 
   /**
    * Get field annotation whose position information includes the specified corner.
    *  
    * @param corner the corner
-   * @return a list with the annotations that are not null
+   * @return an unmodifiable list with the annotations that are not null
    * @throws IllegalArgumentException if corner is not a corner
    */
   public List<A> getFieldAnnotationsForCorner(Point corner) {
-    List<A> list = new LinkedList<>();
-    for (Entry<FieldAnnotationPosition, A> entry : annotation.entrySet()) {
-      if (entry.getKey().isCorner(corner) && entry.getValue() != null) {
-        list.add(entry.getValue());
-      }
-    }
-    return list;
+    return getAnnotationsFromIndex(cornerAnnotations, corner);
   }
 
   /**
    * Get all field annotation of the specified field.
    * 
    * @param center the field
-   * @return a list with the annotations that are not null
+   * @return an unmodifiable list with the annotations that are not null
    * @throws IllegalArgumentException if center is not a field
    */
   public List<A> getFieldAnnotationsForField(Point center) {
-    List<A> list = new LinkedList<>();
-    for (Entry<FieldAnnotationPosition, A> entry : annotation.entrySet()) {
-      if (entry.getKey().isField(center) && entry.getValue() != null) {
-        list.add(entry.getValue());
-      }
-    }
-    return list;
+    return getAnnotationsFromIndex(fieldAnnotations, center);
   }
 
   /**
@@ -213,65 +413,73 @@ public class HexBoard<F, C, E, A> {
    * @return false, if the field does not exist or the position is not a field
    */
   public boolean hasField(Point center) {
-    if (!HexBoard.isFieldCoordinate(center)) {
-      return false;
-    }
-    return field.containsKey(center);
+    return center != null && hasFieldAt(center.x, center.y);
+  }
+
+  /**
+   * Determines whether the field at the specified position exists.
+   * 
+   * @param center the packed coordinate of the field
+   * @return false, if the field does not exist or the position is not a field
+   */
+  public boolean hasField(int center) {
+    return hasFieldAt(HexCoordinate.getX(center), HexCoordinate.getY(center));
+  }
+
+  private boolean hasFieldAt(int x, int y) {
+    return isFieldCoordinate(x, y) && field.contains(x, y);
   }
 
   static boolean isFieldCoordinate(Point position) {
-    boolean isYFieldCoordinateEven = (position.y - 2) % 6 == 0;
-    boolean isYFieldCoordinateOdd = (position.y - 5) % 6 == 0;
-    boolean isXFieldCoordinateEven = position.x % 2 == 0;
-    boolean isXFieldCoordinateOdd = (position.x - 1) % 2 == 0;
+    return isFieldCoordinate(position.x, position.y);
+  }
+
+  static boolean isFieldCoordinate(int x, int y) {
+    boolean isYFieldCoordinateEven = (y - 2) % 6 == 0;
+    boolean isYFieldCoordinateOdd = (y - 5) % 6 == 0;
+    boolean isXFieldCoordinateEven = x % 2 == 0;
+    boolean isXFieldCoordinateOdd = (x - 1) % 2 == 0;
 
-    return (position.y >= 2 && position.x >= 1)
+    return (y >= 2 && x >= 1)
         && (isYFieldCoordinateEven && isXFieldCoordinateEven)
         || (isYFieldCoordinateOdd && isXFieldCoordinateOdd);
   }
 
   static boolean isCornerCoordinate(Point p) {
+    return isCornerCoordinate(p.x, p.y);
+  }
+
+  static boolean isCornerCoordinate(int x, int y) {
+    if (x >= 0 && y >= 0) {
+      return CORNER_PATTERN[y % CORNER_PATTERN_PERIOD * CORNER_PATTERN_PERIOD + x % CORNER_PATTERN_PERIOD];
+    }
+    return computeIsCornerCoordinate(x, y);
+  }
+
+  private static boolean[] createCornerPattern() {
+    boolean[] pattern = new boolean[CORNER_PATTERN_PERIOD * CORNER_PATTERN_PERIOD];
+    for (int y = 0; y < CORNER_PATTERN_PERIOD; y++) {
+      for (int x = 0; x < CORNER_PATTERN_PERIOD; x++) {
+        pattern[y * CORNER_PATTERN_PERIOD + x] = computeIsCornerCoordinate(x, y);
+      }
+    }
+    return pattern;
+  }
+
+  private static boolean computeIsCornerCoordinate(int x, int y) {
     // On the horizontal center lines, no edge points exist
-    boolean isOnFieldCenterLineHorizontal = (p.y - 2) % 3 == 0;
+    boolean isOnFieldCenterLineHorizontal = (y - 2) % 3 == 0;
 
     // On the vertical center lines, edge points exist
-    boolean isOnFieldCenterLineVerticalOdd = (p.x - 1) % 3 == 0 && p.x % 2 == 0;
-    boolean isOnFieldCenterLineVerticalEven = (p.x - 1) % 3 == 0 && (p.x - 1) % 2 == 0;
+    boolean isOnFieldCenterLineVerticalOdd = (x - 1) % 3 == 0 && x % 2 == 0;
+    boolean isOnFieldCenterLineVerticalEven = (x - 1) % 3 == 0 && (x - 1) % 2 == 0;
     boolean isNotAnEdgePointOnFieldCentralVerticalLine = isOnFieldCenterLineVerticalOdd
-        && !(p.y % 6 == 0 || (p.y + 2) % 6 == 0)
-        || isOnFieldCenterLineVerticalEven && !((p.y + 5) % 6 == 0 || (p.y + 3) % 6 == 0);
+        && !(y % 6 == 0 || (y + 2) % 6 == 0)
+        || isOnFieldCenterLineVerticalEven && !((y + 5) % 6 == 0 || (y + 3) % 6 == 0);
 
     return !(isOnFieldCenterLineHorizontal || isNotAnEdgePointOnFieldCentralVerticalLine);
   }
 
-  private List<Edge> constructEdgesOfField(Point position) {
-    Edge[] e = new Edge[6];
-    e[0] = new Edge(new Point(position.x, position.y - 2),
-        new Point(position.x + 1, position.y - 1));
-    e[1] = new Edge(new Point(position.x + 1, position.y - 1),
-        new Point(position.x + 1, position.y + 1));
-    e[2] = new Edge(new Point(position.x + 1, position.y + 1),
-        new Point(position.x, position.y + 2));
-    e[3] = new Edge(new Point(position.x, position.y + 2),
-        new Point(position.x - 1, position.y + 1));
-    e[4] = new Edge(new Point(position.x - 1, position.y + 1),
-        new Point(position.x - 1, position.y - 1));
-    e[5] = new Edge(new Point(position.x - 1, position.y - 1),
-        new Point(position.x, position.y - 2));
-    return Arrays.asList(e);
-  }
-
-  private static List<Point> getCornerCoordinatesOfField(Point position) {
-    Point[] corner = new Point[6];
-    corner[0] = new Point(position.x, position.y - 2);
-    corner[1] = new Point(position.x + 1, position.y - 1);
-    corner[2] = new Point(position.x + 1, position.y + 1);
-    corner[3] = new Point(position.x, position.y + 2);
-    corner[4] = new Point(position.x - 1, position.y - 1);
-    corner[5] = new Point(position.x - 1, position.y + 1);
-    return Collections.unmodifiableList(Arrays.asList(corner));
-  }
-
   protected static List<Point> getAdjacentCorners(Point position) {
     Point[] corner = new Point[3];
     if (position.y % 3 == 0) {
@@ -293,30 +501,23 @@ public class HexBoard<F, C, E, A> {
    */
   public List<C> getCorners() {
     List<C> result = new LinkedList<>();
-    for (C c : this.corner.values()) {
+    this.corner.forEach((x, y, c) -> {
       if (c != null) {
         result.add(c);
       }
-    }
+    });
     return Collections.unmodifiableList(result);
   }
 
+  /**
+   * Returns the coordinates of all corners.
+   * 
+   * @return copies of the corner points
+   */
   protected Set<Point> getCornerCoordinates() {
-    return Collections.unmodifiableSet(this.corner.keySet());
-  }
-
-  private static List<Point> getAdjacentFields(Point corner) {
-    Point[] field = new Point[3];
-    if (corner.y % 3 == 0) {
-      field[0] = new Point(corner.x, corner.y + 2);
-      field[1] = new Point(corner.x + 1, corner.y - 1);
-      field[2] = new Point(corner.x - 1, corner.y - 1);
-    } else {
-      field[0] = new Point(corner.x, corner.y - 2);
-      field[1] = new Point(corner.x + 1, corner.y + 1);
-      field[2] = new Point(corner.x - 1, corner.y + 1);
-    }
-    return Collections.unmodifiableList(Arrays.asList(field));
+    Set<Point> result = new HashSet<>();
+    this.cornerPoints.forEach((x, y, p) -> result.add(new Point(x, y)));
+    return Collections.unmodifiableSet(result);
   }
 
   /**
@@ -327,25 +528,43 @@ public class HexBoard<F, C, E, A> {
    * @throws IllegalArgumentException if the requested field does not exist
    */
   public F getField(Point center) {
-    if (field.containsKey(center)) {
-      return field.get(center);
+    if (center == null) {
+      throw new IllegalArgumentException("No field exists at these coordinates: null");
+    }
+    return getFieldAt(center.x, center.y);
+  }
+
+  /**
+   * Returns the data for the field denoted by the packed coordinate.
+   * 
+   * @param center the packed coordinate of the field
+   * @return the stored data (or null)
+   * @throws IllegalArgumentException if the requested field does not exist
+   */
+  public F getField(int center) {
+    return getFieldAt(HexCoordinate.getX(center), HexCoordinate.getY(center));
+  }
+
+  private F getFieldAt(int x, int y) {
+    if (field.contains(x, y)) {
+      return field.get(x, y);
     } else {
-      throw new IllegalArgumentException("No field exists at these coordinates: " + center);
+      throw new IllegalArgumentException("No field exists at these coordinates: " + new Point(x, y));
     }
   }
 
   /**
    * Returns the fields with non-null data elements.
    * 
-   * @return the list with the (non-null) field data
+   * @return the list with copies of the points of the fields
    */
   public List<Point> getFields() {
     List<Point> result = new LinkedList<>();
-    for (Entry<Point, F> e : field.entrySet()) {
-      if (e.getValue() != null) {
-        result.add(e.getKey());
+    field.forEach((x, y, f) -> {
+      if (f != null) {
+        result.add(new Point(x, y));
       }
-    }
+    });
     return Collections.unmodifiableList(result);
   }
 
@@ -361,15 +580,22 @@ public class HexBoard<F, C, E, A> {
   public List<F> getFields(Point corner) {
     List<F> result = new LinkedList<>();
     if (isCornerCoordinate(corner)) {
-      for (Point f : getAdjacentFields(corner)) {
-        if (field.get(f) != null) {
-          result.add(field.get(f));
-        }
-      }
+      // the fields touching a corner lie opposite to its neighbour corners
+      int verticalOffset = corner.y % 3 == 0 ? 2 : -2;
+      addFieldData(result, corner.x, corner.y + verticalOffset);
+      addFieldData(result, corner.x + 1, corner.y - verticalOffset / 2);
+      addFieldData(result, corner.x - 1, corner.y - verticalOffset / 2);
     }
     return Collections.unmodifiableList(result);
   }
 
+  private void addFieldData(List<F> result, int x, int y) {
+    F data = field.get(x, y);
+    if (data != null) {
+      result.add(data);
+    }
+  }
+
   /**
    * Returns the data for the edge denoted by the two points.
    * 
@@ -378,8 +604,34 @@ public class HexBoard<F, C, E, A> {
    * @return the stored data (or null)
    */
   public E getEdge(Point p1, Point p2) {
-    Edge e = new Edge(p1, p2);
-    return edge.getOrDefault(e, null);
+    checkEdgeCoordinates(p1, p2);
+    return edge.get(p1.x + p2.x, p1.y + p2.y);
+  }
+
+  /**
+   * Returns the data for the edge between two neighbouring corners without
+   * checking the coordinates. It is meant for subclasses which walk along
+   * corners that are known to be connected by an edge of the board.
+   * 
+   * @param p1 first corner
+   * @param p2 second corner, a neighbour of the first
+   * @return the stored data (or null)
+   */
+  protected E getEdgeOfNeighbours(Point p1, Point p2) {
+    return edge.get(p1.x + p2.x, p1.y + p2.y);
+  }
+
+  /**
+   * Returns the data for the edge denoted by the two packed coordinates.
+   * 
+   * @param p1 packed coordinate of the first point
+   * @param p2 packed coordinate of the second point
+   * @return the stored data (or null)
+   */
+  public E getEdge(int p1, int p2) {
+    checkEdgeCoordinates(p1, p2);
+    return edge.get(HexCoordinate.getX(p1) + HexCoordinate.getX(p2),
+        HexCoordinate.getY(p1) + HexCoordinate.getY(p2));
   }
 
   /**
@@ -392,11 +644,34 @@ public class HexBoard<F, C, E, A> {
    *                                  EXISTING edge of the field
    */
   public void setEdge(Point p1, Point p2, E data) {
-    Edge e = new Edge(p1, p2);
-    if (edge.containsKey(e)) {
-      edge.put(e, data);
+    checkEdgeCoordinates(p1, p2);
+    setEdgeAt(p1.x, p1.y, p2.x, p2.y, data);
+  }
+
+  /**
+   * Stores the data for the edge denoted by the two packed coordinates.
+   * 
+   * @param p1   packed coordinate of the first point
+   * @param p2   packed coordinate of the second point
+   * @param data the data to be stored
+   * @throws IllegalArgumentException if the two points do not identify an
+   *                                  EXISTING edge of the field
+   */
+  public void setEdge(int p1, int p2, E data) {
+    checkEdgeCoordinates(p1, p2);
+    setEdgeAt(HexCoordinate.getX(p1), HexCoordinate.getY(p1), HexCoordinate.getX(p2),
+        HexCoordinate.getY(p2), data);
+  }
+
+  private void setEdgeAt(int x1, int y1, int x2, int y2, E data) {
+    int keyX = x1 + x2;
+    int keyY = y1 + y2;
+    if (edge.contains(keyX, keyY)) {
+      edge.put(keyX, keyY, data);
+      markRowsModified(Math.min(y1, y2), Math.max(y1, y2));
     } else {
-      throw new IllegalArgumentException("Edge does not exist => no data can be stored: " + e);
+      throw new IllegalArgumentException("Edge does not exist => no data can be stored: "
+          + new Edge(new Point(x1, y1), new Point(x2, y2)));
     }
   }
 
@@ -408,10 +683,28 @@ public class HexBoard<F, C, E, A> {
    * @throws IllegalArgumentException if the requested corner does not exist
    */
   public C getCorner(Point location) {
-    if (corner.containsKey(location)) {
-      return corner.get(location);
+    if (location == null) {
+      throw new IllegalArgumentException("No corner exists at the coordinates: null");
+    }
+    return getCornerAt(location.x, location.y);
+  }
+
+  /**
+   * Returns the data for the corner denoted by the packed coordinate.
+   * 
+   * @param location the packed coordinate of the corner
+   * @return the data stored for this node (or null)
+   * @throws IllegalArgumentException if the requested corner does not exist
+   */
+  public C getCorner(int location) {
+    return getCornerAt(HexCoordinate.getX(location), HexCoordinate.getY(location));
+  }
+
+  private C getCornerAt(int x, int y) {
+    if (corner.contains(x, y)) {
+      return corner.get(x, y);
     } else {
-      throw new IllegalArgumentException("No corner exists at the coordinates: " + location);
+      throw new IllegalArgumentException("No corner exists at the coordinates: " + new Point(x, y));
     }
   }
 
@@ -424,13 +717,33 @@ public class HexBoard<F, C, E, A> {
    * @throws IllegalArgumentException if there is no corner at this location
    */
   public C setCorner(Point location, C data) {
-    C old = corner.get(location);
-    if (corner.containsKey(location)) {
-      corner.put(location, data);
+    if (location == null) {
+      throw new IllegalArgumentException("Corner does not exist => no data can be stored: null");
+    }
+    return setCornerAt(location.x, location.y, data);
+  }
+
+  /**
+   * Stores the data for the corner denoted by the packed coordinate.
+   * 
+   * @param location the packed coordinate of the corner
+   * @param data     the data to be stored
+   * @return the old data entry (or null)
+   * @throws IllegalArgumentException if there is no corner at this location
+   */
+  public C setCorner(int location, C data) {
+    return setCornerAt(HexCoordinate.getX(location), HexCoordinate.getY(location), data);
+  }
+
+  private C setCornerAt(int x, int y, C data) {
+    if (corner.contains(x, y)) {
+      C old = corner.get(x, y);
+      corner.put(x, y, data);
+      markRowsModified(y, y);
       return old;
     } else {
       throw new IllegalArgumentException(
-          "Corner does not exist => no data can be stored: " + location);
+          "Corner does not exist => no data can be stored: " + new Point(x, y));
     }
   }
 
@@ -447,15 +760,20 @@ public class HexBoard<F, C, E, A> {
    */
   public List<C> getNeighboursOfCorner(Point center) {
     List<C> result = new LinkedList<>();
-    for (Point c : HexBoard.getAdjacentCorners(center)) {
-      C temp = corner.get(c);
-      if (temp != null) {
-        result.add(temp);
-      }
-    }
+    int verticalOffset = center.y % 3 == 0 ? -2 : 2;
+    addCornerData(result, center.x, center.y + verticalOffset);
+    addCornerData(result, center.x + 1, center.y - verticalOffset / 2);
+    addCornerData(result, center.x - 1, center.y - verticalOffset / 2);
     return result;
   }
 
+  private void addCornerData(List<C> result, int x, int y) {
+    C data = corner.get(x, y);
+    if (data != null) {
+      result.add(data);
+    }
+  }
+
   /**
    * Returns the (non-null) edge data elements of the edges that directly connect
    * to that corner.
@@ -468,14 +786,42 @@ public class HexBoard<F, C, E, A> {
    *         specified edge
    */
   public List<E> getAdjacentEdges(Point corner) {
-    List<E> result = new LinkedList<>();
-    for (Entry<Edge, E> e : this.edge.entrySet()) {
-      if (e.getKey().isEdgePoint(corner)  
-          && e.getValue() != null) {
-        result.add(e.getValue());
+    List<E> result = new ArrayList<>(3);
+    collectAdjacentEdges(corner, result);
+    return result;
+  }
+
+  /**
+   * Adds the (non-null) edge data elements of the edges that directly connect to
+   * that corner to the specified collection.
+   * <p>
+   * In contrast to {@link #getAdjacentEdges(Point)}, this method does not
+   * allocate, so it can be used with a reused collection in frequently called
+   * code.
+   * </p>
+   * @param corner corner for which to get the edges
+   * @param target collection to which the edge data elements are added
+   * @return the number of edge data elements added
+   */
+  public int collectAdjacentEdges(Point corner, Collection<? super E> target) {
+    if (corner == null) {
+      return 0;
+    }
+    Edge[] edges = cornerEdges.get(corner.x, corner.y);
+    if (edges == null) {
+      return 0;
+    }
+    int count = 0;
+    for (Edge e : edges) {
+      if (e != null) {
+        E data = edge.get(e.getStart().x + e.getEnd().x, e.getStart().y + e.getEnd().y);
+        if (data != null) {
+          target.add(data);
+          count++;
+        }
       }
     }
-    return result;
+    return count;
   }
 
   /**
@@ -485,9 +831,9 @@ public class HexBoard<F, C, E, A> {
    * @return list with non-null corner data elements
    */
   public List<C> getCornersOfField(Point center) {
-    List<C> result = new LinkedList<>();
-    for (Point c : getCornerCoordinatesOfField(center)) {
-      C temp = getCorner(c);
+    List<C> result = new ArrayList<>(FIELD_CORNER_X.length);
+    for (int i = 0; i < FIELD_CORNER_X.length; i++) {
+      C temp = getCornerAt(center.x + FIELD_CORNER_X[i], center.y + FIELD_CORNER_Y[i]);
       if (temp != null) {
         result.add(temp);
       }
@@ -495,6 +841,53 @@ public class HexBoard<F, C, E, A> {
     return result;
   }
 
+  /**
+   * Reports that the data object of the field was changed in place, e.g. a
+   * property which is shown in its label, so that views render it again.
+   * 
+   * @param center the location of the field
+   * @throws IllegalArgumentException if the field does not exist
+   */
+  protected void fieldChanged(Point center) {
+    if (center == null || !field.contains(center.x, center.y)) {
+      throw new IllegalArgumentException("No field exists at these coordinates: " + center);
+    }
+    markRowsModified(center.y, center.y);
+  }
+
+  /**
+   * Returns the number of modifications of the fields, corners, edges and
+   * annotations of this board. The number only grows, so a view which has seen
+   * the same number has seen the current state.
+   * 
+   * @return the number of modifications
+   */
+  public long getModificationCount() {
+    return modificationCount;
+  }
+
+  /**
+   * Returns the modification which last changed a field, corner, edge or
+   * annotation with the specified y-coordinate.
+   * 
+   * @param y the y-coordinate
+   * @return the modification count after the last change, 0 if the row has not
+   *         been changed
+   */
+  long getRowModification(int y) {
+    return y >= 0 && y < rowModifications.length ? rowModifications[y] : 0;
+  }
+
+  private void markRowsModified(int fromY, int toY) {
+    modificationCount++;
+    if (toY >= rowModifications.length) {
+      rowModifications = Arrays.copyOf(rowModifications, Math.max(toY + 1, rowModifications.length * 2));
+    }
+    for (int y = Math.max(fromY, 0); y <= toY; y++) {
+      rowModifications[y] = modificationCount;
+    }
+  }
+
   int getMaxCoordinateX() {
     return maxCoordinateX;
   }
@@ -509,10 +902,20 @@ public class HexBoard<F, C, E, A> {
    * @return true, if there is a corner at this location 
    */
   public boolean hasCorner(Point location) {
-    if (!HexBoard.isCornerCoordinate(location)) {
-      return false;
-    }
-    return corner.containsKey(location);
+    return location != null && hasCornerAt(location.x, location.y);
+  }
+
+  /**
+   * Checks whether there is a corner at that specified location.
+   * @param location the packed coordinate of the location to check
+   * @return true, if there is a corner at this location 
+   */
+  public boolean hasCorner(int location) {
+    return hasCornerAt(HexCoordinate.getX(location), HexCoordinate.getY(location));
+  }
+
+  private boolean hasCornerAt(int x, int y) {
+    return isCornerCoordinate(x, y) && corner.contains(x, y);
   }
 
   /**
@@ -522,16 +925,52 @@ public class HexBoard<F, C, E, A> {
    * @return true, if there is an edge between the two points
    */
   public boolean hasEdge(Point p1, Point p2) {
-    if (Edge.isEdge(p1, p2)) {
-      return edge.containsKey(new Edge(p1, p2));
-    } else {
-      return false;
+    return p1 != null && p2 != null && hasEdgeAt(p1.x, p1.y, p2.x, p2.y);
+  }
+
+  /**
+   * Checks whether there is an edge between the two packed coordinates.
+   * @param p1 packed coordinate of the first point
+   * @param p2 packed coordinate of the second point
+   * @return true, if there is an edge between the two points
+   */
+  public boolean hasEdge(int p1, int p2) {
+    return hasEdgeAt(HexCoordinate.getX(p1), HexCoordinate.getY(p1), HexCoordinate.getX(p2),
+        HexCoordinate.getY(p2));
+  }
+
+  private boolean hasEdgeAt(int x1, int y1, int x2, int y2) {
+    return Edge.isEdge(x1, y1, x2, y2) && edge.contains(x1 + x2, y1 + y2);
+  }
+
+  private static void checkEdgeCoordinates(Point p1, Point p2) {
+    if (!Edge.isEdge(p1, p2)) {
+      throw new IllegalArgumentException(
+          "Coordinates " + p1 + " and " + p2 + " are not coordinates of an edge.");
+    }
+  }
+
+  private static void checkEdgeCoordinates(int p1, int p2) {
+    if (!Edge.isEdge(HexCoordinate.getX(p1), HexCoordinate.getY(p1), HexCoordinate.getX(p2),
+        HexCoordinate.getY(p2))) {
+      checkEdgeCoordinates(HexCoordinate.toPoint(p1), HexCoordinate.toPoint(p2));
     }
   }
 
   static boolean isCorner(Point field, Point corner) {
-    return HexBoard.isFieldCoordinate(field)
-        && HexBoard.getCornerCoordinatesOfField(field).contains(corner);
+    return field != null && corner != null && isCorner(field.x, field.y, corner.x, corner.y);
+  }
+
+  static boolean isCorner(int fieldX, int fieldY, int cornerX, int cornerY) {
+    if (!isFieldCoordinate(fieldX, fieldY)) {
+      return false;
+    }
+    for (int i = 0; i < FIELD_CORNER_X.length; i++) {
+      if (cornerX == fieldX + FIELD_CORNER_X[i] && cornerY == fieldY + FIELD_CORNER_Y[i]) {
+        return true;
+      }
+    }
+    return false;
   }
 
 }
@@ -1,6 +1,10 @@
 package ch.zhaw.hexboard;
 
 import java.awt.Point;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -86,6 +90,19 @@ import java.util.Map;
  *        \\    //
  *          (CL)
  * </pre>
+ * <p>
+ * The view keeps the rendered board as lines of characters. When it is
+ * rendered again, only the rows of fields whose fields, corners, edges or
+ * annotations changed since the last rendering are created again, see
+ * {@link HexBoard#getModificationCount()}. If the board did not change at all,
+ * the last text is returned.
+ * </p>
+ * <p>
+ * With {@link #render(Appendable)}, the lines are written directly to an
+ * {@link Appendable}, e.g. a {@link Writer}, without creating the text as a
+ * string. Subclasses which decorate the board override this method, so
+ * {@link #toString()} returns the decorated text as well.
+ * </p>
  *
  * @param <F> See {@link ch.zhaw.hexboard.HexBoard}
  * @param <C> See {@link ch.zhaw.hexboard.HexBoard}
@@ -104,12 +121,24 @@ public class HexBoardTextView<F, C, E, A> {
   private static final String SIX_SPACES   = "     ";
   private static final String SEVEN_SPACES = "      ";
   private static final String NINE_SPACES  = "        ";
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final int LINES_PER_ROW = 5;
   private final HexBoard<F, C, E, A> board;
   private final Label emptyLabel = new Label(' ', ' ');
   private final Label defaultDiagonalEdgeDownLabel = new Label('\\', '\\');
   private final Label defaultDiagonalEdgeUpLabel = new Label('/', '/');
   private final Label defaultVerticalEdgeLabel = new Label('|', '|');
   private final Map<Point, Label> fixedLowerFieldLabels;
+  private final StringBuilder upperLine = new StringBuilder();
+  private final StringBuilder lowerLine = new StringBuilder();
+  private char[][] lines = new char[0][];
+  private int renderedMaxCoordinateX;
+  private int renderedMaxCoordinateY;
+  private long renderedModification;
+  private boolean linesValid;
+  private long linesVersion;
+  private long textVersion;
+  private String text;
 
   /**
    * Creates a view for the specified board.
@@ -134,6 +163,7 @@ public class HexBoardTextView<F, C, E, A> {
       throw new IllegalArgumentException("Argument(s) must not be null and field must exist.");
     }
     fixedLowerFieldLabels.put(field, label);
+    linesValid = false;
   }
 
   /**
@@ -184,8 +214,8 @@ public class HexBoardTextView<F, C, E, A> {
 
   private Label deriveLabelFromToStringRepresentation(Object o) {
     Label label = emptyLabel;
-    if (o.toString().length() > 0) {
-      String s = o.toString();
+    String s = o.toString();
+    if (s.length() > 0) {
       if (s.length() > 1) {
         return new Label(s.charAt(0), s.charAt(1));
       } else {
@@ -208,42 +238,43 @@ public class HexBoardTextView<F, C, E, A> {
    * Corners/labels that do not exist are replaced by spaces.
    * </p>
    */
-  private String printCornerLine(int y) {
-    StringBuilder cornerLine = new StringBuilder();
+  private void printCornerLine(int y, StringBuilder cornerLine) {
+    cornerLine.setLength(0);
     int offset = 0;
     if (y % 2 != 0) {
       cornerLine.append(NINE_SPACES);
       offset = 1;
     }
     for (int x = offset; x <= board.getMaxCoordinateX(); x = x + 2) {
-      Point p = new Point(x, y);
+      int p = HexCoordinate.of(x, y);
       Label cornerLabel;
 
       // handle corner labels for corners other than north and south corners
-      Point center;
+      int center;
       Label first = null;
       Label second = null;
       switch (y % 3) {
         case 0:
-          center = new Point(x + 1, y - 1);
+          center = HexCoordinate.of(x + 1, y - 1);
           first = this.getAnnotationLabel(
-              board.getFieldAnnotation(center, new Point(center.x - 1, center.y + 1)));
+              board.getFieldAnnotation(center, HexCoordinate.of(x, y)));
           second = this.getAnnotationLabel(
-              board.getFieldAnnotation(center, new Point(center.x + 1, center.y + 1)));
+              board.getFieldAnnotation(center, HexCoordinate.of(x + 2, y)));
           break;
         case 1:
-          center = new Point(x + 1, y + 1);
+          center = HexCoordinate.of(x + 1, y + 1);
           first = this.getAnnotationLabel(
-              board.getFieldAnnotation(center, new Point(center.x - 1, center.y - 1)));
+              board.getFieldAnnotation(center, HexCoordinate.of(x, y)));
           second = this.getAnnotationLabel(
-              board.getFieldAnnotation(center, new Point(center.x + 1, center.y - 1)));
+              board.getFieldAnnotation(center, HexCoordinate.of(x + 2, y)));
           break;
         default:
           throw new IllegalArgumentException("Not a corner line");
       }
 
       if (board.hasCorner(p)) {
-        cornerLabel = board.getCorner(p) != null ? getCornerLabel(board.getCorner(p)) : emptyLabel;
+        C cornerData = board.getCorner(p);
+        cornerLabel = cornerData != null ? getCornerLabel(cornerData) : emptyLabel;
         cornerLine.append("(").append(cornerLabel.getFirst()).append(cornerLabel.getSecond()).append(")");
       } else {
         cornerLine.append(FOUR_SPACES);
@@ -251,7 +282,6 @@ public class HexBoardTextView<F, C, E, A> {
       cornerLine.append(ONE_SPACE).append(first.getFirst()).append(first.getSecond());
       cornerLine.append(FIVE_SPACES).append(second.getFirst()).append(second.getSecond()).append(TWO_SPACES);
     }
-    return cornerLine.toString();
   }
 
   private Label getAnnotationLabel(A annotation) {
@@ -262,15 +292,19 @@ public class HexBoardTextView<F, C, E, A> {
     }
   }
 
-  private String printMiddlePartOfField(int y) {
+  private void printMiddlePartOfField(int y, StringBuilder upper, StringBuilder lower) {
     boolean isOffsetRow = (y - 2) % 6 == 0;
-    StringBuilder lower = new StringBuilder(isOffsetRow ? NINE_SPACES : "");
-    StringBuilder upper = new StringBuilder(isOffsetRow ? NINE_SPACES : "");
+    lower.setLength(0);
+    upper.setLength(0);
+    if (isOffsetRow) {
+      lower.append(NINE_SPACES);
+      upper.append(NINE_SPACES);
+    }
     int xstart = isOffsetRow ? 2 : 1;
 
     for (int x = xstart; x <= board.getMaxCoordinateX() + 1; x = x + 2) {
-      Point edgeStart = new Point(x - 1, y - 1);
-      Point edgeEnd = new Point(x - 1, y + 1);
+      int edgeStart = HexCoordinate.of(x - 1, y - 1);
+      int edgeEnd = HexCoordinate.of(x - 1, y + 1);
       Label l = this.emptyLabel;
       if (board.hasEdge(edgeStart, edgeEnd)) {
         E edge = board.getEdge(edgeStart, edgeEnd);
@@ -280,24 +314,24 @@ public class HexBoardTextView<F, C, E, A> {
           l = this.defaultVerticalEdgeLabel;
         }
       }
-      Point center = new Point(x, y);
-      boolean hasFieldWithData = board.hasField(center) && board.getField(center) != null;
-      Label lowerFieldLabel = hasFieldWithData ? getFieldLabelLower(center) : emptyLabel;
-      Label upperFieldLabel = hasFieldWithData ? getFieldLabelUpper(board.getField(center))
+      int center = HexCoordinate.of(x, y);
+      F fieldData = board.hasField(center) ? board.getField(center) : null;
+      boolean hasFieldWithData = fieldData != null;
+      Label lowerFieldLabel = hasFieldWithData ? getFieldLabelLower(new Point(x, y))
           : emptyLabel;
+      Label upperFieldLabel = hasFieldWithData ? getFieldLabelUpper(fieldData) : emptyLabel;
       lower.append(ONE_SPACE).append(l.getFirst()).append(l.getSecond()).append(SEVEN_SPACES);
       lower.append(lowerFieldLabel.getFirst()).append(lowerFieldLabel.getSecond()).append(SIX_SPACES);
       
       upper.append(ONE_SPACE).append(l.getFirst()).append(l.getSecond()).append(SEVEN_SPACES);
       upper.append(upperFieldLabel.getFirst()).append(upperFieldLabel.getSecond()).append(SIX_SPACES);
     }
-    return upper + System.lineSeparator() + lower;
   }
 
-  private String printDiagonalEdges(int y) {
-    StringBuilder builder = new StringBuilder();
-    Point edgeStart;
-    Point edgeEnd;
+  private void printDiagonalEdges(int y, StringBuilder builder) {
+    builder.setLength(0);
+    int edgeStart;
+    int edgeEnd;
     Label annotation = null;
     Label l;
     boolean isDown = y % 6 == 0;
@@ -305,32 +339,31 @@ public class HexBoardTextView<F, C, E, A> {
     builder.append("   ");
     for (int x = 0; x <= board.getMaxCoordinateX(); x = x + 1) {
       if (isDown) {
-        edgeStart = new Point(x, y);
-        edgeEnd = new Point(x + 1, y + 1);
-        annotation = getAnnotationLabel(board.getFieldAnnotation(new Point(x + 1, y - 1), new Point(x + 1, y + 1)));
+        edgeStart = HexCoordinate.of(x, y);
+        edgeEnd = HexCoordinate.of(x + 1, y + 1);
+        annotation = getAnnotationLabel(
+            board.getFieldAnnotation(HexCoordinate.of(x + 1, y - 1), edgeEnd));
       } else {
-        edgeStart = new Point(x, y + 1);
-        edgeEnd = new Point(x + 1, y);
-        annotation = getAnnotationLabel(board.getFieldAnnotation(new Point(x + 1, y + 2), new Point(x + 1, y)));
+        edgeStart = HexCoordinate.of(x, y + 1);
+        edgeEnd = HexCoordinate.of(x + 1, y);
+        annotation = getAnnotationLabel(
+            board.getFieldAnnotation(HexCoordinate.of(x + 1, y + 2), edgeEnd));
       }
       l = determineEdgeLabel(isDown, edgeStart, edgeEnd);
 
-      if (!isDown) {
-        builder.append(TWO_SPACES + l.getFirst() + l.getSecond() + TWO_SPACES + annotation.getFirst() + annotation.getSecond());
-      } else {
-        builder.append(TWO_SPACES + l.getFirst() + l.getSecond() + TWO_SPACES + annotation.getFirst() + annotation.getSecond());
-      }
+      builder.append(TWO_SPACES).append(l.getFirst()).append(l.getSecond());
+      builder.append(TWO_SPACES).append(annotation.getFirst()).append(annotation.getSecond());
       isDown = !isDown;
     }
-    return builder.toString();
   }
 
-  private Label determineEdgeLabel(boolean isDown, Point edgeStart, Point edgeEnd) {
+  private Label determineEdgeLabel(boolean isDown, int edgeStart, int edgeEnd) {
     Label l;
     if (board.hasEdge(edgeStart, edgeEnd)) {
       // does it have data associated with it?
-      if (board.getEdge(edgeStart, edgeEnd) != null) {
-        l = this.getEdgeLabel(board.getEdge(edgeStart, edgeEnd));
+      E edgeData = board.getEdge(edgeStart, edgeEnd);
+      if (edgeData != null) {
+        l = this.getEdgeLabel(edgeData);
       } else {
         // default visualization
         l = isDown ? this.defaultDiagonalEdgeDownLabel : this.defaultDiagonalEdgeUpLabel;
@@ -341,26 +374,145 @@ public class HexBoardTextView<F, C, E, A> {
     return l;
   }
 
-  /*
-   * (non-Javadoc)
+  /**
+   * Returns the textual representation of the board, as written by
+   * {@link #render(Appendable)}. Only the rows which changed since the last
+   * call are rendered again.
    * 
-   * @see java.lang.Object#toString()
+   * @return the board as text
    */
   @Override
   public String toString() {
-    StringBuilder sb = new StringBuilder();
-    for (int y = 0; y <= board.getMaxCoordinateY(); y = y + 3) {
-      sb.append(printCornerLine(y));
-      sb.append(System.lineSeparator());
-      sb.append(printDiagonalEdges(y));
-      sb.append(System.lineSeparator());
-      sb.append(printCornerLine(y + 1));
-      sb.append(System.lineSeparator());
-      sb.append(printMiddlePartOfField(y + 2));
-      sb.append(System.lineSeparator());
+    long version = updateLines();
+    if (text == null || textVersion != version) {
+      StringBuilder sb = new StringBuilder(text == null ? 0 : text.length());
+      try {
+        render(sb);
+      } catch (IOException e) {
+        // a StringBuilder does not throw
+        throw new UncheckedIOException(e);
+      }
+      text = sb.toString();
+      textVersion = version;
+    }
+    return text;
+  }
+
+  /**
+   * Writes the textual representation of the board line by line to the
+   * specified target. Only the rows which changed since the last rendering are
+   * created again.
+   * 
+   * @param out the target
+   * @throws IOException              if the target can not be written
+   * @throws IllegalArgumentException if out is null
+   */
+  public void render(Appendable out) throws IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Target must not be null.");
+    }
+    updateLines();
+    for (char[] line : lines) {
+      appendLine(out, line);
+      out.append(LINE_SEPARATOR);
+    }
+  }
 
+  /**
+   * Renders the rows of the board which changed since the last call.
+   * 
+   * @return a number which changes whenever the lines have changed
+   */
+  protected final long updateLines() {
+    long modification = board.getModificationCount();
+    if (linesValid && modification == renderedModification) {
+      return linesVersion;
+    }
+    boolean renderAll = !linesValid || board.getMaxCoordinateX() != renderedMaxCoordinateX
+        || board.getMaxCoordinateY() != renderedMaxCoordinateY;
+    if (renderAll) {
+      renderedMaxCoordinateX = board.getMaxCoordinateX();
+      renderedMaxCoordinateY = board.getMaxCoordinateY();
+      lines = new char[(renderedMaxCoordinateY / 3 + 1) * LINES_PER_ROW][];
+    }
+    for (int y = 0; y <= renderedMaxCoordinateY; y = y + 3) {
+      if (renderAll || isRowModified(y)) {
+        renderRow(y, y / 3 * LINES_PER_ROW);
+      }
     }
-    return sb.toString();
+    renderedModification = modification;
+    linesValid = true;
+    return ++linesVersion;
+  }
+
+  /**
+   * Returns the number of lines of the rendered board.
+   * 
+   * @return the number of lines
+   */
+  protected final int getLineCount() {
+    return lines.length;
+  }
+
+  /**
+   * Returns a line of the rendered board, without a line separator. The
+   * returned array is reused by the next rendering and must not be changed.
+   * 
+   * @param index the index of the line
+   * @return the characters of the line
+   */
+  protected final char[] getLine(int index) {
+    return lines[index];
+  }
+
+  /**
+   * Writes the characters of a line to the target, without creating a string
+   * for targets which accept characters directly.
+   * 
+   * @param out  the target
+   * @param line the characters
+   * @throws IOException if the target can not be written
+   */
+  protected static void appendLine(Appendable out, char[] line) throws IOException {
+    if (out instanceof StringBuilder builder) {
+      builder.append(line);
+    } else if (out instanceof Writer writer) {
+      writer.write(line);
+    } else {
+      out.append(CharBuffer.wrap(line));
+    }
+  }
+
+  /**
+   * Checks whether something shown in the row of fields starting at the
+   * y-coordinate changed since the last rendering. Besides the corners and
+   * edges of the row, this includes the annotations of the fields above.
+   */
+  private boolean isRowModified(int y) {
+    for (int i = y - 1; i <= y + 3; i++) {
+      if (board.getRowModification(i) > renderedModification) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void renderRow(int y, int line) {
+    printCornerLine(y, upperLine);
+    lines[line] = toLine(lines[line], upperLine);
+    printDiagonalEdges(y, upperLine);
+    lines[line + 1] = toLine(lines[line + 1], upperLine);
+    printCornerLine(y + 1, upperLine);
+    lines[line + 2] = toLine(lines[line + 2], upperLine);
+    printMiddlePartOfField(y + 2, upperLine, lowerLine);
+    lines[line + 3] = toLine(lines[line + 3], upperLine);
+    lines[line + 4] = toLine(lines[line + 4], lowerLine);
+  }
+
+  private static char[] toLine(char[] line, StringBuilder builder) {
+    char[] result = line != null && line.length == builder.length() ? line : new char[builder.length()];
+    builder.getChars(0, builder.length(), result, 0);
+    return result;
   }
 
 }
@@ -0,0 +1,86 @@
+package ch.zhaw.hexboard;
+
+import java.awt.Point;
+
+/**
+ * This class packs the coordinates of the grid defined by
+ * {@link ch.zhaw.hexboard.HexBoard} into a single <code>int</code>.
+ * <p>
+ * The x-coordinate is stored in the upper and the y-coordinate in the lower 16
+ * bits, so both have to be in the range of {@link #MIN_VALUE} to
+ * {@link #MAX_VALUE}. Since a packed coordinate is a primitive value, it is
+ * immutable and can be passed around and compared without creating objects.
+ * The {@link java.awt.Point} based methods of the board are adapters for it.
+ * </p>
+ */
+public final class HexCoordinate {
+  public static final int MIN_VALUE = Short.MIN_VALUE;
+  public static final int MAX_VALUE = Short.MAX_VALUE;
+
+  private HexCoordinate() {
+  }
+
+  /**
+   * Packs the coordinates.
+   *
+   * @param x the x-coordinate
+   * @param y the y-coordinate
+   * @return the packed coordinate
+   * @throws IllegalArgumentException if a coordinate is not in range
+   */
+  public static int of(int x, int y) {
+    if (!isInRange(x, y)) {
+      throw new IllegalArgumentException("Coordinates are not in range - (" + x + ", " + y + ")");
+    }
+    return x << 16 | y & 0xFFFF;
+  }
+
+  /**
+   * Packs the coordinates of the point.
+   *
+   * @param point the point
+   * @return the packed coordinate
+   * @throws IllegalArgumentException if point is null or a coordinate is not in
+   *                                  range
+   */
+  public static int of(Point point) {
+    if (point == null) {
+      throw new IllegalArgumentException("Point must not be null.");
+    }
+    return of(point.x, point.y);
+  }
+
+  /**
+   * Returns the x-coordinate of a packed coordinate.
+   *
+   * @param coordinate the packed coordinate
+   * @return the x-coordinate
+   */
+  public static int getX(int coordinate) {
+    return coordinate >> 16;
+  }
+
+  /**
+   * Returns the y-coordinate of a packed coordinate.
+   *
+   * @param coordinate the packed coordinate
+   * @return the y-coordinate
+   */
+  public static int getY(int coordinate) {
+    return (short) coordinate;
+  }
+
+  /**
+   * Creates a new point with the coordinates of a packed coordinate.
+   *
+   * @param coordinate the packed coordinate
+   * @return the point
+   */
+  public static Point toPoint(int coordinate) {
+    return new Point(getX(coordinate), getY(coordinate));
+  }
+
+  static boolean isInRange(int x, int y) {
+    return x >= MIN_VALUE && x <= MAX_VALUE && y >= MIN_VALUE && y <= MAX_VALUE;
+  }
+}
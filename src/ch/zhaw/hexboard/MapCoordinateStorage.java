@@ -0,0 +1,57 @@
+package ch.zhaw.hexboard;
+
+import java.awt.Point;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link CoordinateStorage} which keeps the entries in a {@link HashMap} keyed
+ * by {@link Point}.
+ * <p>
+ * This is the original layout of {@link HexBoard}. It does not limit the
+ * coordinates that can be stored, but every access creates a temporary key.
+ * </p>
+ *
+ * @param <V> Data type of the stored values
+ */
+final class MapCoordinateStorage<V> implements CoordinateStorage<V> {
+  private final Map<Point, V> entries = new HashMap<>();
+
+  @Override
+  public boolean contains(int x, int y) {
+    return entries.containsKey(new Point(x, y));
+  }
+
+  @Override
+  public V get(int x, int y) {
+    return entries.get(new Point(x, y));
+  }
+
+  @Override
+  public void put(int x, int y, V value) {
+    entries.put(new Point(x, y), value);
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  @Override
+  public void forEach(EntryConsumer<? super V> consumer) {
+    for (Map.Entry<Point, V> entry : entries.entrySet()) {
+      consumer.accept(entry.getKey().x, entry.getKey().y, entry.getValue());
+    }
+  }
+
+  @Override
+  public MapCoordinateStorage<V> copy(UnaryOperator<V> valueCopier) {
+    MapCoordinateStorage<V> copy = new MapCoordinateStorage<>();
+    for (Map.Entry<Point, V> entry : entries.entrySet()) {
+      V value = entry.getValue();
+      copy.entries.put(entry.getKey(), value == null ? null : valueCopier.apply(value));
+    }
+    return copy;
+  }
+}
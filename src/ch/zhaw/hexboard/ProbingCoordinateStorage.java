@@ -0,0 +1,125 @@
+package ch.zhaw.hexboard;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link CoordinateStorage} which keeps the entries in a hash table keyed by
+ * the coordinates.
+ * <p>
+ * Like {@link MapCoordinateStorage}, it does not limit the coordinates that can
+ * be stored. The coordinates are packed into a <code>long</code> key and the
+ * table uses open addressing with linear probing, so accesses do not create
+ * temporary keys. Entries are never removed, which keeps the probing simple.
+ * </p>
+ *
+ * @param <V> Data type of the stored values
+ */
+final class ProbingCoordinateStorage<V> implements CoordinateStorage<V> {
+  private static final int DEFAULT_CAPACITY = 64;
+  private long[] keys;
+  private boolean[] used;
+  private Object[] values;
+  private int size;
+
+  ProbingCoordinateStorage() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  private ProbingCoordinateStorage(int capacity) {
+    keys = new long[capacity];
+    used = new boolean[capacity];
+    values = new Object[capacity];
+  }
+
+  @Override
+  public boolean contains(int x, int y) {
+    return used[indexOf(key(x, y))];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(int x, int y) {
+    int index = indexOf(key(x, y));
+    return used[index] ? (V) values[index] : null;
+  }
+
+  @Override
+  public void put(int x, int y, V value) {
+    long key = key(x, y);
+    int index = indexOf(key);
+    if (!used[index]) {
+      if (2 * (size + 1) > keys.length) {
+        grow();
+        index = indexOf(key);
+      }
+      used[index] = true;
+      keys[index] = key;
+      size++;
+    }
+    values[index] = value;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(EntryConsumer<? super V> consumer) {
+    for (int index = 0; index < keys.length; index++) {
+      if (used[index]) {
+        consumer.accept((int) (keys[index] >> 32), (int) keys[index], (V) values[index]);
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ProbingCoordinateStorage<V> copy(UnaryOperator<V> valueCopier) {
+    ProbingCoordinateStorage<V> copy = new ProbingCoordinateStorage<>(keys.length);
+    System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+    System.arraycopy(used, 0, copy.used, 0, used.length);
+    for (int index = 0; index < values.length; index++) {
+      if (values[index] != null) {
+        copy.values[index] = valueCopier.apply((V) values[index]);
+      }
+    }
+    copy.size = size;
+    return copy;
+  }
+
+  private static long key(int x, int y) {
+    return (long) x << 32 | y & 0xFFFFFFFFL;
+  }
+
+  /**
+   * Returns the index of the key, or the free index where it would be stored.
+   */
+  private int indexOf(long key) {
+    int mask = keys.length - 1;
+    long hash = key * 0x9E3779B97F4A7C15L;
+    int index = (int) (hash ^ hash >>> 32) & mask;
+    while (used[index] && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private void grow() {
+    long[] oldKeys = keys;
+    boolean[] oldUsed = used;
+    Object[] oldValues = values;
+    keys = new long[oldKeys.length * 2];
+    used = new boolean[oldKeys.length * 2];
+    values = new Object[oldKeys.length * 2];
+    for (int index = 0; index < oldKeys.length; index++) {
+      if (oldUsed[index]) {
+        int newIndex = indexOf(oldKeys[index]);
+        used[newIndex] = true;
+        keys[newIndex] = oldKeys[index];
+        values[newIndex] = oldValues[index];
+      }
+    }
+  }
+}
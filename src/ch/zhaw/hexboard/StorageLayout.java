@@ -0,0 +1,34 @@
+package ch.zhaw.hexboard;
+
+/**
+ * This enum specifies how a {@link HexBoard} stores the data of its fields,
+ * corners and edges.
+ *
+ * <ul>
+ * <li>{@link #HASH_MAP} keeps the data in hash maps keyed by the coordinates.
+ * The coordinates are not limited, but every lookup hashes and allocates a
+ * temporary key.</li>
+ * <li>{@link #OPEN_ADDRESSING} keeps the data in hash tables with open
+ * addressing keyed by the packed coordinates. The coordinates are not limited
+ * and lookups do not allocate, but every lookup hashes and probes the
+ * table.</li>
+ * <li>{@link #ARRAY} keeps the data in flat arrays indexed by the packed
+ * coordinate <code>y * width + x</code>. Lookups do not allocate. Negative
+ * coordinates are not supported.</li>
+ * </ul>
+ */
+public enum StorageLayout {
+  HASH_MAP, OPEN_ADDRESSING, ARRAY;
+
+  <V> CoordinateStorage<V> createStorage() {
+    return createStorage(0, 0);
+  }
+
+  <V> CoordinateStorage<V> createStorage(int width, int height) {
+    return switch (this) {
+      case HASH_MAP -> new MapCoordinateStorage<>();
+      case OPEN_ADDRESSING -> new ProbingCoordinateStorage<>();
+      case ARRAY -> ArrayCoordinateStorage.withMinimumSize(width, height);
+    };
+  }
+}
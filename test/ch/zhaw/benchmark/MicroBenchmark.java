@@ -0,0 +1,72 @@
+package ch.zhaw.benchmark;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Minimal harness for the micro benchmarks in the test sources.
+ * <p>
+ * The project is built without a build tool, so JMH is not available. This harness follows the same
+ * idea on a small scale: every benchmark is warmed up before it is measured in several rounds, the
+ * results of the benchmarked code are consumed to prevent dead code elimination, and the best
+ * round is reported in nanoseconds per operation.
+ * </p>
+ * <p>
+ * Benchmarks are started through their main method, e.g.
+ * {@code java -cp <classpath> ch.zhaw.hexboard.AdjacentEdgesBenchmark}.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public final class MicroBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASUREMENT_ROUNDS = 5;
+    private static volatile int sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * Measures the specified operation and prints the result.
+     *
+     * @param name specifies the name which is printed with the result.
+     * @param operationsPerRound specifies how many times the operation is called per round.
+     * @param operation specifies the benchmarked operation. Its result is consumed by the harness.
+     * @return the best measured time in nanoseconds per operation.
+     * @throws IllegalArgumentException if name or operation is null or operationsPerRound is not positive.
+     */
+    public static double run(String name, int operationsPerRound, IntSupplier operation) {
+        if (name == null || operation == null || operationsPerRound < 1) {
+            throw new IllegalArgumentException("Name and operation must not be null and operations must be positive!");
+        }
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            measureRound(operationsPerRound, operation);
+        }
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < MEASUREMENT_ROUNDS; round++) {
+            best = Math.min(best, measureRound(operationsPerRound, operation));
+        }
+        System.out.format("%-60s %12.1f ns/op%n", name, best);
+        return best;
+    }
+
+    /**
+     * Prints the speedup of a candidate compared to a baseline measurement.
+     *
+     * @param baseline specifies the time per operation of the baseline.
+     * @param candidate specifies the time per operation of the candidate.
+     */
+    public static void printSpeedup(double baseline, double candidate) {
+        System.out.format("%-60s %12.1fx%n", "speedup", baseline / candidate);
+    }
+
+    private static double measureRound(int operationsPerRound, IntSupplier operation) {
+        int result = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < operationsPerRound; i++) {
+            result += operation.getAsInt();
+        }
+        long duration = System.nanoTime() - start;
+        sink += result;
+        return (double) duration / operationsPerRound;
+    }
+}
@@ -0,0 +1,35 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+
+/**
+ * Measures how fast the {@link BoardGenerator} creates layouts of different sizes and how fast a
+ * {@link SiedlerBoard} is built from a generated layout.
+ * <p>
+ * The sizes are the standard board with 19 land fields and boards with 1000 and 10000 land fields.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class BoardGeneratorBenchmark {
+    private static final int[] LAND_FIELD_COUNTS = {19, 1000, 10_000};
+    private static final int STANDARD_OPERATIONS_PER_ROUND = 20_000;
+
+    public static void main(String[] args) {
+        BoardGenerator generator = new BoardGenerator();
+        SplittableRandom random = new SplittableRandom(1L);
+        for (int landFieldCount : LAND_FIELD_COUNTS) {
+            int operations = Math.max(10, STANDARD_OPERATIONS_PER_ROUND * 19 / landFieldCount);
+            MicroBenchmark.run("generate " + landFieldCount, operations,
+                    () -> generator.generate(landFieldCount, random).getFieldCount());
+
+            BoardLayout layout = generator.generate(landFieldCount, random);
+            MicroBenchmark.run("build board " + landFieldCount, Math.max(10, operations / 20),
+                    () -> new SiedlerBoard(new CardBank(new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK)), layout)
+                            .getLandFieldPositions().size());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.Config.Land;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the layouts created by the {@link BoardGenerator} class and boards and games which use them.
+ *
+ * @version 16.10.2026
+ */
+class BoardGeneratorTest {
+    private static final int STANDARD_LAND_FIELD_COUNT = 19;
+    private static final int[][] NEIGHBOUR_OFFSETS = {{2, 0}, {-2, 0}, {1, 3}, {-1, 3}, {1, -3}, {-1, -3}};
+
+    /**
+     * Tests if a layout with the number of land fields of the standard setup has its geometry.
+     *
+     * Equivalence class: generate
+     * Type of Test:      Positive
+     * Initial state:     BoardGenerator with the standard distributions
+     * Input:             19 land fields and seeds 1 to 20
+     * Expected Output:   The land and water fields are at the positions of the standard setup
+     */
+    @Test
+    void standardSizeHasStandardGeometry() {
+        Set<Point> standardLand = new HashSet<>();
+        Set<Point> standardWater = new HashSet<>();
+        for (Map.Entry<Point, Land> field : Config.getStandardLandPlacement().entrySet()) {
+            (field.getValue() == Land.WATER ? standardWater : standardLand).add(field.getKey());
+        }
+        BoardGenerator generator = new BoardGenerator();
+        for (long seed = 1; seed <= 20; seed++) {
+            BoardLayout layout = generator.generate(STANDARD_LAND_FIELD_COUNT, new SplittableRandom(seed));
+            Set<Point> land = new HashSet<>();
+            Set<Point> water = new HashSet<>();
+            for (int i = 0; i < layout.getFieldCount(); i++) {
+                (layout.getLand(i) == Land.WATER ? water : land).add(layout.getPosition(i));
+            }
+            assertEquals(standardLand, land);
+            assertEquals(standardWater, water);
+        }
+    }
+
+    /**
+     * Tests if a layout of the standard size has the lands and dice values of the standard setup.
+     *
+     * Equivalence class: generate
+     * Type of Test:      Positive
+     * Initial state:     BoardGenerator with the standard distributions
+     * Input:             19 land fields
+     * Expected Output:   The same number of fields per land and per dice value as the standard setup
+     */
+    @Test
+    void standardSizeHasStandardDistribution() {
+        BoardLayout layout = new BoardGenerator().generate(STANDARD_LAND_FIELD_COUNT, new SplittableRandom(7L));
+        assertEquals(countLands(BoardLayout.standard()), countLands(layout));
+        assertEquals(countDiceValues(BoardLayout.standard()), countDiceValues(layout));
+        assertEquals(Land.DESERT, landAt(layout, layout.getThiefPosition()));
+    }
+
+    /**
+     * Tests if layouts of different sizes have the requested number of land fields, are surrounded by water and
+     * never have the dice values 6 and 8 on adjacent fields.
+     *
+     * Equivalence class: generate
+     * Type of Test:      Positive
+     * Initial state:     BoardGenerator with the standard distributions
+     * Input:             Land field counts from 1 to 10000 and several seeds
+     * Expected Output:   Valid layouts with every land field on the board
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 19, 20, 36, 100, 1000, 10_000})
+    void layoutsAreValid(int landFieldCount) {
+        BoardGenerator generator = new BoardGenerator();
+        for (long seed = 1; seed <= 5; seed++) {
+            BoardLayout layout = generator.generate(landFieldCount, new SplittableRandom(seed));
+            Map<Point, Integer> indexes = indexPositions(layout);
+            assertEquals(landFieldCount, layout.getLandFieldCount());
+            assertEquals(layout.getFieldCount(), indexes.size());
+            for (int i = 0; i < layout.getFieldCount(); i++) {
+                Point position = layout.getPosition(i);
+                assertTrue(position.x >= 1 && position.y >= 2);
+                if (layout.getLand(i) == Land.WATER) {
+                    continue;
+                }
+                for (int[] offset : NEIGHBOUR_OFFSETS) {
+                    Integer neighbour = indexes.get(new Point(position.x + offset[0], position.y + offset[1]));
+                    assertNotNull(neighbour, "Land field " + position + " is not surrounded");
+                    assertFalse(isRed(layout.getDiceValue(i)) && isRed(layout.getDiceValue(neighbour)),
+                            "Adjacent 6 and 8 at " + position);
+                }
+            }
+            assertNotEquals(Land.WATER, landAt(layout, layout.getThiefPosition()));
+        }
+    }
+
+    /**
+     * Tests if the same seed creates the same layout.
+     *
+     * Equivalence class: generate
+     * Type of Test:      Positive
+     * Initial state:     BoardGenerator with the standard distributions
+     * Input:             Two layouts of 500 land fields with seed 42
+     * Expected Output:   The layouts have the same fields, lands and dice values
+     */
+    @Test
+    void sameSeedCreatesSameLayout() {
+        BoardGenerator generator = new BoardGenerator();
+        BoardLayout first = generator.generate(500, new SplittableRandom(42L));
+        BoardLayout second = generator.generate(500, new SplittableRandom(42L));
+        assertEquals(first.getFieldCount(), second.getFieldCount());
+        for (int i = 0; i < first.getFieldCount(); i++) {
+            assertEquals(first.getPosition(i), second.getPosition(i));
+            assertEquals(first.getLand(i), second.getLand(i));
+            assertEquals(first.getDiceValue(i), second.getDiceValue(i));
+        }
+        assertEquals(first.getThiefPosition(), second.getThiefPosition());
+    }
+
+    /**
+     * Tests if a custom distribution is scaled to the number of land fields.
+     *
+     * Equivalence class: BoardGenerator, generate
+     * Type of Test:      Positive
+     * Initial state:     BoardGenerator with 1 desert per 3 forests and the dice values 2 and 3 in a ratio of 1:2
+     * Input:             100 land fields
+     * Expected Output:   25 deserts, 75 forests, 25 fields with 2 and 50 fields with 3
+     */
+    @Test
+    void customDistributionIsScaled() {
+        Map<Land, Integer> lands = new EnumMap<>(Land.class);
+        lands.put(Land.DESERT, 1);
+        lands.put(Land.FOREST, 3);
+        Map<Integer, Integer> dice = Map.of(2, 1, 3, 2);
+        BoardLayout layout = new BoardGenerator(lands, dice).generate(100, new SplittableRandom(3L));
+        assertEquals(Map.of(Land.DESERT, 25, Land.FOREST, 75), countLands(layout));
+        assertEquals(Map.of(2, 25, 3, 50, 7, 25), countDiceValues(layout));
+    }
+
+    /**
+     * Tests if a board and a game can be played on a generated layout.
+     *
+     * Equivalence class: SiedlerBoard, SiedlerGame
+     * Type of Test:      Positive
+     * Initial state:     Layout with 1000 land fields
+     * Input:             Board and game constructed with the layout
+     * Expected Output:   The board has all fields and the thief, and settlements can be placed
+     */
+    @Test
+    void gameOnGeneratedLayout() {
+        BoardLayout layout = new BoardGenerator().generate(1000, new SplittableRandom(5L));
+        SiedlerBoard board = new SiedlerBoard(new CardBank(new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK)), layout);
+        assertEquals(layout.getFieldCount(), board.getFields().size());
+        assertEquals(1000, board.getLandFieldPositions().size());
+        assertEquals(layout.getThiefPosition(), board.getThiefPosition());
+        for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+            for (Point field : board.getFieldsForDiceValue(dice)) {
+                assertEquals(dice, board.getField(field).getDiceValue());
+            }
+        }
+
+        SiedlerGame game = new SiedlerGame(Config.MIN_WIN_POINTS, Config.MAX_NUMBER_OF_PLAYERS,
+                new SplittableRandom(1L), layout);
+        List<Point> corners = new ArrayList<>(game.getBoard().getLandCornerPositions());
+        Point last = corners.get(corners.size() - 1);
+        assertTrue(game.placeInitialSettlement(last, true));
+        assertTrue(game.placeInitialRoad(last, game.getBoard().getNeighbourLandCorners(last).get(0)));
+    }
+
+    /**
+     * Tests if too many fields with 6 and 8 are rejected.
+     *
+     * Equivalence class: generate
+     * Type of Test:      Negative
+     * Initial state:     BoardGenerator with only forests and the dice value 6
+     * Input:             19 land fields
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void tooManyRedDiceValues() {
+        BoardGenerator generator = new BoardGenerator(Map.of(Land.FOREST, 1), Map.of(6, 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(19, new SplittableRandom(1L)));
+        assertEquals(1, generator.generate(1, new SplittableRandom(1L)).getLandFieldCount());
+    }
+
+    /**
+     * Tests if invalid parameters are rejected.
+     *
+     * Equivalence class: BoardGenerator, generate, SiedlerBoard, SiedlerGame
+     * Type of Test:      Negative
+     * Initial state:     -
+     * Input:             Null, empty and invalid distributions, land field counts and layouts
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void invalidParameters() {
+        Map<Integer, Integer> dice = Map.of(2, 1);
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(null, dice));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(Map.of(Land.FOREST, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(Map.of(Land.WATER, 1), dice));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(Map.of(Land.FOREST, 0), dice));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(Map.of(Land.FOREST, -1), dice));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(Map.of(Land.FOREST, 1), Map.of(7, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(Map.of(Land.FOREST, 1), Map.of(13, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new BoardGenerator(Map.of(Land.FOREST, 1), Map.of()));
+
+        BoardGenerator generator = new BoardGenerator();
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(0, new SplittableRandom(1L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generate(BoardGenerator.MAX_LAND_FIELD_COUNT + 1, new SplittableRandom(1L)));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(19, null));
+
+        CardBank bank = new CardBank(new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK));
+        assertThrows(IllegalArgumentException.class, () -> new SiedlerBoard(bank, null));
+        assertThrows(IllegalArgumentException.class, () -> new SiedlerBoard(null, BoardLayout.standard()));
+        assertThrows(IllegalArgumentException.class, () -> new SiedlerGame(Config.MIN_WIN_POINTS,
+                Config.MIN_NUMBER_OF_PLAYERS, new SplittableRandom(1L), null));
+    }
+
+    private static boolean isRed(int diceValue) {
+        return diceValue == 6 || diceValue == 8;
+    }
+
+    private static Map<Point, Integer> indexPositions(BoardLayout layout) {
+        Map<Point, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            indexes.put(layout.getPosition(i), i);
+        }
+        return indexes;
+    }
+
+    private static Land landAt(BoardLayout layout, Point position) {
+        return layout.getLand(indexPositions(layout).get(position));
+    }
+
+    private static Map<Land, Integer> countLands(BoardLayout layout) {
+        Map<Land, Integer> counts = new EnumMap<>(Land.class);
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            if (layout.getLand(i) != Land.WATER) {
+                counts.merge(layout.getLand(i), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static Map<Integer, Integer> countDiceValues(BoardLayout layout) {
+        Map<Integer, Integer> counts = new TreeMap<>();
+        for (int i = 0; i < layout.getFieldCount(); i++) {
+            if (layout.getLand(i) != Land.WATER) {
+                counts.merge(layout.getDiceValue(i), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,74 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+import ch.zhaw.catan.games.ThreePlayerStandard;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Compares sending the board to many clients as text created with {@link SiedlerBoard#toString()} and written
+ * to each client, with writing it directly to each client with {@link SiedlerBoard#render(Appendable)}.
+ * <p>
+ * Before each round of clients the thief moves, so the board has to be rendered again. The clients are writers
+ * which only count the characters.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class BoardRenderBenchmark {
+    private static final int OPERATIONS_PER_ROUND = 2_000;
+    private static final int CLIENTS = 16;
+
+    public static void main(String[] args) {
+        SiedlerBoard board = ThreePlayerStandard.getAfterSetupPhase(10).getBoard();
+        List<Point> fields = board.getLandFieldPositions();
+        CountingWriter client = new CountingWriter();
+        int[] next = new int[1];
+
+        double text = MicroBenchmark.run("toString and write", OPERATIONS_PER_ROUND, () -> {
+            board.setThiefPosition(fields.get(next[0]++ % fields.size()));
+            for (int i = 0; i < CLIENTS; i++) {
+                client.write(board.toString());
+            }
+            return client.count;
+        });
+        double render = MicroBenchmark.run("render to writer", OPERATIONS_PER_ROUND, () -> {
+            board.setThiefPosition(fields.get(next[0]++ % fields.size()));
+            try {
+                for (int i = 0; i < CLIENTS; i++) {
+                    board.render(client);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return client.count;
+        });
+        MicroBenchmark.printSpeedup(text, render);
+    }
+
+    private static final class CountingWriter extends Writer {
+        private int count;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public void write(String text) {
+            count += text.length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
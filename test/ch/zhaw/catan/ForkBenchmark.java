@@ -0,0 +1,31 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+import ch.zhaw.catan.games.ThreePlayerStandard;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compares forking a {@link SiedlerGame} with constructing a new game, which sets up the standard board
+ * from the configuration again.
+ * <p>
+ * The forked game is the game of {@link ThreePlayerStandard} after the founder's phase with some roads.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class ForkBenchmark {
+    private static final int OPERATIONS_PER_ROUND = 20_000;
+    private static final int WIN_POINTS = 10;
+
+    public static void main(String[] args) {
+        SiedlerGame game = ThreePlayerStandard.getAfterSetupPhaseSomeRoads(WIN_POINTS);
+        SplittableRandom random = new SplittableRandom(1L);
+
+        double construct = MicroBenchmark.run("new SiedlerGame", OPERATIONS_PER_ROUND,
+                () -> new SiedlerGame(WIN_POINTS, game.getPlayerAmount(), random).getCurrentPlayerIndex());
+        double fork = MicroBenchmark.run("SiedlerGame.fork", OPERATIONS_PER_ROUND,
+                () -> game.fork(random).getCurrentPlayerIndex());
+        MicroBenchmark.printSpeedup(construct, fork);
+    }
+}
@@ -0,0 +1,39 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+import ch.zhaw.catan.games.ThreePlayerStandard;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Measures encoding a snapshot of a {@link SiedlerGame} with the {@link GameSnapshotCodec} and decoding it into
+ * an existing game.
+ * <p>
+ * The encoded game is the game of {@link ThreePlayerStandard} after the founder's phase with some roads.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class GameSnapshotCodecBenchmark {
+    private static final int OPERATIONS_PER_ROUND = 100_000;
+    private static final int WIN_POINTS = 10;
+
+    public static void main(String[] args) {
+        SiedlerGame game = ThreePlayerStandard.getAfterSetupPhaseSomeRoads(WIN_POINTS);
+        SiedlerGame target = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(GameSnapshotCodec.MAX_SIZE);
+        GameSnapshotCodec.encode(game, buffer);
+        System.out.println("snapshot size: " + buffer.position() + " bytes");
+
+        MicroBenchmark.run("encode", OPERATIONS_PER_ROUND, () -> {
+            buffer.clear();
+            GameSnapshotCodec.encode(game, buffer);
+            return buffer.position();
+        });
+        MicroBenchmark.run("decode into game", OPERATIONS_PER_ROUND, () -> {
+            buffer.rewind();
+            GameSnapshotCodec.decode(buffer, target);
+            return target.getCurrentPlayerIndex();
+        });
+    }
+}
@@ -0,0 +1,233 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the encoding and decoding of snapshots with the {@link GameSnapshotCodec} class.
+ *
+ * @version 16.10.2026
+ */
+class GameSnapshotCodecTest {
+    private static final int WIN_POINTS = 10;
+    private static final int TURNS = 60;
+    private static final int BUILD_ATTEMPTS = 6;
+
+    /**
+     * Tests if a snapshot of every fixture decodes into a new game and into a game in another state with the
+     * same state as the fixture.
+     *
+     * Equivalence class: encode, decode
+     * Type of Test:      Positive
+     * Initial state:     The fixtures of ThreePlayerStandard
+     * Input:             Snapshot of the fixture, decoded into a new game and into a new game after the setup phase
+     * Expected Output:   Snapshot of at most MAX_SIZE bytes, decoded games in the state of the fixture
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3})
+    void roundTripFixtures(int fixture) {
+        SiedlerGame model = createFixture(fixture);
+        ByteBuffer buffer = encode(model);
+        assertTrue(buffer.limit() <= GameSnapshotCodec.MAX_SIZE);
+
+        SiedlerGame decoded = GameSnapshotCodec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        assertEquals(describe(model), describe(decoded));
+        assertEquals(model.getStateHash(), decoded.getStateHash());
+
+        SiedlerGame other = fixture == 0 ? createFixture(3) : ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        buffer.rewind();
+        GameSnapshotCodec.decode(buffer, other);
+        assertEquals(describe(model), describe(other));
+        assertEquals(other.computeStateHash(), other.getStateHash());
+    }
+
+    /**
+     * Tests if snapshots of random games decode into the same state, including cities and the bonus for the
+     * longest road.
+     *
+     * Equivalence class: encode, decode
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             60 turns of random generated moves with a snapshot after every turn
+     * Expected Output:   Each snapshot decodes into the state of the game, and into the previously decoded game
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 2022})
+    void roundTripRandomGames(long seed) {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        SiedlerGame decoded = new SiedlerGame(WIN_POINTS, model.getPlayerAmount());
+        LegalMoveGenerator generator = new LegalMoveGenerator(model);
+        SplittableRandom random = new SplittableRandom(seed);
+        MoveList moves = new MoveList();
+
+        for (int turn = 0; turn < TURNS && model.getWinner() == null; turn++) {
+            int dice = model.rollDice();
+            model.throwDice(dice);
+            if (dice == Config.DROP_CARDS_DICE_VALUE) {
+                generator.generateThiefPlacements(moves);
+                moves.make(random.nextInt(moves.size()), model);
+            }
+            for (int i = 0; i < BUILD_ATTEMPTS && generator.generateBuildAndTradeMoves(moves) > 0; i++) {
+                moves.make(random.nextInt(moves.size()), model);
+            }
+            model.switchToNextPlayer();
+
+            ByteBuffer buffer = encode(model);
+            GameSnapshotCodec.decode(buffer, decoded);
+            assertEquals(describe(model), describe(decoded));
+            assertEquals(model.getStateHash(), decoded.getStateHash());
+        }
+    }
+
+    /**
+     * Tests if invalid parameters and snapshots are rejected.
+     *
+     * Equivalence class: encode, decode
+     * Type of Test:      Negative
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             null parameters, wrong magic number, wrong version, game with other players or win
+     *                    points, invalid thief field
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void invalidSnapshots() {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        ByteBuffer buffer = encode(model);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.encode(null, buffer));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.encode(model, null));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.decode(buffer, (SiedlerGame) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameSnapshotCodec.decode(buffer.duplicate(), new SiedlerGame(WIN_POINTS, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameSnapshotCodec.decode(buffer.duplicate(), new SiedlerGame(WIN_POINTS + 1, 3)));
+
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.decode(modified(buffer, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.decode(modified(buffer, 2, 1)));
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.decode(modified(buffer, 6, -1)));
+    }
+
+    /**
+     * Tests if snapshots with corrupt player data are rejected without changing the game they are decoded into.
+     *
+     * Equivalence class: decode
+     * Type of Test:      Negative
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             Snapshot with a negative or too large holder of the longest road, negative or too large
+     *                    longest road, win points, structure stock and resource amount of the last player
+     * Expected Output:   IllegalArgumentException, the game is unchanged
+     */
+    @Test
+    void malformedSnapshots() {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhaseSomeRoads(WIN_POINTS);
+        ByteBuffer buffer = encode(model);
+        int holder = buffer.limit() - 1;
+        int length = holder - 1;
+        int winPoints = length - 1;
+        int lastStock = winPoints - 1;
+        int lastResource = lastStock - Config.Structure.values().length - 1;
+        int[][] corruptions = {{holder, -2}, {holder, -128}, {holder, 3}, {length, -1}, {length, 16},
+                {winPoints, -1}, {lastStock, -1}, {lastStock, 100}, {lastResource, -1}};
+
+        SiedlerGame other = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        String before = describe(other);
+        for (int[] corruption : corruptions) {
+            ByteBuffer snapshot = modified(buffer, corruption[0], corruption[1]);
+            assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.decode(snapshot.duplicate()),
+                    "Byte " + corruption[0] + " = " + corruption[1]);
+            assertThrows(IllegalArgumentException.class, () -> GameSnapshotCodec.decode(snapshot, other),
+                    "Byte " + corruption[0] + " = " + corruption[1]);
+            assertEquals(before, describe(other));
+        }
+    }
+
+    /**
+     * Tests if games on generated boards are encoded, also if the indexes of their positions do not fit into a
+     * byte.
+     *
+     * Equivalence class: encode, decode
+     * Type of Test:      Positive
+     * Initial state:     New games on generated boards with 19 and 200 land fields
+     * Input:             Snapshot of each game with a settlement and a road on the last land corner
+     * Expected Output:   The snapshots decode into games on the same layout in the state of the encoded games
+     */
+    @Test
+    void generatedBoards() {
+        BoardLayout small = new BoardGenerator().generate(19, new SplittableRandom(1L));
+        SiedlerGame model = new SiedlerGame(WIN_POINTS, 3, new SplittableRandom(2L), small);
+        model.placeInitialSettlement(model.getBoard().getLandCornerPositions().get(0), true);
+        ByteBuffer buffer = encode(model);
+        SiedlerGame decoded = new SiedlerGame(WIN_POINTS, 3, new SplittableRandom(2L), small);
+        GameSnapshotCodec.decode(buffer, decoded);
+        assertEquals(describe(model), describe(decoded));
+
+        BoardLayout large = new BoardGenerator().generate(200, new SplittableRandom(1L));
+        SiedlerGame largeModel = new SiedlerGame(WIN_POINTS, 3, new SplittableRandom(2L), large);
+        List<Point> corners = largeModel.getBoard().getLandCornerPositions();
+        assertTrue(corners.size() > 0xFF);
+        Point corner = corners.get(corners.size() - 1);
+        assertTrue(largeModel.placeInitialSettlement(corner, true));
+        assertTrue(largeModel.placeInitialRoad(corner, largeModel.getBoard().getNeighbourLandCorners(corner).get(0)));
+        ByteBuffer largeBuffer = encode(largeModel);
+        SiedlerGame largeDecoded = new SiedlerGame(WIN_POINTS, 3, new SplittableRandom(2L), large);
+        GameSnapshotCodec.decode(largeBuffer, largeDecoded);
+        assertEquals(describe(largeModel), describe(largeDecoded));
+        assertEquals(largeModel.getStateHash(), largeDecoded.getStateHash());
+    }
+
+    private static SiedlerGame createFixture(int fixture) {
+        return switch (fixture) {
+            case 0 -> ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+            case 1 -> ThreePlayerStandard.getAfterSetupPhaseAlmostEmptyBank(WIN_POINTS);
+            case 2 -> ThreePlayerStandard.getAfterSetupPhaseSomeRoads(WIN_POINTS);
+            default -> ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(WIN_POINTS);
+        };
+    }
+
+    private static ByteBuffer encode(SiedlerGame model) {
+        ByteBuffer buffer = ByteBuffer.allocate(GameSnapshotCodec.MAX_SIZE);
+        GameSnapshotCodec.encode(model, buffer);
+        return buffer.flip();
+    }
+
+    private static ByteBuffer modified(ByteBuffer snapshot, int index, int value) {
+        ByteBuffer copy = ByteBuffer.allocate(snapshot.limit());
+        copy.put(snapshot.duplicate()).flip();
+        return copy.put(index, (byte) value);
+    }
+
+    /**
+     * Describes every part of the game a snapshot contains.
+     */
+    private static String describe(SiedlerGame model) {
+        StringBuilder state = new StringBuilder();
+        SiedlerBoard board = model.getBoard();
+        state.append(board).append(board.getThiefPosition()).append(model.getBank().getResources())
+                .append(model.getLongestRoad()).append(model.getRequiredWinPoints());
+        for (int i = 0; i < model.getPlayerAmount(); i++) {
+            Player player = model.getCurrentPlayer();
+            state.append(player.getFaction()).append(player.getResources()).append(player.getWinPoints());
+            for (Config.Structure structure : Config.Structure.values()) {
+                state.append(player.getStructureStock(structure));
+            }
+            model.switchToNextPlayer();
+        }
+        state.append(model.getCurrentPlayerIndex());
+        for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+            if (dice != Config.DROP_CARDS_DICE_VALUE) {
+                state.append(board.getResourcesToPayPerFaction(dice, model.getPlayerFactions()));
+            }
+        }
+        return state.toString();
+    }
+}
@@ -0,0 +1,199 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link LegalMoveGenerator} class by comparing the generated moves with the moves the
+ * game accepts when every candidate is tried.
+ *
+ * @version 16.10.2026
+ */
+class LegalMoveGeneratorTest {
+    private static final int WIN_POINTS = 10;
+    private static final int TURNS = 60;
+    private static final int BUILD_ATTEMPTS = 8;
+
+    /**
+     * Tests if the generated moves of the prepared games are exactly the moves the game accepts.
+     *
+     * Equivalence class: generateBuildAndTradeMoves
+     * Type of Test:      Positive
+     * Initial state:     Games of ThreePlayerStandard after the setup phase, with some roads and with
+     *                    player one ready to build the fifth settlement
+     * Input:             The moves of every player
+     * Expected Output:   The generated moves equal the accepted candidates, each move is generated once
+     */
+    @Test
+    void preparedGamesMatchBruteForce() {
+        List<SiedlerGame> models = List.of(ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS),
+                ThreePlayerStandard.getAfterSetupPhaseSomeRoads(WIN_POINTS),
+                ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(WIN_POINTS));
+        MoveList moves = new MoveList();
+        for (SiedlerGame model : models) {
+            for (int i = 0; i < model.getPlayerAmount(); i++) {
+                assertMovesMatchBruteForce(model, moves);
+                model.switchToNextPlayer();
+            }
+        }
+    }
+
+    /**
+     * Tests if the generated moves equal the moves the game accepts during randomly played games.
+     *
+     * Equivalence class: generateBuildAndTradeMoves
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             60 turns in which random generated moves are made
+     * Expected Output:   The generated moves equal the accepted candidates in every turn
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 2022})
+    void randomGamesMatchBruteForce(long seed) {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        LegalMoveGenerator generator = new LegalMoveGenerator(model);
+        SplittableRandom random = new SplittableRandom(seed);
+        MoveList moves = new MoveList();
+
+        for (int turn = 0; turn < TURNS && model.getWinner() == null; turn++) {
+            int dice = model.rollDice();
+            model.throwDice(dice);
+            if (dice == Config.DROP_CARDS_DICE_VALUE) {
+                generator.generateThiefPlacements(moves);
+                assertNotNull(moves.make(random.nextInt(moves.size()), model));
+            }
+            for (int i = 0; i < BUILD_ATTEMPTS; i++) {
+                assertMovesMatchBruteForce(model, moves);
+                if (moves.isEmpty()) {
+                    break;
+                }
+                assertNotNull(moves.make(random.nextInt(moves.size()), model), "Generated move was rejected");
+            }
+            model.switchToNextPlayer();
+        }
+    }
+
+    /**
+     * Tests if the thief can be placed on every land field and on no other field.
+     *
+     * Equivalence class: generateThiefPlacements
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             All fields of the board
+     * Expected Output:   One move for each field the game accepts for the thief
+     */
+    @Test
+    void thiefPlacementsMatchBruteForce() {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        MoveList moves = new MoveList();
+        new LegalMoveGenerator(model).generateThiefPlacements(moves);
+        Set<Point> generated = new HashSet<>();
+        for (int i = 0; i < moves.size(); i++) {
+            assertEquals(MoveList.MoveType.PLACE_THIEF, moves.getType(i));
+            assertTrue(generated.add(moves.getPosition(i)), "Field generated twice");
+        }
+
+        Set<Point> accepted = new HashSet<>();
+        for (Point field : model.getBoard().getFields()) {
+            UndoRecord record = model.makePlaceThiefAndStealCard(field);
+            if (record != null) {
+                accepted.add(field);
+                model.unmake(record);
+            }
+        }
+        assertEquals(accepted, generated);
+    }
+
+    /**
+     * Tests if the move list is cleared and reused by every generation.
+     *
+     * Equivalence class: generateBuildAndTradeMoves, generateThiefPlacements
+     * Type of Test:      Positive
+     * Initial state:     ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement
+     * Input:             The same list for several generations
+     * Expected Output:   The list only contains the moves of the last generation
+     */
+    @Test
+    void moveListIsReused() {
+        SiedlerGame model = ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(WIN_POINTS);
+        LegalMoveGenerator generator = new LegalMoveGenerator(model);
+        MoveList moves = new MoveList(1);
+        int thiefPlacements = generator.generateThiefPlacements(moves);
+        int buildMoves = generator.generateBuildAndTradeMoves(moves);
+        assertEquals(buildMoves, moves.size());
+        assertTrue(moves.toString().contains(MoveList.MoveType.BUILD_SETTLEMENT.name()));
+        assertFalse(moves.toString().contains(MoveList.MoveType.PLACE_THIEF.name()));
+        assertEquals(thiefPlacements, generator.generateThiefPlacements(moves));
+        assertThrows(IndexOutOfBoundsException.class, () -> moves.getType(moves.size()));
+        moves.clear();
+        assertTrue(moves.isEmpty());
+    }
+
+    /**
+     * Tests if the generator and the move list reject invalid parameters.
+     *
+     * Equivalence class: LegalMoveGenerator, MoveList
+     * Type of Test:      Negative
+     * Initial state:     New game
+     * Input:             null game, null list, capacity 0
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void invalidParameters() {
+        LegalMoveGenerator generator = new LegalMoveGenerator(new SiedlerGame(WIN_POINTS, 3));
+        assertThrows(IllegalArgumentException.class, () -> new LegalMoveGenerator(null));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateBuildAndTradeMoves(null));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateThiefPlacements(null));
+        assertThrows(IllegalArgumentException.class, () -> new MoveList(0));
+    }
+
+    /**
+     * Generates the moves of the current player and compares them with every candidate the game accepts.
+     * Each candidate is made and taken back, so the game is not changed.
+     */
+    private static void assertMovesMatchBruteForce(SiedlerGame model, MoveList moves) {
+        new LegalMoveGenerator(model).generateBuildAndTradeMoves(moves);
+        Set<String> generated = new HashSet<>();
+        for (int i = 0; i < moves.size(); i++) {
+            assertTrue(generated.add(moves.toString(i)), "Move generated twice: " + moves.toString(i));
+        }
+
+        Set<String> accepted = new HashSet<>();
+        MoveList candidate = new MoveList();
+        SiedlerBoard board = model.getBoard();
+        for (Point corner : board.getLandCornerPositions()) {
+            for (Point neighbour : board.getNeighbourLandCorners(corner)) {
+                if (corner.y < neighbour.y || (corner.y == neighbour.y && corner.x < neighbour.x)) {
+                    candidate.addRoad(corner, neighbour);
+                }
+            }
+            candidate.addPosition(MoveList.MoveType.BUILD_SETTLEMENT, corner);
+            candidate.addPosition(MoveList.MoveType.BUILD_CITY, corner);
+        }
+        for (Config.Resource offer : Config.Resource.values()) {
+            for (Config.Resource want : Config.Resource.values()) {
+                if (offer != want) {
+                    candidate.addTrade(offer, want);
+                }
+            }
+        }
+        for (int i = 0; i < candidate.size(); i++) {
+            UndoRecord record = candidate.make(i, model);
+            if (record != null) {
+                accepted.add(candidate.toString(i));
+                model.unmake(record);
+            }
+        }
+        assertEquals(accepted, generated);
+    }
+}
@@ -0,0 +1,80 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the incremental update of the {@link LongestRoadTracker} after a new road with computing the
+ * longest roads of all factions from all roads on the board.
+ * <p>
+ * The board has four players with three settlements and all their 15 roads each, so 60 roads in total.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class LongestRoadBenchmark {
+    private static final int OPERATIONS_PER_ROUND = 20_000;
+    private static final int WIN_POINTS = 10;
+    private static final int SETTLEMENTS_PER_PLAYER = 3;
+
+    public static void main(String[] args) {
+        SiedlerGame game = new SiedlerGame(WIN_POINTS, Config.MAX_NUMBER_OF_PLAYERS, 1L);
+        SplittableRandom random = new SplittableRandom(1L);
+        Point[] lastRoad = buildAllRoads(game, random);
+        LongestRoadTracker tracker = game.getLongestRoad();
+        System.out.println(countRoads(game) + " roads, " + tracker);
+
+        double recompute = MicroBenchmark.run("recompute", OPERATIONS_PER_ROUND, () -> {
+            tracker.recompute();
+            return tracker.getLongestRoad(Config.Faction.RED);
+        });
+        double incremental = MicroBenchmark.run("roadBuilt", OPERATIONS_PER_ROUND, () -> {
+            tracker.roadBuilt(lastRoad[0], lastRoad[1]);
+            return tracker.getLongestRoad(Config.Faction.RED);
+        });
+        MicroBenchmark.printSpeedup(recompute, incremental);
+    }
+
+    /**
+     * Places the settlements and then all roads of every player at random positions.
+     *
+     * @return the start and end of the last road.
+     */
+    private static Point[] buildAllRoads(SiedlerGame game, SplittableRandom random) {
+        List<Point> corners = game.getBoard().getLandCornerPositions();
+        for (int i = 0; i < game.getPlayerAmount() * SETTLEMENTS_PER_PLAYER; i++) {
+            while (!game.placeInitialSettlement(corners.get(random.nextInt(corners.size())), false)) {
+                // try another corner
+            }
+            game.switchToNextPlayer();
+        }
+        Point[] lastRoad = new Point[2];
+        for (int i = 0; i < game.getPlayerAmount(); i++) {
+            int attempts = 0;
+            while (game.getCurrentPlayer().checkIfStructureAvailable(Config.Structure.ROAD) && attempts++ < 100_000) {
+                Point start = corners.get(random.nextInt(corners.size()));
+                List<Point> neighbours = game.getBoard().getNeighbourLandCorners(start);
+                Point end = neighbours.get(random.nextInt(neighbours.size()));
+                if (game.placeInitialRoad(start, end)) {
+                    lastRoad[0] = start;
+                    lastRoad[1] = end;
+                }
+            }
+            game.switchToNextPlayer();
+        }
+        return lastRoad;
+    }
+
+    private static int countRoads(SiedlerGame game) {
+        int roads = 0;
+        for (int i = 0; i < game.getPlayerAmount(); i++) {
+            roads += Config.Structure.ROAD.getStockPerPlayer()
+                    - game.getCurrentPlayer().getStructureStock(Config.Structure.ROAD);
+            game.switchToNextPlayer();
+        }
+        return roads;
+    }
+}
@@ -0,0 +1,220 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link LongestRoadTracker} class and the bonus for the longest road in the
+ * {@link SiedlerGame} class.
+ *
+ * @version 16.10.2026
+ */
+class LongestRoadTrackerTest {
+    private static final int WIN_POINTS = 10;
+    private static final int TWO_PLAYERS = 2;
+    private static final Point RED_START = new Point(5, 7);
+    private static final Point BLUE_START = new Point(10, 16);
+    private static final int TURNS = 80;
+    private static final int BUILD_ATTEMPTS = 6;
+
+    /**
+     * Tests if the bonus is given for a chain of five roads and not for a shorter chain.
+     *
+     * Equivalence class: roadBuilt, getHolder
+     * Type of Test:      Positive
+     * Initial state:     Game with a settlement of the first player
+     * Input:             A chain of four roads, then a fifth road
+     * Expected Output:   Length 4 without bonus, then length 5 with bonus and two more win points
+     */
+    @Test
+    void bonusForFiveRoads() {
+        SiedlerGame model = new SiedlerGame(WIN_POINTS, TWO_PLAYERS);
+        Player red = model.getCurrentPlayer();
+        assertTrue(model.placeInitialSettlement(RED_START, false));
+        List<Point> chain = buildChain(model, RED_START, LongestRoadTracker.MIN_LENGTH - 1);
+        LongestRoadTracker tracker = model.getLongestRoad();
+        assertEquals(LongestRoadTracker.MIN_LENGTH - 1, tracker.getLongestRoad(red.getFaction()));
+        assertNull(tracker.getHolder());
+        assertEquals(1, red.getWinPoints());
+
+        buildChain(model, chain.get(chain.size() - 1), 1);
+        assertEquals(LongestRoadTracker.MIN_LENGTH, tracker.getLongestRoad(red.getFaction()));
+        assertEquals(red.getFaction(), tracker.getHolder());
+        assertEquals(1 + LongestRoadTracker.WIN_POINTS, red.getWinPoints());
+    }
+
+    /**
+     * Tests if the bonus stays with the holder on a tie and moves to a player with a longer road.
+     *
+     * Equivalence class: roadBuilt, getHolder
+     * Type of Test:      Positive
+     * Initial state:     Game in which the first player holds the bonus with five roads
+     * Input:             The second player builds five roads, then a sixth road
+     * Expected Output:   The first player keeps the bonus on the tie, the second player gets it with six roads
+     */
+    @Test
+    void bonusMovesToLongerRoad() {
+        SiedlerGame model = new SiedlerGame(WIN_POINTS, TWO_PLAYERS);
+        Player red = model.getCurrentPlayer();
+        assertTrue(model.placeInitialSettlement(RED_START, false));
+        buildChain(model, RED_START, LongestRoadTracker.MIN_LENGTH);
+        model.switchToNextPlayer();
+        Player blue = model.getCurrentPlayer();
+        assertTrue(model.placeInitialSettlement(BLUE_START, false));
+        List<Point> chain = buildChain(model, BLUE_START, LongestRoadTracker.MIN_LENGTH);
+        LongestRoadTracker tracker = model.getLongestRoad();
+        assertEquals(red.getFaction(), tracker.getHolder());
+        assertEquals(1 + LongestRoadTracker.WIN_POINTS, red.getWinPoints());
+        assertEquals(1, blue.getWinPoints());
+
+        buildChain(model, chain.get(chain.size() - 1), 1);
+        assertEquals(blue.getFaction(), tracker.getHolder());
+        assertEquals(1, red.getWinPoints());
+        assertEquals(1 + LongestRoadTracker.WIN_POINTS, blue.getWinPoints());
+    }
+
+    /**
+     * Tests if a settlement of another player splits a chain and takes the bonus away.
+     *
+     * Equivalence class: settlementBuilt
+     * Type of Test:      Positive
+     * Initial state:     Game in which the first player holds the bonus with six roads
+     * Input:             Settlement of the second player on the corner after the third road
+     * Expected Output:   The longest road of the first player has three roads and nobody holds the bonus
+     */
+    @Test
+    void settlementSplitsRoad() {
+        SiedlerGame model = new SiedlerGame(WIN_POINTS, TWO_PLAYERS);
+        Player red = model.getCurrentPlayer();
+        assertTrue(model.placeInitialSettlement(RED_START, false));
+        List<Point> chain = buildChain(model, RED_START, LongestRoadTracker.MIN_LENGTH + 1);
+        LongestRoadTracker tracker = model.getLongestRoad();
+        assertEquals(red.getFaction(), tracker.getHolder());
+
+        model.switchToNextPlayer();
+        assertTrue(model.placeInitialSettlement(chain.get(3), false));
+        assertEquals(3, tracker.getLongestRoad(red.getFaction()));
+        assertNull(tracker.getHolder());
+        assertEquals(1, red.getWinPoints());
+    }
+
+    /**
+     * Tests if the incrementally updated lengths equal the lengths computed from all roads and if taking moves
+     * back restores the lengths and the bonus.
+     *
+     * Equivalence class: roadBuilt, settlementBuilt, recompute, unmake
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             80 turns of random generated moves, then all moves taken back
+     * Expected Output:   After every move the lengths equal a recomputation, after taking the moves back
+     *                    the initial lengths and win points
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 2022})
+    void incrementalEqualsRecompute(long seed) {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        LegalMoveGenerator generator = new LegalMoveGenerator(model);
+        SplittableRandom random = new SplittableRandom(seed);
+        MoveList moves = new MoveList();
+        List<UndoRecord> records = new ArrayList<>();
+        String initialState = describe(model);
+
+        for (int turn = 0; turn < TURNS; turn++) {
+            records.add(model.makeThrowDice(model.rollDice()));
+            for (int i = 0; i < BUILD_ATTEMPTS && generator.generateBuildAndTradeMoves(moves) > 0; i++) {
+                records.add(moves.make(random.nextInt(moves.size()), model));
+                assertEquals(recomputed(model), lengths(model, model.getLongestRoad()));
+            }
+            records.add(model.makeSwitchToNextPlayer());
+        }
+        for (int i = records.size() - 1; i >= 0; i--) {
+            model.unmake(records.get(i));
+        }
+        assertEquals(initialState, describe(model));
+    }
+
+    /**
+     * Tests if the tracker rejects invalid parameters.
+     *
+     * Equivalence class: LongestRoadTracker, roadBuilt, settlementBuilt, getLongestRoad
+     * Type of Test:      Negative
+     * Initial state:     New game
+     * Input:             null parameters, an edge without road, a corner without settlement
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void invalidParameters() {
+        SiedlerGame model = new SiedlerGame(WIN_POINTS, TWO_PLAYERS);
+        LongestRoadTracker tracker = model.getLongestRoad();
+        Point neighbour = model.getBoard().getNeighbourLandCorners(RED_START).get(0);
+        assertThrows(IllegalArgumentException.class, () -> new LongestRoadTracker(null, new Player[0]));
+        assertThrows(IllegalArgumentException.class, () -> new LongestRoadTracker(model.getBoard(), null));
+        assertThrows(IllegalArgumentException.class, () -> tracker.roadBuilt(null, RED_START));
+        assertThrows(IllegalArgumentException.class, () -> tracker.roadBuilt(RED_START, neighbour));
+        assertThrows(IllegalArgumentException.class, () -> tracker.settlementBuilt(RED_START));
+        assertThrows(IllegalArgumentException.class, () -> tracker.getLongestRoad(null));
+    }
+
+    /**
+     * Builds a chain of initial roads for the current player which starts at the specified corner and does not
+     * visit a corner twice.
+     *
+     * @return the corners of the chain, starting with the specified corner.
+     */
+    private static List<Point> buildChain(SiedlerGame model, Point start, int roads) {
+        List<Point> chain = new ArrayList<>(List.of(start));
+        Point current = start;
+        for (int i = 0; i < roads; i++) {
+            Point next = null;
+            for (Point neighbour : model.getBoard().getNeighbourLandCorners(current)) {
+                if (!chain.contains(neighbour) && model.getBoard().getEdge(current, neighbour) == null
+                        && model.placeInitialRoad(current, neighbour)) {
+                    next = neighbour;
+                    break;
+                }
+            }
+            assertNotNull(next, "Chain could not be extended");
+            chain.add(next);
+            current = next;
+        }
+        return chain;
+    }
+
+    private static String recomputed(SiedlerGame model) {
+        Player[] players = new Player[model.getPlayerAmount()];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player(model.getPlayerFactions().get(i), Config.createEmptyResourceMap(),
+                    Config.getStructuresPerPlayerAtStart(), new SplittableRandom());
+        }
+        LongestRoadTracker tracker = new LongestRoadTracker(model.getBoard(), players);
+        tracker.recompute();
+        return lengths(model, tracker);
+    }
+
+    private static String describe(SiedlerGame model) {
+        StringBuilder state = new StringBuilder(lengths(model, model.getLongestRoad()));
+        state.append(model.getLongestRoad().getHolder());
+        for (int i = 0; i < model.getPlayerAmount(); i++) {
+            state.append(' ').append(model.getCurrentPlayer().getWinPoints());
+            model.switchToNextPlayer();
+        }
+        return state.toString();
+    }
+
+    private static String lengths(SiedlerGame model, LongestRoadTracker tracker) {
+        StringBuilder lengths = new StringBuilder();
+        for (Config.Faction faction : model.getPlayerFactions()) {
+            lengths.append(faction).append(tracker.getLongestRoad(faction)).append(' ');
+        }
+        return lengths.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compares the resource inventory based on {@link ResourceVector} with the hash map based inventory
+ * {@link ResourceHolder} used before.
+ * <p>
+ * Every operation checks if a player can pay the costs of a city, pays them to the bank and gets them back
+ * from the bank, which is the pattern of a build followed by a dice payout.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class ResourceHolderBenchmark {
+    private static final int OPERATIONS_PER_ROUND = 1_000_000;
+
+    public static void main(String[] args) {
+        Map<Config.Resource, Integer> costMap = Config.Structure.CITY.getCostsAsMap();
+        HashMap<Config.Resource, Integer> mapPlayer = new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK);
+        HashMap<Config.Resource, Integer> mapBank = new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK);
+        double map = MicroBenchmark.run("hash map inventory", OPERATIONS_PER_ROUND, () -> {
+            if (!checkIfEnough(mapPlayer, costMap)) {
+                return 0;
+            }
+            remove(mapPlayer, costMap);
+            add(mapBank, costMap);
+            remove(mapBank, costMap);
+            add(mapPlayer, costMap);
+            return mapPlayer.get(Config.Resource.ORE);
+        });
+
+        ResourceVector costVector = new ResourceVector(costMap);
+        CardBank vectorPlayer = new CardBank(new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK));
+        CardBank vectorBank = new CardBank(new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK));
+        double vector = MicroBenchmark.run("resource vector inventory", OPERATIONS_PER_ROUND, () -> {
+            if (!vectorPlayer.checkIfEnoughOfAllResources(costVector)) {
+                return 0;
+            }
+            vectorPlayer.tryRemoveResources(costVector);
+            vectorBank.addResources(costVector);
+            vectorBank.tryRemoveResources(costVector);
+            vectorPlayer.addResources(costVector);
+            return vectorPlayer.getResource(Config.Resource.ORE);
+        });
+        MicroBenchmark.printSpeedup(map, vector);
+    }
+
+    private static boolean checkIfEnough(Map<Config.Resource, Integer> stock, Map<Config.Resource, Integer> required) {
+        for (Config.Resource key : required.keySet()) {
+            if (stock.get(key) < required.get(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void add(Map<Config.Resource, Integer> stock, Map<Config.Resource, Integer> additional) {
+        for (Map.Entry<Config.Resource, Integer> entry : additional.entrySet()) {
+            stock.put(entry.getKey(), stock.get(entry.getKey()) + entry.getValue());
+        }
+    }
+
+    private static void remove(Map<Config.Resource, Integer> stock, Map<Config.Resource, Integer> removed) {
+        for (Map.Entry<Config.Resource, Integer> entry : removed.entrySet()) {
+            stock.put(entry.getKey(), Math.max(0, stock.get(entry.getKey()) - entry.getValue()));
+        }
+    }
+}
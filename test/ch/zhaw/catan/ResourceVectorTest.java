@@ -0,0 +1,198 @@
+package ch.zhaw.catan;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link ResourceVector} class and its map view.
+ *
+ * @version 16.10.2026
+ */
+class ResourceVectorTest {
+
+    /**
+     * Tests if a vector created from a map holds the amounts of the map.
+     *
+     * Equivalence class: ResourceVector(Map), get
+     * Type of Test:      Positive
+     * Initial state:     -
+     * Input:             Map with 2 lumber and 3 ore
+     * Expected Output:   2 lumber, 3 ore and 0 of every other resource
+     */
+    @Test
+    void createFromMap() {
+        ResourceVector vector = new ResourceVector(Map.of(Config.Resource.LUMBER, 2, Config.Resource.ORE, 3));
+        assertEquals(2, vector.get(Config.Resource.LUMBER));
+        assertEquals(3, vector.get(Config.Resource.ORE));
+        assertEquals(0, vector.get(Config.Resource.GRAIN));
+        assertEquals(5, vector.total());
+    }
+
+    /**
+     * Tests if adding and subtracting vectors changes every resource.
+     *
+     * Equivalence class: add, subtract
+     * Type of Test:      Positive
+     * Initial state:     Vector with the initial resources of the bank
+     * Input:             Costs of a city added and subtracted
+     * Expected Output:   Ore and grain changed accordingly and the initial amounts after subtracting
+     */
+    @Test
+    void addAndSubtract() {
+        ResourceVector bank = new ResourceVector(Config.INITIAL_RESOURCE_CARDS_BANK);
+        ResourceVector cityCosts = new ResourceVector(Config.Structure.CITY.getCostsAsMap());
+
+        bank.add(cityCosts);
+        assertEquals(22, bank.get(Config.Resource.ORE));
+        assertEquals(21, bank.get(Config.Resource.GRAIN));
+        assertEquals(19, bank.get(Config.Resource.WOOL));
+        bank.subtract(cityCosts);
+        assertEquals(new ResourceVector(Config.INITIAL_RESOURCE_CARDS_BANK), bank);
+    }
+
+    /**
+     * Tests if a vector covers another one only if it holds enough of every resource.
+     *
+     * Equivalence class: covers
+     * Type of Test:      Positive, Negative
+     * Initial state:     Vector with 3 ore and 1 grain
+     * Input:             Costs of a city (3 ore, 2 grain)
+     * Expected Output:   Not covered with 1 grain, covered with 2 grain
+     */
+    @Test
+    void covers() {
+        ResourceVector vector = new ResourceVector(Map.of(Config.Resource.ORE, 3, Config.Resource.GRAIN, 1));
+        ResourceVector cityCosts = new ResourceVector(Config.Structure.CITY.getCostsAsMap());
+
+        assertFalse(vector.covers(cityCosts));
+        assertTrue(vector.covers(Config.Resource.ORE, 3));
+        vector.add(Config.Resource.GRAIN, 1);
+        assertTrue(vector.covers(cityCosts));
+    }
+
+    /**
+     * Tests if the map view is equal to a hash map with the same amounts and writes through to the vector.
+     *
+     * Equivalence class: asMap
+     * Type of Test:      Positive
+     * Initial state:     Empty vector
+     * Input:             4 wool put through the map view
+     * Expected Output:   Vector and view hold 4 wool, view equals an equivalent hash map in both directions
+     */
+    @Test
+    void mapViewEqualsHashMap() {
+        ResourceVector vector = new ResourceVector();
+        Map<Config.Resource, Integer> view = vector.asMap();
+        view.put(Config.Resource.WOOL, 4);
+
+        HashMap<Config.Resource, Integer> expected = Config.createEmptyResourceMap();
+        expected.put(Config.Resource.WOOL, 4);
+        assertEquals(4, vector.get(Config.Resource.WOOL));
+        assertEquals(expected, view);
+        assertEquals(view, expected);
+        assertEquals(expected.hashCode(), view.hashCode());
+        assertEquals(expected, new HashMap<>(view));
+    }
+
+    /**
+     * Tests if a vector can not be created from a map with null values.
+     *
+     * Equivalence class: ResourceVector(Map)
+     * Type of Test:      Negative
+     * Initial state:     -
+     * Input:             null and a map with a null value
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void createFromInvalidMap() {
+        HashMap<Config.Resource, Integer> resources = Config.createEmptyResourceMap();
+        resources.put(Config.Resource.BRICK, null);
+        assertThrows(IllegalArgumentException.class, () -> new ResourceVector((Map<Config.Resource, Integer>) null));
+        assertThrows(IllegalArgumentException.class, () -> new ResourceVector(resources));
+    }
+
+    /**
+     * Tests if removing more resources than available empties the stock, leaves the vector unchanged and
+     * reports the removed amount in the output vector.
+     *
+     * Equivalence class: ResourceHolder.tryRemoveResources(ResourceVector)
+     * Type of Test:      Positive
+     * Initial state:     Bank with 1 ore and 19 of every other resource
+     * Input:             Cached (unmodifiable) costs of a city, with and without an output vector
+     * Expected Output:   false, 0 ore and 17 grain in the bank, the output vector holds 1 ore and 2 grain
+     */
+    @Test
+    void tryRemoveMoreThanAvailable() {
+        HashMap<Config.Resource, Integer> bankResources = new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK);
+        bankResources.put(Config.Resource.ORE, 1);
+        CardBank bank = new CardBank(bankResources);
+        ResourceVector cityCosts = Config.Structure.CITY.getCostVector();
+        ResourceVector removed = new ResourceVector();
+
+        assertFalse(bank.tryRemoveResources(cityCosts, removed));
+        assertEquals(0, bank.getResource(Config.Resource.ORE));
+        assertEquals(17, bank.getResource(Config.Resource.GRAIN));
+        assertEquals(1, removed.get(Config.Resource.ORE));
+        assertEquals(2, removed.get(Config.Resource.GRAIN));
+        assertEquals(3, cityCosts.get(Config.Resource.ORE));
+
+        assertFalse(bank.tryRemoveResources(cityCosts));
+        assertEquals(15, bank.getResource(Config.Resource.GRAIN));
+        assertTrue(bank.tryRemoveResources(Config.Structure.ROAD.getCostVector(), removed));
+        assertEquals(Config.Structure.ROAD.getCostVector(), removed);
+    }
+
+    /**
+     * Tests if the inventory is not changed if the output vector of tryRemoveResources can not be changed.
+     *
+     * Equivalence class: ResourceHolder.tryRemoveResources(ResourceVector, ResourceVector)
+     * Type of Test:      Negative
+     * Initial state:     Bank with 1 ore and 19 of every other resource
+     * Input:             Costs of a city and an unmodifiable output vector
+     * Expected Output:   UnsupportedOperationException, the bank is unchanged
+     */
+    @Test
+    void tryRemoveIntoUnmodifiableVector() {
+        HashMap<Config.Resource, Integer> bankResources = new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK);
+        bankResources.put(Config.Resource.ORE, 1);
+        CardBank bank = new CardBank(bankResources);
+        Map<Config.Resource, Integer> before = new HashMap<>(bank.getResources());
+
+        assertThrows(UnsupportedOperationException.class, () -> bank.tryRemoveResources(
+                Config.Structure.CITY.getCostVector(), Config.Structure.ROAD.getCostVector()));
+        assertEquals(before, bank.getResources());
+    }
+
+    /**
+     * Tests if the cached costs of every structure match the costs list and can not be changed.
+     *
+     * Equivalence class: Config.Structure.getCostVector, getCostMap
+     * Type of Test:      Positive, Negative
+     * Initial state:     -
+     * Input:             Every structure
+     * Expected Output:   Vector and map match the costs, changes throw UnsupportedOperationException
+     */
+    @Test
+    void structureCostsAreCachedAndUnmodifiable() {
+        for (Config.Structure structure : Config.Structure.values()) {
+            ResourceVector expected = new ResourceVector();
+            for (Config.Resource resource : structure.getCosts()) {
+                expected.add(resource, 1);
+            }
+            assertEquals(expected, structure.getCostVector());
+            assertEquals(expected, new ResourceVector(structure.getCostMap()));
+            assertEquals(structure.getCostMap(), structure.getCostsAsMap());
+            assertSame(structure.getCostVector(), structure.getCostVector());
+            assertThrows(UnsupportedOperationException.class,
+                    () -> structure.getCostVector().add(Config.Resource.ORE, 1));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> structure.getCostVector().asMap().put(Config.Resource.ORE, 1));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> structure.getCostMap().put(Config.Resource.ORE, 1));
+        }
+    }
+}
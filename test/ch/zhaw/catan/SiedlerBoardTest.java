@@ -0,0 +1,383 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import ch.zhaw.hexboard.AnsiDiffRenderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the lookup tables maintained by the {@link SiedlerBoard} class and its text representation.
+ *
+ * @version 16.10.2026
+ */
+class SiedlerBoardTest {
+    private static final int THIEF_DICE_VALUE = 7;
+
+    /**
+     * Tests if the fields returned for a dice value match the fields found by filtering all fields of the board.
+     *
+     * Equivalence class: getFieldsForDiceValue
+     * Type of Test:      Positive
+     * Initial state:     New SiedlerBoard with the thief on its initial position
+     * Input:             All valid dice values
+     * Expected Output:   The land fields without thief which have the dice value
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12})
+    void getFieldsForDiceValueMatchesAllFields(int diceValue) {
+        SiedlerBoard board = createBoard();
+        assertEquals(filterFields(board, diceValue), new HashSet<>(board.getFieldsForDiceValue(diceValue)));
+    }
+
+    /**
+     * Tests if moving the thief removes the field from and adds the previous thief field back to the dice values.
+     *
+     * Equivalence class: setThiefPosition, getFieldsForDiceValue
+     * Type of Test:      Positive
+     * Initial state:     New SiedlerBoard with the thief on its initial position
+     * Input:             Thief moved to (5,5) and then to (9,11)
+     * Expected Output:   The lookup matches the filtered fields after every move
+     */
+    @Test
+    void getFieldsForDiceValueAfterThiefMoved() {
+        SiedlerBoard board = createBoard();
+        Point forest = new Point(5, 5);
+        Point mountain = new Point(9, 11);
+
+        assertTrue(board.setThiefPosition(forest));
+        assertFalse(board.getFieldsForDiceValue(6).contains(forest));
+        assertTrue(board.setThiefPosition(mountain));
+        assertTrue(board.getFieldsForDiceValue(6).contains(forest));
+        assertFalse(board.getFieldsForDiceValue(6).contains(mountain));
+        for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+            assertEquals(filterFields(board, dice), new HashSet<>(board.getFieldsForDiceValue(dice)));
+        }
+    }
+
+    /**
+     * Tests if placing the thief on water does not change the lookup.
+     *
+     * Equivalence class: setThiefPosition, getFieldsForDiceValue
+     * Type of Test:      Negative
+     * Initial state:     New SiedlerBoard with the thief on its initial position
+     * Input:             Thief placed on the water field (4,2)
+     * Expected Output:   The placement fails and the fields per dice value are unchanged
+     */
+    @Test
+    void getFieldsForDiceValueAfterInvalidThiefPlacement() {
+        SiedlerBoard board = createBoard();
+        Map<Integer, List<Point>> before = new HashMap<>();
+        for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+            before.put(dice, new ArrayList<>(board.getFieldsForDiceValue(dice)));
+        }
+        assertFalse(board.setThiefPosition(new Point(4, 2)));
+        for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+            assertEquals(before.get(dice), board.getFieldsForDiceValue(dice));
+        }
+    }
+
+    /**
+     * Tests if the returned list cannot be used to modify the lookup.
+     *
+     * Equivalence class: getFieldsForDiceValue
+     * Type of Test:      Negative
+     * Initial state:     New SiedlerBoard
+     * Input:             Dice value 6
+     * Expected Output:   UnsupportedOperationException when modifying the list
+     */
+    @Test
+    void getFieldsForDiceValueIsUnmodifiable() {
+        SiedlerBoard board = createBoard();
+        assertThrows(UnsupportedOperationException.class, () -> board.getFieldsForDiceValue(6).clear());
+    }
+
+    /**
+     * Tests if changing the returned positions does not change the tables, which all boards of a layout share.
+     *
+     * Equivalence class: getLandFieldPositions, getLandCornerPositions, getNeighbourLandCorners
+     * Type of Test:      Negative
+     * Initial state:     Two new SiedlerBoards of the standard layout
+     * Input:             Move every returned position of the first board
+     * Expected Output:   The second board returns the original positions
+     */
+    @Test
+    void returnedPositionsAreCopies() {
+        SiedlerBoard board = createBoard();
+        SiedlerBoard otherBoard = createBoard();
+        List<Point> fields = otherBoard.getLandFieldPositions();
+        List<Point> corners = otherBoard.getLandCornerPositions();
+        List<Point> neighbours = otherBoard.getNeighbourLandCorners(corners.get(0));
+        List<Point> diceFields = otherBoard.getFieldsForDiceValue(6);
+        Point thief = otherBoard.getThiefPosition();
+
+        board.getLandFieldPositions().forEach(position -> position.translate(1, 1));
+        board.getLandCornerPositions().forEach(position -> position.translate(1, 1));
+        board.getNeighbourLandCorners(corners.get(0)).forEach(position -> position.translate(1, 1));
+        board.getFieldsForDiceValue(6).forEach(position -> position.translate(1, 1));
+        board.getThiefPosition().translate(1, 1);
+
+        assertEquals(fields, otherBoard.getLandFieldPositions());
+        assertEquals(corners, otherBoard.getLandCornerPositions());
+        assertEquals(neighbours, otherBoard.getNeighbourLandCorners(corners.get(0)));
+        assertEquals(diceFields, otherBoard.getFieldsForDiceValue(6));
+        assertEquals(thief, board.getThiefPosition());
+    }
+
+    /**
+     * Tests if the payout taken from the production table matches the payout calculated field by field
+     * while settlements and cities are placed, upgraded and removed and the thief moves.
+     *
+     * Equivalence class: getResourcesToPayPerFaction
+     * Type of Test:      Positive
+     * Initial state:     New SiedlerBoard with a full bank
+     * Input:             Seeded random placements, upgrades, removals and thief moves
+     * Expected Output:   Both payouts are equal for every dice value except 7 after every change
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 2022L})
+    void productionTableMatchesFieldByFieldPayout(long seed) {
+        SiedlerBoard board = createBoard();
+        Random random = new Random(seed);
+        List<Player> players = createPlayers();
+        List<Config.Faction> factions = getFactions(players);
+        List<Point> corners = getCornerPositions(board);
+        List<Point> landFields = getLandFields(board);
+
+        for (int step = 0; step < 200; step++) {
+            Point corner = corners.get(random.nextInt(corners.size()));
+            Player owner = players.get(random.nextInt(players.size()));
+            switch (random.nextInt(4)) {
+                case 0 -> board.setCorner(corner, new Settlement(owner));
+                case 1 -> board.setCorner(corner, new City(owner));
+                case 2 -> board.setCorner(corner, null);
+                default -> board.setThiefPosition(landFields.get(random.nextInt(landFields.size())));
+            }
+            for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+                if (dice == THIEF_DICE_VALUE) {
+                    continue;
+                }
+                assertEquals(board.getResourcesToPayPerFactionPerField(dice, factions),
+                        board.getResourcesToPayPerFaction(dice, factions));
+            }
+        }
+    }
+
+    /**
+     * Tests if the counted roads, structures and settlement corners match the numbers found by looking at the
+     * neighbours of the corner while settlements and roads are placed and removed.
+     *
+     * Equivalence class: countRoads, hasStructureNearby, hasSettlementCorner
+     * Type of Test:      Positive
+     * Initial state:     New SiedlerBoard without structures
+     * Input:             Seeded random placements and removals of settlements and roads
+     * Expected Output:   The counts equal the neighbour lookups for every land corner after every change
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 2022L})
+    void cornerCountsMatchNeighbours(long seed) {
+        SiedlerBoard board = createBoard();
+        Random random = new Random(seed);
+        List<Player> players = createPlayers();
+        List<Point> corners = board.getLandCornerPositions();
+
+        for (int step = 0; step < 200; step++) {
+            Point corner = corners.get(random.nextInt(corners.size()));
+            List<Point> neighbours = board.getNeighbourLandCorners(corner);
+            Point neighbour = neighbours.get(random.nextInt(neighbours.size()));
+            Player owner = players.get(random.nextInt(players.size()));
+            switch (random.nextInt(4)) {
+                case 0 -> board.setCorner(corner, new Settlement(owner));
+                case 1 -> board.setCorner(corner, null);
+                case 2 -> board.setEdge(corner, neighbour, new Road(owner));
+                default -> board.setEdge(corner, neighbour, null);
+            }
+            boolean[] settlementCorners = new boolean[Config.Faction.values().length];
+            for (Point position : corners) {
+                int index = board.getLandCornerIndex(position);
+                boolean structureNearby = board.getCorner(position) != null;
+                int[] roads = new int[Config.Faction.values().length];
+                for (Point other : board.getNeighbourLandCorners(position)) {
+                    structureNearby |= board.getCorner(other) != null;
+                    Road road = board.getEdge(position, other);
+                    if (road != null) {
+                        roads[road.getOwner().getFaction().ordinal()]++;
+                    }
+                }
+                assertEquals(structureNearby, board.hasStructureNearby(index));
+                for (int faction = 0; faction < roads.length; faction++) {
+                    assertEquals(roads[faction], board.countRoads(index, faction));
+                    settlementCorners[faction] |= roads[faction] > 0 && !structureNearby
+                            && board.isResourceCorner(position);
+                }
+            }
+            for (int faction = 0; faction < settlementCorners.length; faction++) {
+                assertEquals(settlementCorners[faction], board.hasSettlementCorner(faction));
+            }
+        }
+    }
+
+    /**
+     * Tests if the payout falls back to the field by field calculation if the bank cannot pay the full
+     * production.
+     *
+     * Equivalence class: getResourcesToPayPerFaction
+     * Type of Test:      Positive
+     * Initial state:     SiedlerBoard with a bank holding a single grain card
+     * Input:             Two settlements of different players on the grain field (4,8) with the dice value 2
+     * Expected Output:   No grain is paid since the field is shared and the bank is short
+     */
+    @Test
+    void productionTableNotUsedIfBankIsShort() {
+        HashMap<Config.Resource, Integer> bankResources = Config.createEmptyResourceMap();
+        bankResources.put(Config.Resource.GRAIN, 1);
+        SiedlerBoard board = new SiedlerBoard(new CardBank(bankResources));
+        List<Player> players = createPlayers();
+        List<Config.Faction> factions = getFactions(players);
+        board.setCorner(new Point(4, 6), new Settlement(players.get(0)));
+        board.setCorner(new Point(4, 10), new Settlement(players.get(1)));
+
+        Map<Config.Faction, HashMap<Config.Resource, Integer>> payout = board.getResourcesToPayPerFaction(2, factions);
+        assertEquals(board.getResourcesToPayPerFactionPerField(2, factions), payout);
+        for (Config.Faction faction : factions) {
+            assertEquals(0, payout.get(faction).get(Config.Resource.GRAIN));
+        }
+    }
+
+    /**
+     * Tests if an invalid dice value is rejected.
+     *
+     * Equivalence class: getResourcesToPayPerFaction
+     * Type of Test:      Negative
+     * Initial state:     New SiedlerBoard
+     * Input:             Dice values 1 and 13
+     * Expected Output:   IllegalArgumentException
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 13})
+    void getResourcesToPayPerFactionInvalidDiceValue(int diceValue) {
+        SiedlerBoard board = createBoard();
+        List<Config.Faction> factions = getFactions(createPlayers());
+        assertThrows(IllegalArgumentException.class, () -> board.getResourcesToPayPerFaction(diceValue, factions));
+    }
+
+    /**
+     * Tests if the board written to a writer is the same as its text representation, also after the board changed.
+     *
+     * Equivalence class: render, toString
+     * Type of Test:      Positive
+     * Initial state:     Game of ThreePlayerStandard after the setup phase
+     * Input:             Rendering before and after the thief and a road were placed
+     * Expected Output:   The written board equals the text, which starts with the x coordinates and changes
+     */
+    @Test
+    void renderMatchesToString() throws IOException {
+        SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(10);
+        SiedlerBoard board = game.getBoard();
+        String before = board.toString();
+        assertSame(before, board.toString());
+        StringWriter writer = new StringWriter();
+        board.render(writer);
+        assertEquals(before, writer.toString());
+        assertTrue(before.startsWith("        0       1       2"));
+
+        assertTrue(board.setThiefPosition(new Point(6, 8)));
+        board.setEdge(new Point(6, 6), new Point(7, 7), new Road(game.getCurrentPlayer()));
+        StringBuilder builder = new StringBuilder();
+        board.render(builder);
+        assertEquals(builder.toString(), board.toString());
+        assertNotEquals(before, board.toString());
+        assertThrows(IllegalArgumentException.class, () -> board.render(null));
+    }
+
+    /**
+     * Tests if an ANSI renderer sends the whole board once and afterwards only the changes of a road.
+     *
+     * Equivalence class: createAnsiRenderer
+     * Type of Test:      Positive
+     * Initial state:     Game of ThreePlayerStandard after the setup phase
+     * Input:             Rendering before and after a road was placed and again without a change
+     * Expected Output:   The first frame is larger than the text, the road costs less than 100 characters and
+     *                    the unchanged board nothing
+     */
+    @Test
+    void ansiRendererSendsChanges() throws IOException {
+        SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(10);
+        SiedlerBoard board = game.getBoard();
+        AnsiDiffRenderer renderer = board.createAnsiRenderer();
+        StringBuilder terminal = new StringBuilder();
+        assertTrue(renderer.render(terminal) > board.toString().length());
+
+        board.setEdge(new Point(6, 6), new Point(7, 7), new Road(game.getCurrentPlayer()));
+        int sent = renderer.render(terminal);
+        assertTrue(sent > 0 && sent < 100, "Sent " + sent + " characters");
+        assertEquals(0, renderer.render(terminal));
+    }
+
+    private static List<Player> createPlayers() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            players.add(new Player(Config.Faction.values()[i], Config.createEmptyResourceMap(),
+                    Config.getStructuresPerPlayerAtStart()));
+        }
+        return players;
+    }
+
+    private static List<Config.Faction> getFactions(List<Player> players) {
+        List<Config.Faction> factions = new ArrayList<>();
+        for (Player player : players) {
+            factions.add(player.getFaction());
+        }
+        return factions;
+    }
+
+    private static List<Point> getCornerPositions(SiedlerBoard board) {
+        List<Point> corners = new ArrayList<>();
+        for (int x = Config.MIN_COORDINATE_VALUE; x <= Config.MAX_X_COORDINATE_VALUE; x++) {
+            for (int y = Config.MIN_COORDINATE_VALUE; y <= Config.MAX_Y_COORDINATE_VALUE; y++) {
+                Point position = new Point(x, y);
+                if (board.hasCorner(position)) {
+                    corners.add(position);
+                }
+            }
+        }
+        return corners;
+    }
+
+    private static List<Point> getLandFields(SiedlerBoard board) {
+        List<Point> landFields = new ArrayList<>();
+        for (Point position : board.getFields()) {
+            if (board.getField(position).getLand() != Config.Land.WATER) {
+                landFields.add(position);
+            }
+        }
+        return landFields;
+    }
+
+    private static SiedlerBoard createBoard() {
+        return new SiedlerBoard(new CardBank(new HashMap<>(Config.INITIAL_RESOURCE_CARDS_BANK)));
+    }
+
+    private static HashSet<Point> filterFields(SiedlerBoard board, int diceValue) {
+        HashSet<Point> expected = new HashSet<>();
+        for (Point position : board.getFields()) {
+            Field field = board.getField(position);
+            if (field.getDiceValue() == diceValue && !field.hasThief() && field.getLand() != Config.Land.WATER) {
+                expected.add(position);
+            }
+        }
+        return expected;
+    }
+}
@@ -8,8 +8,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.awt.Point;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -579,6 +582,33 @@ class SiedlerGameTest {
         assertEquals(expected, actual);
     }
 
+    /**
+     * Tests if throwDice with an array counts the same resource cards as the lists of throwDice.
+     *
+     * Equivalence class: ThrowDice valid numbers
+     * Type of Test:      Positive
+     * Initial state:     ThreePlayerStandard.getAfterSetupPhase
+     * Input:             Valid dice numbers except 7 (2, 3, 4, 5, 6, 8, 9, 10, 11, 12)
+     * Expected Output:   That the counted cards and the resources of the players match the ones of throwDice
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 5, 6, 8, 9, 10, 11, 12})
+    void throwDiceCountsCards(int diceValue) {
+        SiedlerGame expectedModel = ThreePlayerStandard.getAfterSetupPhase(DEFAULT_WINPOINTS);
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(DEFAULT_WINPOINTS);
+        Map<Config.Faction, List<Config.Resource>> expected = expectedModel.throwDice(diceValue);
+        int[] cardsReceived = new int[model.getPlayerAmount()];
+        model.throwDice(diceValue, cardsReceived);
+        for (int i = 0; i < model.getPlayerAmount(); i++) {
+            Config.Faction faction = model.getPlayerFactions().get(i);
+            assertEquals(expected.get(faction).size(), cardsReceived[i], "Wrong number of cards for " + faction);
+            assertEquals(expectedModel.getCurrentPlayer().getResources(), model.getCurrentPlayer().getResources());
+            expectedModel.switchToNextPlayer();
+            model.switchToNextPlayer();
+        }
+        assertThrows(IllegalArgumentException.class, () -> model.throwDice(diceValue, new int[1]));
+    }
+
     /**
      * Tests if throwDice works correctly for all valid numbers except seven.
      *
@@ -1196,13 +1226,13 @@ class SiedlerGameTest {
     }
 
     /**
-     * Tests if buildRoad returns true and if player pays resources.
+     * Tests if buildRoad returns true, if player pays resources and if bank receives the resources.
      *
-     * Equivalence class: BuildSettlement player not enough resources
+     * Equivalence class: BuildRoad valid start and end points
      * Type of Test:      Positive
-     * Initial state:     new SiedlerGame
-     * Input:             Valid position with road to it
-     * Expected Output:   That false is returned
+     * Initial state:     ThreePlayerStandard.getAfterSetupPhaseAlmostEmptyBank
+     * Input:             Two valid road positions
+     * Expected Output:   That true is returned and the costs of two roads are moved from the player to the bank
      */
     @Test
     void buildRoadValidStartAndEndPoints() {
@@ -1216,11 +1246,12 @@ class SiedlerGameTest {
         Map<Config.Resource, Integer> costOfTwoRoads = Map.of(Config.Resource.GRAIN, 0, Config.Resource.WOOL, 0,
                 Config.Resource.BRICK, 2, Config.Resource.ORE, 0, Config.Resource.LUMBER, 2);
         model.getCurrentPlayer().addResources(costOfTwoRoads);
+        model.getBank().tryRemoveResources(costOfTwoRoads);
 
         assertEquals(playerBefore, model.getCurrentPlayer().getResources(),
                 "Player didn't pay the right amount of resources");
         assertEquals(bankBefore, model.getBank().getResources(),
-                "Bank received resources for a settlement that wasn't built");
+                "Bank didn't receive the right amount of resources");
         assertTrue(testRoadStockOfPlayer(model, 2, roadsBefore),
                 "Player doesn't have the right amount of roads left");
     }
@@ -1306,6 +1337,35 @@ class SiedlerGameTest {
                 "Player doesn't have the right amount of roads left");
     }
 
+    /**
+     * Tests if buildRoad returns false if there is already a road on the edge
+     *
+     * Equivalence class: BuildRoad on an edge with a road
+     * Type of Test:      Positive
+     * Initial state:     ThreePlayerStandard.getAfterSetupPhaseAlmostEmptyBank with a road built by the player
+     * Input:             The start and end points of the built road, in both directions
+     * Expected Output:   That false is returned, that the road stays and that the player didn't pay
+     */
+    @Test
+    void buildRoadOnExistingRoad() {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhaseAlmostEmptyBank(DEFAULT_WINPOINTS);
+        assertTrue(model.buildRoad(new Point(6, 6), new Point(6, 4)));
+        Road road = model.getBoard().getEdge(new Point(6, 6), new Point(6, 4));
+        int roadsBefore = model.getCurrentPlayer().getStructureStock(Config.Structure.ROAD);
+        Map<Config.Resource, Integer> before = new HashMap<>(model.getCurrentPlayer().getResources());
+
+        assertFalse(model.buildRoad(new Point(6, 6), new Point(6, 4)),
+                "Road was built on an edge that already has a road");
+        assertFalse(model.buildRoad(new Point(6, 4), new Point(6, 6)),
+                "Road was built on an edge that already has a road");
+        assertSame(road, model.getBoard().getEdge(new Point(6, 6), new Point(6, 4)),
+                "The road on the edge was replaced");
+        assertEquals(before, model.getCurrentPlayer().getResources(),
+                "Player payed for a road that wasn't built");
+        assertTrue(testRoadStockOfPlayer(model, 0, roadsBefore),
+                "Player doesn't have the right amount of roads left");
+    }
+
     /**
      * Tests if buildCity throws a IllegalArgumentException if it's parameter is null.
      *
@@ -1783,4 +1843,148 @@ class SiedlerGameTest {
         int woolLeftInBankAfter = model.getBank().getResource(Config.Resource.WOOL);
         assertEquals(woolLeftInBankBefore, woolLeftInBankAfter);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests if rollDice only returns valid dice values and every dice value occurs.
+     *
+     * Equivalence class: rollDice
+     * Type of Test:      Positive
+     * Initial state:     New game with a seed
+     * Input:             1000 dice throws
+     * Expected Output:   Every value between Config.MIN_DICE_VALUE and Config.MAX_DICE_VALUE, no other values
+     */
+    @Test
+    void rollDiceInRange() {
+        SiedlerGame model = new SiedlerGame(DEFAULT_WINPOINTS, DEFAULT_NUMBER_OF_PLAYERS, 1L);
+        Set<Integer> diceValues = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            int diceValue = model.rollDice();
+            assertTrue(diceValue >= Config.MIN_DICE_VALUE && diceValue <= Config.MAX_DICE_VALUE,
+                    "Dice value " + diceValue + " is not in valid range");
+            diceValues.add(diceValue);
+        }
+        assertEquals(Config.MAX_DICE_VALUE - Config.MIN_DICE_VALUE + 1, diceValues.size(),
+                "Not every dice value was thrown");
+    }
+
+    /**
+     * Tests if two games with the same seed and the same moves throw the same dice and steal and drop the same
+     * resource cards.
+     *
+     * Equivalence class: Constructor with seed, rollDice, throwDice, placeThiefAndStealCard
+     * Type of Test:      Positive
+     * Initial state:     Two games with the same seed after the setup phase of ThreePlayerStandard
+     * Input:             200 dice throws, the thief is placed on (10, 14) or (7, 11) on every 7
+     * Expected Output:   The same dice values, payouts, stolen resources and resource stocks in both games
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 2022})
+    void sameSeedReplaysGame(long seed) {
+        SiedlerGame first = createAfterSetupPhase(seed);
+        SiedlerGame second = createAfterSetupPhase(seed);
+        for (int turn = 0; turn < 200; turn++) {
+            int diceValue = first.rollDice();
+            assertEquals(diceValue, second.rollDice(), "Dice value differs in turn " + turn);
+            assertEquals(first.throwDice(diceValue), second.throwDice(diceValue), "Payout differs in turn " + turn);
+            if (diceValue == Config.DROP_CARDS_DICE_VALUE) {
+                Point thiefPosition = turn % 2 == 0 ? new Point(10, 14) : new Point(7, 11);
+                assertTrue(first.placeThiefAndStealCard(thiefPosition));
+                assertTrue(second.placeThiefAndStealCard(thiefPosition));
+                assertEquals(first.getLastTheftVictim(), second.getLastTheftVictim());
+                assertEquals(first.getLastStolenResource(), second.getLastStolenResource());
+            }
+            for (int i = 0; i < DEFAULT_NUMBER_OF_PLAYERS; i++) {
+                assertEquals(first.getCurrentPlayer().getResources(), second.getCurrentPlayer().getResources(),
+                        "Resource stock differs in turn " + turn);
+                first.switchToNextPlayer();
+                second.switchToNextPlayer();
+            }
+            first.switchToNextPlayer();
+            second.switchToNextPlayer();
+        }
+        assertEquals(first.getBank().getResources(), second.getBank().getResources());
+    }
+
+    /**
+     * Tests if a forked game has the same state as the original game.
+     *
+     * Equivalence class: fork
+     * Type of Test:      Positive
+     * Initial state:     ThreePlayerStandard.getAfterSetupPhaseSomeRoads, the thief on (10, 14), second player's turn
+     * Input:             -
+     * Expected Output:   Same board, bank, player stocks, win points and payouts as the original game
+     */
+    @Test
+    void forkHasSameState() {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhaseSomeRoads(DEFAULT_WINPOINTS);
+        assertTrue(model.placeThiefAndStealCard(new Point(10, 14)));
+        model.switchToNextPlayer();
+
+        SiedlerGame fork = model.fork();
+        assertEquals(model.getBoard().toString(), fork.getBoard().toString());
+        assertEquals(model.getBank().getResources(), fork.getBank().getResources());
+        assertEquals(model.getScoreboard(), fork.getScoreboard());
+        assertEquals(model.getCurrentPlayerFaction(), fork.getCurrentPlayerFaction());
+        assertEquals(model.getLastTheftVictim(), fork.getLastTheftVictim());
+        for (int i = 0; i < DEFAULT_NUMBER_OF_PLAYERS; i++) {
+            assertEquals(model.getCurrentPlayer().getResources(), fork.getCurrentPlayer().getResources());
+            model.switchToNextPlayer();
+            fork.switchToNextPlayer();
+        }
+        for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+            if (dice != Config.DROP_CARDS_DICE_VALUE) {
+                assertEquals(model.getBoard().getResourcesToPayPerFaction(dice, model.getPlayerFactions()),
+                        fork.getBoard().getResourcesToPayPerFaction(dice, fork.getPlayerFactions()));
+            }
+        }
+    }
+
+    /**
+     * Tests if moves in a forked game do not change the original game and the other way round.
+     *
+     * Equivalence class: fork
+     * Type of Test:      Positive
+     * Initial state:     ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement and a fork of it
+     * Input:             Fifth settlement built and the thief placed on (10, 14) in the fork,
+     *                    dice value 4 thrown in the original
+     * Expected Output:   The settlement, the thief and the theft only in the fork, the payout only in the original
+     */
+    @Test
+    void forkIsIndependent() {
+        SiedlerGame model = ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(DEFAULT_WINPOINTS);
+        String originalBoard = model.getBoard().toString();
+        Map<Config.Resource, Integer> originalStock = new HashMap<>(model.getCurrentPlayer().getResources());
+        SiedlerGame fork = model.fork(new SplittableRandom(1L));
+
+        Point position = ThreePlayerStandard.PLAYER_ONE_READY_TO_BUILD_FIFTH_SETTLEMENT_FIFTH_SETTLEMENT_POSITION;
+        assertTrue(fork.buildSettlement(position));
+        assertTrue(fork.placeThiefAndStealCard(new Point(10, 14)));
+        assertNotNull(fork.getBoard().getCorner(position));
+        assertNull(model.getBoard().getCorner(position));
+        assertEquals(originalBoard, model.getBoard().toString());
+        assertEquals(originalStock, model.getCurrentPlayer().getResources());
+        assertSame(fork.getCurrentPlayer(), fork.getBoard().getCorner(position).getOwner());
+
+        Map<Config.Resource, Integer> forkStock = new HashMap<>(fork.getCurrentPlayer().getResources());
+        model.throwDice(4);
+        assertEquals(forkStock, fork.getCurrentPlayer().getResources());
+        assertNotEquals(model.getBoard().toString(), fork.getBoard().toString());
+    }
+
+    private static SiedlerGame createAfterSetupPhase(long seed) {
+        SiedlerGame model = new SiedlerGame(DEFAULT_WINPOINTS, DEFAULT_NUMBER_OF_PLAYERS, seed);
+        for (int i = 0; i < DEFAULT_NUMBER_OF_PLAYERS; i++) {
+            Config.Faction faction = model.getCurrentPlayerFaction();
+            assertTrue(model.placeInitialSettlement(ThreePlayerStandard.INITIAL_SETTLEMENT_POSITIONS.get(faction).first,
+                    false));
+            model.switchToNextPlayer();
+        }
+        for (int i = 0; i < DEFAULT_NUMBER_OF_PLAYERS; i++) {
+            model.switchToPreviousPlayer();
+            Config.Faction faction = model.getCurrentPlayerFaction();
+            assertTrue(model.placeInitialSettlement(ThreePlayerStandard.INITIAL_SETTLEMENT_POSITIONS.get(faction).second,
+                    true));
+        }
+        return model;
+    }
+}
@@ -0,0 +1,168 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the make and unmake methods of the {@link SiedlerGame} class and the {@link UndoRecord}
+ * they return.
+ *
+ * @version 16.10.2026
+ */
+class UndoRecordTest {
+    private static final int WIN_POINTS = 10;
+    private static final int MOVES = 400;
+    private static final int ACTION_COUNT = 6;
+
+    /**
+     * Tests if building a settlement and switching to the next player can be taken back in reverse order.
+     *
+     * Equivalence class: makeBuildSettlement, makeSwitchToNextPlayer, unmake
+     * Type of Test:      Positive
+     * Initial state:     ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement
+     * Input:             Settlement on (9, 13), switch to the next player, both taken back in reverse order
+     * Expected Output:   The state after each unmake equals the state before the corresponding make
+     */
+    @Test
+    void buildAndTakeBack() {
+        SiedlerGame model = ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(WIN_POINTS);
+        Point position = ThreePlayerStandard.PLAYER_ONE_READY_TO_BUILD_FIFTH_SETTLEMENT_FIFTH_SETTLEMENT_POSITION;
+        String initialState = describe(model);
+        int initialWinPoints = model.getCurrentPlayer().getWinPoints();
+
+        UndoRecord settlement = model.makeBuildSettlement(position);
+        assertNotNull(settlement, "Settlement could not be built");
+        assertEquals(initialWinPoints + 1, model.getCurrentPlayer().getWinPoints());
+        String afterSettlement = describe(model);
+
+        UndoRecord switchPlayer = model.makeSwitchToNextPlayer();
+        assertEquals(1, model.getCurrentPlayerIndex());
+        model.unmake(switchPlayer);
+        assertEquals(afterSettlement, describe(model));
+
+        model.unmake(settlement);
+        assertEquals(initialState, describe(model));
+        assertNull(model.getBoard().getCorner(position));
+        assertEquals(initialWinPoints, model.getCurrentPlayer().getWinPoints());
+    }
+
+    /**
+     * Tests if a random sequence of moves of all kinds can be taken back move by move.
+     *
+     * Equivalence class: make methods, unmake
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             400 random moves, taken back in reverse order
+     * Expected Output:   The state after each unmake equals the state before the corresponding make
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 2022})
+    void randomMovesAreTakenBack(long seed) {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        SplittableRandom random = new SplittableRandom(seed);
+        Deque<UndoRecord> records = new ArrayDeque<>();
+        Deque<String> states = new ArrayDeque<>();
+        String initialState = describe(model);
+
+        for (int i = 0; i < MOVES; i++) {
+            String state = describe(model);
+            UndoRecord record = makeRandomMove(model, random);
+            if (record == null) {
+                assertEquals(state, describe(model), "Failed move changed the game");
+                continue;
+            }
+            if (random.nextInt(4) == 0) {
+                model.unmake(record);
+                assertEquals(state, describe(model), "Move was not taken back");
+                continue;
+            }
+            records.push(record);
+            states.push(state);
+        }
+        while (!records.isEmpty()) {
+            model.unmake(records.pop());
+            assertEquals(states.pop(), describe(model), "Move was not taken back");
+        }
+        assertEquals(initialState, describe(model));
+    }
+
+    /**
+     * Tests if unmake rejects records which are null or belong to another game.
+     *
+     * Equivalence class: unmake
+     * Type of Test:      Negative
+     * Initial state:     Two new games
+     * Input:             null, a record of the other game
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void unmakeInvalidRecord() {
+        SiedlerGame model = new SiedlerGame(WIN_POINTS, 3);
+        SiedlerGame other = new SiedlerGame(WIN_POINTS, 3);
+        UndoRecord record = other.makeSwitchToNextPlayer();
+        assertThrows(IllegalArgumentException.class, () -> model.unmake(null));
+        assertThrows(IllegalArgumentException.class, () -> model.unmake(record));
+    }
+
+    /**
+     * Makes a random move and returns its record or null, if the move was not possible.
+     */
+    private static UndoRecord makeRandomMove(SiedlerGame model, SplittableRandom random) {
+        SiedlerBoard board = model.getBoard();
+        List<Point> corners = board.getLandCornerPositions();
+        Point corner = corners.get(random.nextInt(corners.size()));
+        Config.Resource[] resources = Config.Resource.values();
+        return switch (random.nextInt(ACTION_COUNT)) {
+            case 0 -> model.makeThrowDice(model.rollDice());
+            case 1 -> model.makeBuildSettlement(corner);
+            case 2 -> model.makeBuildCity(corner);
+            case 3 -> {
+                List<Point> neighbours = board.getNeighbourLandCorners(corner);
+                yield model.makeBuildRoad(corner, neighbours.get(random.nextInt(neighbours.size())));
+            }
+            case 4 -> {
+                List<Point> fields = board.getLandFieldPositions();
+                yield model.makePlaceThiefAndStealCard(fields.get(random.nextInt(fields.size())));
+            }
+            default -> random.nextBoolean() ? model.makeSwitchToNextPlayer()
+                    : model.makeTradeWithBankFourToOne(resources[random.nextInt(resources.length)],
+                    resources[random.nextInt(resources.length)]);
+        };
+    }
+
+    /**
+     * Describes every part of the game a move can change.
+     */
+    private static String describe(SiedlerGame model) {
+        StringBuilder state = new StringBuilder();
+        SiedlerBoard board = model.getBoard();
+        state.append(board).append(board.getThiefPosition()).append(model.getBank().getResources())
+                .append(model.getLongestRoad());
+        for (int i = 0; i < model.getPlayerAmount(); i++) {
+            Player player = model.getCurrentPlayer();
+            state.append(player.getFaction()).append(player.getResources()).append(player.getWinPoints());
+            for (Config.Structure structure : Config.Structure.values()) {
+                state.append(player.getStructureStock(structure));
+            }
+            model.switchToNextPlayer();
+        }
+        state.append(model.getCurrentPlayerIndex()).append(model.getLastTheftVictim())
+                .append(model.getLastStolenResource());
+        for (int dice = Config.MIN_DICE_VALUE; dice <= Config.MAX_DICE_VALUE; dice++) {
+            if (dice != Config.DROP_CARDS_DICE_VALUE) {
+                state.append(board.getResourcesToPayPerFaction(dice, model.getPlayerFactions()));
+            }
+        }
+        return state.toString();
+    }
+}
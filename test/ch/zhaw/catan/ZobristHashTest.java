@@ -0,0 +1,136 @@
+package ch.zhaw.catan;
+
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the incrementally updated Zobrist hash of {@link SiedlerGame#getStateHash()} against the
+ * hash calculated from the whole state.
+ *
+ * @version 16.10.2026
+ */
+class ZobristHashTest {
+    private static final int WIN_POINTS = 10;
+    private static final int TURNS = 80;
+    private static final int BUILD_ATTEMPTS = 6;
+
+    /**
+     * Tests if the incremental hash equals the hash calculated from the whole state after every move and if
+     * taking the moves back restores the initial hash.
+     *
+     * Equivalence class: getStateHash, make methods, unmake
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             80 turns of random dice, thief placements and generated moves, then all moves taken back
+     * Expected Output:   The incremental hash equals the calculated hash after every move and unmake, the
+     *                    initial hash after taking all moves back
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1, 42, 2022})
+    void incrementalEqualsRecompute(long seed) {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        LegalMoveGenerator generator = new LegalMoveGenerator(model);
+        SplittableRandom random = new SplittableRandom(seed);
+        MoveList moves = new MoveList();
+        List<UndoRecord> records = new ArrayList<>();
+        long initialHash = model.getStateHash();
+        assertEquals(model.computeStateHash(), initialHash);
+
+        for (int turn = 0; turn < TURNS; turn++) {
+            int dice = model.rollDice();
+            records.add(model.makeThrowDice(dice));
+            assertEquals(model.computeStateHash(), model.getStateHash());
+            if (dice == Config.DROP_CARDS_DICE_VALUE) {
+                generator.generateThiefPlacements(moves);
+                records.add(moves.make(random.nextInt(moves.size()), model));
+                assertEquals(model.computeStateHash(), model.getStateHash());
+            }
+            for (int i = 0; i < BUILD_ATTEMPTS && generator.generateBuildAndTradeMoves(moves) > 0; i++) {
+                records.add(moves.make(random.nextInt(moves.size()), model));
+                assertEquals(model.computeStateHash(), model.getStateHash());
+            }
+            records.add(model.makeSwitchToNextPlayer());
+            assertEquals(model.computeStateHash(), model.getStateHash());
+        }
+        for (int i = records.size() - 1; i >= 0; i--) {
+            model.unmake(records.get(i));
+            assertEquals(model.computeStateHash(), model.getStateHash());
+        }
+        assertEquals(initialHash, model.getStateHash());
+    }
+
+    /**
+     * Tests if the same roads built in a different order give the same hash and if a fork has the hash of the
+     * original game.
+     *
+     * Equivalence class: getStateHash, fork
+     * Type of Test:      Positive
+     * Initial state:     Two forks of the game after the setup phase of ThreePlayerStandard, resources for
+     *                    two roads
+     * Input:             Two roads of the first player, built in a different order on each fork
+     * Expected Output:   Equal hashes of the forks and the game before the roads, equal hashes after the roads
+     *                    which differ from the hash before
+     */
+    @Test
+    void sameStateSameHash() {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        model.getCurrentPlayer().addResources(Map.of(Config.Resource.LUMBER, 2, Config.Resource.BRICK, 2));
+        SiedlerGame first = model.fork();
+        SiedlerGame second = model.fork();
+        assertEquals(model.getStateHash(), first.getStateHash());
+        assertEquals(model.getStateHash(), second.getStateHash());
+
+        MoveList moves = new MoveList();
+        List<Integer> roads = new ArrayList<>();
+        new LegalMoveGenerator(first).generateBuildAndTradeMoves(moves);
+        for (int i = 0; i < moves.size() && roads.size() < 2; i++) {
+            if (moves.getType(i) == MoveList.MoveType.BUILD_ROAD) {
+                roads.add(i);
+            }
+        }
+        assertEquals(2, roads.size());
+        Point[] firstRoad = {moves.getPosition(roads.get(0)), moves.getRoadEnd(roads.get(0))};
+        Point[] secondRoad = {moves.getPosition(roads.get(1)), moves.getRoadEnd(roads.get(1))};
+        assertNotNull(first.makeBuildRoad(firstRoad[0], firstRoad[1]));
+        assertNotNull(first.makeBuildRoad(secondRoad[0], secondRoad[1]));
+        assertNotNull(second.makeBuildRoad(secondRoad[0], secondRoad[1]));
+        assertNotNull(second.makeBuildRoad(firstRoad[0], firstRoad[1]));
+
+        assertEquals(first.getStateHash(), second.getStateHash());
+        assertNotEquals(model.getStateHash(), first.getStateHash());
+    }
+
+    /**
+     * Tests if changes of the resources through the map view of an inventory update the hash.
+     *
+     * Equivalence class: getStateHash, getResources
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             One more wool for the current player through the map view, then the wool taken back
+     * Expected Output:   A different hash which equals the calculated hash, then the initial hash
+     */
+    @Test
+    void mapViewUpdatesHash() {
+        SiedlerGame model = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        long initialHash = model.getStateHash();
+        Player player = model.getCurrentPlayer();
+        int wool = player.getResource(Config.Resource.WOOL);
+
+        player.getResources().put(Config.Resource.WOOL, wool + 1);
+        assertNotEquals(initialHash, model.getStateHash());
+        assertEquals(model.computeStateHash(), model.getStateHash());
+
+        player.getResources().put(Config.Resource.WOOL, wool);
+        assertEquals(initialHash, model.getStateHash());
+    }
+}
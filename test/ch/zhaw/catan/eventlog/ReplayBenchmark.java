@@ -0,0 +1,86 @@
+package ch.zhaw.catan.eventlog;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.LegalMoveGenerator;
+import ch.zhaw.catan.MoveList;
+import ch.zhaw.catan.SiedlerGame;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares seeking to random event indexes of a recorded game with the {@link ReplayEngine} with and without
+ * snapshots. Without snapshots, every seek backwards replays the game from the first event.
+ * <p>
+ * The recorded game has four players, who build and trade with random generated moves for 300 turns.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class ReplayBenchmark {
+    private static final int OPERATIONS_PER_ROUND = 200;
+    private static final int WIN_POINTS = 20;
+    private static final int TURNS = 300;
+    private static final int BUILD_ATTEMPTS = 6;
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Files.createTempDirectory("eventlog");
+        Path file = directory.resolve("game.log");
+        try {
+            try (EventLogWriter writer = new EventLogWriter(file, WIN_POINTS, Config.MAX_NUMBER_OF_PLAYERS, 1L,
+                    false)) {
+                play(writer.getGame(), new SplittableRandom(1L));
+            }
+            EventLog log = EventLog.open(file);
+            System.out.println(log.getEventCount() + " events, " + Files.size(file) + " bytes");
+
+            SplittableRandom random = new SplittableRandom(1L);
+            ReplayEngine fromStart = new ReplayEngine(log, Integer.MAX_VALUE);
+            ReplayEngine withSnapshots = new ReplayEngine(log);
+            withSnapshots.replayTo(log.getEventCount());
+            double replay = MicroBenchmark.run("replay from start", OPERATIONS_PER_ROUND,
+                    () -> fromStart.replayTo(random.nextInt(log.getEventCount() + 1)).getCurrentPlayerIndex());
+            double seek = MicroBenchmark.run("seek with snapshots", OPERATIONS_PER_ROUND,
+                    () -> withSnapshots.replayTo(random.nextInt(log.getEventCount() + 1)).getCurrentPlayerIndex());
+            MicroBenchmark.printSpeedup(replay, seek);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    private static void play(SiedlerGame game, SplittableRandom random) {
+        List<Point> corners = game.getBoard().getLandCornerPositions();
+        for (int i = 0; i < game.getPlayerAmount() * 2; i++) {
+            Point corner;
+            do {
+                corner = corners.get(random.nextInt(corners.size()));
+            } while (!game.placeInitialSettlement(corner, i >= game.getPlayerAmount()));
+            List<Point> neighbours = game.getBoard().getNeighbourLandCorners(corner);
+            while (!game.placeInitialRoad(corner, neighbours.get(random.nextInt(neighbours.size())))) {
+                // try another neighbour
+            }
+            game.switchToNextPlayer();
+        }
+
+        LegalMoveGenerator generator = new LegalMoveGenerator(game);
+        MoveList moves = new MoveList();
+        for (int turn = 0; turn < TURNS && game.getWinner() == null; turn++) {
+            int dice = game.rollDice();
+            game.throwDice(dice);
+            if (dice == Config.DROP_CARDS_DICE_VALUE) {
+                generator.generateThiefPlacements(moves);
+                moves.make(random.nextInt(moves.size()), game);
+            }
+            for (int i = 0; i < BUILD_ATTEMPTS && generator.generateBuildAndTradeMoves(moves) > 0; i++) {
+                moves.make(random.nextInt(moves.size()), game);
+            }
+            game.switchToNextPlayer();
+        }
+    }
+}
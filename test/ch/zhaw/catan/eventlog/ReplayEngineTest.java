@@ -0,0 +1,223 @@
+package ch.zhaw.catan.eventlog;
+
+import ch.zhaw.catan.BoardGenerator;
+import ch.zhaw.catan.BoardLayout;
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.GameEvent;
+import ch.zhaw.catan.LegalMoveGenerator;
+import ch.zhaw.catan.MoveList;
+import ch.zhaw.catan.SiedlerGame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link EventLogWriter}, the {@link EventLog} and the {@link ReplayEngine} with recorded
+ * random games.
+ *
+ * @version 16.10.2026
+ */
+class ReplayEngineTest {
+    private static final int WIN_POINTS = 10;
+    private static final int PLAYERS = 3;
+    private static final long SEED = 2022L;
+    private static final int TURNS = 80;
+    private static final int BUILD_ATTEMPTS = 6;
+    private static final int SNAPSHOT_INTERVAL = 16;
+
+    /**
+     * Tests if the replay rebuilds the recorded game at every event index, in any order, and continues with the
+     * same random decisions.
+     *
+     * Equivalence class: EventLogWriter, EventLog, replayTo
+     * Type of Test:      Positive
+     * Initial state:     New game recorded with batches (0) or memory-mapped segments (1)
+     * Input:             Founder's phase and 80 turns of random generated moves, replayed to every index after
+     *                    a move in random order
+     * Expected Output:   The log has the events of the flushed and of the closed writer, the replayed games have
+     *                    the state of the recorded game and throw the same dice afterwards
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void replayEqualsRecordedGame(int memoryMapped) throws IOException {
+        Path directory = Files.createTempDirectory("eventlog");
+        Path file = directory.resolve("game.log");
+        try {
+            Map<Integer, Long> hashes = new HashMap<>();
+            SiedlerGame game;
+            try (EventLogWriter writer = new EventLogWriter(file, WIN_POINTS, PLAYERS, SEED, memoryMapped == 1)) {
+                game = writer.getGame();
+                play(writer, hashes, new SplittableRandom(SEED));
+                writer.flush();
+                assertEquals(writer.getEventCount(), EventLog.open(file).getEventCount());
+            }
+            EventLog log = EventLog.open(file);
+            assertEquals(Collections.max(hashes.keySet()), log.getEventCount());
+            assertEquals(SEED, log.getSeed());
+
+            ReplayEngine engine = new ReplayEngine(log, SNAPSHOT_INTERVAL);
+            List<Integer> indexes = new ArrayList<>(hashes.keySet());
+            Collections.shuffle(indexes, new Random(SEED));
+            for (int index : indexes) {
+                assertEquals(hashes.get(index), engine.replayTo(index).getStateHash(), "Event " + index);
+            }
+            SiedlerGame replayed = engine.replayTo(log.getEventCount());
+            assertEquals(game.getStateHash(), replayed.getStateHash());
+            for (int i = 0; i < 20; i++) {
+                assertEquals(game.rollDice(), replayed.rollDice());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Tests if a game on a generated board is replayed on the same layout. Its board has more land corners than
+     * fit into a byte, so the snapshots of the replay need the wide corner indexes.
+     *
+     * Equivalence class: EventLogWriter, replayTo
+     * Type of Test:      Positive
+     * Initial state:     New game on a generated board with 200 land fields
+     * Input:             Founder's phase and 80 turns of random generated moves, replayed to every index after
+     *                    a move in random order
+     * Expected Output:   The replayed games have the state of the recorded game
+     */
+    @Test
+    void replayOnGeneratedBoard() throws IOException {
+        BoardLayout layout = new BoardGenerator().generate(200, new SplittableRandom(SEED));
+        Path directory = Files.createTempDirectory("eventlog");
+        Path file = directory.resolve("game.log");
+        try {
+            Map<Integer, Long> hashes = new HashMap<>();
+            try (EventLogWriter writer = new EventLogWriter(file, WIN_POINTS, PLAYERS, SEED, false, layout)) {
+                assertTrue(writer.getGame().getBoard().getLandCornerPositions().size() > 0xFF);
+                play(writer, hashes, new SplittableRandom(SEED));
+            }
+            ReplayEngine engine = new ReplayEngine(EventLog.open(file), SNAPSHOT_INTERVAL, layout);
+            List<Integer> indexes = new ArrayList<>(hashes.keySet());
+            Collections.shuffle(indexes, new Random(SEED));
+            for (int index : indexes) {
+                assertEquals(hashes.get(index), engine.replayTo(index).getStateHash(), "Event " + index);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Tests if invalid files, indexes and events are rejected.
+     *
+     * Equivalence class: EventLog, replayTo
+     * Type of Test:      Negative
+     * Initial state:     Log with a few recorded events
+     * Input:             Event arguments which do not fit into a short, file without header, negative index,
+     *                    index behind the last event, changed dice value
+     * Expected Output:   IllegalArgumentException, IllegalStateException for the changed dice value
+     */
+    @Test
+    void invalidLogs() throws IOException {
+        Path directory = Files.createTempDirectory("eventlog");
+        Path file = directory.resolve("game.log");
+        Path invalid = directory.resolve("invalid.log");
+        try {
+            try (EventLogWriter writer = new EventLogWriter(file, WIN_POINTS, PLAYERS, SEED, false)) {
+                SiedlerGame game = writer.getGame();
+                game.throwDice(game.rollDice());
+                game.switchToNextPlayer();
+                assertThrows(IllegalArgumentException.class,
+                        () -> writer.eventOccurred(GameEvent.BUILD_ROAD, EventLog.MAX_ARGUMENT + 1, 0, 0, 0));
+                assertThrows(IllegalArgumentException.class,
+                        () -> writer.eventOccurred(GameEvent.PLACE_THIEF, 1, -1, 0, 0));
+                assertEquals(3, writer.getEventCount());
+            }
+            assertThrows(IOException.class, () -> new EventLogWriter(file, WIN_POINTS, PLAYERS, SEED, false));
+            ReplayEngine engine = new ReplayEngine(EventLog.open(file));
+            assertThrows(IllegalArgumentException.class, () -> engine.replayTo(-1));
+            assertThrows(IllegalArgumentException.class, () -> engine.replayTo(4));
+            assertThrows(IllegalArgumentException.class, () -> new ReplayEngine(null));
+
+            Files.write(invalid, new byte[]{1, 2, 3});
+            assertThrows(IllegalArgumentException.class, () -> EventLog.open(invalid));
+
+            byte[] content = Files.readAllBytes(file);
+            int dice = EventLog.HEADER_SIZE + 2;
+            content[dice] = (byte) (content[dice] == 2 ? 3 : 2);
+            Files.write(invalid, content);
+            ReplayEngine changed = new ReplayEngine(EventLog.open(invalid));
+            assertEquals(GameEvent.ROLL_DICE, EventLog.open(invalid).getEvent(0));
+            assertThrows(IllegalStateException.class, () -> changed.replayTo(1));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(invalid);
+            Files.delete(directory);
+        }
+    }
+
+    /**
+     * Plays the founder's phase and random turns and stores the hash of the game after every call.
+     */
+    private static void play(EventLogWriter writer, Map<Integer, Long> hashes, SplittableRandom random) {
+        SiedlerGame game = writer.getGame();
+        hashes.put(0, game.getStateHash());
+        for (int i = 0; i < PLAYERS * 2; i++) {
+            boolean secondRound = i >= PLAYERS;
+            placeInitialStructures(game, secondRound, random);
+            hashes.put(writer.getEventCount(), game.getStateHash());
+            if (i != PLAYERS - 1 && i != PLAYERS * 2 - 1) {
+                if (secondRound) {
+                    game.switchToPreviousPlayer();
+                } else {
+                    game.switchToNextPlayer();
+                }
+            }
+            hashes.put(writer.getEventCount(), game.getStateHash());
+        }
+
+        LegalMoveGenerator generator = new LegalMoveGenerator(game);
+        MoveList moves = new MoveList();
+        for (int turn = 0; turn < TURNS && game.getWinner() == null; turn++) {
+            int dice = game.rollDice();
+            game.throwDice(dice);
+            hashes.put(writer.getEventCount(), game.getStateHash());
+            if (dice == Config.DROP_CARDS_DICE_VALUE) {
+                generator.generateThiefPlacements(moves);
+                moves.make(random.nextInt(moves.size()), game);
+                hashes.put(writer.getEventCount(), game.getStateHash());
+            }
+            for (int i = 0; i < BUILD_ATTEMPTS && generator.generateBuildAndTradeMoves(moves) > 0; i++) {
+                moves.make(random.nextInt(moves.size()), game);
+                hashes.put(writer.getEventCount(), game.getStateHash());
+            }
+            game.switchToNextPlayer();
+            hashes.put(writer.getEventCount(), game.getStateHash());
+        }
+    }
+
+    private static void placeInitialStructures(SiedlerGame game, boolean payout, SplittableRandom random) {
+        List<Point> corners = game.getBoard().getLandCornerPositions();
+        Point corner;
+        do {
+            corner = corners.get(random.nextInt(corners.size()));
+        } while (!game.placeInitialSettlement(corner, payout));
+        List<Point> neighbours = game.getBoard().getNeighbourLandCorners(corner);
+        while (!game.placeInitialRoad(corner, neighbours.get(random.nextInt(neighbours.size())))) {
+            // try another neighbour
+        }
+    }
+}
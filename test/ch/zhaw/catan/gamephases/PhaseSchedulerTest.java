@@ -0,0 +1,107 @@
+package ch.zhaw.catan.gamephases;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.SiedlerGame;
+import ch.zhaw.catan.simulation.PlayerStrategy;
+import ch.zhaw.catan.simulation.RandomStrategy;
+import org.beryx.textio.TextIO;
+import org.beryx.textio.mock.MockTextTerminal;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link PhaseScheduler} with games played by bots only.
+ *
+ * @version 16.10.2026
+ */
+class PhaseSchedulerTest {
+    private static final int WIN_POINTS = 7;
+    private static final int PLAYERS = 4;
+    private static final long SEED = 7L;
+    private static final long MAX_PHASES = 10_000L;
+
+    /**
+     * Tests if a whole game is played through all phases without the stack growing from turn to turn.
+     *
+     * Equivalence class: run
+     * Type of Test:      Positive
+     * Initial state:     Seeded game with four random playing bots, scripted default controller
+     * Input:             Initial phase as start phase, quit in the end phase
+     * Expected Output:   The game has a winner, every turn is played at the same stack depth
+     */
+    @Test
+    void playsGameWithConstantStackDepth() {
+        MockTextTerminal terminal = new MockTextTerminal();
+        TextIO textIO = new TextIO(terminal);
+        SiedlerGame game = new SiedlerGame(WIN_POINTS, PLAYERS, new SplittableRandom(SEED));
+        List<Integer> stackDepths = new ArrayList<>();
+        PlayerStrategy strategy = new RandomStrategy() {
+            @Override
+            public void playTurn(SiedlerGame game, RandomGenerator random) {
+                stackDepths.add(Thread.currentThread().getStackTrace().length);
+                super.playTurn(game, random);
+            }
+        };
+        Map<Config.Faction, PlayerController> bots = new EnumMap<>(Config.Faction.class);
+        for (Config.Faction faction : game.getPlayerFactions()) {
+            bots.put(faction, new BotController(game, strategy, new SplittableRandom(faction.ordinal())));
+        }
+        ScriptedController script = new ScriptedController();
+        script.addActions(EndPhase.Actions.SHOW_POINTS, EndPhase.Actions.QUIT);
+
+        InitialPhase initialPhase = new InitialPhase(textIO, terminal, game);
+        EndPhase endPhase = new EndPhase(textIO, terminal, game);
+        DiceRollPhase diceRollPhase = new DiceRollPhase(textIO, terminal, game);
+        BuildAndTradePhase buildAndTradePhase = new BuildAndTradePhase(textIO, terminal, game, endPhase);
+        initialPhase.initializeNextPhase(diceRollPhase);
+        diceRollPhase.initializeNextPhase(buildAndTradePhase);
+        buildAndTradePhase.initializeNextPhase(diceRollPhase);
+        for (GamePhase phase : List.of(initialPhase, endPhase, diceRollPhase, buildAndTradePhase)) {
+            phase.initializeControllers(bots);
+            phase.initializeDefaultController(script);
+        }
+
+        PhaseScheduler scheduler = new PhaseScheduler();
+        scheduler.run(initialPhase, MAX_PHASES);
+
+        assertNotNull(game.getWinner());
+        assertEquals(0, script.getRemainingAnswers());
+        assertTrue(stackDepths.size() > PLAYERS);
+        assertEquals(1, stackDepths.stream().distinct().count());
+        assertEquals(2 + stackDepths.size() * 2L, scheduler.getExecutedPhases());
+        assertThrows(IllegalArgumentException.class, () -> scheduler.run(null));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.run(initialPhase, 0));
+    }
+
+    /**
+     * Tests if the scheduler stops a game which is not over after the maximum number of phases.
+     *
+     * Equivalence class: run
+     * Type of Test:      Negative
+     * Initial state:     Phase which always returns itself as next phase
+     * Input:             Maximum of three phases
+     * Expected Output:   IllegalStateException after three executed phases
+     */
+    @Test
+    void stopsGameAfterMaximumNumberOfPhases() {
+        MockTextTerminal terminal = new MockTextTerminal();
+        GamePhase endlessPhase = new GamePhase(new TextIO(terminal), terminal, new SiedlerGame(WIN_POINTS, PLAYERS)) {
+            @Override
+            protected void onUpdate() {
+                nextPhase = this;
+            }
+        };
+
+        PhaseScheduler scheduler = new PhaseScheduler();
+        assertThrows(IllegalStateException.class, () -> scheduler.run(endlessPhase, 3));
+        assertEquals(3, scheduler.getExecutedPhases());
+    }
+}
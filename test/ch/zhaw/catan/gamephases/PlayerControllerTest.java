@@ -0,0 +1,93 @@
+package ch.zhaw.catan.gamephases;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.SiedlerGame;
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import org.beryx.textio.TextIO;
+import org.beryx.textio.mock.MockTextTerminal;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the game phases played by a {@link ScriptedController}.
+ *
+ * @version 16.10.2026
+ */
+class PlayerControllerTest {
+    private static final int WIN_POINTS = 5;
+
+    /**
+     * Tests if the initial phase and the build and trade phase take their decisions from the controller and ask
+     * again after an invalid answer.
+     *
+     * Equivalence class: InitialPhase, BuildAndTradePhase, ScriptedController
+     * Type of Test:      Positive
+     * Initial state:     New game with three players
+     * Input:             Initial structures of ThreePlayerStandard with a water corner before the first
+     *                    settlement, a road without resources and the end of the round
+     * Expected Output:   Same state as ThreePlayerStandard after the setup, the road is not built and the next
+     *                    player is the current player
+     */
+    @Test
+    void scriptedPhases() {
+        MockTextTerminal terminal = new MockTextTerminal();
+        TextIO textIO = new TextIO(terminal);
+        SiedlerGame game = new SiedlerGame(WIN_POINTS, ThreePlayerStandard.NUMBER_OF_PLAYERS);
+        ScriptedController script = new ScriptedController();
+        script.addCoordinates(new Point(0, 0));
+        for (Config.Faction faction : game.getPlayerFactions()) {
+            Point settlement = ThreePlayerStandard.INITIAL_SETTLEMENT_POSITIONS.get(faction).first;
+            script.addCoordinates(settlement, settlement, ThreePlayerStandard.INITIAL_ROAD_ENDPOINTS.get(faction).first);
+        }
+        for (int i = game.getPlayerFactions().size() - 1; i >= 0; i--) {
+            Config.Faction faction = game.getPlayerFactions().get(i);
+            Point settlement = ThreePlayerStandard.INITIAL_SETTLEMENT_POSITIONS.get(faction).second;
+            script.addCoordinates(settlement, settlement, ThreePlayerStandard.INITIAL_ROAD_ENDPOINTS.get(faction).second);
+        }
+        script.addActions(BuildAndTradePhase.Actions.BUILD_ROAD, BuildAndTradePhase.Actions.END_ROUND);
+        script.addCoordinates(new Point(6, 6), new Point(7, 7));
+
+        InitialPhase initialPhase = new InitialPhase(textIO, terminal, game);
+        BuildAndTradePhase buildAndTradePhase = new BuildAndTradePhase(textIO, terminal, game,
+                new EndPhase(textIO, terminal, game));
+        initialPhase.initializeNextPhase(buildAndTradePhase);
+        buildAndTradePhase.initializeNextPhase(initialPhase);
+        initialPhase.initializeDefaultController(script);
+        buildAndTradePhase.initializeDefaultController(script);
+
+        assertSame(buildAndTradePhase, initialPhase.execute());
+        assertEquals(ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS).getStateHash(), game.getStateHash());
+        assertTrue(terminal.getOutput().contains("Please enter valid coordinates. Only corners are valid"));
+
+        assertSame(initialPhase, buildAndTradePhase.execute());
+        assertTrue(terminal.getOutput().contains("The road could not be built!"));
+        assertEquals(game.getPlayerFactions().get(1), game.getCurrentPlayerFaction());
+        assertEquals(0, script.getRemainingAnswers());
+    }
+
+    /**
+     * Tests if a scripted controller rejects invalid scripts and questions it has no answer for.
+     *
+     * Equivalence class: ScriptedController
+     * Type of Test:      Negative
+     * Initial state:     Script with an action of the end phase
+     * Input:             Null answers, question for another action, empty coordinates and resources
+     * Expected Output:   IllegalArgumentException for null, IllegalStateException for missing answers
+     */
+    @Test
+    void invalidScripts() {
+        ScriptedController script = new ScriptedController();
+        script.addActions(EndPhase.Actions.QUIT);
+        assertThrows(IllegalArgumentException.class, () -> script.addCoordinates((Point[]) null));
+        assertThrows(IllegalArgumentException.class, () -> script.addResources(Config.Resource.ORE, null));
+        assertThrows(IllegalStateException.class,
+                () -> script.chooseAction(BuildAndTradePhase.Actions.class, "What would you like to do?"));
+        assertThrows(IllegalStateException.class,
+                () -> script.chooseCoordinate(PlayerController.Decision.SETTLEMENT, "Where?"));
+        assertThrows(IllegalStateException.class, () -> script.chooseResource("Which resource?"));
+        assertEquals(EndPhase.Actions.QUIT, script.chooseAction(EndPhase.Actions.class, "What would you like to do"));
+    }
+}
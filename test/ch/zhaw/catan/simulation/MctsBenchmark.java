@@ -0,0 +1,48 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.SiedlerGame;
+import ch.zhaw.catan.games.ThreePlayerStandard;
+
+import java.util.SplittableRandom;
+
+/**
+ * Measures how many iterations per second the {@link MctsStrategy} searches with a growing number of workers.
+ * Every worker searches the same number of iterations, so with linear scaling the iterations per second grow
+ * with the number of workers up to the number of available processors.
+ * <p>
+ * Every measurement plays the turn of the first player of the game of {@link ThreePlayerStandard} after the
+ * founder's phase with some roads. Started through its main method, e.g.
+ * {@code java -cp <classpath> ch.zhaw.catan.simulation.MctsBenchmark}.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class MctsBenchmark {
+    private static final int ITERATIONS_PER_WORKER = 2_000;
+    private static final int WIN_POINTS = 10;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        measure(1);
+        for (int workers = 1; workers <= processors; workers *= 2) {
+            System.out.printf("%3d workers: %,.0f iterations/s%n", workers, measure(workers));
+        }
+        if (Integer.bitCount(processors) != 1) {
+            System.out.printf("%3d workers: %,.0f iterations/s%n", processors, measure(processors));
+        }
+    }
+
+    private static double measure(int workers) {
+        double best = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            SiedlerGame game = ThreePlayerStandard.getAfterSetupPhaseSomeRoads(WIN_POINTS);
+            MctsStrategy strategy = new MctsStrategy(ITERATIONS_PER_WORKER * workers, workers);
+            long start = System.nanoTime();
+            strategy.chooseThiefPosition(game, new SplittableRandom(round));
+            long elapsed = System.nanoTime() - start;
+            best = Math.max(best, ITERATIONS_PER_WORKER * workers * 1e9 / elapsed);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,105 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.SiedlerGame;
+import ch.zhaw.catan.games.ThreePlayerStandard;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link MctsStrategy} in single games and against other strategies.
+ *
+ * @version 16.10.2026
+ */
+class MctsStrategyTest {
+    private static final int WIN_POINTS = 7;
+    private static final int ITERATIONS = 48;
+    private static final int GAMES = 4;
+    private static final int MAX_TURNS = 300;
+
+    /**
+     * Tests if the strategy builds the settlement which wins the game.
+     *
+     * Equivalence class: playTurn
+     * Type of Test:      Positive
+     * Initial state:     ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement, one win point missing
+     * Input:             Turn of the first player
+     * Expected Output:   The first player builds a settlement and wins
+     */
+    @Test
+    void buildsWinningSettlement() {
+        SiedlerGame base = ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(Config.MAX_WIN_POINTS);
+        int winPoints = Math.max(Config.MIN_WIN_POINTS, base.getCurrentPlayer().getWinPoints() + 1);
+        SiedlerGame game = ThreePlayerStandard.getPlayerOneReadyToBuildFifthSettlement(winPoints);
+        Config.Faction faction = game.getCurrentPlayerFaction();
+
+        new MctsStrategy(ITERATIONS * 4, 2).playTurn(game, new SplittableRandom(1L));
+        assertEquals(faction, game.getWinner());
+    }
+
+    /**
+     * Tests if the strategy places the thief on a land field.
+     *
+     * Equivalence class: chooseThiefPosition
+     * Type of Test:      Positive
+     * Initial state:     Game after the setup phase of ThreePlayerStandard
+     * Input:             Thief placement of the first player
+     * Expected Output:   A land field on which the game accepts the thief
+     */
+    @Test
+    void choosesValidThiefPosition() {
+        SiedlerGame game = ThreePlayerStandard.getAfterSetupPhase(WIN_POINTS);
+        Point position = new MctsStrategy(ITERATIONS, 1).chooseThiefPosition(game, new SplittableRandom(1L));
+        assertTrue(game.getBoard().getLandFieldPositions().contains(position));
+        assertTrue(game.placeThiefAndStealCard(position));
+    }
+
+    /**
+     * Tests if the strategy wins most games against random strategies and if a series played with an iteration
+     * budget has the same results with one and with several workers per search.
+     *
+     * Equivalence class: MctsStrategy
+     * Type of Test:      Positive
+     * Initial state:     Engine with a MCTS and two random strategies
+     * Input:             4 games, searched with 1 and with 3 workers
+     * Expected Output:   The MCTS strategy wins most games, equal results for equal seeds and workers
+     */
+    @Test
+    void winsAgainstRandomStrategies() {
+        SimulationReport report = createEngine(1).run(GAMES, 2022L);
+        assertTrue(report.getWins(Config.Faction.values()[0]) > GAMES / 2, report.toString());
+        assertEquals(report.getResults(), createEngine(1).run(GAMES, 2022L).getResults());
+
+        SimulationReport parallel = createEngine(3).run(GAMES, 2022L);
+        assertEquals(parallel.getResults(), createEngine(3).run(GAMES, 2022L).getResults());
+    }
+
+    /**
+     * Tests if the constructors reject invalid parameters.
+     *
+     * Equivalence class: MctsStrategy
+     * Type of Test:      Negative
+     * Initial state:     -
+     * Input:             No iterations, no time, no workers, no rollout strategy
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void invalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(ITERATIONS, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(ITERATIONS, 1, 1, null));
+    }
+
+    private static SimulationEngine createEngine(int parallelism) {
+        return new SimulationEngine(WIN_POINTS, List.of(new MctsStrategy(ITERATIONS, parallelism),
+                new RandomStrategy(), new RandomStrategy()), MAX_TURNS);
+    }
+}
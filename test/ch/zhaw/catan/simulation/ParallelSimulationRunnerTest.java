@@ -0,0 +1,93 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link ParallelSimulationRunner} class and the merged {@link SimulationReport}.
+ *
+ * @version 16.10.2026
+ */
+class ParallelSimulationRunnerTest {
+    private static final int WIN_POINTS = 7;
+    private static final int GAMES = 100;
+
+    /**
+     * Tests if the results do not depend on the number of threads.
+     *
+     * Equivalence class: run
+     * Type of Test:      Positive
+     * Initial state:     Runners with one and four threads
+     * Input:             100 games with the same seed
+     * Expected Output:   Equal results in the same order
+     */
+    @Test
+    void resultsIndependentOfParallelism() {
+        SimulationReport sequential = new ParallelSimulationRunner(ParallelSimulationRunnerTest::createEngine, 1)
+                .run(GAMES, 42L);
+        SimulationReport parallel = new ParallelSimulationRunner(ParallelSimulationRunnerTest::createEngine, 4)
+                .run(GAMES, 42L);
+        assertEquals(sequential.getResults(), parallel.getResults());
+    }
+
+    /**
+     * Tests if the merged statistics cover all games.
+     *
+     * Equivalence class: run, SimulationReport
+     * Type of Test:      Positive
+     * Initial state:     Runner with all available processors
+     * Input:             100 games
+     * Expected Output:   Win rates and games without winner add up to all games, the turn distribution
+     *                    counts every game and the resource totals match the results
+     */
+    @Test
+    void mergedStatisticsCoverAllGames() {
+        SimulationReport report = new ParallelSimulationRunner(ParallelSimulationRunnerTest::createEngine)
+                .run(GAMES, 7L);
+
+        assertEquals(GAMES, report.getGameCount());
+        double winRates = (double) report.getGamesWithoutWinner() / GAMES;
+        for (Config.Faction faction : Config.Faction.values()) {
+            winRates += report.getWinRate(faction);
+        }
+        assertEquals(1.0, winRates, 1e-9);
+
+        SortedMap<Integer, Integer> distribution = report.getTurnDistribution(25);
+        assertEquals(GAMES, distribution.values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(distribution.firstKey() % 25 == 0);
+
+        long resources = 0;
+        for (GameResult result : report.getResults()) {
+            resources += result.getResourcesReceived().get(Config.Faction.RED);
+        }
+        assertEquals(resources, report.getTotalResourcesReceived(Config.Faction.RED));
+    }
+
+    /**
+     * Tests if the runner rejects invalid settings.
+     *
+     * Equivalence class: ParallelSimulationRunner
+     * Type of Test:      Negative
+     * Initial state:     -
+     * Input:             No factory, no threads, negative number of games
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void invalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSimulationRunner(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSimulationRunner(ParallelSimulationRunnerTest::createEngine, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSimulationRunner(ParallelSimulationRunnerTest::createEngine).run(-1, 1L));
+    }
+
+    private static SimulationEngine createEngine() {
+        return new SimulationEngine(WIN_POINTS,
+                List.of(new GreedyStrategy(), new RandomStrategy(), new GreedyStrategy()));
+    }
+}
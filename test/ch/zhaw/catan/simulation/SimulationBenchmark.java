@@ -0,0 +1,64 @@
+package ch.zhaw.catan.simulation;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Measures how many games per second the {@link SimulationEngine} plays on the standard board with
+ * three greedy strategies and ten win points, on a single thread and with the {@link ParallelSimulationRunner}
+ * on all available processors.
+ * <p>
+ * Before measuring, games are played in rounds until the JIT compiler did not compile anything during a
+ * round. On a single processor the compiler threads otherwise take their time from the measured games.
+ * </p><p>
+ * Started through its main method, e.g.
+ * {@code java -cp <classpath> ch.zhaw.catan.simulation.SimulationBenchmark}.
+ * </p>
+ *
+ * @version 16.10.2026
+ */
+public class SimulationBenchmark {
+    private static final int WARMUP_ROUND_GAMES = 10_000;
+    private static final int MIN_WARMUP_ROUNDS = 2;
+    private static final int MAX_WARMUP_ROUNDS = 30;
+    private static final int MEASURED_GAMES = 10_000;
+    private static final int WIN_POINTS = 10;
+
+    public static void main(String[] args) {
+        SimulationEngine engine = createEngine();
+        warmUp(seed -> engine.run(WARMUP_ROUND_GAMES, seed));
+        System.out.println("Single thread:");
+        System.out.print(engine.run(MEASURED_GAMES, 2L));
+
+        ParallelSimulationRunner runner = new ParallelSimulationRunner(SimulationBenchmark::createEngine);
+        warmUp(seed -> runner.run(WARMUP_ROUND_GAMES, seed));
+        System.out.println(Runtime.getRuntime().availableProcessors() + " processors:");
+        System.out.print(runner.run(MEASURED_GAMES, 2L));
+    }
+
+    private static SimulationEngine createEngine() {
+        return new SimulationEngine(WIN_POINTS,
+                List.of(new GreedyStrategy(), new GreedyStrategy(), new GreedyStrategy()));
+    }
+
+    /**
+     * Plays warmup rounds until the total compilation time of the JIT compiler stays the same during a round
+     * or the maximum number of rounds is reached. Without compilation time monitoring, only the minimum number
+     * of rounds is played.
+     */
+    private static void warmUp(LongFunction<SimulationReport> round) {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean monitored = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long compilationTime = -1;
+        for (int i = 0; i < MAX_WARMUP_ROUNDS; i++) {
+            round.apply(1L + i);
+            long previousTime = compilationTime;
+            compilationTime = monitored ? compiler.getTotalCompilationTime() : 0;
+            if (i + 1 >= MIN_WARMUP_ROUNDS && compilationTime == previousTime) {
+                return;
+            }
+        }
+    }
+}
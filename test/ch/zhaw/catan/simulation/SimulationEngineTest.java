@@ -0,0 +1,155 @@
+package ch.zhaw.catan.simulation;
+
+import ch.zhaw.catan.Config;
+import ch.zhaw.catan.SiedlerGame;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/***
+ * This class tests the {@link SimulationEngine} with the strategies of the simulation package.
+ *
+ * @version 16.10.2026
+ */
+class SimulationEngineTest {
+    private static final int WIN_POINTS = 7;
+
+    /**
+     * Tests if every game of a series ends with a winner or at the turn limit.
+     *
+     * Equivalence class: run
+     * Type of Test:      Positive
+     * Initial state:     Engine with a greedy and two random strategies
+     * Input:             50 games
+     * Expected Output:   Every winner has the required win points, games without winner reached the turn limit
+     */
+    @Test
+    void gamesEndWithWinnerOrAtTurnLimit() {
+        SimulationEngine engine = new SimulationEngine(WIN_POINTS,
+                List.of(new GreedyStrategy(), new RandomStrategy(), new RandomStrategy()));
+        SimulationReport report = engine.run(50, 2022L);
+
+        assertEquals(50, report.getGameCount());
+        int wins = report.getGamesWithoutWinner();
+        for (GameResult result : report.getResults()) {
+            if (result.getWinner() == null) {
+                assertEquals(SimulationEngine.DEFAULT_MAX_TURNS, result.getTurns());
+            } else {
+                assertTrue(result.getWinPoints().get(result.getWinner()) >= WIN_POINTS);
+            }
+            assertEquals(3, result.getWinPoints().size());
+        }
+        for (Config.Faction faction : Config.Faction.values()) {
+            wins += report.getWins(faction);
+        }
+        assertEquals(50, wins);
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    /**
+     * Tests if the greedy strategy wins most games against random strategies.
+     *
+     * Equivalence class: GreedyStrategy
+     * Type of Test:      Positive
+     * Initial state:     Engine with a greedy strategy as second player and two random strategies
+     * Input:             100 games
+     * Expected Output:   The greedy strategy wins more than half of the games
+     */
+    @Test
+    void greedyStrategyBeatsRandomStrategies() {
+        SimulationEngine engine = new SimulationEngine(WIN_POINTS,
+                List.of(new RandomStrategy(), new GreedyStrategy(), new RandomStrategy()));
+        SimulationReport report = engine.run(100, 7L);
+        assertTrue(report.getWins(Config.Faction.BLUE) > 50, report.toString());
+    }
+
+    /**
+     * Tests if a game played twice with the same seed has the same result, including the random decisions
+     * of the game when cards are stolen or dropped.
+     *
+     * Equivalence class: playGame
+     * Type of Test:      Positive
+     * Initial state:     Two engines with a greedy and two random strategies each
+     * Input:             Seeds 1 to 20, each played once per engine
+     * Expected Output:   Equal results for equal seeds
+     */
+    @Test
+    void sameSeedSameResult() {
+        SimulationEngine first = new SimulationEngine(WIN_POINTS,
+                List.of(new GreedyStrategy(), new RandomStrategy(), new RandomStrategy()));
+        SimulationEngine second = new SimulationEngine(WIN_POINTS,
+                List.of(new GreedyStrategy(), new RandomStrategy(), new RandomStrategy()));
+        for (long seed = 1; seed <= 20; seed++) {
+            assertEquals(first.playGame(seed), second.playGame(seed));
+        }
+    }
+
+    /**
+     * Tests if nothing is printed to the console while games are played.
+     *
+     * Equivalence class: run
+     * Type of Test:      Positive
+     * Initial state:     Engine with four random strategies
+     * Input:             20 games
+     * Expected Output:   No output on System.out
+     */
+    @Test
+    void runDoesNotPrint() {
+        SimulationEngine engine = new SimulationEngine(WIN_POINTS,
+                List.of(new RandomStrategy(), new RandomStrategy(), new RandomStrategy(), new RandomStrategy()));
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            engine.run(20, 1L);
+        } finally {
+            System.setOut(console);
+        }
+        assertEquals(0, output.size());
+    }
+
+    /**
+     * Tests if a strategy choosing an invalid thief position stops the game.
+     *
+     * Equivalence class: playGame
+     * Type of Test:      Negative
+     * Initial state:     Engine with strategies that place the thief on water
+     * Input:             One game
+     * Expected Output:   IllegalStateException
+     */
+    @Test
+    void invalidThiefPosition() {
+        PlayerStrategy thiefOnWater = new RandomStrategy() {
+            @Override
+            public Point chooseThiefPosition(SiedlerGame game, RandomGenerator random) {
+                return new Point(4, 2);
+            }
+        };
+        SimulationEngine engine = new SimulationEngine(WIN_POINTS, List.of(thiefOnWater, thiefOnWater));
+        assertThrows(IllegalStateException.class, () -> engine.playGame(3L));
+    }
+
+    /**
+     * Tests if the engine rejects invalid settings.
+     *
+     * Equivalence class: SimulationEngine
+     * Type of Test:      Negative
+     * Initial state:     -
+     * Input:             Too few strategies, invalid win points, invalid turn limit
+     * Expected Output:   IllegalArgumentException
+     */
+    @Test
+    void invalidSettings() {
+        List<PlayerStrategy> strategies = List.of(new RandomStrategy(), new RandomStrategy());
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(WIN_POINTS, List.of(new RandomStrategy())));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(Config.MAX_WIN_POINTS + 1, strategies));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(WIN_POINTS, strategies, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationEngine(WIN_POINTS, strategies).run(-1, 1L));
+    }
+}
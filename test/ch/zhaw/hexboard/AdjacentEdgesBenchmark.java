@@ -0,0 +1,106 @@
+package ch.zhaw.hexboard;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/***
+ * <p>
+ * Compares the corner to edge adjacency table of {@link HexBoard} with a full
+ * scan over all edges, which is how
+ * {@link HexBoard#getAdjacentEdges(Point)} used to be implemented.
+ * </p>
+ * <p>
+ * The comparison is done on a hexagon shaped board with 37 fields (the size of
+ * the standard board including the water fields) and on one with 1027 fields.
+ * Every second edge holds data.
+ * </p>
+ */
+public class AdjacentEdgesBenchmark {
+  private static final int OPERATIONS_PER_ROUND = 200_000;
+
+  public static void main(String[] args) {
+    benchmark(3);
+    benchmark(18);
+  }
+
+  private static void benchmark(int radius) {
+    HexBoard<String, String, String, String> board = new HexBoard<>(StorageLayout.ARRAY);
+    List<Point> fields = createHexagon(radius);
+    for (Point field : fields) {
+      board.addField(field, "F");
+    }
+    Map<Edge, String> edges = new HashMap<>();
+    List<Point> corners = new ArrayList<>();
+    for (Point field : fields) {
+      for (Point corner : cornersOf(field)) {
+        if (!corners.contains(corner)) {
+          corners.add(corner);
+        }
+      }
+    }
+    boolean hasData = false;
+    for (Point corner : corners) {
+      for (Point neighbour : HexBoard.getAdjacentCorners(corner)) {
+        if (board.hasEdge(corner, neighbour) && !edges.containsKey(new Edge(corner, neighbour))) {
+          String data = hasData ? "E" : null;
+          edges.put(new Edge(corner, neighbour), data);
+          board.setEdge(corner, neighbour, data);
+          hasData = !hasData;
+        }
+      }
+    }
+
+    Point[] queries = corners.toArray(new Point[0]);
+    String name = fields.size() + " fields, " + edges.size() + " edges";
+    int[] next = new int[1];
+    double scan = MicroBenchmark.run("full edge scan (" + name + ")", OPERATIONS_PER_ROUND,
+        () -> scanAdjacentEdges(edges, queries[next[0]++ % queries.length]).size());
+    List<String> buffer = new ArrayList<>(3);
+    double table = MicroBenchmark.run("adjacency table (" + name + ")", OPERATIONS_PER_ROUND,
+        () -> {
+          buffer.clear();
+          return board.collectAdjacentEdges(queries[next[0]++ % queries.length], buffer);
+        });
+    MicroBenchmark.printSpeedup(scan, table);
+  }
+
+  private static List<String> scanAdjacentEdges(Map<Edge, String> edges, Point corner) {
+    List<String> result = new LinkedList<>();
+    for (Entry<Edge, String> e : edges.entrySet()) {
+      if (e.getKey().isEdgePoint(corner) && e.getValue() != null) {
+        result.add(e.getValue());
+      }
+    }
+    return result;
+  }
+
+  private static List<Point> cornersOf(Point field) {
+    return List.of(new Point(field.x, field.y - 2), new Point(field.x + 1, field.y - 1),
+        new Point(field.x + 1, field.y + 1), new Point(field.x, field.y + 2),
+        new Point(field.x - 1, field.y + 1), new Point(field.x - 1, field.y - 1));
+  }
+
+  /**
+   * Creates the field coordinates of a hexagon shaped board with the specified
+   * radius (number of rings around the center field).
+   */
+  static List<Point> createHexagon(int radius) {
+    List<Point> fields = new ArrayList<>();
+    int parityOffset = radius % 2 == 0 ? 1 : 0;
+    for (int row = 0; row <= 2 * radius; row++) {
+      int distance = Math.abs(row - radius);
+      int y = 2 + 3 * row;
+      int firstX = distance + 1 + parityOffset;
+      for (int i = 0; i < 2 * radius + 1 - distance; i++) {
+        fields.add(new Point(firstX + 2 * i, y));
+      }
+    }
+    return fields;
+  }
+}
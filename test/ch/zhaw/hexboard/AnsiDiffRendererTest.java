@@ -0,0 +1,258 @@
+package ch.zhaw.hexboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/***
+ * <p>
+ * Tests for the class {@link AnsiDiffRenderer}. The sent characters are
+ * applied to a simulated terminal, which has to show the same text as the
+ * view after every frame.
+ * </p>
+ */
+class AnsiDiffRendererTest {
+  private HexBoard<String, String, String, String> board;
+  private HexBoardTextView<String, String, String, String> view;
+  private AnsiDiffRenderer renderer;
+  private Screen screen;
+
+  /**
+   * Terminal which understands the escape sequences sent by the renderer.
+   */
+  private static class Screen {
+    private final List<StringBuilder> rows = new ArrayList<>();
+    private int row;
+    private int column;
+
+    void apply(String sequence) {
+      int i = 0;
+      while (i < sequence.length()) {
+        char character = sequence.charAt(i);
+        if (character != '\u001B') {
+          write(character);
+          i++;
+          continue;
+        }
+        int end = i + 2;
+        while (!Character.isLetter(sequence.charAt(end))) {
+          end++;
+        }
+        String arguments = sequence.substring(i + 2, end);
+        switch (sequence.charAt(end)) {
+          case 'H' -> {
+            String[] position = arguments.split(";");
+            row = Integer.parseInt(position[0]) - 1;
+            column = Integer.parseInt(position[1]) - 1;
+          }
+          case 'J' -> {
+            if (arguments.equals("2")) {
+              rows.clear();
+            } else {
+              eraseLineEnd();
+              while (rows.size() > row + 1) {
+                rows.remove(rows.size() - 1);
+              }
+            }
+          }
+          case 'K' -> eraseLineEnd();
+          default -> throw new IllegalStateException("Unknown sequence " + arguments);
+        }
+        i = end + 1;
+      }
+    }
+
+    private void write(char character) {
+      StringBuilder line = getRow();
+      while (line.length() < column) {
+        line.append(' ');
+      }
+      if (column < line.length()) {
+        line.setCharAt(column, character);
+      } else {
+        line.append(character);
+      }
+      column++;
+    }
+
+    private void eraseLineEnd() {
+      StringBuilder line = getRow();
+      line.setLength(Math.min(line.length(), column));
+    }
+
+    private StringBuilder getRow() {
+      while (rows.size() <= row) {
+        rows.add(new StringBuilder());
+      }
+      return rows.get(row);
+    }
+
+    String getText() {
+      StringBuilder text = new StringBuilder();
+      int last = rows.size();
+      while (last > 0 && rows.get(last - 1).length() == 0) {
+        last--;
+      }
+      for (int i = 0; i < last; i++) {
+        text.append(rows.get(i)).append('\n');
+      }
+      return text.toString();
+    }
+  }
+
+  /**
+   * View which shows a specified text instead of the board.
+   */
+  private static class FixedTextView extends HexBoardTextView<String, String, String, String> {
+    private String text = "";
+
+    FixedTextView(HexBoard<String, String, String, String> board) {
+      super(board);
+    }
+
+    @Override
+    public String toString() {
+      return text;
+    }
+  }
+
+  /**
+   * Setup for a test - Instantiates a board with three rows of fields and a
+   * renderer which has sent the first frame.
+   */
+  @BeforeEach
+  public void setUp() throws IOException {
+    board = new HexBoard<>();
+    board.addField(new Point(2, 2), "00");
+    board.addField(new Point(4, 2), "11");
+    board.addField(new Point(3, 5), "22");
+    board.addField(new Point(5, 5), "33");
+    board.addField(new Point(4, 8), "44");
+    view = new HexBoardTextView<>(board);
+    renderer = new AnsiDiffRenderer(view);
+    screen = new Screen();
+    render();
+  }
+
+  @Test
+  public void firstFrameShowsBoard() {
+    assertEquals(expectedText(), screen.getText());
+  }
+
+  @Test
+  public void unchangedBoardSendsNothing() throws IOException {
+    assertEquals(0, render());
+  }
+
+  @Test
+  public void singleChangeSendsFewCharacters() throws IOException {
+    int full = view.toString().length();
+    board.setEdge(new Point(3, 7), new Point(4, 6), "EE");
+    int sent = render();
+    assertTrue(sent > 0 && sent < 40, "Sent " + sent + " characters");
+    assertEquals(expectedText(), screen.getText());
+    assertTrue(full > 10 * sent);
+  }
+
+  @Test
+  public void randomChangesAreShown() throws IOException {
+    Random random = new Random(42);
+    List<Point> corners = new ArrayList<>(board.getCornerCoordinates());
+    corners.sort((first, second) -> first.x != second.x ? first.x - second.x : first.y - second.y);
+    for (int i = 0; i < 200; i++) {
+      Point corner = corners.get(random.nextInt(corners.size()));
+      String label = random.nextInt(4) == 0 ? null : "" + (char) ('A' + random.nextInt(26)) + i % 10;
+      board.setCorner(corner, label);
+      Point neighbour = HexBoard.getAdjacentCorners(corner).get(random.nextInt(3));
+      if (board.hasEdge(corner, neighbour)) {
+        board.setEdge(corner, neighbour, label);
+      }
+      if (random.nextInt(10) == 0) {
+        view.setLowerFieldLabel(new Point(3, 5), new Label('0', (char) ('0' + i % 10)));
+      }
+      render();
+      assertEquals(expectedText(), screen.getText(), "Change " + i);
+    }
+  }
+
+  @Test
+  public void shorterLinesAndFramesAreErased() throws IOException {
+    FixedTextView fixed = new FixedTextView(board);
+    AnsiDiffRenderer other = new AnsiDiffRenderer(fixed);
+    Screen otherScreen = new Screen();
+    for (String text : new String[] {"abcdef\nghi\njkl\n", "abc\nghixyz\n", "abX\r\n\r\n", ""}) {
+      fixed.text = text;
+      StringBuilder sent = new StringBuilder();
+      other.render(sent);
+      otherScreen.apply(sent.toString());
+      assertEquals(toScreenText(text), otherScreen.getText());
+    }
+  }
+
+  @Test
+  public void resetSendsFullFrame() throws IOException {
+    renderer.reset();
+    StringBuilder sent = new StringBuilder();
+    renderer.render(sent);
+    assertTrue(sent.toString().startsWith("\u001B[2J"));
+    assertTrue(sent.length() > view.toString().length());
+  }
+
+  @Test
+  public void originMovesFrame() throws IOException {
+    AnsiDiffRenderer moved = new AnsiDiffRenderer(view, 3, 5);
+    StringBuilder sent = new StringBuilder();
+    moved.render(sent);
+    Screen other = new Screen();
+    other.apply(sent.toString());
+    String[] lines = other.getText().split("\n");
+    assertEquals("", lines[0]);
+    assertEquals("", lines[1]);
+    assertEquals("    " + expectedText().split("\n")[0], lines[2]);
+  }
+
+  @Test
+  public void invalidParameters() {
+    assertThrows(IllegalArgumentException.class, () -> new AnsiDiffRenderer(null));
+    assertThrows(IllegalArgumentException.class, () -> new AnsiDiffRenderer(view, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> new AnsiDiffRenderer(view, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> renderer.render(null));
+  }
+
+  private int render() throws IOException {
+    StringBuilder sent = new StringBuilder();
+    int count = renderer.render(sent);
+    assertEquals(sent.length(), count);
+    screen.apply(sent.toString());
+    return count;
+  }
+
+  private String expectedText() {
+    return toScreenText(view.toString());
+  }
+
+  /**
+   * Returns the text as the terminal shows it, with trailing empty lines
+   * removed.
+   */
+  private static String toScreenText(String text) {
+    List<String> lines = new ArrayList<>(Arrays.asList(text.split("\r?\n", -1)));
+    while (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+      lines.remove(lines.size() - 1);
+    }
+    StringBuilder result = new StringBuilder();
+    for (String line : lines) {
+      result.append(line).append('\n');
+    }
+    return result.toString();
+  }
+}
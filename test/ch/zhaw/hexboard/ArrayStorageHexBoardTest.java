@@ -0,0 +1,75 @@
+package ch.zhaw.hexboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import org.junit.jupiter.api.Test;
+
+/***
+ * <p>
+ * Runs the tests of {@link HexBoardTest} against a board using the
+ * {@link StorageLayout#ARRAY} layout and adds tests specific to that layout.
+ * </p>
+ */
+class ArrayStorageHexBoardTest extends HexBoardTest {
+
+  @Override
+  protected HexBoard<String, String, String, String> createBoard() {
+    return new HexBoard<>(StorageLayout.ARRAY);
+  }
+
+  @Test
+  void growBeyondInitialCapacityTest() {
+    HexBoard<String, String, String, String> board = createBoard();
+    Point far = new Point(41, 53);
+    board.addField(new Point(7, 5), "00");
+    board.addField(far, "far");
+    assertEquals("00", board.getField(new Point(7, 5)));
+    assertEquals("far", board.getField(far));
+    assertTrue(board.hasCorner(new Point(41, 51)));
+    assertNull(board.getEdge(new Point(41, 51), new Point(42, 52)));
+  }
+
+  @Test
+  void negativeCoordinatesTest() {
+    HexBoard<String, String, String, String> board = createBoard();
+    assertFalse(board.hasCorner(new Point(-1, -1)));
+    assertThrows(IllegalArgumentException.class, () -> board.getCorner(new Point(-2, 0)));
+    assertThrows(IllegalArgumentException.class, () -> board.addField(new Point(-1, -1), "neg"));
+  }
+
+  @Test
+  void copyKeepsItsOwnCoordinatesTest() {
+    ArrayCoordinateStorage<String> storage = new ArrayCoordinateStorage<>();
+    storage.put(1, 2, "a");
+    ArrayCoordinateStorage<String> copy = storage.copy(value -> value + "'");
+    copy.put(3, 4, "b");
+    storage.put(5, 6, "c");
+    assertEquals("a'", copy.get(1, 2));
+    assertEquals("a", storage.get(1, 2));
+    assertTrue(copy.contains(3, 4));
+    assertFalse(storage.contains(3, 4));
+    assertTrue(storage.contains(5, 6));
+    assertFalse(copy.contains(5, 6));
+    assertEquals(2, copy.size());
+    assertEquals(2, storage.size());
+  }
+
+  @Test
+  void copyOfCoordinatesWithoutValuesTest() {
+    ArrayCoordinateStorage<String> storage = new ArrayCoordinateStorage<>();
+    storage.put(1, 2, null);
+    ArrayCoordinateStorage<String> copy = storage.copy(value -> value + "'");
+    assertTrue(copy.contains(1, 2));
+    assertNull(copy.get(1, 2));
+    copy.put(1, 2, "a");
+    assertNull(storage.get(1, 2));
+    assertEquals("a'", copy.copy(value -> value + "'").get(1, 2));
+    copy.put(1, 2, null);
+    assertNull(copy.copy(value -> value + "'").get(1, 2));
+  }
+}
@@ -0,0 +1,95 @@
+package ch.zhaw.hexboard;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+import java.awt.Point;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/***
+ * <p>
+ * Compares looking up the corners, edges, fields and annotations of a
+ * {@link HexBoard} by {@link Point} with looking them up by packed
+ * {@link HexCoordinate}, like {@link HexBoardTextView} does while rendering.
+ * Besides the time, the benchmark prints the bytes allocated per operation.
+ * </p>
+ * <p>
+ * The board is a hexagon with 37 fields in the
+ * {@link StorageLayout#OPEN_ADDRESSING} layout. Every corner and every field
+ * has data and an annotation.
+ * </p>
+ */
+public class CoordinateLookupBenchmark {
+  private static final int OPERATIONS_PER_ROUND = 200_000;
+  private static final int ALLOCATION_OPERATIONS = 1_000_000;
+
+  public static void main(String[] args) {
+    HexBoard<String, String, String, String> board = new HexBoard<>(StorageLayout.OPEN_ADDRESSING);
+    List<Point> fields = AdjacentEdgesBenchmark.createHexagon(3);
+    List<Point> corners = new ArrayList<>();
+    for (Point field : fields) {
+      board.addField(field, "F");
+      Point north = new Point(field.x, field.y - 2);
+      board.addFieldAnnotation(field, north, "A");
+    }
+    for (Point corner : board.getCornerCoordinates()) {
+      board.setCorner(corner, "C");
+      corners.add(new Point(corner));
+    }
+    int[] queries = new int[corners.size()];
+    for (int i = 0; i < queries.length; i++) {
+      queries[i] = HexCoordinate.of(corners.get(i));
+    }
+
+    int[] next = new int[1];
+    IntSupplier points = () -> {
+      int query = queries[next[0]++ % queries.length];
+      int x = HexCoordinate.getX(query);
+      int y = HexCoordinate.getY(query);
+      Point corner = new Point(x, y);
+      Point below = new Point(x, y + 2);
+      int result = board.getCorner(corner).length();
+      if (board.hasEdge(corner, below)) {
+        result += board.getEdge(corner, below) == null ? 1 : 2;
+      }
+      Point field = new Point(x, y + 2);
+      if (board.hasField(field)) {
+        result += board.getField(field).length();
+        result += board.getFieldAnnotation(field, new Point(x, y)) == null ? 0 : 1;
+      }
+      return result;
+    };
+    IntSupplier packed = () -> {
+      int query = queries[next[0]++ % queries.length];
+      int below = HexCoordinate.of(HexCoordinate.getX(query), HexCoordinate.getY(query) + 2);
+      int result = board.getCorner(query).length();
+      if (board.hasEdge(query, below)) {
+        result += board.getEdge(query, below) == null ? 1 : 2;
+      }
+      if (board.hasField(below)) {
+        result += board.getField(below).length();
+        result += board.getFieldAnnotation(below, query) == null ? 0 : 1;
+      }
+      return result;
+    };
+    double point = MicroBenchmark.run("lookup by point", OPERATIONS_PER_ROUND, points);
+    double coordinate = MicroBenchmark.run("lookup by packed coordinate", OPERATIONS_PER_ROUND, packed);
+    MicroBenchmark.printSpeedup(point, coordinate);
+    System.out.printf("allocated by point: %.1f bytes/op, by packed coordinate: %.1f bytes/op%n",
+        allocatedPerOperation(points), allocatedPerOperation(packed));
+  }
+
+  private static double allocatedPerOperation(IntSupplier operation) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    int sink = 0;
+    long before = threads.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < ALLOCATION_OPERATIONS; i++) {
+      sink += operation.getAsInt();
+    }
+    long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+    return sink == 42 ? -1 : (double) allocated / ALLOCATION_OPERATIONS;
+  }
+}
@@ -0,0 +1,34 @@
+package ch.zhaw.hexboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import org.junit.jupiter.api.Test;
+
+/***
+ * <p>
+ * Runs the tests of {@link HexBoardTest} against a board using the
+ * {@link StorageLayout#HASH_MAP} layout and adds tests specific to that layout.
+ * </p>
+ */
+class HashMapStorageHexBoardTest extends HexBoardTest {
+
+  @Override
+  protected HexBoard<String, String, String, String> createBoard() {
+    return new HexBoard<>(StorageLayout.HASH_MAP);
+  }
+
+  @Test
+  void farCoordinatesTest() {
+    HexBoard<String, String, String, String> board = createBoard();
+    Point far = new Point(401, 605);
+    board.addField(new Point(7, 5), "00");
+    board.addField(far, "far");
+    assertEquals("00", board.getField(new Point(7, 5)));
+    assertEquals("far", board.getField(far));
+    assertTrue(board.hasCorner(new Point(401, 603)));
+    assertNull(board.getEdge(new Point(401, 603), new Point(402, 604)));
+  }
+}
@@ -1,11 +1,17 @@
 package ch.zhaw.hexboard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -45,13 +51,23 @@ class HexBoardTest {
    */
   @BeforeEach
   public void setUp() {
-    board = new HexBoard<>();
+    board = createBoard();
     board.addField(new Point(7, 5), "00");
     Point[] singleField = { new Point(7, 3), new Point(8, 4), new Point(8, 6), new Point(7, 7),
         new Point(6, 6), new Point(6, 4) };
     this.corner = singleField;
   }
 
+  /**
+   * Creates the board under test. Subclasses override this method to run the
+   * tests against another {@link StorageLayout}.
+   * 
+   * @return an empty board
+   */
+  protected HexBoard<String, String, String, String> createBoard() {
+    return new HexBoard<>();
+  }
+
   // Edge retrieval
   @Test
   void edgeTest() {
@@ -74,6 +90,83 @@ class HexBoardTest {
         () -> board.getEdge(new Point(0, 2), new Point(3, 1)));
   }
 
+  // Edge adjacency
+  @Test
+  void adjacentEdgesTest() {
+    Point center = new Point(8, 4);
+    assertTrue(board.getAdjacentEdges(center).isEmpty());
+    board.setEdge(center, new Point(7, 3), "a");
+    board.setEdge(center, new Point(8, 6), "b");
+    board.setEdge(new Point(7, 7), new Point(8, 6), "c");
+    assertEquals(List.of("a", "b"), sorted(board.getAdjacentEdges(center)));
+  }
+
+  @Test
+  void adjacentEdgesAfterAddingNeighbourFieldTest() {
+    Point center = new Point(8, 4);
+    board.addField(new Point(9, 5), "01");
+    board.setEdge(center, new Point(9, 3), "c");
+    board.setEdge(center, new Point(7, 3), "a");
+    board.setEdge(center, new Point(8, 6), "b");
+    List<String> collected = new ArrayList<>();
+    assertEquals(3, board.collectAdjacentEdges(center, collected));
+    assertEquals(List.of("a", "b", "c"), sorted(collected));
+  }
+
+  @Test
+  void adjacentEdgesOfMissingCornerTest() {
+    assertTrue(board.getAdjacentEdges(new Point(2, 0)).isEmpty());
+    assertEquals(0, board.collectAdjacentEdges(null, new ArrayList<>()));
+  }
+
+  private static List<String> sorted(List<String> list) {
+    List<String> copy = new ArrayList<>(list);
+    Collections.sort(copy);
+    return copy;
+  }
+
+  // Annotations
+  @Test
+  void annotationIndexTest() {
+    Point center = new Point(7, 5);
+    board.addFieldAnnotation(center, corner[0], "N");
+    board.addFieldAnnotation(center, corner[1], "NE");
+    board.addFieldAnnotation(center, corner[2], null);
+    assertEquals("N", board.getFieldAnnotation(center, corner[0]));
+    assertEquals(List.of("N", "NE"), sorted(board.getFieldAnnotationsForField(center)));
+    assertEquals(List.of("N"), board.getFieldAnnotationsForCorner(corner[0]));
+    assertTrue(board.getFieldAnnotationsForCorner(corner[2]).isEmpty());
+    assertTrue(board.getFieldAnnotationsForCorner(corner[3]).isEmpty());
+  }
+
+  @Test
+  void annotationIndexSharedCornerTest() {
+    Point first = new Point(7, 5);
+    Point second = new Point(9, 5);
+    Point sharedCorner = new Point(8, 4);
+    board.addField(second, "01");
+    board.addFieldAnnotation(first, sharedCorner, "first");
+    board.addFieldAnnotation(second, sharedCorner, "second");
+    assertEquals(List.of("first", "second"),
+        sorted(board.getFieldAnnotationsForCorner(sharedCorner)));
+    assertEquals(List.of("first"), board.getFieldAnnotationsForField(first));
+    assertEquals(List.of("second"), board.getFieldAnnotationsForField(second));
+  }
+
+  @Test
+  void annotationIndexUnchangedByDuplicateTest() {
+    Point center = new Point(7, 5);
+    board.addFieldAnnotation(center, corner[0], "N");
+    assertThrows(IllegalArgumentException.class,
+        () -> board.addFieldAnnotation(center, corner[0], "again"));
+    assertThrows(IllegalArgumentException.class,
+        () -> board.addFieldAnnotation(center, new Point(2, 0), "invalid"));
+    assertEquals(List.of("N"), board.getFieldAnnotationsForField(center));
+    assertEquals(List.of("N"), board.getFieldAnnotationsForCorner(corner[0]));
+    assertThrows(UnsupportedOperationException.class,
+        () -> board.getFieldAnnotationsForField(center).add("modified"));
+  }
+
   // Corner retrieval
   @Test
   void cornerTest() {
@@ -118,4 +211,103 @@ class HexBoardTest {
   void fieldRetrievalWrongCoordinatesInsideTest() {
     assertThrows(IllegalArgumentException.class, () -> board.getField(new Point(2, 2)));
   }
+
+  // Copies
+  @Test
+  void copyTest() {
+    board.setCorner(corner[0], "c0");
+    board.setEdge(corner[0], corner[1], "e0");
+    board.addFieldAnnotation(new Point(7, 5), corner[0], "N");
+    HexBoard<String, String, String, String> copy = new HexBoard<>(board,
+        f -> f + "'", c -> c + "'", e -> e + "'");
+    assertEquals("00'", copy.getField(new Point(7, 5)));
+    assertEquals("c0'", copy.getCorner(corner[0]));
+    assertNull(copy.getCorner(corner[1]));
+    assertEquals("e0'", copy.getEdge(corner[0], corner[1]));
+    assertEquals(List.of("e0'"), copy.getAdjacentEdges(corner[1]));
+    assertEquals("N", copy.getFieldAnnotation(new Point(7, 5), corner[0]));
+  }
+
+  @Test
+  void copyIsIndependentTest() {
+    HexBoard<String, String, String, String> copy = new HexBoard<>(board, f -> f, c -> c, e -> e);
+    copy.setCorner(corner[0], "copy");
+    copy.setEdge(corner[0], corner[1], "copy");
+    board.setCorner(corner[2], "original");
+    assertNull(board.getCorner(corner[0]));
+    assertNull(board.getEdge(corner[0], corner[1]));
+    assertNull(copy.getCorner(corner[2]));
+    assertThrows(IllegalStateException.class, () -> board.addField(new Point(9, 5), "01"));
+    assertThrows(IllegalStateException.class,
+        () -> copy.addFieldAnnotation(new Point(7, 5), corner[0], "N"));
+  }
+
+  // Packed coordinates and interned points
+  @Test
+  void packedCoordinateTest() {
+    int field = HexCoordinate.of(7, 5);
+    int first = HexCoordinate.of(corner[0]);
+    int second = HexCoordinate.of(corner[1]);
+    assertTrue(board.hasField(field));
+    assertTrue(board.hasCorner(first));
+    assertTrue(board.hasEdge(first, second));
+    assertFalse(board.hasEdge(first, HexCoordinate.of(corner[3])));
+    assertFalse(board.hasCorner(HexCoordinate.of(2, 2)));
+    assertEquals("00", board.getField(field));
+
+    board.setCorner(first, "c0");
+    board.setEdge(second, first, "e0");
+    board.addFieldAnnotation(new Point(7, 5), corner[1], "NE");
+    assertEquals("c0", board.getCorner(corner[0]));
+    assertEquals("e0", board.getEdge(corner[0], corner[1]));
+    assertEquals("c0", board.getCorner(first));
+    assertEquals("e0", board.getEdge(first, second));
+    assertEquals("NE", board.getFieldAnnotation(field, second));
+    assertNull(board.getFieldAnnotation(field, first));
+
+    assertThrows(IllegalArgumentException.class, () -> board.getCorner(HexCoordinate.of(2, 2)));
+    assertThrows(IllegalArgumentException.class, () -> board.getField(HexCoordinate.of(2, 2)));
+    assertThrows(IllegalArgumentException.class, () -> board.getEdge(first, HexCoordinate.of(2, 2)));
+    assertThrows(IllegalArgumentException.class,
+        () -> board.setEdge(HexCoordinate.of(0, 0), HexCoordinate.of(1, 1), "e"));
+    assertThrows(IllegalArgumentException.class,
+        () -> board.getFieldAnnotation(field, HexCoordinate.of(7, 4)));
+  }
+
+  @Test
+  void returnedPointsAreCopiesTest() {
+    Point field = board.getFields().get(0);
+    assertEquals(new Point(7, 5), field);
+    assertNotSame(field, board.getFields().get(0));
+    field.translate(2, 0);
+    assertEquals(List.of(new Point(7, 5)), board.getFields());
+
+    Point first = board.getCornerCoordinates().stream().filter(corner[0]::equals).findFirst().orElseThrow();
+    first.translate(0, 1);
+    assertTrue(board.getCornerCoordinates().contains(corner[0]));
+    assertTrue(board.hasEdge(corner[0], corner[1]));
+    board.setEdge(corner[0], corner[1], "e0");
+    assertEquals(List.of("e0"), board.getAdjacentEdges(corner[0]));
+  }
+
+  @Test
+  void manyFieldsTest() {
+    List<Point> fields = new ArrayList<>();
+    for (int x = 1; x < 40; x++) {
+      for (int y = 2; y < 80; y++) {
+        Point field = new Point(x, y);
+        if (HexBoard.isFieldCoordinate(field) && !board.hasField(field)) {
+          board.addField(field, field.toString());
+          fields.add(field);
+        }
+      }
+    }
+    for (Point field : fields) {
+      assertEquals(field.toString(), board.getField(field));
+      assertEquals(field.toString(), board.getField(HexCoordinate.of(field)));
+    }
+    assertEquals(fields.size() + 1, board.getFields().size());
+    board.setEdge(new Point(38, 72), new Point(39, 73), "edge");
+    assertEquals("edge", board.getEdge(new Point(39, 73), new Point(38, 72)));
+  }
 }
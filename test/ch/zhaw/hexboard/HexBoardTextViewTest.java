@@ -0,0 +1,88 @@
+package ch.zhaw.hexboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/***
+ * <p>
+ * Tests for the rendering cache of the class {@link HexBoardTextView}. After
+ * every change, the cached view has to show the same text as a new view.
+ * </p>
+ */
+class HexBoardTextViewTest {
+  private TestBoard board;
+  private HexBoardTextView<String, String, String, String> view;
+
+  /**
+   * Board which allows to report changed fields.
+   */
+  private static class TestBoard extends HexBoard<String, String, String, String> {
+    void reportFieldChanged(Point center) {
+      fieldChanged(center);
+    }
+  }
+
+  /**
+   * Setup for a test - Instantiates a board with two rows of fields and a view
+   * which has rendered it once.
+   */
+  @BeforeEach
+  public void setUp() {
+    board = new TestBoard();
+    board.addField(new Point(2, 2), "00");
+    board.addField(new Point(4, 2), "11");
+    board.addField(new Point(3, 5), "22");
+    board.addField(new Point(4, 8), "33");
+    view = new HexBoardTextView<>(board);
+    view.toString();
+  }
+
+  @Test
+  public void unchangedBoardReturnsSameText() {
+    assertSame(view.toString(), view.toString());
+  }
+
+  @Test
+  public void changedCornersAndEdgesAreRendered() {
+    String before = view.toString();
+    board.setCorner(new Point(3, 7), "CC");
+    assertEquals(new HexBoardTextView<>(board).toString(), view.toString());
+    assertNotEquals(before, view.toString());
+    board.setEdge(new Point(3, 7), new Point(4, 6), "EE");
+    board.setEdge(new Point(2, 6), new Point(2, 4), "VV");
+    assertEquals(new HexBoardTextView<>(board).toString(), view.toString());
+    assertTrue(view.toString().contains("EE"));
+    board.setCorner(new Point(3, 7), null);
+    assertEquals(new HexBoardTextView<>(board).toString(), view.toString());
+  }
+
+  @Test
+  public void addedFieldsAnnotationsAndLabelsAreRendered() {
+    board.addField(new Point(7, 11), "44");
+    assertEquals(new HexBoardTextView<>(board).toString(), view.toString());
+    board.addFieldAnnotation(new Point(3, 5), new Point(3, 3), "AN");
+    HexBoardTextView<String, String, String, String> expected = new HexBoardTextView<>(board);
+    expected.setLowerFieldLabel(new Point(4, 8), new Label('1', '2'));
+    view.setLowerFieldLabel(new Point(4, 8), new Label('1', '2'));
+    assertEquals(expected.toString(), view.toString());
+  }
+
+  @Test
+  public void fieldsChangedInPlaceAreRendered() {
+    long modification = board.getModificationCount();
+    String before = view.toString();
+    board.reportFieldChanged(new Point(3, 5));
+    assertTrue(board.getModificationCount() > modification);
+    assertNotSame(before, view.toString());
+    assertEquals(before, view.toString());
+    assertThrows(IllegalArgumentException.class, () -> board.reportFieldChanged(new Point(9, 5)));
+  }
+}
@@ -0,0 +1,43 @@
+package ch.zhaw.hexboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Point;
+import org.junit.jupiter.api.Test;
+
+/***
+ * <p>
+ * Tests for the class {@link HexCoordinate}.
+ * </p>
+ */
+class HexCoordinateTest {
+
+  @Test
+  void packedCoordinatesAreUnpacked() {
+    int[] values = { 0, 1, 2, 7, -1, -2, 255, 256, HexCoordinate.MIN_VALUE, HexCoordinate.MAX_VALUE };
+    for (int x : values) {
+      for (int y : values) {
+        int coordinate = HexCoordinate.of(x, y);
+        assertEquals(x, HexCoordinate.getX(coordinate));
+        assertEquals(y, HexCoordinate.getY(coordinate));
+        assertEquals(new Point(x, y), HexCoordinate.toPoint(coordinate));
+        assertEquals(coordinate, HexCoordinate.of(new Point(x, y)));
+      }
+    }
+  }
+
+  @Test
+  void differentCoordinatesAreDifferent() {
+    assertNotEquals(HexCoordinate.of(1, 2), HexCoordinate.of(2, 1));
+    assertNotEquals(HexCoordinate.of(0, -1), HexCoordinate.of(-1, 0));
+  }
+
+  @Test
+  void invalidCoordinates() {
+    assertThrows(IllegalArgumentException.class, () -> HexCoordinate.of(HexCoordinate.MAX_VALUE + 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> HexCoordinate.of(0, HexCoordinate.MIN_VALUE - 1));
+    assertThrows(IllegalArgumentException.class, () -> HexCoordinate.of(null));
+  }
+}
@@ -0,0 +1,47 @@
+package ch.zhaw.hexboard;
+
+import ch.zhaw.benchmark.MicroBenchmark;
+import java.awt.Point;
+
+/***
+ * <p>
+ * Compares rendering a board with a new {@link HexBoardTextView}, which
+ * creates the whole text, with rendering it with a view that is kept, which
+ * only renders the rows changed since the last call.
+ * </p>
+ * <p>
+ * The board is hexagon shaped with 37 fields, the size of the standard board
+ * including the water fields. Before each rendering, one corner changes.
+ * The cached view is also measured for an unchanged board.
+ * </p>
+ */
+public class TextViewBenchmark {
+  private static final int OPERATIONS_PER_ROUND = 5_000;
+  private static final int RADIUS = 3;
+
+  public static void main(String[] args) {
+    HexBoard<String, String, String, String> board = new HexBoard<>(StorageLayout.ARRAY);
+    for (int row = -RADIUS; row <= RADIUS; row++) {
+      int count = 2 * RADIUS + 1 - Math.abs(row);
+      for (int i = 0; i < count; i++) {
+        board.addField(new Point(2 * i + Math.abs(row) + 3, 3 * (row + RADIUS) + 2), "LA");
+      }
+    }
+    Point[] corners = board.getCornerCoordinates().toArray(new Point[0]);
+    int[] next = new int[1];
+
+    double full = MicroBenchmark.run("new view", OPERATIONS_PER_ROUND, () -> {
+      board.setCorner(corners[next[0]++ % corners.length], next[0] % 2 == 0 ? "SE" : null);
+      return new HexBoardTextView<>(board).toString().length();
+    });
+    HexBoardTextView<String, String, String, String> view = new HexBoardTextView<>(board);
+    double cached = MicroBenchmark.run("cached view", OPERATIONS_PER_ROUND, () -> {
+      board.setCorner(corners[next[0]++ % corners.length], next[0] % 2 == 0 ? "SE" : null);
+      return view.toString().length();
+    });
+    MicroBenchmark.printSpeedup(full, cached);
+    double unchanged = MicroBenchmark.run("cached view, unchanged board", OPERATIONS_PER_ROUND,
+        () -> view.toString().length());
+    MicroBenchmark.printSpeedup(full, unchanged);
+  }
+}